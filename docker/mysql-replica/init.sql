@@ -0,0 +1,13 @@
+-- Starts GTID based replication from the primary container.
+-- The entrypoint runs this once, on the first start of an empty replica.
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'root',
+    SOURCE_PASSWORD = 'root',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
+
+-- Reject application writes; replication itself is unaffected
+SET PERSIST super_read_only = ON;
@@ -7,13 +7,15 @@ import { ErrorMessage } from '../common/ErrorMessage';
 interface ClockWidgetProps {
   timezone?: string;
   className?: string;
+  // Time already loaded by the parent, skips the widget's own request
+  initialTime?: Time | null;
 }
 
-export const ClockWidget: React.FC<ClockWidgetProps> = ({ timezone, className = '' }) => {
-  const [time, setTime] = useState<Time | null>(null);
+export const ClockWidget: React.FC<ClockWidgetProps> = ({ timezone, className = '', initialTime }) => {
+  const [time, setTime] = useState<Time | null>(initialTime ?? null);
   const [currentTime, setCurrentTime] = useState<string>('');
   const [currentDate, setCurrentDate] = useState<string>('');
-  const [loading, setLoading] = useState(true);
+  const [loading, setLoading] = useState(!initialTime);
   const [error, setError] = useState<string | null>(null);
 
   const loadTime = async () => {
@@ -30,8 +32,13 @@ export const ClockWidget: React.FC<ClockWidgetProps> = ({ timezone, className =
   };
 
   useEffect(() => {
+    if (initialTime) {
+      setTime(initialTime);
+      setLoading(false);
+      return;
+    }
     loadTime();
-  }, [timezone]);
+  }, [timezone, initialTime]);
 
   // Auto-update time every second using browser's local time
   useEffect(() => {
@@ -7,16 +7,23 @@ import { ErrorMessage } from '../common/ErrorMessage';
 interface WeatherWidgetProps {
   city?: string;
   className?: string;
+  // Weather already loaded by the parent, skips the widget's own request
+  initialWeather?: Weather | null;
 }
 
-export const WeatherWidget: React.FC<WeatherWidgetProps> = ({ city, className = '' }) => {
-  const [weather, setWeather] = useState<Weather | null>(null);
-  const [loading, setLoading] = useState(true);
+export const WeatherWidget: React.FC<WeatherWidgetProps> = ({ city, className = '', initialWeather }) => {
+  const [weather, setWeather] = useState<Weather | null>(initialWeather ?? null);
+  const [loading, setLoading] = useState(!initialWeather);
   const [error, setError] = useState<string | null>(null);
 
   useEffect(() => {
+    if (initialWeather) {
+      setWeather(initialWeather);
+      setLoading(false);
+      return;
+    }
     loadWeather();
-  }, [city]);
+  }, [city, initialWeather]);
 
   const loadWeather = async () => {
     try {
@@ -1,11 +1,7 @@
 import React, { useEffect, useState } from 'react';
 import { Link } from 'react-router-dom';
-import { patientService } from '../services/patientService';
-import { doctorService } from '../services/doctorService';
-import { nurseService } from '../services/nurseService';
-import { appointmentService } from '../services/appointmentService';
-import { hospitalService } from '../services/hospitalService';
-import { wardService } from '../services/wardService';
+import { dashboardService } from '../services/dashboardService';
+import { Time, Weather } from '../types';
 import { LoadingSpinner } from '../components/common/LoadingSpinner';
 import { useAuth } from '../context/AuthContext';
 import { WeatherWidget } from '../components/widgets/WeatherWidget';
@@ -21,6 +17,8 @@ export const Dashboard: React.FC = () => {
     wards: 0,
     loading: true
   });
+  const [weather, setWeather] = useState<Weather | null>(null);
+  const [time, setTime] = useState<Time | null>(null);
   const { role } = useAuth();
   const isAdmin = role === 'ADMIN';
 
@@ -30,31 +28,17 @@ export const Dashboard: React.FC = () => {
 
   const loadStats = async () => {
     try {
-      const results = await Promise.allSettled([
-        patientService.getAll(),
-        doctorService.getAll(),
-        nurseService.getAll(),
-        appointmentService.getAll(),
-        hospitalService.getAll(),
-        wardService.getAll()
-      ]);
-      
-      const [patients, doctors, nurses, appointments, hospitals, wards] = results.map((result, index) => {
-        if (result.status === 'fulfilled') {
-          return result.value;
-        } else {
-          console.error(`Error loading stat ${index}:`, result.reason);
-          return [];
-        }
-      });
-      
+      // One aggregate request instead of downloading every table to count it
+      const dashboard = await dashboardService.get();
+      setWeather(dashboard.weather);
+      setTime(dashboard.time);
       setStats({
-        patients: Array.isArray(patients) ? patients.length : 0,
-        doctors: Array.isArray(doctors) ? doctors.length : 0,
-        nurses: Array.isArray(nurses) ? nurses.length : 0,
-        appointments: Array.isArray(appointments) ? appointments.length : 0,
-        hospitals: Array.isArray(hospitals) ? hospitals.length : 0,
-        wards: Array.isArray(wards) ? wards.length : 0,
+        patients: dashboard.patients,
+        doctors: dashboard.doctors,
+        nurses: dashboard.nurses,
+        appointments: dashboard.appointments,
+        hospitals: dashboard.hospitals,
+        wards: dashboard.wards,
         loading: false
       });
     } catch (error) {
@@ -77,8 +61,8 @@ export const Dashboard: React.FC = () => {
 
       {/* Widgets Section */}
       <div className="grid grid-cols-1 md:grid-cols-2 gap-6 mb-6">
-        <WeatherWidget />
-        <ClockWidget />
+        <WeatherWidget initialWeather={weather} />
+        <ClockWidget initialTime={time} />
       </div>
 
       {/* View Section */}
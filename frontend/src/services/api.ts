@@ -1,5 +1,6 @@
-import axios, { AxiosError } from 'axios';
+import axios, { AxiosError, InternalAxiosRequestConfig } from 'axios';
 import { tokenStorage } from '../utils/tokenStorage';
+import type { LoginResponse } from '../types';
 
 const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:8080';
 
@@ -24,10 +25,46 @@ api.interceptors.request.use(
   }
 );
 
+// Shared so that concurrent 401s trigger a single refresh call
+let refreshInFlight: Promise<string> | null = null;
+
+const refreshAccessToken = (): Promise<string> => {
+  if (!refreshInFlight) {
+    const refreshToken = tokenStorage.getRefreshToken();
+    refreshInFlight = (refreshToken
+      ? axios.post<LoginResponse>(`${API_BASE_URL}/auth/refresh`, { refreshToken }).then((response) => {
+          tokenStorage.setToken(response.data.token);
+          if (response.data.refreshToken) {
+            tokenStorage.setRefreshToken(response.data.refreshToken);
+          }
+          return response.data.token;
+        })
+      : Promise.reject(new Error('No refresh token'))
+    ).finally(() => {
+      refreshInFlight = null;
+    });
+  }
+  return refreshInFlight;
+};
+
+type RetriableRequest = InternalAxiosRequestConfig & { _retried?: boolean };
+
 // Response interceptor for error handling
 api.interceptors.response.use(
   (response) => response,
-  (error: AxiosError) => {
+  async (error: AxiosError) => {
+    const original = error.config as RetriableRequest | undefined;
+    // Expired access token: renew once and replay the request
+    if (error.response?.status === 401 && original && !original._retried && !original.url?.startsWith('/auth/')) {
+      original._retried = true;
+      try {
+        const token = await refreshAccessToken();
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch {
+        // Fall through to the logout handling below
+      }
+    }
     if (error.response?.status === 401 || error.response?.status === 403) {
       // Unauthorized or Forbidden - clear token and redirect to login
       tokenStorage.removeToken();
@@ -5,9 +5,12 @@ import { tokenStorage } from '../utils/tokenStorage';
 export const authService = {
   login: async (credentials: LoginRequest): Promise<LoginResponse> => {
     const response = await api.post<LoginResponse>('/auth/login', credentials);
-    const { token, role } = response.data;
+    const { token, role, refreshToken } = response.data;
     tokenStorage.setToken(token);
     tokenStorage.setRole(role);
+    if (refreshToken) {
+      tokenStorage.setRefreshToken(refreshToken);
+    }
     return response.data;
   },
 
@@ -17,6 +20,9 @@ export const authService = {
   },
 
   logout: (): void => {
+    const refreshToken = tokenStorage.getRefreshToken();
+    // Revoke server-side in the background; local tokens are dropped either way
+    api.post('/auth/logout', refreshToken ? { refreshToken } : undefined).catch(() => undefined);
     tokenStorage.removeToken();
   },
 
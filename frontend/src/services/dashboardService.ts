@@ -0,0 +1,13 @@
+import api from './api';
+import { Dashboard } from '../types';
+
+export const dashboardService = {
+  get: async (city?: string, timezone?: string): Promise<Dashboard> => {
+    const params = new URLSearchParams();
+    if (city) params.append('city', city);
+    if (timezone) params.append('timezone', timezone);
+    const query = params.toString();
+    const response = await api.get<Dashboard>(query ? `/dashboard?${query}` : '/dashboard');
+    return response.data;
+  },
+};
@@ -24,6 +24,7 @@ export interface LoginRequest {
 export interface LoginResponse {
   token: string;
   role: string;
+  refreshToken?: string;
 }
 
 export interface RegisterRequest {
@@ -164,3 +165,26 @@ export interface Time {
   dayOfYear: number;
 }
 
+// Dashboard Types
+export interface WardUtilization {
+  wardId: string;
+  type: WardType;
+  maxCapacity: number;
+  patients: number;
+  utilization: number;
+}
+
+export interface Dashboard {
+  patients: number;
+  doctors: number;
+  nurses: number;
+  appointments: number;
+  hospitals: number;
+  wards: number;
+  today: string;
+  appointmentsToday: number;
+  appointmentsTodayByStatus: Record<string, number>;
+  wardUtilization: WardUtilization[];
+  weather: Weather | null;
+  time: Time | null;
+}
@@ -1,5 +1,6 @@
 const TOKEN_KEY = 'auth_token';
 const ROLE_KEY = 'user_role';
+const REFRESH_TOKEN_KEY = 'refresh_token';
 
 export const tokenStorage = {
   getToken: (): string | null => {
@@ -13,6 +14,15 @@ export const tokenStorage = {
   removeToken: (): void => {
     localStorage.removeItem(TOKEN_KEY);
     localStorage.removeItem(ROLE_KEY);
+    localStorage.removeItem(REFRESH_TOKEN_KEY);
+  },
+
+  getRefreshToken: (): string | null => {
+    return localStorage.getItem(REFRESH_TOKEN_KEY);
+  },
+
+  setRefreshToken: (refreshToken: string): void => {
+    localStorage.setItem(REFRESH_TOKEN_KEY, refreshToken);
   },
 
   getRole: (): string | null => {
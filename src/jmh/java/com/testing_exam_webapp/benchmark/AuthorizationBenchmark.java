@@ -0,0 +1,98 @@
+package com.testing_exam_webapp.benchmark;
+
+import com.testing_exam_webapp.config.JwtAuthentication;
+import com.testing_exam_webapp.config.JwtAuthenticationCache;
+import com.testing_exam_webapp.config.JwtTokenProvider;
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.config.RoleAuthorizationManager;
+import com.testing_exam_webapp.config.TokenRevocationStore;
+import com.testing_exam_webapp.config.cache.LocalRemoteCacheStore;
+import com.testing_exam_webapp.model.types.Role;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication and authorization cost for one bearer token.
+ * The baseline verifies the JWT, builds a fresh UsernamePasswordAuthenticationToken and evaluates
+ * hasAnyRole through SpEL; the cached path looks the token up in JwtAuthenticationCache, checks
+ * revocation and tests the role bitmask. Compare time per operation and gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class AuthorizationBenchmark {
+
+    private String token;
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationCache authenticationCache;
+    private TokenRevocationStore revocationStore;
+    private PreAuthorizeAuthorizationManager preAuthorize;
+    private RoleAuthorizationManager roleAuthorization;
+    private SimpleMethodInvocation spelInvocation;
+    private SimpleMethodInvocation maskInvocation;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        tokenProvider = new JwtTokenProvider();
+        setField(tokenProvider, "jwtSecret", "benchmarkSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong");
+        setField(tokenProvider, "jwtExpirationInMs", 3_600_000L);
+        setField(tokenProvider, "refreshExpirationInMs", 3_600_000L);
+        token = tokenProvider.generateToken("benchmark-user", Role.USER.name());
+
+        authenticationCache = new JwtAuthenticationCache(tokenProvider, 10_000);
+        revocationStore = new TokenRevocationStore(new LocalRemoteCacheStore(), 100_000, 0);
+        preAuthorize = new PreAuthorizeAuthorizationManager();
+        roleAuthorization = new RoleAuthorizationManager();
+
+        Endpoints endpoints = new Endpoints();
+        spelInvocation = new SimpleMethodInvocation(endpoints, Endpoints.class.getMethod("withSpel"));
+        maskInvocation = new SimpleMethodInvocation(endpoints, Endpoints.class.getMethod("withRoleMask"));
+    }
+
+    @Benchmark
+    public AuthorizationDecision parseTokenAndEvaluateSpel() {
+        Claims claims = tokenProvider.parseClaims(token);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                claims.getSubject(), null,
+                List.of(new SimpleGrantedAuthority("ROLE_" + claims.get("role", String.class))));
+        return preAuthorize.check(() -> authentication, spelInvocation);
+    }
+
+    @Benchmark
+    public AuthorizationDecision cachedAuthenticationAndRoleMask() {
+        JwtAuthentication authentication = authenticationCache.get(token);
+        if (revocationStore.isRevoked(authentication.getTokenId())) {
+            return new AuthorizationDecision(false);
+        }
+        return roleAuthorization.check(() -> authentication, maskInvocation);
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    public static class Endpoints {
+
+        @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+        public void withSpel() {
+        }
+
+        @RequireRoles({Role.ADMIN, Role.USER})
+        public void withRoleMask() {
+        }
+    }
+}
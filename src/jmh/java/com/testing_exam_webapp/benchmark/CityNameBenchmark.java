@@ -0,0 +1,42 @@
+package com.testing_exam_webapp.benchmark;
+
+import com.testing_exam_webapp.service.WeatherService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving a requested city to its weather cache key. The scan variant reproduces the previous
+ * normalization: lower-casing plus a chain of contains/equals checks that only knew Copenhagen. The
+ * table variant goes through WeatherService.cacheKey, which folds the name once and looks it up in the
+ * alias table. Inputs mix ASCII names, Danish letters and unknown cities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class CityNameBenchmark {
+
+    @Param({"København", "Aarhus", "kbh", "Sønderborg", "Springfield"})
+    private String city;
+
+    @Benchmark
+    public String scan() {
+        String cityToUse = city.trim();
+        String lower = cityToUse.toLowerCase(Locale.ROOT);
+        if ((lower.contains("k") || cityToUse.contains("K"))
+                && (lower.contains("benhavn") || cityToUse.contains("benhavn"))) {
+            return "copenhagen";
+        }
+        if (lower.equals("københavn") || lower.equals("kobenhavn") || lower.equals("kbh") || lower.equals("copenhagen")) {
+            return "copenhagen";
+        }
+        return cityToUse.toLowerCase(Locale.ROOT);
+    }
+
+    @Benchmark
+    public String table() {
+        return WeatherService.cacheKey(city);
+    }
+}
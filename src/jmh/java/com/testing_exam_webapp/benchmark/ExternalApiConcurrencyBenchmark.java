@@ -0,0 +1,125 @@
+package com.testing_exam_webapp.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import com.testing_exam_webapp.dto.WeatherDto;
+import com.testing_exam_webapp.service.ReactiveWeatherService;
+import com.testing_exam_webapp.service.WeatherService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent weather requests against a local stub that answers after {@code upstreamDelayMs}, the way
+ * a slow OpenWeatherMap does. The blocking variant runs WeatherService on a pool of
+ * {@code requestThreads} threads, standing in for the servlet threads each request occupies; the
+ * reactive variant issues the same requests through ReactiveWeatherService without a thread per call.
+ * Time per batch of {@code requests} shows how many requests each variant can keep in flight: the
+ * blocking batch takes about requests / requestThreads upstream round-trips, the reactive batch about one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExternalApiConcurrencyBenchmark {
+
+    private static final byte[] WEATHER_JSON = """
+            {"weather":[{"main":"Clouds","description":"broken clouds","icon":"04d"}],
+             "main":{"temp":7.42,"humidity":83},"wind":{"speed":5.66},"sys":{"country":"DK"},"name":"Aarhus"}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    @Param({"50", "200"})
+    private int requests;
+
+    @Param({"100"})
+    private int upstreamDelayMs;
+
+    @Param({"20"})
+    private int requestThreads;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private ExecutorService requestPool;
+    private ConnectionProvider connectionProvider;
+    private WeatherService weatherService;
+    private ReactiveWeatherService reactiveWeatherService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        // The stub must never be the bottleneck, so every exchange gets its own thread
+        stubExecutor = Executors.newCachedThreadPool();
+        stub.setExecutor(stubExecutor);
+        stub.createContext("/weather", exchange -> {
+            try {
+                Thread.sleep(upstreamDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, WEATHER_JSON.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(WEATHER_JSON);
+            }
+        });
+        stub.start();
+
+        String apiUrl = "http://127.0.0.1:" + stub.getAddress().getPort() + "/weather";
+        requestPool = Executors.newFixedThreadPool(requestThreads);
+        // Plain instances: no caching proxy, so every request reaches the stub
+        weatherService = new WeatherService(apiUrl, "key");
+        // Pool sized like WebClientConfig does for the app, so connections do not cap concurrency
+        connectionProvider = ConnectionProvider.builder("benchmark").maxConnections(requests).build();
+        WebClient.Builder webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)));
+        reactiveWeatherService = new ReactiveWeatherService(webClient, new NoOpCacheManager(), apiUrl, "key",
+                Duration.ofSeconds(30), 0, Duration.ofMillis(100));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestPool.shutdownNow();
+        connectionProvider.dispose();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public List<WeatherDto> blockingOnRequestThreads() throws InterruptedException, ExecutionException {
+        List<Future<WeatherDto>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            futures.add(requestPool.submit(() -> weatherService.getWeatherByCity("Aarhus")));
+        }
+        List<WeatherDto> results = new ArrayList<>(requests);
+        for (Future<WeatherDto> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    @Benchmark
+    public List<WeatherDto> reactiveWebClient() {
+        return Flux.range(0, requests)
+                .flatMap(i -> reactiveWeatherService.getWeatherByCity("Aarhus"), requests)
+                .collectList()
+                .block();
+    }
+}
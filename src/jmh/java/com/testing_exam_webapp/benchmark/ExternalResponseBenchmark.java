@@ -0,0 +1,124 @@
+package com.testing_exam_webapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testing_exam_webapp.dto.TimeDto;
+import com.testing_exam_webapp.dto.WeatherDto;
+import com.testing_exam_webapp.service.TimeService;
+import com.testing_exam_webapp.service.WeatherService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning an OpenWeatherMap and a WorldTimeAPI response body into the DTO.
+ * The map variants reproduce the previous mapping: bind the whole body to a raw Map tree and walk it
+ * with casts. The typed variants go through WeatherService.readWeather and TimeService.readTime, which
+ * bind only the used fields to records through a shared ObjectReader. Compare time per operation and
+ * gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class ExternalResponseBenchmark {
+
+    private static final String WEATHER_JSON = """
+            {"coord":{"lon":12.5655,"lat":55.6759},
+             "weather":[{"id":803,"main":"Clouds","description":"broken clouds","icon":"04d"}],
+             "base":"stations",
+             "main":{"temp":7.42,"feels_like":4.21,"temp_min":6.52,"temp_max":8.16,"pressure":1012,"humidity":83,"sea_level":1012,"grnd_level":1011},
+             "visibility":10000,
+             "wind":{"speed":5.66,"deg":250,"gust":9.26},
+             "clouds":{"all":75},
+             "dt":1705325400,
+             "sys":{"type":2,"id":2035645,"country":"DK","sunrise":1705305387,"sunset":1705332106},
+             "timezone":3600,"id":2618425,"name":"Copenhagen","cod":200}
+            """;
+
+    private static final String TIME_JSON = """
+            {"abbreviation":"CET","client_ip":"127.0.0.1","datetime":"2024-01-15T14:30:00.123456+01:00",
+             "day_of_week":1,"day_of_year":15,"dst":false,"dst_from":null,"dst_offset":0,"dst_until":null,
+             "raw_offset":3600,"timezone":"Europe/Copenhagen","unixtime":1705325400,
+             "utc_datetime":"2024-01-15T13:30:00.123456+00:00","utc_offset":"+01:00","week_number":3}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] weatherBody;
+    private byte[] timeBody;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        weatherBody = WEATHER_JSON.getBytes(StandardCharsets.UTF_8);
+        timeBody = TIME_JSON.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public WeatherDto weatherMap() throws IOException {
+        return mapToWeatherDto(objectMapper.readValue(new ByteArrayInputStream(weatherBody), Map.class), "Copenhagen");
+    }
+
+    @Benchmark
+    public WeatherDto weatherTyped() throws IOException {
+        return WeatherService.readWeather(new ByteArrayInputStream(weatherBody), "Copenhagen");
+    }
+
+    @Benchmark
+    public TimeDto timeMap() throws IOException {
+        return mapToTimeDto(objectMapper.readValue(new ByteArrayInputStream(timeBody), Map.class));
+    }
+
+    @Benchmark
+    public TimeDto timeTyped() throws IOException {
+        return TimeService.readTime(new ByteArrayInputStream(timeBody));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static WeatherDto mapToWeatherDto(Map<String, Object> response, String city) {
+        WeatherDto dto = new WeatherDto();
+        Map<String, Object> sys = (Map<String, Object>) response.get("sys");
+        if (sys != null) {
+            dto.setCountry((String) sys.get("country"));
+        }
+        dto.setCity(city);
+        Map<String, Object> main = (Map<String, Object>) response.get("main");
+        if (main != null) {
+            if (main.get("temp") instanceof Number number) {
+                dto.setTemperature(number.doubleValue());
+            }
+            if (main.get("humidity") instanceof Number number) {
+                dto.setHumidity(number.doubleValue());
+            }
+        }
+        List<Map<String, Object>> weatherList = (List<Map<String, Object>>) response.get("weather");
+        if (weatherList != null && !weatherList.isEmpty() && weatherList.get(0) != null) {
+            Map<String, Object> weather = weatherList.get(0);
+            dto.setDescription((String) weather.get("description"));
+            dto.setCondition((String) weather.get("main"));
+            dto.setIcon((String) weather.get("icon"));
+        }
+        Map<String, Object> wind = (Map<String, Object>) response.get("wind");
+        if (wind != null && wind.get("speed") instanceof Number number) {
+            dto.setWindSpeed(number.doubleValue());
+        }
+        return dto;
+    }
+
+    private static TimeDto mapToTimeDto(Map<String, Object> response) {
+        TimeDto dto = new TimeDto();
+        dto.setDatetime((String) response.get("datetime"));
+        dto.setTimezone((String) response.get("timezone"));
+        dto.setAbbreviation((String) response.get("abbreviation"));
+        if (response.get("day_of_week") instanceof Number number) {
+            dto.setDayOfWeek(number.intValue());
+        }
+        if (response.get("day_of_year") instanceof Number number) {
+            dto.setDayOfYear(number.intValue());
+        }
+        return dto;
+    }
+}
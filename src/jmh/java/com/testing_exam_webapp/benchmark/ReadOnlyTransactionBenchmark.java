@@ -0,0 +1,84 @@
+package com.testing_exam_webapp.benchmark;
+
+import com.testing_exam_webapp.TestingExamWebappApplication;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.repository.PatientRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads every patient inside a read-write and a read-only transaction.
+ * The read-write run pays for entity snapshots and the dirty check on commit; compare the
+ * time per operation and the gc.alloc.rate.norm column from the gc profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ReadOnlyTransactionBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"10000", "50000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PatientRepository patientRepository;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(TestingExamWebappApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "app.scheduling.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        patientRepository = context.getBean(PatientRepository.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        for (int start = 0; start < rows; start += BATCH_SIZE) {
+            List<Patient> batch = new ArrayList<>(BATCH_SIZE);
+            for (int i = start; i < Math.min(start + BATCH_SIZE, rows); i++) {
+                Patient patient = new Patient();
+                patient.setPatientId(UUID.randomUUID());
+                patient.setPatientName("Patient " + i);
+                patient.setDateOfBirth(LocalDate.of(1950, 1, 1).plusDays(i % 20000));
+                patient.setGender(i % 2 == 0 ? "Female" : "Male");
+                batch.add(patient);
+            }
+            readWrite.executeWithoutResult(status -> patientRepository.saveAll(batch));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public int readWriteTransaction() {
+        return readWrite.execute(status -> patientRepository.findAll().size());
+    }
+
+    @Benchmark
+    public int readOnlyTransaction() {
+        return readOnly.execute(status -> patientRepository.findAll().size());
+    }
+}
@@ -8,32 +8,57 @@ import com.testing_exam_webapp.model.types.WardType;
 import com.testing_exam_webapp.repository.HospitalRepository;
 import com.testing_exam_webapp.repository.UserRepository;
 import com.testing_exam_webapp.repository.WardRepository;
-import org.springframework.boot.CommandLineRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 
+/**
+ * Seeds the default users, hospitals and wards once the application is ready. The work runs on the
+ * startup executor, so the BCrypt hashing and inserts do not delay the first request being served;
+ * logging in as a seeded user may fail for the first moments after a fresh start.
+ */
 @Component
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataInitializer.class);
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final HospitalRepository hospitalRepository;
     private final WardRepository wardRepository;
+    private final Executor executor;
 
     public DataInitializer(UserRepository userRepository, PasswordEncoder passwordEncoder,
-                          HospitalRepository hospitalRepository, WardRepository wardRepository) {
+                          HospitalRepository hospitalRepository, WardRepository wardRepository,
+                          @Qualifier("startupExecutor") Executor executor) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.hospitalRepository = hospitalRepository;
         this.wardRepository = wardRepository;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.execute(() -> {
+            try {
+                run();
+            } catch (RuntimeException e) {
+                logger.error("Seeding default data failed", e);
+            }
+        });
     }
 
-    @Override
-    public void run(String... args) {
+    void run() {
         // Initialize admin user
         if (userRepository.findByUsername("admin").isEmpty()) {
             User admin = new User();
@@ -88,7 +113,7 @@ public class DataInitializer implements CommandLineRunner {
                 }
                 rigshospitaletWards.add(cardiologyWard);
                 rigshospitalet.setWards(rigshospitaletWards);
-                hospitalRepository.save(rigshospitalet);
+                rigshospitalet = hospitalRepository.save(rigshospitalet);
 
                 // Neurology Ward (associated with Rigshospitalet)
                 Ward neurologyWard = new Ward();
@@ -100,7 +125,7 @@ public class DataInitializer implements CommandLineRunner {
                 // Add ward to Rigshospitalet
                 rigshospitaletWards.add(neurologyWard);
                 rigshospitalet.setWards(rigshospitaletWards);
-                hospitalRepository.save(rigshospitalet);
+                rigshospitalet = hospitalRepository.save(rigshospitalet);
 
                 // General Medicine Ward (associated with Aarhus Universitetshospital)
                 Ward generalMedicineWard = new Ward();
@@ -116,7 +141,7 @@ public class DataInitializer implements CommandLineRunner {
                 }
                 aarhusWards.add(generalMedicineWard);
                 aarhusHospital.setWards(aarhusWards);
-                hospitalRepository.save(aarhusHospital);
+                aarhusHospital = hospitalRepository.save(aarhusHospital);
             }
         }
     }
@@ -0,0 +1,63 @@
+package com.testing_exam_webapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single auto-configured DataSource with a primary/replica router when
+ * {@code app.datasource.routing.enabled=true}. With routing disabled nothing here is loaded.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaRoutingDataSource routingDataSource(DataSourceProperties primaryProperties,
+                                                          DataSourceRoutingProperties routingProperties) {
+        DataSource primary = primaryProperties.initializeDataSourceBuilder().build();
+
+        List<ReplicaHealthCheck> replicas = new ArrayList<>();
+        List<DataSourceRoutingProperties.Replica> configured = routingProperties.getReplicas();
+        for (int i = 0; i < configured.size(); i++) {
+            String name = "replica-" + i;
+            replicas.add(new ReplicaHealthCheck(name, buildReplica(name, configured.get(i), primaryProperties),
+                    routingProperties.getLagQuery(), routingProperties.getMaxLag()));
+        }
+        return new ReadReplicaRoutingDataSource(primary, replicas, routingProperties.getCheckInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static DataSource buildReplica(String name, DataSourceRoutingProperties.Replica replica,
+                                           DataSourceProperties primaryProperties) {
+        // Credentials and driver default to the primary's, replicas usually only differ by host
+        DataSource dataSource = DataSourceBuilder.create()
+                .url(replica.getUrl())
+                .username(replica.getUsername() != null ? replica.getUsername() : primaryProperties.determineUsername())
+                .password(replica.getPassword() != null ? replica.getPassword() : primaryProperties.determinePassword())
+                .driverClassName(replica.getDriverClassName() != null
+                        ? replica.getDriverClassName() : primaryProperties.determineDriverClassName())
+                .build();
+        if (dataSource instanceof HikariDataSource hikari) {
+            hikari.setPoolName(name);
+            hikari.setReadOnly(true);
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,44 @@
+package com.testing_exam_webapp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings for routing read-only transactions to replicas, bound from {@code app.datasource.routing.*}.
+ * The primary keeps using the regular {@code spring.datasource.*} settings.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    /** Replicas further behind the primary than this are skipped until they catch up. */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** How often each replica is probed in the background; routing uses the last result in between. */
+    private Duration checkInterval = Duration.ofSeconds(5);
+
+    /**
+     * Query returning the replica lag in seconds, e.g. {@code SHOW REPLICA STATUS} on MySQL.
+     * When empty, a replica only has to accept connections to be used.
+     */
+    private String lagQuery;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -0,0 +1,89 @@
+package com.testing_exam_webapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Bounded pool for fanning out dashboard queries and external calls. When the queue is full the
+     * request thread runs the task itself, which slows callers down instead of dropping work.
+     */
+    @Bean(name = "dashboardExecutor")
+    public ThreadPoolTaskExecutor dashboardExecutor(@Value("${app.dashboard.executor.threads:8}") int threads,
+                                                    @Value("${app.dashboard.executor.queue:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /** Single background thread for dataset exports, so at most one export competes with request traffic. */
+    @Bean(name = "exportExecutor")
+    public ThreadPoolTaskExecutor exportExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("export-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pipeline workers for bulk imports: each running import uses two threads, and imports are capped
+     * at {@code app.import.max-concurrent} before they reach the pool. An import's permit can be released
+     * just before its workers are back in the pool, so the queue holds the next import's workers until
+     * they are instead of rejecting them.
+     */
+    @Bean(name = "importExecutor")
+    public ThreadPoolTaskExecutor importExecutor(@Value("${app.import.max-concurrent:2}") int maxConcurrent) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2 * maxConcurrent);
+        executor.setMaxPoolSize(2 * maxConcurrent);
+        executor.setQueueCapacity(2 * maxConcurrent);
+        executor.setThreadNamePrefix("import-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Outbound weather API calls for multi-city lookups. The pool size is the cap on concurrent calls;
+     * lookups that do not fit in the queue are rejected and answered with default weather.
+     */
+    @Bean(name = "weatherExecutor")
+    public ThreadPoolTaskExecutor weatherExecutor(@Value("${app.weather.bulk.parallelism:8}") int parallelism,
+                                                  @Value("${app.weather.bulk.queue:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("weather-");
+        executor.initialize();
+        return executor;
+    }
+
+    /** One thread for startup work that does not need to finish before the application takes traffic. */
+    @Bean(name = "startupExecutor")
+    public ThreadPoolTaskExecutor startupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("startup-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,72 @@
+package com.testing_exam_webapp.config;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Authentication built once per access token and reused for every request carrying it.
+ * The role is also held as a bitmask so {@link RoleAuthorizationManager} can authorize with a single AND.
+ */
+public final class JwtAuthentication extends AbstractAuthenticationToken {
+
+    private final String username;
+    private final String tokenId;
+    private final Instant expiresAt;
+    private final long roleMask;
+
+    public JwtAuthentication(String username, String role, String tokenId, Instant expiresAt) {
+        super(authorities(role));
+        this.username = username;
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+        this.roleMask = RoleAuthorizationManager.maskOf(role);
+        super.setAuthenticated(true);
+    }
+
+    private static List<GrantedAuthority> authorities(String role) {
+        return role == null ? List.of() : List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return username;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public long getRoleMask() {
+        return roleMask;
+    }
+
+    public boolean hasAnyRole(long requiredMask) {
+        return (roleMask & requiredMask) != 0;
+    }
+
+    /**
+     * Instances are shared between requests, so details are ignored rather than attached; callers that
+     * set them on every authentication, such as Spring Security's filters, keep working.
+     */
+    @Override
+    public void setDetails(Object details) {
+    }
+
+    /** Ignored for the same reason: a token that is no longer valid is dropped from the cache instead. */
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+    }
+}
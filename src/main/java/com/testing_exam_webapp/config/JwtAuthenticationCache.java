@@ -0,0 +1,66 @@
+package com.testing_exam_webapp.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Maps a raw access token to the {@link JwtAuthentication} built the first time it was seen, so repeat
+ * requests skip signature verification, claim parsing and authority construction. Entries are dropped
+ * at token expiry; revocation is still checked by the caller on every request. A full cache evicts the
+ * entries least likely to be used again, one at a time.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final JwtTokenProvider tokenProvider;
+    private final Clock clock;
+    private final Cache<String, JwtAuthentication> entries;
+
+    public JwtAuthenticationCache(JwtTokenProvider tokenProvider,
+                                  @Value("${jwt.authentication-cache.max-entries:10000}") int maxEntries) {
+        this(tokenProvider, maxEntries, Clock.systemUTC());
+    }
+
+    JwtAuthenticationCache(JwtTokenProvider tokenProvider, int maxEntries, Clock clock) {
+        this.tokenProvider = tokenProvider;
+        this.clock = clock;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * Returns the authentication for an access token, or null for refresh tokens.
+     * Invalid or expired tokens throw the JwtException from parsing.
+     */
+    public JwtAuthentication get(String token) {
+        Instant now = clock.instant();
+        JwtAuthentication cached = entries.getIfPresent(token);
+        if (cached != null) {
+            if (cached.getExpiresAt().isAfter(now)) {
+                return cached;
+            }
+            entries.asMap().remove(token, cached);
+        }
+
+        Claims claims = tokenProvider.parseClaims(token);
+        if (!JwtTokenProvider.isAccessToken(claims)) {
+            return null;
+        }
+        JwtAuthentication authentication = new JwtAuthentication(claims.getSubject(), claims.get("role", String.class),
+                claims.getId(), claims.getExpiration().toInstant());
+        entries.put(token, authentication);
+        return authentication;
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+}
@@ -4,23 +4,21 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
+    private final JwtAuthenticationCache authenticationCache;
+    private final TokenRevocationStore revocationStore;
 
-    public JwtAuthenticationFilter(final JwtTokenProvider tokenProvider) {
-        this.tokenProvider = tokenProvider;
+    public JwtAuthenticationFilter(final JwtAuthenticationCache authenticationCache, final TokenRevocationStore revocationStore) {
+        this.authenticationCache = authenticationCache;
+        this.revocationStore = revocationStore;
     }
 
     @Override
@@ -31,14 +29,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final String jwt = getJwtFromRequest(request);
 
-            if (jwt != null && tokenProvider.validateToken(jwt, tokenProvider.getUsernameFromToken(jwt))) {
-                final String username = tokenProvider.getUsernameFromToken(jwt);
-                final String role = tokenProvider.getRoleFromToken(jwt);
-
-                final UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        username, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
-
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            // Parsed once per token; refresh tokens come back null and are not accepted as bearer tokens
+            final JwtAuthentication authentication = jwt != null ? authenticationCache.get(jwt) : null;
+            if (authentication != null && !revocationStore.isRevoked(authentication.getTokenId())) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (io.jsonwebtoken.JwtException | IllegalArgumentException ex) {
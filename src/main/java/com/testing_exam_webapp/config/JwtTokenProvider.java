@@ -9,30 +9,71 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
+/**
+ * Issues and parses signed JWTs. Access tokens are short-lived bearer tokens; refresh tokens live longer,
+ * are only accepted by /auth/refresh and are rotated on every use. Every token carries a jti so it can
+ * be revoked through {@link TokenRevocationStore}.
+ */
 @Component
 public class JwtTokenProvider {
 
+    public static final String TYPE_CLAIM = "type";
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
     @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForHS256Algorithm}")
     private String jwtSecret;
 
-    @Value("${jwt.expiration:86400000}")
+    @Value("${jwt.expiration:900000}")
     private long jwtExpirationInMs;
 
+    @Value("${jwt.refresh-expiration:604800000}")
+    private long refreshExpirationInMs;
+
     public String generateToken(String username, String role) {
+        return buildToken(username, role, ACCESS, jwtExpirationInMs);
+    }
+
+    public String generateRefreshToken(String username, String role) {
+        return buildToken(username, role, REFRESH, refreshExpirationInMs);
+    }
+
+    private String buildToken(String username, String role, String type, long expirationInMs) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
+        Date expiryDate = new Date(now.getTime() + expirationInMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .claim("role", role)
+                .claim(TYPE_CLAIM, type)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(getSigningKey())
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry once and returns all claims.
+     * Throws a JwtException subtype if the token is invalid or expired.
+     */
+    public Claims parseClaims(String token) {
+        return getAllClaimsFromToken(token);
+    }
+
+    /** Tokens issued before the type claim existed are access tokens. */
+    public static boolean isAccessToken(Claims claims) {
+        Object type = claims.get(TYPE_CLAIM);
+        return type == null || ACCESS.equals(type);
+    }
+
+    public static boolean isRefreshToken(Claims claims) {
+        return REFRESH.equals(claims.get(TYPE_CLAIM));
+    }
+
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
     }
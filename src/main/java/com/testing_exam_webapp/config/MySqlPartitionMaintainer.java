@@ -0,0 +1,77 @@
+package com.testing_exam_webapp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * Keeps monthly RANGE COLUMNS partitions on the hot appointment and surgery tables a few months ahead
+ * of today, by splitting the catch-all {@code pmax} partition. The tables must first be partitioned
+ * with {@code db/mysql/partition-clinical-history.sql}; until then this is a no-op.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.archive.mysql-partitioning", name = "enabled", havingValue = "true")
+public class MySqlPartitionMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(MySqlPartitionMaintainer.class);
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final List<String> TABLES = List.of("appointments", "surgeries");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    public MySqlPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                    @Value("${app.archive.mysql-partitioning.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    /**
+     * Adds a partition per month from the archive cutoff (or the newest existing partition) through
+     * {@code monthsAhead} months from now. On the first run everything dated before the cutoff lands
+     * in the cutoff month's partition, which the retention job empties anyway.
+     */
+    public void ensurePartitions(LocalDate cutoff) {
+        YearMonth last = YearMonth.now().plusMonths(monthsAhead);
+        for (String table : TABLES) {
+            List<String> existing = jdbcTemplate.queryForList(
+                    "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                    String.class, table);
+            if (!existing.contains("pmax")) {
+                logger.debug("Table {} is not partitioned, skipping partition maintenance", table);
+                continue;
+            }
+            YearMonth next = newestMonth(existing).map(m -> m.plusMonths(1)).orElse(YearMonth.from(cutoff));
+            if (next.isAfter(last)) {
+                continue;
+            }
+            StringJoiner partitions = new StringJoiner(", ", "ALTER TABLE " + table + " REORGANIZE PARTITION pmax INTO (", ")");
+            for (YearMonth month = next; !month.isAfter(last); month = month.plusMonths(1)) {
+                partitions.add("PARTITION " + month.format(PARTITION_NAME) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')");
+            }
+            partitions.add("PARTITION pmax VALUES LESS THAN (MAXVALUE)");
+            jdbcTemplate.execute(partitions.toString());
+            logger.info("Added monthly partitions {} through {} to {}", next, last, table);
+        }
+    }
+
+    private static Optional<YearMonth> newestMonth(List<String> partitionNames) {
+        return partitionNames.stream()
+                .filter(name -> name.matches("p\\d{6}"))
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .max(YearMonth::compareTo);
+    }
+}
@@ -0,0 +1,112 @@
+package com.testing_exam_webapp.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Reachability hints for the native image ({@code ./gradlew nativeCompile}) that Spring's AOT processing
+ * cannot infer from the bean graph. Ignored on the JVM.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static final String MODEL_PACKAGE = "com.testing_exam_webapp.model";
+    static final String DTO_PACKAGE = "com.testing_exam_webapp.dto";
+
+    // Loaded by name from jjwt-api, so nothing references them statically
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    // Built by OpenApiConfig and serialized by Jackson for /v3/api-docs
+    static final List<String> OPENAPI_TYPES = List.of(
+            "io.swagger.v3.oas.models.OpenAPI",
+            "io.swagger.v3.oas.models.Components",
+            "io.swagger.v3.oas.models.info.Info",
+            "io.swagger.v3.oas.models.security.SecurityRequirement",
+            "io.swagger.v3.oas.models.security.SecurityScheme");
+
+    // Package-private response records that WeatherService and TimeService bind external API responses to
+    static final List<String> EXTERNAL_RESPONSE_TYPES = List.of(
+            "com.testing_exam_webapp.service.WeatherService$OpenWeatherResponse",
+            "com.testing_exam_webapp.service.TimeService$WorldTimeResponse");
+
+    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Entities, mapped superclasses and enums: Hibernate and Jackson reach the Lombok accessors reflectively
+            for (String type : typesIn(MODEL_PACKAGE, classLoader)) {
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.values());
+            }
+
+            // DTOs: JPQL "select new" expressions call their constructors reflectively, Jackson their accessors
+            for (String type : typesIn(DTO_PACKAGE, classLoader)) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            for (String type : JJWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.Serializer");
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.Deserializer");
+
+            for (String type : OPENAPI_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+
+            BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+            for (String type : EXTERNAL_RESPONSE_TYPES) {
+                bindings.registerReflectionHints(hints.reflection(), ClassUtils.resolveClassName(type, classLoader));
+            }
+            // Alias table WeatherService loads from the classpath to resolve city names
+            hints.resources().registerPattern("city-aliases.csv");
+            // Default rules DrugInteractionChecker loads from the classpath
+            hints.resources().registerPattern("drug-interactions.csv");
+        }
+
+        static List<String> typesIn(String basePackage, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return beanDefinition.getMetadata().isIndependent();
+                }
+            };
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter((reader, factory) -> true);
+            return scanner.findCandidateComponents(basePackage).stream()
+                    .map(BeanDefinition::getBeanClassName)
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.testing_exam_webapp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Cached health and lag state of one replica.
+ * {@link #refresh()} probes the replica and is called off the request path by
+ * {@link ReadReplicaRoutingDataSource}'s health-check thread; {@link #isUsable()} only reads the last
+ * result, so a slow or unreachable replica never stalls reads.
+ */
+class ReplicaHealthCheck {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthCheck.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean healthy;
+
+    ReplicaHealthCheck(String name, DataSource dataSource, String lagQuery, Duration maxLag) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    DataSource getDataSource() {
+        return dataSource;
+    }
+
+    /** Result of the last {@link #refresh()}; false until the first probe. */
+    boolean isUsable() {
+        return healthy;
+    }
+
+    void refresh() {
+        update(probe());
+    }
+
+    private void update(boolean nowHealthy) {
+        if (nowHealthy != healthy) {
+            if (nowHealthy) {
+                logger.info("Replica {} is back in rotation", name);
+            } else {
+                logger.warn("Replica {} taken out of rotation, reads fall back to primary", name);
+            }
+        }
+        healthy = nowHealthy;
+    }
+
+    private boolean probe() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (lagQuery == null) {
+                return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            }
+            Long lag = readLagSeconds(connection);
+            if (lag == null) {
+                logger.debug("Replica {} reports no lag value, replication is not running", name);
+                return false;
+            }
+            return lag <= maxLagSeconds;
+        } catch (SQLException e) {
+            logger.debug("Replica {} health check failed: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    private Long readLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    return null;
+                }
+                long lag = rs.getLong(lagColumn(rs.getMetaData()));
+                return rs.wasNull() ? null : lag;
+            }
+        }
+    }
+
+    // SHOW REPLICA STATUS returns dozens of columns, everything else is expected to return the lag first
+    private static int lagColumn(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            String label = metaData.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                return i;
+            }
+        }
+        return 1;
+    }
+}
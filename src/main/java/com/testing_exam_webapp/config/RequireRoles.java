@@ -0,0 +1,21 @@
+package com.testing_exam_webapp.config;
+
+import com.testing_exam_webapp.model.types.Role;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Allows the call if the authenticated user has any of the given roles.
+ * Checked by {@link RoleAuthorizationManager} against a role bitmask, without SpEL.
+ * A method annotation overrides one on the class.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequireRoles {
+    Role[] value();
+}
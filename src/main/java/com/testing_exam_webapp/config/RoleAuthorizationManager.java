@@ -0,0 +1,86 @@
+package com.testing_exam_webapp.config;
+
+import com.testing_exam_webapp.model.types.Role;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Authorizes {@link RequireRoles} methods by AND-ing the caller's role bitmask with the method's required
+ * mask. The annotation is resolved once per method, so each call costs a map lookup and a bit test
+ * instead of a SpEL evaluation.
+ */
+public class RoleAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final Map<Method, Long> requiredMasks = new ConcurrentHashMap<>();
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        long required = requiredMasks.computeIfAbsent(invocation.getMethod(),
+                method -> requiredMask(method, invocation.getThis()));
+        if (required == 0) {
+            return GRANTED;
+        }
+        Authentication auth = authentication.get();
+        if (auth == null || !auth.isAuthenticated()) {
+            return DENIED;
+        }
+        return (maskOf(auth) & required) != 0 ? GRANTED : DENIED;
+    }
+
+    public static long maskOf(Role... roles) {
+        long mask = 0;
+        for (Role role : roles) {
+            mask |= 1L << role.ordinal();
+        }
+        return mask;
+    }
+
+    /** Unknown role names map to an empty mask. */
+    public static long maskOf(String role) {
+        if (role == null) {
+            return 0;
+        }
+        try {
+            return maskOf(Role.valueOf(role));
+        } catch (IllegalArgumentException ex) {
+            return 0;
+        }
+    }
+
+    private static long maskOf(Authentication auth) {
+        if (auth instanceof JwtAuthentication jwt) {
+            return jwt.getRoleMask();
+        }
+        // Any other Authentication (tests, future login mechanisms) goes through its authorities
+        long mask = 0;
+        for (GrantedAuthority authority : auth.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith("ROLE_")) {
+                mask |= maskOf(name.substring(5));
+            }
+        }
+        return mask;
+    }
+
+    private static long requiredMask(Method method, Object target) {
+        Method specific = target != null ? AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(target)) : method;
+        RequireRoles annotation = AnnotatedElementUtils.findMergedAnnotation(specific, RequireRoles.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(specific.getDeclaringClass(), RequireRoles.class);
+        }
+        return annotation == null ? 0 : maskOf(annotation.value());
+    }
+}
@@ -0,0 +1,180 @@
+package com.testing_exam_webapp.config;
+
+import com.testing_exam_webapp.config.cache.CacheInvalidation;
+import com.testing_exam_webapp.config.cache.RemoteCacheStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Revoked token ids (jti), kept in the shared {@link RemoteCacheStore} until the token they belong to
+ * would have expired, so a revocation or a used refresh token is seen by every instance.
+ * <p>
+ * {@link #isRevoked} runs on every authenticated request. A local Bloom filter of the ids revoked on any
+ * instance, learned from the store's broadcasts, answers the common "never revoked" case from a handful
+ * of bit reads; only filter hits consult the store. An instance that has not yet been up for an access
+ * token lifetime may have missed broadcasts, so until then every check consults the store.
+ * Bloom filters cannot delete, so the filter is rebuilt from the live ids when expired ones are purged.
+ */
+@Component
+public class TokenRevocationStore {
+
+    static final String CACHE_NAME = "revoked-tokens";
+
+    private static final long PURGE_INTERVAL_MS = 60_000;
+
+    private final RemoteCacheStore remote;
+    private final Clock clock;
+    private final int expectedEntries;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Instant warmAt;
+    // Ids broadcast as revoked by any instance, with their expiry, to rebuild the filter from
+    private final Map<String, Instant> known = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private long lastPurge;
+
+    public TokenRevocationStore(RemoteCacheStore remote,
+                                @Value("${jwt.revocation.expected-entries:100000}") int expectedEntries,
+                                @Value("${jwt.expiration:900000}") long accessTokenLifetimeMs) {
+        this(remote, expectedEntries, Duration.ofMillis(accessTokenLifetimeMs), Clock.systemUTC());
+    }
+
+    TokenRevocationStore(RemoteCacheStore remote, int expectedEntries, Duration accessTokenLifetime, Clock clock) {
+        this.remote = remote;
+        this.clock = clock;
+        this.expectedEntries = expectedEntries;
+        this.filter = new BloomFilter(expectedEntries);
+        this.warmAt = clock.instant().plus(accessTokenLifetime);
+        this.lastPurge = clock.millis();
+        remote.subscribe(this::onRevoked);
+    }
+
+    /**
+     * Revokes the token id until {@code expiresAt}; after that the token is rejected as expired anyway.
+     * Returns false if the id was already revoked on any instance, which lets refresh rotation detect a
+     * replayed token.
+     */
+    public boolean revoke(String jti, Instant expiresAt) {
+        Instant now = clock.instant();
+        if (jti == null || !expiresAt.isAfter(now)) {
+            return false;
+        }
+        boolean added = remote.putIfAbsent(CACHE_NAME, jti, expiresAt, Duration.between(now, expiresAt));
+        if (added) {
+            remote.publish(new CacheInvalidation(instanceId, CACHE_NAME, jti));
+        }
+        return added;
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        if (!filter.mightContain(jti) && !clock.instant().isBefore(warmAt)) {
+            return false;
+        }
+        return remote.get(CACHE_NAME, jti) != null;
+    }
+
+    private void onRevoked(CacheInvalidation invalidation) {
+        if (!CACHE_NAME.equals(invalidation.cacheName()) || !(invalidation.key() instanceof String jti)) {
+            return;
+        }
+        Object expiresAt = remote.get(CACHE_NAME, jti);
+        if (expiresAt instanceof Instant instant) {
+            remember(jti, instant);
+        }
+    }
+
+    private synchronized void remember(String jti, Instant expiresAt) {
+        known.put(jti, expiresAt);
+        filter.add(jti);
+        if (clock.millis() - lastPurge >= PURGE_INTERVAL_MS) {
+            purgeExpired();
+        }
+    }
+
+    synchronized void purgeExpired() {
+        Instant now = clock.instant();
+        known.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, known.size() * 2));
+        known.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+        lastPurge = clock.millis();
+    }
+
+    int size() {
+        return known.size();
+    }
+
+    /** Fixed-size Bloom filter sized for a 1% false-positive rate, with lock-free bit setting. */
+    private static final class BloomFilter {
+
+        private static final int HASHES = 7;
+
+        private final AtomicLongArray bits;
+        private final int bitCount;
+
+        BloomFilter(int expectedEntries) {
+            // m = -n ln(p) / ln(2)^2 is about 9.6 bits per entry at p = 0.01
+            long m = Math.max(64, (long) Math.ceil(expectedEntries * 9.6));
+            this.bitCount = (int) Math.min(m, Integer.MAX_VALUE - 63);
+            this.bits = new AtomicLongArray((bitCount + 63) / 64);
+        }
+
+        void add(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = index(h1 + i * h2);
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash64(value);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < HASHES; i++) {
+                int bit = index(h1 + i * h2);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(int combined) {
+            return (combined & Integer.MAX_VALUE) % bitCount;
+        }
+
+        /** FNV-1a over the UTF-8 bytes, finished with the murmur3 fmix64 step. */
+        private static long hash64(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b;
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.testing_exam_webapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class WebClientConfig {
+
+    /**
+     * Connection pool of the WebClient used for the external APIs. Reactor Netty's default allows two
+     * connections per core, which would cap the number of upstream calls in flight far below what the
+     * non-blocking endpoints can otherwise hold.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider externalApiConnectionProvider(
+            @Value("${app.external.reactive.max-connections:200}") int maxConnections) {
+        return ConnectionProvider.builder("external-api")
+                .maxConnections(maxConnections)
+                .build();
+    }
+
+    @Bean
+    public WebClientCustomizer externalApiConnectorCustomizer(ConnectionProvider externalApiConnectionProvider) {
+        return builder -> builder.clientConnector(
+                new ReactorClientHttpConnector(HttpClient.create(externalApiConnectionProvider)));
+    }
+}
@@ -0,0 +1,36 @@
+package com.testing_exam_webapp.config.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(TwoLevelCacheProperties.class)
+public class CacheConfig {
+
+    public static final String HOSPITALS = "hospitals";
+    public static final String WARDS = "wards";
+    public static final String MEDICATIONS = "medications";
+    public static final String WEATHER = "weather";
+    public static final String DASHBOARD = "dashboard";
+    public static final String PATIENT_CHARTS = "patient-charts";
+
+    /** Single-node fallback; a networked RemoteCacheStore bean takes precedence. */
+    @Bean
+    @ConditionalOnMissingBean
+    public RemoteCacheStore remoteCacheStore() {
+        return new LocalRemoteCacheStore();
+    }
+
+    @Bean
+    public CacheManager cacheManager(RemoteCacheStore remoteCacheStore, TwoLevelCacheProperties properties) {
+        return new TwoLevelCacheManager(remoteCacheStore, properties,
+                List.of(HOSPITALS, WARDS, MEDICATIONS, WEATHER, DASHBOARD, PATIENT_CHARTS));
+    }
+}
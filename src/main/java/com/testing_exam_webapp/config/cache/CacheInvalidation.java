@@ -0,0 +1,12 @@
+package com.testing_exam_webapp.config.cache;
+
+/**
+ * Message telling the other instances to drop a near-cache entry.
+ * A null key drops the whole cache.
+ *
+ * @param origin    id of the instance that sent it, so it can ignore its own messages
+ * @param cacheName cache the entry belongs to
+ * @param key       evicted key, or null for a full clear
+ */
+public record CacheInvalidation(String origin, String cacheName, Object key) {
+}
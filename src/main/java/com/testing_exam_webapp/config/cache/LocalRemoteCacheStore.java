@@ -0,0 +1,109 @@
+package com.testing_exam_webapp.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for the shared store. Good enough for tests and a single instance; several
+ * cache managers in one JVM sharing it behave like several nodes sharing a real remote store.
+ * Entries expire after their own TTL and are purged on a background schedule, like keys in a real store.
+ */
+public class LocalRemoteCacheStore implements RemoteCacheStore {
+
+    private final Map<String, Cache<Object, Entry>> caches = new ConcurrentHashMap<>();
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        Cache<Object, Entry> cache = caches.get(cacheName);
+        if (cache == null) {
+            return null;
+        }
+        Entry entry = cache.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration ttl) {
+        caches.computeIfAbsent(cacheName, name -> newCache())
+                .put(key, new Entry(value, ttl.toNanos()));
+    }
+
+    @Override
+    public boolean putIfAbsent(String cacheName, Object key, Object value, Duration ttl) {
+        return caches.computeIfAbsent(cacheName, name -> newCache()).asMap()
+                .putIfAbsent(key, new Entry(value, ttl.toNanos())) == null;
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        Cache<Object, Entry> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        Cache<Object, Entry> cache = caches.remove(cacheName);
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    /** Number of live entries in one cache, after purging the expired ones. */
+    long size(String cacheName) {
+        Cache<Object, Entry> cache = caches.get(cacheName);
+        if (cache == null) {
+            return 0;
+        }
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static Cache<Object, Entry> newCache() {
+        return Caffeine.newBuilder()
+                .expireAfter(new Expiry<Object, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Object key, Entry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Object key, Entry entry, long currentTime, long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(Object key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+    }
+
+    private record Entry(Object value, long ttlNanos) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.testing_exam_webapp.config.cache;
+
+import com.testing_exam_webapp.model.mysql.Appointment;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Prescription;
+import com.testing_exam_webapp.model.mysql.Surgery;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JPA listener on Patient and on the entities shown in a patient chart. Evicts the owning patient's
+ * chart on every insert, update and delete, regardless of which service wrote it. The cache manager is
+ * transaction aware, so the eviction happens after commit.
+ * <p>
+ * Only the current owner is known here; if a record is moved to another patient, the previous patient's
+ * chart is refreshed by its TTL ({@code app.cache.ttl.patient-charts}).
+ */
+@Component
+public class PatientChartInvalidationListener {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public PatientChartInvalidationListener(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        UUID patientId = patientIdOf(entity);
+        if (patientId == null || !firstInTransaction(patientId)) {
+            return;
+        }
+        CacheManager manager = cacheManager.getIfAvailable();
+        Cache cache = manager != null ? manager.getCache(CacheConfig.PATIENT_CHARTS) : null;
+        if (cache != null) {
+            cache.evict(patientId);
+        }
+    }
+
+    /** Bulk writes touch the same patient many times; evict each chart once per transaction. */
+    private boolean firstInTransaction(UUID patientId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Set<UUID> evicted = (Set<UUID>) TransactionSynchronizationManager.getResource(this);
+        if (evicted == null) {
+            evicted = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(this, evicted);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PatientChartInvalidationListener.this);
+                }
+            });
+        }
+        return evicted.add(patientId);
+    }
+
+    private static UUID patientIdOf(Object entity) {
+        if (entity instanceof Patient patient) {
+            return patient.getPatientId();
+        }
+        Patient owner = null;
+        if (entity instanceof Appointment appointment) {
+            owner = appointment.getPatient();
+        } else if (entity instanceof Prescription prescription) {
+            owner = prescription.getPatient();
+        } else if (entity instanceof Surgery surgery) {
+            owner = surgery.getPatient();
+        }
+        return owner != null ? owner.getPatientId() : null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.testing_exam_webapp.config.cache;
+
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * Shared second-level cache store and invalidation channel used by every app instance.
+ * A networked implementation (Redis, Hazelcast, ...) is registered as a bean to replace the
+ * in-process {@link LocalRemoteCacheStore} used for tests and single-node deployments.
+ */
+public interface RemoteCacheStore {
+
+    /** Returns the stored value, or null when absent or expired. */
+    Object get(String cacheName, Object key);
+
+    void put(String cacheName, Object key, Object value, Duration ttl);
+
+    /** Stores the value only if the key is absent or expired; returns whether it was stored. */
+    boolean putIfAbsent(String cacheName, Object key, Object value, Duration ttl);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+
+    /** Broadcasts an invalidation to all instances, including the sender. */
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,114 @@
+package com.testing_exam_webapp.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with a per-instance near layer in front of the shared {@link RemoteCacheStore}.
+ * Reads hit the near map first and fall through to the store. Every write or evict also goes to the
+ * store and is broadcast, so other instances drop their near copy instead of serving a stale one.
+ * Near entries expire after {@code nearTtl} at the latest, which bounds staleness if a message is lost,
+ * and once {@code nearMaxEntries} keys are held the least useful ones are evicted to make room.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final String instanceId;
+    private final RemoteCacheStore remote;
+    private final Duration ttl;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> near;
+
+    public TwoLevelCache(String name, String instanceId, RemoteCacheStore remote,
+                         Duration ttl, Duration nearTtl, int nearMaxEntries) {
+        super(false);
+        this.name = name;
+        this.instanceId = instanceId;
+        this.remote = remote;
+        this.ttl = ttl;
+        this.near = Caffeine.newBuilder()
+                .expireAfterWrite(ttl.compareTo(nearTtl) < 0 ? ttl : nearTtl)
+                .maximumSize(nearMaxEntries)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return near;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = near.getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        value = remote.get(name, key);
+        if (value != null) {
+            near.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        Object storeValue = toStoreValue(value);
+        remote.put(name, key, storeValue, ttl);
+        near.put(key, storeValue);
+        remote.publish(new CacheInvalidation(instanceId, name, key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        near.invalidate(key);
+        remote.evict(name, key);
+        remote.publish(new CacheInvalidation(instanceId, name, key));
+    }
+
+    @Override
+    public void clear() {
+        near.invalidateAll();
+        remote.clear(name);
+        remote.publish(new CacheInvalidation(instanceId, name, null));
+    }
+
+    /** Applies an invalidation sent by another instance to the near layer only. */
+    void onInvalidation(CacheInvalidation invalidation) {
+        if (instanceId.equals(invalidation.origin())) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            near.invalidateAll();
+        } else {
+            near.invalidate(invalidation.key());
+        }
+    }
+}
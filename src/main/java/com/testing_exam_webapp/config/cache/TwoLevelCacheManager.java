@@ -0,0 +1,61 @@
+package com.testing_exam_webapp.config.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates {@link TwoLevelCache}s on first use and routes invalidations from other instances to them.
+ * Puts and evicts issued inside a transaction are deferred until it commits, so a rolled back
+ * update never invalidates or publishes anything.
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final RemoteCacheStore remote;
+    private final TwoLevelCacheProperties properties;
+    private final List<String> initialCacheNames;
+    // Undecorated caches, the registry in the superclass holds the transaction-aware wrappers
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RemoteCacheStore remote, TwoLevelCacheProperties properties,
+                                Collection<String> initialCacheNames) {
+        this.remote = remote;
+        this.properties = properties;
+        this.initialCacheNames = new ArrayList<>(initialCacheNames);
+        setTransactionAware(true);
+        remote.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        List<Cache> caches = new ArrayList<>();
+        for (String name : initialCacheNames) {
+            caches.add(createCache(name));
+        }
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private TwoLevelCache createCache(String name) {
+        return caches.computeIfAbsent(name, n -> new TwoLevelCache(n, instanceId, remote, properties.ttlFor(n),
+                properties.getNearTtl(), properties.getNearMaxEntries()));
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.onInvalidation(invalidation);
+        }
+    }
+}
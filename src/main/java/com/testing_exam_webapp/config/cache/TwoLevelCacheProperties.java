@@ -0,0 +1,33 @@
+package com.testing_exam_webapp.config.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache settings bound from {@code app.cache.*}.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.cache")
+public class TwoLevelCacheProperties {
+
+    /** Time to live in the shared store for caches without an entry in {@link #ttl}. */
+    private Duration defaultTtl = Duration.ofMinutes(10);
+
+    /** Per-cache time to live, keyed by cache name. */
+    private Map<String, Duration> ttl = new HashMap<>();
+
+    /** Upper bound on how long an instance serves its near copy without asking the shared store. */
+    private Duration nearTtl = Duration.ofSeconds(30);
+
+    private int nearMaxEntries = 10_000;
+
+    public Duration ttlFor(String cacheName) {
+        return ttl.getOrDefault(cacheName, defaultTtl);
+    }
+}
@@ -0,0 +1,55 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.dto.ActivePrescriptionDto;
+import com.testing_exam_webapp.model.types.Role;
+import com.testing_exam_webapp.service.ActivePrescriptionService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/prescriptions/active")
+public class ActivePrescriptionController {
+
+    private final ActivePrescriptionService activePrescriptionService;
+
+    public ActivePrescriptionController(ActivePrescriptionService activePrescriptionService) {
+        this.activePrescriptionService = activePrescriptionService;
+    }
+
+    @GetMapping
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<List<ActivePrescriptionDto>> getActivePrescriptions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return respond(activePrescriptionService.getActivePrescriptions(date));
+    }
+
+    @GetMapping("/by-patient/{patientId}")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<List<ActivePrescriptionDto>> getActivePrescriptionsForPatient(
+            @PathVariable UUID patientId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return respond(activePrescriptionService.getActivePrescriptionsForPatient(patientId, date));
+    }
+
+    @GetMapping("/by-ward/{wardId}")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<List<ActivePrescriptionDto>> getWardMedicationRound(
+            @PathVariable UUID wardId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return respond(activePrescriptionService.getWardMedicationRound(wardId, date));
+    }
+
+    private static ResponseEntity<List<ActivePrescriptionDto>> respond(List<ActivePrescriptionDto> prescriptions) {
+        if (prescriptions.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(prescriptions, HttpStatus.OK);
+    }
+}
@@ -1,14 +1,20 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.dto.AppointmentFilter;
 import com.testing_exam_webapp.dto.AppointmentRequest;
 import com.testing_exam_webapp.model.mysql.Appointment;
 import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.service.AppointmentService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -26,7 +32,7 @@ public class AppointmentController {
     }
 
     @GetMapping("/all")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Appointment>> getAppointments() {
         List<Appointment> appointments = appointmentService.getAppointments();
         if(appointments.isEmpty()){
@@ -36,28 +42,29 @@ public class AppointmentController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Appointment> getAppointmentById(@PathVariable UUID id) {
         Appointment appointment = appointmentService.getAppointmentById(id);
-        return new ResponseEntity<>(appointment, HttpStatus.OK);
+        return new ResponseEntity<>(appointment, EntityTags.etag(appointment.getVersion()), HttpStatus.OK);
     }
 
     @PostMapping("/create")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Appointment> createAppointment(@Valid @RequestBody AppointmentRequest request) {
         Appointment appointment = appointmentService.createAppointment(request);
         return new ResponseEntity<>(appointment, HttpStatus.CREATED);
     }
 
     @PutMapping("/update/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Appointment> updateAppointment(@PathVariable UUID id, @Valid @RequestBody AppointmentRequest request) {
-        Appointment appointment = appointmentService.updateAppointment(id, request);
-        return new ResponseEntity<>(appointment, HttpStatus.OK);
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<Appointment> updateAppointment(@PathVariable UUID id, @Valid @RequestBody AppointmentRequest request,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Appointment appointment = appointmentService.updateAppointment(id, request, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(appointment, EntityTags.etag(appointment.getVersion()), HttpStatus.OK);
     }
 
     @DeleteMapping("/delete/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Void> deleteAppointment(@PathVariable UUID id) {
         appointmentService.deleteAppointment(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -65,7 +72,7 @@ public class AppointmentController {
 
     // Query endpoints
     @GetMapping("/by-patient/{patientId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Appointment>> getAppointmentsByPatientId(@PathVariable UUID patientId) {
         List<Appointment> appointments = appointmentService.getAppointmentsByPatientId(patientId);
         if (appointments.isEmpty()) {
@@ -75,7 +82,7 @@ public class AppointmentController {
     }
 
     @GetMapping("/by-doctor/{doctorId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Appointment>> getAppointmentsByDoctorId(@PathVariable UUID doctorId) {
         List<Appointment> appointments = appointmentService.getAppointmentsByDoctorId(doctorId);
         if (appointments.isEmpty()) {
@@ -85,7 +92,7 @@ public class AppointmentController {
     }
 
     @GetMapping("/by-nurse/{nurseId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Appointment>> getAppointmentsByNurseId(@PathVariable UUID nurseId) {
         List<Appointment> appointments = appointmentService.getAppointmentsByNurseId(nurseId);
         if (appointments.isEmpty()) {
@@ -95,7 +102,7 @@ public class AppointmentController {
     }
 
     @GetMapping("/by-status/{status}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Appointment>> getAppointmentsByStatus(@PathVariable AppointmentStatusType status) {
         List<Appointment> appointments = appointmentService.getAppointmentsByStatus(status);
         if (appointments.isEmpty()) {
@@ -105,7 +112,7 @@ public class AppointmentController {
     }
 
     @GetMapping("/by-date/{date}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Appointment>> getAppointmentsByDate(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
         List<Appointment> appointments = appointmentService.getAppointmentsByDate(date);
@@ -116,7 +123,7 @@ public class AppointmentController {
     }
 
     @GetMapping("/by-date-range")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Appointment>> getAppointmentsByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
@@ -126,4 +133,16 @@ public class AppointmentController {
         }
         return new ResponseEntity<>(appointments, HttpStatus.OK);
     }
+
+    @GetMapping("/search")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<Page<Appointment>> searchAppointments(
+            @ModelAttribute AppointmentFilter filter,
+            @PageableDefault(size = 20, sort = "appointmentDate") Pageable pageable) {
+        Page<Appointment> appointmentPage = appointmentService.searchAppointments(filter, pageable);
+        if (appointmentPage.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(appointmentPage, HttpStatus.OK);
+    }
 }
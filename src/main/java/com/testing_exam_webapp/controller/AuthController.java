@@ -2,10 +2,13 @@ package com.testing_exam_webapp.controller;
 
 import com.testing_exam_webapp.dto.LoginRequest;
 import com.testing_exam_webapp.dto.LoginResponse;
+import com.testing_exam_webapp.dto.RefreshTokenRequest;
 import com.testing_exam_webapp.dto.RegisterRequest;
 import com.testing_exam_webapp.model.mysql.User;
 import com.testing_exam_webapp.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,11 +24,26 @@ public class AuthController {
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
-        LoginResponse response = authService.login(loginRequest);
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest,
+                                               HttpServletRequest request) {
+        LoginResponse response = authService.login(loginRequest, request.getRemoteAddr());
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest refreshRequest) {
+        LoginResponse response = authService.refresh(refreshRequest.getRefreshToken());
+        return new ResponseEntity<>(response, HttpStatus.OK);
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                       @RequestBody(required = false) RefreshTokenRequest refreshRequest) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+        authService.logout(accessToken, refreshRequest != null ? refreshRequest.getRefreshToken() : null);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
     @PostMapping("/register")
     public ResponseEntity<User> register(@Valid @RequestBody RegisterRequest registerRequest) {
         User user = authService.register(registerRequest);
@@ -1,17 +1,20 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.service.BulkDataSeederService;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
 
+@Lazy
 @RestController
 @RequestMapping("/admin/seed")
-@PreAuthorize("hasRole('ADMIN')")
+@RequireRoles(Role.ADMIN)
 public class BulkDataSeederController {
 
     private final BulkDataSeederService bulkDataSeederService;
@@ -0,0 +1,29 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.dto.DashboardDto;
+import com.testing_exam_webapp.model.types.Role;
+import com.testing_exam_webapp.service.DashboardService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<DashboardDto> getDashboard(
+            @RequestParam(required = false, defaultValue = "Copenhagen") String city,
+            @RequestParam(required = false, defaultValue = "Europe/Copenhagen") String timezone) {
+        DashboardDto dashboard = dashboardService.getDashboard(city, timezone);
+        return new ResponseEntity<>(dashboard, HttpStatus.OK);
+    }
+}
@@ -1,12 +1,14 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
 import com.testing_exam_webapp.dto.DiagnosisRequest;
 import com.testing_exam_webapp.model.mysql.Diagnosis;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.service.DiagnosisService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,7 +25,7 @@ public class DiagnosisController {
     }
 
     @GetMapping("/all")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Diagnosis>> getDiagnoses() {
         List<Diagnosis> diagnoses = diagnosisService.getDiagnoses();
         if(diagnoses.isEmpty()){
@@ -33,28 +35,29 @@ public class DiagnosisController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Diagnosis> getDiagnosisById(@PathVariable UUID id) {
         Diagnosis diagnosis = diagnosisService.getDiagnosisById(id);
-        return new ResponseEntity<>(diagnosis, HttpStatus.OK);
+        return new ResponseEntity<>(diagnosis, EntityTags.etag(diagnosis.getVersion()), HttpStatus.OK);
     }
 
     @PostMapping("/create")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Diagnosis> createDiagnosis(@Valid @RequestBody DiagnosisRequest request) {
         Diagnosis diagnosis = diagnosisService.createDiagnosis(request);
         return new ResponseEntity<>(diagnosis, HttpStatus.CREATED);
     }
 
     @PutMapping("/update/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Diagnosis> updateDiagnosis(@PathVariable UUID id, @Valid @RequestBody DiagnosisRequest request) {
-        Diagnosis diagnosis = diagnosisService.updateDiagnosis(id, request);
-        return new ResponseEntity<>(diagnosis, HttpStatus.OK);
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<Diagnosis> updateDiagnosis(@PathVariable UUID id, @Valid @RequestBody DiagnosisRequest request,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Diagnosis diagnosis = diagnosisService.updateDiagnosis(id, request, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(diagnosis, EntityTags.etag(diagnosis.getVersion()), HttpStatus.OK);
     }
 
     @DeleteMapping("/delete/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Void> deleteDiagnosis(@PathVariable UUID id) {
         diagnosisService.deleteDiagnosis(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -1,13 +1,16 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
 import com.testing_exam_webapp.dto.DoctorRequest;
+import com.testing_exam_webapp.dto.NameSearchResult;
 import com.testing_exam_webapp.model.mysql.Doctor;
 import com.testing_exam_webapp.model.types.DoctorSpecialityType;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.service.DoctorService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -24,7 +27,7 @@ public class DoctorController {
     }
 
     @GetMapping("/all")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Doctor>> getDoctors() {
         List<Doctor> doctors = doctorService.getDoctors();
         if(doctors.isEmpty()){
@@ -34,28 +37,29 @@ public class DoctorController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Doctor> getDoctorById(@PathVariable UUID id) {
         Doctor doctor = doctorService.getDoctorById(id);
-        return new ResponseEntity<>(doctor, HttpStatus.OK);
+        return new ResponseEntity<>(doctor, EntityTags.etag(doctor.getVersion()), HttpStatus.OK);
     }
 
     @PostMapping("/create")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Doctor> createDoctor(@Valid @RequestBody DoctorRequest request) {
         Doctor doctor = doctorService.createDoctor(request);
         return new ResponseEntity<>(doctor, HttpStatus.CREATED);
     }
 
     @PutMapping("/update/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Doctor> updateDoctor(@PathVariable UUID id, @Valid @RequestBody DoctorRequest request) {
-        Doctor doctor = doctorService.updateDoctor(id, request);
-        return new ResponseEntity<>(doctor, HttpStatus.OK);
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<Doctor> updateDoctor(@PathVariable UUID id, @Valid @RequestBody DoctorRequest request,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Doctor doctor = doctorService.updateDoctor(id, request, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(doctor, EntityTags.etag(doctor.getVersion()), HttpStatus.OK);
     }
 
     @DeleteMapping("/delete/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Void> deleteDoctor(@PathVariable UUID id) {
         doctorService.deleteDoctor(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -63,7 +67,7 @@ public class DoctorController {
 
     // Query endpoints
     @GetMapping("/by-ward/{wardId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Doctor>> getDoctorsByWardId(@PathVariable UUID wardId) {
         List<Doctor> doctors = doctorService.getDoctorsByWardId(wardId);
         if (doctors.isEmpty()) {
@@ -73,7 +77,7 @@ public class DoctorController {
     }
 
     @GetMapping("/by-speciality/{speciality}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Doctor>> getDoctorsBySpeciality(@PathVariable DoctorSpecialityType speciality) {
         List<Doctor> doctors = doctorService.getDoctorsBySpeciality(speciality);
         if (doctors.isEmpty()) {
@@ -83,7 +87,7 @@ public class DoctorController {
     }
 
     @GetMapping("/by-hospital/{hospitalId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Doctor>> getDoctorsByHospitalId(@PathVariable UUID hospitalId) {
         List<Doctor> doctors = doctorService.getDoctorsByHospitalId(hospitalId);
         if (doctors.isEmpty()) {
@@ -91,5 +95,17 @@ public class DoctorController {
         }
         return new ResponseEntity<>(doctors, HttpStatus.OK);
     }
-}
 
+    @GetMapping("/search")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<List<NameSearchResult>> searchDoctorsByName(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<NameSearchResult> results = doctorService.searchDoctorsByName(q, page, size);
+        if (results.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,41 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.exception.PreconditionFailedException;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * ETag / If-Match handling for the entity endpoints. The tag is the entity's {@code @Version}, so a
+ * client that sends back the ETag it read gets 412 Precondition Failed instead of overwriting a newer edit.
+ */
+final class EntityTags {
+
+    private EntityTags() {
+    }
+
+    static HttpHeaders etag(Long version) {
+        HttpHeaders headers = new HttpHeaders();
+        if (version != null) {
+            headers.setETag("\"" + version + "\"");
+        }
+        return headers;
+    }
+
+    /** Returns the version named by an If-Match header, or null when the header is absent or {@code *}. */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not name a version of this resource: " + ifMatch);
+        }
+    }
+}
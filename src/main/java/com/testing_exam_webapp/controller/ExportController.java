@@ -0,0 +1,32 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.dto.ExportStatusDto;
+import com.testing_exam_webapp.model.types.Role;
+import com.testing_exam_webapp.service.ClinicalExportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/exports")
+@RequireRoles(Role.ADMIN)
+public class ExportController {
+
+    private final ClinicalExportService clinicalExportService;
+
+    public ExportController(ClinicalExportService clinicalExportService) {
+        this.clinicalExportService = clinicalExportService;
+    }
+
+    @PostMapping("/run")
+    public ResponseEntity<ExportStatusDto> runExport(@RequestParam(defaultValue = "true") boolean incremental) {
+        boolean started = clinicalExportService.startExport(incremental);
+        return new ResponseEntity<>(clinicalExportService.getStatus(), started ? HttpStatus.ACCEPTED : HttpStatus.CONFLICT);
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<ExportStatusDto> getStatus() {
+        return new ResponseEntity<>(clinicalExportService.getStatus(), HttpStatus.OK);
+    }
+}
@@ -1,12 +1,14 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
 import com.testing_exam_webapp.dto.HospitalRequest;
 import com.testing_exam_webapp.model.mysql.Hospital;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.service.HospitalService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,7 +25,7 @@ public class HospitalController {
     }
 
     @GetMapping("/all")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Hospital>> getHospitals() {
         List<Hospital> hospitals = hospitalService.getHospitals();
         if(hospitals.isEmpty()){
@@ -33,28 +35,29 @@ public class HospitalController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Hospital> getHospitalById(@PathVariable UUID id) {
         Hospital hospital = hospitalService.getHospitalById(id);
-        return new ResponseEntity<>(hospital, HttpStatus.OK);
+        return new ResponseEntity<>(hospital, EntityTags.etag(hospital.getVersion()), HttpStatus.OK);
     }
 
     @PostMapping("/create")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Hospital> createHospital(@Valid @RequestBody HospitalRequest request) {
         Hospital hospital = hospitalService.createHospital(request);
         return new ResponseEntity<>(hospital, HttpStatus.CREATED);
     }
 
     @PutMapping("/update/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Hospital> updateHospital(@PathVariable UUID id, @Valid @RequestBody HospitalRequest request) {
-        Hospital hospital = hospitalService.updateHospital(id, request);
-        return new ResponseEntity<>(hospital, HttpStatus.OK);
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<Hospital> updateHospital(@PathVariable UUID id, @Valid @RequestBody HospitalRequest request,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Hospital hospital = hospitalService.updateHospital(id, request, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(hospital, EntityTags.etag(hospital.getVersion()), HttpStatus.OK);
     }
 
     @DeleteMapping("/delete/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Void> deleteHospital(@PathVariable UUID id) {
         hospitalService.deleteHospital(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -62,7 +65,7 @@ public class HospitalController {
 
     // Query endpoints
     @GetMapping("/by-city/{city}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Hospital>> getHospitalsByCity(@PathVariable String city) {
         List<Hospital> hospitals = hospitalService.getHospitalsByCity(city);
         if (hospitals.isEmpty()) {
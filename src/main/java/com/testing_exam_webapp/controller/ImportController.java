@@ -0,0 +1,54 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.dto.ImportResultDto;
+import com.testing_exam_webapp.model.types.Role;
+import com.testing_exam_webapp.service.BulkImportService;
+import com.testing_exam_webapp.service.BulkImportService.Format;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Lazy
+@RestController
+@RequestMapping("/admin/imports")
+@RequireRoles(Role.ADMIN)
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    public ImportController(BulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    @PostMapping(value = "/patients", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultDto> importPatients(@RequestParam("file") MultipartFile file,
+                                                          @RequestParam(required = false) Format format) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return new ResponseEntity<>(bulkImportService.importPatients(input, formatOf(file, format)), HttpStatus.OK);
+        }
+    }
+
+    @PostMapping(value = "/appointments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultDto> importAppointments(@RequestParam("file") MultipartFile file,
+                                                              @RequestParam(required = false) Format format) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return new ResponseEntity<>(bulkImportService.importAppointments(input, formatOf(file, format)), HttpStatus.OK);
+        }
+    }
+
+    /** Uses the explicit format if given, otherwise NDJSON for .ndjson/.jsonl files and CSV for anything else. */
+    static Format formatOf(MultipartFile file, Format format) {
+        if (format != null) {
+            return format;
+        }
+        String name = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase() : "";
+        return name.endsWith(".ndjson") || name.endsWith(".jsonl") ? Format.NDJSON : Format.CSV;
+    }
+}
@@ -1,12 +1,14 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
 import com.testing_exam_webapp.dto.MedicationRequest;
 import com.testing_exam_webapp.model.mysql.Medication;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.service.MedicationService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,7 +25,7 @@ public class MedicationController {
     }
 
     @GetMapping("/all")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Medication>> getMedications() {
         List<Medication> medications = medicationService.getMedications();
         if(medications.isEmpty()){
@@ -33,28 +35,29 @@ public class MedicationController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Medication> getMedicationById(@PathVariable UUID id) {
         Medication medication = medicationService.getMedicationById(id);
-        return new ResponseEntity<>(medication, HttpStatus.OK);
+        return new ResponseEntity<>(medication, EntityTags.etag(medication.getVersion()), HttpStatus.OK);
     }
 
     @PostMapping("/create")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Medication> createMedication(@Valid @RequestBody MedicationRequest request) {
         Medication medication = medicationService.createMedication(request);
         return new ResponseEntity<>(medication, HttpStatus.CREATED);
     }
 
     @PutMapping("/update/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Medication> updateMedication(@PathVariable UUID id, @Valid @RequestBody MedicationRequest request) {
-        Medication medication = medicationService.updateMedication(id, request);
-        return new ResponseEntity<>(medication, HttpStatus.OK);
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<Medication> updateMedication(@PathVariable UUID id, @Valid @RequestBody MedicationRequest request,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Medication medication = medicationService.updateMedication(id, request, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(medication, EntityTags.etag(medication.getVersion()), HttpStatus.OK);
     }
 
     @DeleteMapping("/delete/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Void> deleteMedication(@PathVariable UUID id) {
         medicationService.deleteMedication(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -1,12 +1,15 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.dto.NameSearchResult;
 import com.testing_exam_webapp.dto.NurseRequest;
 import com.testing_exam_webapp.model.mysql.Nurse;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.service.NurseService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,7 +26,7 @@ public class NurseController {
     }
 
     @GetMapping("/all")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Nurse>> getNurses() {
         List<Nurse> nurses = nurseService.getNurses();
         if(nurses.isEmpty()){
@@ -33,31 +36,45 @@ public class NurseController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Nurse> getNurseById(@PathVariable UUID id) {
         Nurse nurse = nurseService.getNurseById(id);
-        return new ResponseEntity<>(nurse, HttpStatus.OK);
+        return new ResponseEntity<>(nurse, EntityTags.etag(nurse.getVersion()), HttpStatus.OK);
     }
 
     @PostMapping("/create")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Nurse> createNurse(@Valid @RequestBody NurseRequest request) {
         Nurse nurse = nurseService.createNurse(request);
         return new ResponseEntity<>(nurse, HttpStatus.CREATED);
     }
 
     @PutMapping("/update/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Nurse> updateNurse(@PathVariable UUID id, @Valid @RequestBody NurseRequest request) {
-        Nurse nurse = nurseService.updateNurse(id, request);
-        return new ResponseEntity<>(nurse, HttpStatus.OK);
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<Nurse> updateNurse(@PathVariable UUID id, @Valid @RequestBody NurseRequest request,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Nurse nurse = nurseService.updateNurse(id, request, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(nurse, EntityTags.etag(nurse.getVersion()), HttpStatus.OK);
     }
 
     @DeleteMapping("/delete/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Void> deleteNurse(@PathVariable UUID id) {
         nurseService.deleteNurse(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
-}
 
+    // Query endpoints
+    @GetMapping("/search")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<List<NameSearchResult>> searchNursesByName(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<NameSearchResult> results = nurseService.searchNursesByName(q, page, size);
+        if (results.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+}
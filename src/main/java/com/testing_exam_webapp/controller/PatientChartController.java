@@ -0,0 +1,29 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.dto.PatientChartDto;
+import com.testing_exam_webapp.model.types.Role;
+import com.testing_exam_webapp.service.PatientChartService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/patients")
+public class PatientChartController {
+
+    private final PatientChartService patientChartService;
+
+    public PatientChartController(PatientChartService patientChartService) {
+        this.patientChartService = patientChartService;
+    }
+
+    @GetMapping("/{patientId}/chart")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<PatientChartDto> getPatientChart(@PathVariable UUID patientId) {
+        PatientChartDto chart = patientChartService.getPatientChart(patientId);
+        return new ResponseEntity<>(chart, HttpStatus.OK);
+    }
+}
@@ -1,12 +1,15 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.dto.NameSearchResult;
 import com.testing_exam_webapp.dto.PatientRequest;
 import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.service.PatientService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,7 +26,7 @@ public class PatientController {
     }
 
     @GetMapping("/all")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Patient>> getPatients() {
         List<Patient> patients = patientService.getPatients();
         if(patients.isEmpty()){
@@ -33,28 +36,29 @@ public class PatientController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Patient> getPatientById(@PathVariable UUID id) {
         Patient patient = patientService.getPatientById(id);
-        return new ResponseEntity<>(patient, HttpStatus.OK);
+        return new ResponseEntity<>(patient, EntityTags.etag(patient.getVersion()), HttpStatus.OK);
     }
 
     @PostMapping("/create")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Patient> createPatient(@Valid @RequestBody PatientRequest request) {
         Patient patient = patientService.createPatient(request);
         return new ResponseEntity<>(patient, HttpStatus.CREATED);
     }
 
     @PutMapping("/update/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Patient> updatePatient(@PathVariable UUID id, @Valid @RequestBody PatientRequest request) {
-        Patient patient = patientService.updatePatient(id, request);
-        return new ResponseEntity<>(patient, HttpStatus.OK);
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<Patient> updatePatient(@PathVariable UUID id, @Valid @RequestBody PatientRequest request,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Patient patient = patientService.updatePatient(id, request, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(patient, EntityTags.etag(patient.getVersion()), HttpStatus.OK);
     }
 
     @DeleteMapping("/delete/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Void> deletePatient(@PathVariable UUID id) {
         patientService.deletePatient(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -62,7 +66,7 @@ public class PatientController {
 
     // Query endpoints
     @GetMapping("/by-ward/{wardId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Patient>> getPatientsByWardId(@PathVariable UUID wardId) {
         List<Patient> patients = patientService.getPatientsByWardId(wardId);
         if (patients.isEmpty()) {
@@ -72,7 +76,7 @@ public class PatientController {
     }
 
     @GetMapping("/by-hospital/{hospitalId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Patient>> getPatientsByHospitalId(@PathVariable UUID hospitalId) {
         List<Patient> patients = patientService.getPatientsByHospitalId(hospitalId);
         if (patients.isEmpty()) {
@@ -80,5 +84,17 @@ public class PatientController {
         }
         return new ResponseEntity<>(patients, HttpStatus.OK);
     }
-}
 
+    @GetMapping("/search")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<List<NameSearchResult>> searchPatientsByName(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<NameSearchResult> results = patientService.searchPatientsByName(q, page, size);
+        if (results.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+}
@@ -1,12 +1,18 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.dto.PrescriptionFilter;
 import com.testing_exam_webapp.dto.PrescriptionRequest;
 import com.testing_exam_webapp.model.mysql.Prescription;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.service.PrescriptionService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -23,7 +29,7 @@ public class PrescriptionController {
     }
 
     @GetMapping("/all")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Prescription>> getPrescriptions() {
         List<Prescription> prescriptions = prescriptionService.getPrescriptions();
         if(prescriptions.isEmpty()){
@@ -33,31 +39,54 @@ public class PrescriptionController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Prescription> getPrescriptionById(@PathVariable UUID id) {
         Prescription prescription = prescriptionService.getPrescriptionById(id);
-        return new ResponseEntity<>(prescription, HttpStatus.OK);
+        return new ResponseEntity<>(prescription, EntityTags.etag(prescription.getVersion()), HttpStatus.OK);
     }
 
     @PostMapping("/create")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Prescription> createPrescription(@Valid @RequestBody PrescriptionRequest request) {
         Prescription prescription = prescriptionService.createPrescription(request);
         return new ResponseEntity<>(prescription, HttpStatus.CREATED);
     }
 
     @PutMapping("/update/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Prescription> updatePrescription(@PathVariable UUID id, @Valid @RequestBody PrescriptionRequest request) {
-        Prescription prescription = prescriptionService.updatePrescription(id, request);
-        return new ResponseEntity<>(prescription, HttpStatus.OK);
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<Prescription> updatePrescription(@PathVariable UUID id, @Valid @RequestBody PrescriptionRequest request,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Prescription prescription = prescriptionService.updatePrescription(id, request, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(prescription, EntityTags.etag(prescription.getVersion()), HttpStatus.OK);
     }
 
     @DeleteMapping("/delete/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Void> deletePrescription(@PathVariable UUID id) {
         prescriptionService.deletePrescription(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
-}
 
+    // Query endpoints
+    @GetMapping("/by-patient/{patientId}")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<List<Prescription>> getPrescriptionsByPatientId(@PathVariable UUID patientId) {
+        List<Prescription> prescriptions = prescriptionService.getPrescriptionsByPatientId(patientId);
+        if (prescriptions.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(prescriptions, HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<Page<Prescription>> searchPrescriptions(
+            @ModelAttribute PrescriptionFilter filter,
+            @PageableDefault(size = 20, sort = "startDate") Pageable pageable) {
+        Page<Prescription> prescriptionPage = prescriptionService.searchPrescriptions(filter, pageable);
+        if (prescriptionPage.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(prescriptionPage, HttpStatus.OK);
+    }
+}
@@ -1,14 +1,22 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
+import com.testing_exam_webapp.dto.SurgeryFilter;
 import com.testing_exam_webapp.dto.SurgeryRequest;
 import com.testing_exam_webapp.model.mysql.Surgery;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.service.SurgeryService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,7 +31,7 @@ public class SurgeryController {
     }
 
     @GetMapping("/all")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Surgery>> getSurgeries() {
         List<Surgery> surgeries = surgeryService.getSurgeries();
         if(surgeries.isEmpty()){
@@ -33,31 +41,66 @@ public class SurgeryController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Surgery> getSurgeryById(@PathVariable UUID id) {
         Surgery surgery = surgeryService.getSurgeryById(id);
-        return new ResponseEntity<>(surgery, HttpStatus.OK);
+        return new ResponseEntity<>(surgery, EntityTags.etag(surgery.getVersion()), HttpStatus.OK);
     }
 
     @PostMapping("/create")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Surgery> createSurgery(@Valid @RequestBody SurgeryRequest request) {
         Surgery surgery = surgeryService.createSurgery(request);
         return new ResponseEntity<>(surgery, HttpStatus.CREATED);
     }
 
     @PutMapping("/update/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Surgery> updateSurgery(@PathVariable UUID id, @Valid @RequestBody SurgeryRequest request) {
-        Surgery surgery = surgeryService.updateSurgery(id, request);
-        return new ResponseEntity<>(surgery, HttpStatus.OK);
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<Surgery> updateSurgery(@PathVariable UUID id, @Valid @RequestBody SurgeryRequest request,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Surgery surgery = surgeryService.updateSurgery(id, request, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(surgery, EntityTags.etag(surgery.getVersion()), HttpStatus.OK);
     }
 
     @DeleteMapping("/delete/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Void> deleteSurgery(@PathVariable UUID id) {
         surgeryService.deleteSurgery(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
-}
 
+    // Query endpoints
+    @GetMapping("/by-patient/{patientId}")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<List<Surgery>> getSurgeriesByPatientId(@PathVariable UUID patientId) {
+        List<Surgery> surgeries = surgeryService.getSurgeriesByPatientId(patientId);
+        if (surgeries.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(surgeries, HttpStatus.OK);
+    }
+
+    @GetMapping("/by-date-range")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<List<Surgery>> getSurgeriesByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        List<Surgery> surgeries = surgeryService.getSurgeriesByDateRange(startDate, endDate);
+        if (surgeries.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(surgeries, HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<Page<Surgery>> searchSurgeries(
+            @ModelAttribute SurgeryFilter filter,
+            @PageableDefault(size = 20, sort = "surgeryDate") Pageable pageable) {
+        Page<Surgery> surgeryPage = surgeryService.searchSurgeries(filter, pageable);
+        if (surgeryPage.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return new ResponseEntity<>(surgeryPage, HttpStatus.OK);
+    }
+}
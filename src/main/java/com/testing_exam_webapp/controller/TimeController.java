@@ -1,24 +1,29 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
 import com.testing_exam_webapp.dto.TimeDto;
+import com.testing_exam_webapp.model.types.Role;
+import com.testing_exam_webapp.service.ReactiveTimeService;
 import com.testing_exam_webapp.service.TimeService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/time")
 public class TimeController {
 
     private final TimeService timeService;
+    private final ReactiveTimeService reactiveTimeService;
 
-    public TimeController(TimeService timeService) {
+    public TimeController(TimeService timeService, ReactiveTimeService reactiveTimeService) {
         this.timeService = timeService;
+        this.reactiveTimeService = reactiveTimeService;
     }
 
     @GetMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<TimeDto> getCurrentTime(
             @RequestParam(required = false) String timezone) {
         TimeDto time = timezone != null 
@@ -26,5 +31,13 @@ public class TimeController {
                 : timeService.getCurrentTime();
         return new ResponseEntity<>(time, HttpStatus.OK);
     }
-}
 
+    /** Same response as {@link #getCurrentTime}, but the request thread is released while the API call is in flight. */
+    @GetMapping("/reactive")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public Mono<ResponseEntity<TimeDto>> getCurrentTimeReactive(
+            @RequestParam(required = false) String timezone) {
+        return reactiveTimeService.getCurrentTime(timezone)
+                .map(time -> new ResponseEntity<>(time, HttpStatus.OK));
+    }
+}
@@ -1,13 +1,15 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
 import com.testing_exam_webapp.dto.WardRequest;
 import com.testing_exam_webapp.model.mysql.Ward;
+import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.model.types.WardType;
 import com.testing_exam_webapp.service.WardService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -24,7 +26,7 @@ public class WardController {
     }
 
     @GetMapping("/all")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Ward>> getWards() {
         List<Ward> wards = wardService.getWards();
         if(wards.isEmpty()){
@@ -34,28 +36,29 @@ public class WardController {
     }
 
     @GetMapping("/{id}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<Ward> getWardById(@PathVariable UUID id) {
         Ward ward = wardService.getWardById(id);
-        return new ResponseEntity<>(ward, HttpStatus.OK);
+        return new ResponseEntity<>(ward, EntityTags.etag(ward.getVersion()), HttpStatus.OK);
     }
 
     @PostMapping("/create")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Ward> createWard(@Valid @RequestBody WardRequest request) {
         Ward ward = wardService.createWard(request);
         return new ResponseEntity<>(ward, HttpStatus.CREATED);
     }
 
     @PutMapping("/update/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Ward> updateWard(@PathVariable UUID id, @Valid @RequestBody WardRequest request) {
-        Ward ward = wardService.updateWard(id, request);
-        return new ResponseEntity<>(ward, HttpStatus.OK);
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<Ward> updateWard(@PathVariable UUID id, @Valid @RequestBody WardRequest request,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Ward ward = wardService.updateWard(id, request, EntityTags.expectedVersion(ifMatch));
+        return new ResponseEntity<>(ward, EntityTags.etag(ward.getVersion()), HttpStatus.OK);
     }
 
     @DeleteMapping("/delete/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @RequireRoles(Role.ADMIN)
     public ResponseEntity<Void> deleteWard(@PathVariable UUID id) {
         wardService.deleteWard(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -63,7 +66,7 @@ public class WardController {
 
     // Query endpoints
     @GetMapping("/by-type/{type}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Ward>> getWardsByType(@PathVariable WardType type) {
         List<Ward> wards = wardService.getWardsByType(type);
         if (wards.isEmpty()) {
@@ -73,7 +76,7 @@ public class WardController {
     }
 
     @GetMapping("/by-hospital/{hospitalId}")
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<List<Ward>> getWardsByHospitalId(@PathVariable UUID hospitalId) {
         List<Ward> wards = wardService.getWardsByHospitalId(hospitalId);
         if (wards.isEmpty()) {
@@ -1,28 +1,67 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.config.RequireRoles;
 import com.testing_exam_webapp.dto.WeatherDto;
+import com.testing_exam_webapp.dto.WeatherPrefetchStatusDto;
+import com.testing_exam_webapp.model.types.Role;
+import com.testing_exam_webapp.service.BulkWeatherService;
+import com.testing_exam_webapp.service.ReactiveWeatherService;
+import com.testing_exam_webapp.service.WeatherPrefetcher;
 import com.testing_exam_webapp.service.WeatherService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/weather")
 public class WeatherController {
 
     private final WeatherService weatherService;
+    private final BulkWeatherService bulkWeatherService;
+    private final WeatherPrefetcher weatherPrefetcher;
+    private final ReactiveWeatherService reactiveWeatherService;
 
-    public WeatherController(WeatherService weatherService) {
+    public WeatherController(WeatherService weatherService, BulkWeatherService bulkWeatherService,
+                             WeatherPrefetcher weatherPrefetcher, ReactiveWeatherService reactiveWeatherService) {
         this.weatherService = weatherService;
+        this.bulkWeatherService = bulkWeatherService;
+        this.weatherPrefetcher = weatherPrefetcher;
+        this.reactiveWeatherService = reactiveWeatherService;
     }
 
     @GetMapping
-    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @RequireRoles({Role.ADMIN, Role.USER})
     public ResponseEntity<WeatherDto> getWeather(
             @RequestParam(required = false, defaultValue = "Copenhagen") String city) {
         WeatherDto weather = weatherService.getWeatherByCity(city);
         return new ResponseEntity<>(weather, HttpStatus.OK);
     }
-}
 
+    /** Same response as {@link #getWeather}, but the request thread is released while the API call is in flight. */
+    @GetMapping("/reactive")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public Mono<ResponseEntity<WeatherDto>> getWeatherReactive(
+            @RequestParam(required = false, defaultValue = "Copenhagen") String city) {
+        return reactiveWeatherService.getWeatherByCity(city)
+                .map(weather -> new ResponseEntity<>(weather, HttpStatus.OK));
+    }
+
+    /** Weather for several cities, e.g. {@code ?cities=Copenhagen,Aarhus,Odense}, keyed by requested name. */
+    @GetMapping("/bulk")
+    @RequireRoles({Role.ADMIN, Role.USER})
+    public ResponseEntity<Map<String, WeatherDto>> getWeatherForCities(@RequestParam List<String> cities) {
+        Map<String, WeatherDto> weather = bulkWeatherService.getWeatherForCities(cities);
+        return new ResponseEntity<>(weather, HttpStatus.OK);
+    }
+
+    /** Cache freshness of the background prefetch: per-city age in seconds, oldest age and stale count. */
+    @GetMapping("/prefetch/status")
+    @RequireRoles(Role.ADMIN)
+    public ResponseEntity<WeatherPrefetchStatusDto> getPrefetchStatus() {
+        return new ResponseEntity<>(weatherPrefetcher.getStatus(), HttpStatus.OK);
+    }
+}
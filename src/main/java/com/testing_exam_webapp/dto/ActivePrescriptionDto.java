@@ -0,0 +1,28 @@
+package com.testing_exam_webapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivePrescriptionDto {
+    private UUID prescriptionId;
+    private UUID patientId;
+    private String patientName;
+    private UUID wardId;
+    private UUID medicationId;
+    private String medicationName;
+    private String dosage;
+    private LocalDate startDate;
+    // Null means open-ended
+    private LocalDate endDate;
+
+    public boolean isActiveOn(LocalDate date) {
+        return startDate != null && !startDate.isAfter(date) && (endDate == null || !endDate.isBefore(date));
+    }
+}
@@ -0,0 +1,31 @@
+package com.testing_exam_webapp.dto;
+
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class AppointmentFilter {
+    private AppointmentStatusType status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    private UUID patientId;
+
+    private UUID doctorId;
+
+    private UUID nurseId;
+
+    private UUID hospitalId;
+
+    private UUID wardId;
+}
@@ -0,0 +1,23 @@
+package com.testing_exam_webapp.dto;
+
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChartAppointmentDto {
+    private UUID appointmentId;
+    private LocalDate appointmentDate;
+    private String reason;
+    private AppointmentStatusType status;
+    private UUID doctorId;
+    private String doctorName;
+    private UUID nurseId;
+    private String nurseName;
+}
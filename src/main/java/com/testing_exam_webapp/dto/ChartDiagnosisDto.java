@@ -0,0 +1,18 @@
+package com.testing_exam_webapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChartDiagnosisDto {
+    private UUID diagnosisId;
+    private LocalDate diagnosisDate;
+    private String description;
+    private String doctorName;
+}
@@ -0,0 +1,22 @@
+package com.testing_exam_webapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChartPrescriptionDto {
+    private UUID prescriptionId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private UUID medicationId;
+    private String medicationName;
+    private String dosage;
+    private UUID doctorId;
+    private String doctorName;
+}
@@ -0,0 +1,19 @@
+package com.testing_exam_webapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChartSurgeryDto {
+    private UUID surgeryId;
+    private LocalDate surgeryDate;
+    private String description;
+    private UUID doctorId;
+    private String doctorName;
+}
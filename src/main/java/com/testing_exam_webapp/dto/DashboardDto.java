@@ -0,0 +1,26 @@
+package com.testing_exam_webapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class DashboardDto {
+    private long patients;
+    private long doctors;
+    private long nurses;
+    private long appointments;
+    private long hospitals;
+    private long wards;
+    private LocalDate today;
+    private long appointmentsToday;
+    private Map<String, Long> appointmentsTodayByStatus;
+    private List<WardUtilizationDto> wardUtilization;
+    // Null when the external service did not answer in time
+    private WeatherDto weather;
+    private TimeDto time;
+}
@@ -0,0 +1,16 @@
+package com.testing_exam_webapp.dto;
+
+import com.testing_exam_webapp.model.types.InteractionSeverityType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DrugInteraction {
+    private String medicationName;
+    private String interactingMedicationName;
+    private InteractionSeverityType severity;
+    private String description;
+}
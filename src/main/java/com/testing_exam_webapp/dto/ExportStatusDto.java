@@ -0,0 +1,19 @@
+package com.testing_exam_webapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class ExportStatusDto {
+    private boolean running;
+    private boolean incremental;
+    private Instant startedAt;
+    private Instant finishedAt;
+    // Rows written per table in the last run
+    private Map<String, Long> rows;
+    private String error;
+}
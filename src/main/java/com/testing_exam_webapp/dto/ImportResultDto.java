@@ -0,0 +1,17 @@
+package com.testing_exam_webapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ImportResultDto {
+    private long rowsRead;
+    private long imported;
+    private long failed;
+    // Ordered by line; capped, see errorsTruncated
+    private List<ImportErrorDto> errors;
+    private boolean errorsTruncated;
+}
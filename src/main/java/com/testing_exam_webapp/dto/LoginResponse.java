@@ -10,5 +10,9 @@ import lombok.Setter;
 public class LoginResponse {
     private String token;
     private String role;
-}
+    private String refreshToken;
 
+    public LoginResponse(String token, String role) {
+        this(token, role, null);
+    }
+}
@@ -0,0 +1,42 @@
+package com.testing_exam_webapp.dto;
+
+import com.testing_exam_webapp.model.types.WardType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Everything shown on one patient's chart. Built from flat projections, so a cached chart holds no
+ * entity references or lazy collections.
+ */
+@Data
+@NoArgsConstructor
+public class PatientChartDto {
+    private UUID patientId;
+    private String patientName;
+    private LocalDate dateOfBirth;
+    private String gender;
+    private UUID wardId;
+    private WardType wardType;
+    private UUID hospitalId;
+    private String hospitalName;
+    private List<ChartDiagnosisDto> diagnoses;
+    private List<ChartAppointmentDto> appointments;
+    private List<ChartPrescriptionDto> prescriptions;
+    private List<ChartSurgeryDto> surgeries;
+
+    public PatientChartDto(UUID patientId, String patientName, LocalDate dateOfBirth, String gender,
+                           UUID wardId, WardType wardType, UUID hospitalId, String hospitalName) {
+        this.patientId = patientId;
+        this.patientName = patientName;
+        this.dateOfBirth = dateOfBirth;
+        this.gender = gender;
+        this.wardId = wardId;
+        this.wardType = wardType;
+        this.hospitalId = hospitalId;
+        this.hospitalName = hospitalName;
+    }
+}
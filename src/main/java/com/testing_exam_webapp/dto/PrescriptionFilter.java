@@ -0,0 +1,28 @@
+package com.testing_exam_webapp.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@Getter
+@Setter
+public class PrescriptionFilter {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    private UUID patientId;
+
+    private UUID doctorId;
+
+    private UUID medicationId;
+
+    private UUID hospitalId;
+
+    private UUID wardId;
+}
@@ -0,0 +1,14 @@
+package com.testing_exam_webapp.dto;
+
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusCount {
+    private AppointmentStatusType status;
+    private long count;
+}
@@ -0,0 +1,25 @@
+package com.testing_exam_webapp.dto;
+
+import com.testing_exam_webapp.model.types.WardType;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+public class WardUtilizationDto {
+    private UUID wardId;
+    private WardType type;
+    private int maxCapacity;
+    private long patients;
+    private double utilization;
+
+    public WardUtilizationDto(UUID wardId, WardType type, int maxCapacity, long patients) {
+        this.wardId = wardId;
+        this.type = type;
+        this.maxCapacity = maxCapacity;
+        this.patients = patients;
+        this.utilization = maxCapacity > 0 ? (double) patients / maxCapacity : 0.0;
+    }
+}
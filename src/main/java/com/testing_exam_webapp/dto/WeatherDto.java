@@ -1,9 +1,12 @@
 package com.testing_exam_webapp.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,5 +19,11 @@ public class WeatherDto {
     private Double humidity;
     private Double windSpeed;
     private String condition;
+    /** When this data was read from the weather API. */
+    private Instant fetchedAt;
+
+    /** Placeholder data served when the weather API could not be used; never cached. */
+    @JsonIgnore
+    private boolean fallback;
 }
 
@@ -0,0 +1,20 @@
+package com.testing_exam_webapp.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class WeatherPrefetchStatusDto {
+    private boolean enabled;
+    private int cities;
+    // Cities with no successful refresh yet or whose last refresh failed
+    private int stale;
+    private Long maxAgeSeconds;
+    private Instant lastRunAt;
+    // Seconds since each city's last successful refresh, null if it has none
+    private Map<String, Long> ageSeconds;
+}
@@ -0,0 +1,7 @@
+package com.testing_exam_webapp.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.testing_exam_webapp.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
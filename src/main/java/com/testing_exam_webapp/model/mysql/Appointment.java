@@ -1,19 +1,33 @@
 package com.testing_exam_webapp.model.mysql;
 
+import com.testing_exam_webapp.config.cache.PatientChartInvalidationListener;
 import com.testing_exam_webapp.model.entity_bases.AppointmentBase;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "appointments")
+@EntityListeners(PatientChartInvalidationListener.class)
+@Table(name = "appointments", indexes = {
+        @Index(name = "idx_appointments_date_status", columnList = "appointment_date, status"),
+        @Index(name = "idx_appointments_patient_date", columnList = "patient_patient_id, appointment_date"),
+        @Index(name = "idx_appointments_doctor_date", columnList = "doctor_doctor_id, appointment_date"),
+        @Index(name = "idx_appointments_nurse_date", columnList = "nurse_nurse_id, appointment_date"),
+        @Index(name = "idx_appointments_updated_at", columnList = "updated_at")
+})
 public class Appointment extends AppointmentBase {
     @Id
     private UUID appointmentId;
+    @Version
+    private Long version;
+    @UpdateTimestamp
+    private Instant updatedAt;
     @ManyToOne
     private Patient patient;
     @ManyToOne
@@ -0,0 +1,30 @@
+package com.testing_exam_webapp.model.mysql;
+
+import com.testing_exam_webapp.model.entity_bases.AppointmentBase;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Cold-tier copy of a completed or cancelled appointment past the retention window.
+ * References are plain ids without foreign keys, so archived rows never block deletes in the hot tables.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "appointments_archive", indexes = {
+        @Index(name = "idx_appointments_archive_date", columnList = "appointment_date"),
+        @Index(name = "idx_appointments_archive_patient_date", columnList = "patient_patient_id, appointment_date")
+})
+public class ArchivedAppointment extends AppointmentBase {
+    @Id
+    private UUID appointmentId;
+    @Column(name = "patient_patient_id")
+    private UUID patientId;
+    @Column(name = "doctor_doctor_id")
+    private UUID doctorId;
+    @Column(name = "nurse_nurse_id")
+    private UUID nurseId;
+}
@@ -0,0 +1,27 @@
+package com.testing_exam_webapp.model.mysql;
+
+import com.testing_exam_webapp.model.entity_bases.SurgeryBase;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.UUID;
+
+/**
+ * Cold-tier copy of a surgery past the retention window, see {@link ArchivedAppointment}.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "surgeries_archive", indexes = {
+        @Index(name = "idx_surgeries_archive_date", columnList = "surgery_date"),
+        @Index(name = "idx_surgeries_archive_patient_date", columnList = "patient_patient_id, surgery_date")
+})
+public class ArchivedSurgery extends SurgeryBase {
+    @Id
+    private UUID surgeryId;
+    @Column(name = "patient_patient_id")
+    private UUID patientId;
+    @Column(name = "doctor_doctor_id")
+    private UUID doctorId;
+}
@@ -14,6 +14,8 @@ import java.util.UUID;
 public class Diagnosis extends DiagnosisBase {
     @Id
     private UUID diagnosisId;
+    @Version
+    private Long version;
     @ManyToOne
     private Doctor doctor;
 }
@@ -14,6 +14,8 @@ import java.util.UUID;
 public class Doctor extends DoctorBase {
     @Id
     private UUID doctorId;
+    @Version
+    private Long version;
     @ManyToOne
     private Ward ward;
     @ManyToOne
@@ -16,6 +16,8 @@ import java.util.UUID;
 public class Hospital extends HospitalBase {
     @Id
     private UUID hospitalId;
+    @Version
+    private Long version;
     
     @ManyToMany
     @JoinTable(
@@ -4,6 +4,7 @@ import com.testing_exam_webapp.model.entity_bases.MedicationBase;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -16,4 +17,6 @@ import java.util.UUID;
 public class Medication extends MedicationBase {
     @Id
     private UUID medicationId;
+    @Version
+    private Long version;
 }
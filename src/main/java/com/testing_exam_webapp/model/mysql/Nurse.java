@@ -14,6 +14,8 @@ import java.util.UUID;
 public class Nurse extends NurseBase {
     @Id
     private UUID nurseId;
+    @Version
+    private Long version;
     @ManyToOne
     private Ward ward;
     @ManyToOne
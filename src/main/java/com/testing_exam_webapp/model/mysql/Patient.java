@@ -1,20 +1,33 @@
 package com.testing_exam_webapp.model.mysql;
 
+import com.testing_exam_webapp.config.cache.PatientChartInvalidationListener;
 import com.testing_exam_webapp.model.entity_bases.PatientBase;
+import com.testing_exam_webapp.service.ActivePrescriptionListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.Set;
 import java.util.UUID;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "patients")
+@EntityListeners({PatientChartInvalidationListener.class, ActivePrescriptionListener.class})
+@Table(name = "patients", indexes = {
+        @Index(name = "idx_patients_updated_at", columnList = "updated_at")
+})
 public class Patient extends PatientBase {
     @Id
     private UUID patientId;
+    // Optimistic lock: bumped on every update and compared with If-Match on update requests
+    @Version
+    private Long version;
+    // Set by Hibernate on insert and update; incremental exports select on it
+    @UpdateTimestamp
+    private Instant updatedAt;
     @ManyToOne
     private Ward ward;
     @ManyToOne
@@ -1,19 +1,34 @@
 package com.testing_exam_webapp.model.mysql;
 
+import com.testing_exam_webapp.config.cache.PatientChartInvalidationListener;
 import com.testing_exam_webapp.model.entity_bases.PrescriptionBase;
+import com.testing_exam_webapp.service.ActivePrescriptionListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "prescriptions")
+@EntityListeners({PatientChartInvalidationListener.class, ActivePrescriptionListener.class})
+@Table(name = "prescriptions", indexes = {
+        @Index(name = "idx_prescriptions_patient_start_end", columnList = "patient_patient_id, start_date, end_date"),
+        @Index(name = "idx_prescriptions_end_start", columnList = "end_date, start_date"),
+        @Index(name = "idx_prescriptions_doctor_start", columnList = "doctor_doctor_id, start_date"),
+        @Index(name = "idx_prescriptions_medication", columnList = "medication_medication_id"),
+        @Index(name = "idx_prescriptions_updated_at", columnList = "updated_at")
+})
 public class Prescription extends PrescriptionBase {
     @Id
     private UUID prescriptionId;
+    @Version
+    private Long version;
+    @UpdateTimestamp
+    private Instant updatedAt;
     @ManyToOne
     private Patient patient;
     @ManyToOne
@@ -1,19 +1,32 @@
 package com.testing_exam_webapp.model.mysql;
 
+import com.testing_exam_webapp.config.cache.PatientChartInvalidationListener;
 import com.testing_exam_webapp.model.entity_bases.SurgeryBase;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.UUID;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "surgeries")
+@EntityListeners(PatientChartInvalidationListener.class)
+@Table(name = "surgeries", indexes = {
+        @Index(name = "idx_surgeries_date", columnList = "surgery_date"),
+        @Index(name = "idx_surgeries_patient_date", columnList = "patient_patient_id, surgery_date"),
+        @Index(name = "idx_surgeries_doctor_date", columnList = "doctor_doctor_id, surgery_date"),
+        @Index(name = "idx_surgeries_updated_at", columnList = "updated_at")
+})
 public class Surgery extends SurgeryBase {
     @Id
     private UUID surgeryId;
+    @Version
+    private Long version;
+    @UpdateTimestamp
+    private Instant updatedAt;
     @ManyToOne
     private Patient patient;
     @ManyToOne
@@ -16,6 +16,11 @@ import java.util.UUID;
 public class Ward extends WardBase {
     @Id
     private UUID wardId;
+    @Version
+    private Long version;
+    // Written only by the guarded updates in WardRepository, never by entity updates
+    @Column(nullable = false, updatable = false)
+    private int occupiedBeds;
     
     @ManyToMany(mappedBy = "wards")
     @JsonIgnoreProperties("wards")
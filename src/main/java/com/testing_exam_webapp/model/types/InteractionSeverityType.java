@@ -0,0 +1,8 @@
+package com.testing_exam_webapp.model.types;
+
+public enum InteractionSeverityType {
+    MINOR,
+    MODERATE,
+    MAJOR,
+    CONTRAINDICATED
+}
@@ -1,16 +1,21 @@
 package com.testing_exam_webapp.repository;
 
+import com.testing_exam_webapp.dto.ChartAppointmentDto;
+import com.testing_exam_webapp.dto.StatusCount;
 import com.testing_exam_webapp.model.mysql.Appointment;
 import com.testing_exam_webapp.model.types.AppointmentStatusType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
-public interface AppointmentRepository extends JpaRepository<Appointment, UUID> {
+public interface AppointmentRepository extends JpaRepository<Appointment, UUID>, JpaSpecificationExecutor<Appointment> {
     @Query("SELECT a FROM Appointment a WHERE a.patient.patientId = :patientId")
     List<Appointment> findByPatientId(@Param("patientId") UUID patientId);
     
@@ -23,4 +28,23 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
     List<Appointment> findByStatus(AppointmentStatusType status);
     List<Appointment> findByAppointmentDate(LocalDate date);
     List<Appointment> findByAppointmentDateBetween(LocalDate startDate, LocalDate endDate);
+
+    @Query("SELECT new com.testing_exam_webapp.dto.StatusCount(a.status, COUNT(a)) " +
+           "FROM Appointment a WHERE a.appointmentDate = :date GROUP BY a.status")
+    List<StatusCount> countByStatusOnDate(@Param("date") LocalDate date);
+
+    @Query("SELECT new com.testing_exam_webapp.dto.ChartAppointmentDto(a.appointmentId, a.appointmentDate, a.reason, " +
+           "a.status, d.doctorId, d.doctorName, n.nurseId, n.nurseName) " +
+           "FROM Appointment a LEFT JOIN a.doctor d LEFT JOIN a.nurse n " +
+           "WHERE a.patient.patientId = :patientId ORDER BY a.appointmentDate DESC")
+    List<ChartAppointmentDto> findChartEntriesByPatientId(@Param("patientId") UUID patientId);
+
+    @Query("SELECT MIN(a.appointmentDate) FROM Appointment a WHERE a.status IN :statuses")
+    LocalDate findOldestDateWithStatusIn(@Param("statuses") Collection<AppointmentStatusType> statuses);
+
+    // Removes the hot rows of a month once ArchivedAppointmentRepository.copyFromHot has copied them
+    @Modifying
+    @Query("DELETE FROM Appointment a WHERE a.appointmentId IN (SELECT x.appointmentId FROM ArchivedAppointment x " +
+           "WHERE x.appointmentDate >= :from AND x.appointmentDate < :to)")
+    int deleteArchivedBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
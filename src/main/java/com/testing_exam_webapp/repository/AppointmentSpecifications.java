@@ -0,0 +1,79 @@
+package com.testing_exam_webapp.repository;
+
+import com.testing_exam_webapp.dto.AppointmentFilter;
+import com.testing_exam_webapp.model.mysql.Appointment;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Composable filters for appointments. Each criterion is null-safe, a null value adds no predicate,
+ * so any combination of filter fields compiles into a single WHERE clause.
+ */
+public final class AppointmentSpecifications {
+
+    private AppointmentSpecifications() {
+    }
+
+    public static Specification<Appointment> matching(AppointmentFilter filter) {
+        return Specification.where(hasStatus(filter.getStatus()))
+                .and(onOrAfter(filter.getStartDate()))
+                .and(onOrBefore(filter.getEndDate()))
+                .and(hasPatient(filter.getPatientId()))
+                .and(hasDoctor(filter.getDoctorId()))
+                .and(hasNurse(filter.getNurseId()))
+                .and(inHospital(filter.getHospitalId()))
+                .and(inWard(filter.getWardId()));
+    }
+
+    public static Specification<Appointment> hasStatus(AppointmentStatusType status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Appointment> onOrAfter(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.greaterThanOrEqualTo(root.get("appointmentDate"), date);
+    }
+
+    public static Specification<Appointment> onOrBefore(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.lessThanOrEqualTo(root.get("appointmentDate"), date);
+    }
+
+    public static Specification<Appointment> hasPatient(UUID patientId) {
+        return (root, query, cb) -> patientId == null ? null : cb.equal(root.get("patient").get("patientId"), patientId);
+    }
+
+    public static Specification<Appointment> hasDoctor(UUID doctorId) {
+        return (root, query, cb) -> doctorId == null ? null : cb.equal(root.get("doctor").get("doctorId"), doctorId);
+    }
+
+    public static Specification<Appointment> hasNurse(UUID nurseId) {
+        return (root, query, cb) -> nurseId == null ? null : cb.equal(root.get("nurse").get("nurseId"), nurseId);
+    }
+
+    // Appointments belong to a hospital and ward through the patient
+    public static Specification<Appointment> inHospital(UUID hospitalId) {
+        return (root, query, cb) -> hospitalId == null ? null
+                : cb.equal(patient(root).get("hospital").get("hospitalId"), hospitalId);
+    }
+
+    public static Specification<Appointment> inWard(UUID wardId) {
+        return (root, query, cb) -> wardId == null ? null
+                : cb.equal(patient(root).get("ward").get("wardId"), wardId);
+    }
+
+    // Hospital and ward filters share one join to the patient
+    @SuppressWarnings("unchecked")
+    private static Join<Appointment, Patient> patient(Root<Appointment> root) {
+        for (Join<Appointment, ?> join : root.getJoins()) {
+            if ("patient".equals(join.getAttribute().getName())) {
+                return (Join<Appointment, Patient>) join;
+            }
+        }
+        return root.join("patient");
+    }
+}
@@ -0,0 +1,44 @@
+package com.testing_exam_webapp.repository;
+
+import com.testing_exam_webapp.dto.ChartAppointmentDto;
+import com.testing_exam_webapp.model.mysql.ArchivedAppointment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchivedAppointmentRepository extends JpaRepository<ArchivedAppointment, UUID> {
+    // Served by idx_appointments_archive_date
+    List<ArchivedAppointment> findByAppointmentDateBetween(LocalDate startDate, LocalDate endDate);
+
+    // Served by idx_appointments_archive_date
+    @Query("SELECT MAX(a.appointmentDate) FROM ArchivedAppointment a")
+    LocalDate findNewestDate();
+
+    // Served by idx_appointments_archive_patient_date
+    List<ArchivedAppointment> findByPatientId(UUID patientId);
+
+    // Served by idx_appointments_archive_patient_date; archived rows keep plain ids, so staff are joined by id
+    @Query("SELECT new com.testing_exam_webapp.dto.ChartAppointmentDto(a.appointmentId, a.appointmentDate, a.reason, " +
+           "a.status, d.doctorId, d.doctorName, n.nurseId, n.nurseName) " +
+           "FROM ArchivedAppointment a LEFT JOIN Doctor d ON d.doctorId = a.doctorId " +
+           "LEFT JOIN Nurse n ON n.nurseId = a.nurseId " +
+           "WHERE a.patientId = :patientId ORDER BY a.appointmentDate DESC")
+    List<ChartAppointmentDto> findChartEntriesByPatientId(@Param("patientId") UUID patientId);
+
+    // Copies one month of hot rows in a single statement; [from, to) lines up with a monthly partition
+    @Modifying
+    @Query(value = "INSERT INTO appointments_archive " +
+                   "(appointment_id, appointment_date, reason, status, patient_patient_id, doctor_doctor_id, nurse_nurse_id) " +
+                   "SELECT a.appointment_id, a.appointment_date, a.reason, a.status, " +
+                   "a.patient_patient_id, a.doctor_doctor_id, a.nurse_nurse_id " +
+                   "FROM appointments a " +
+                   "WHERE a.appointment_date >= :from AND a.appointment_date < :to AND a.status IN (:statuses)",
+           nativeQuery = true)
+    int copyFromHot(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("statuses") Collection<String> statuses);
+}
@@ -0,0 +1,41 @@
+package com.testing_exam_webapp.repository;
+
+import com.testing_exam_webapp.dto.ChartSurgeryDto;
+import com.testing_exam_webapp.model.mysql.ArchivedSurgery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchivedSurgeryRepository extends JpaRepository<ArchivedSurgery, UUID> {
+    // Served by idx_surgeries_archive_date
+    List<ArchivedSurgery> findBySurgeryDateBetween(LocalDate startDate, LocalDate endDate);
+
+    // Served by idx_surgeries_archive_date
+    @Query("SELECT MAX(s.surgeryDate) FROM ArchivedSurgery s")
+    LocalDate findNewestDate();
+
+    // Served by idx_surgeries_archive_patient_date
+    List<ArchivedSurgery> findByPatientId(UUID patientId);
+
+    // Served by idx_surgeries_archive_patient_date; archived rows keep plain ids, so the doctor is joined by id
+    @Query("SELECT new com.testing_exam_webapp.dto.ChartSurgeryDto(s.surgeryId, s.surgeryDate, s.description, " +
+           "d.doctorId, d.doctorName) " +
+           "FROM ArchivedSurgery s LEFT JOIN Doctor d ON d.doctorId = s.doctorId " +
+           "WHERE s.patientId = :patientId ORDER BY s.surgeryDate DESC")
+    List<ChartSurgeryDto> findChartEntriesByPatientId(@Param("patientId") UUID patientId);
+
+    // Copies one month of hot rows in a single statement; [from, to) lines up with a monthly partition
+    @Modifying
+    @Query(value = "INSERT INTO surgeries_archive " +
+                   "(surgery_id, surgery_date, description, patient_patient_id, doctor_doctor_id) " +
+                   "SELECT s.surgery_id, s.surgery_date, s.description, s.patient_patient_id, s.doctor_doctor_id " +
+                   "FROM surgeries s " +
+                   "WHERE s.surgery_date >= :from AND s.surgery_date < :to",
+           nativeQuery = true)
+    int copyFromHot(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
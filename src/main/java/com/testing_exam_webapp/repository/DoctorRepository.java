@@ -1,13 +1,19 @@
 package com.testing_exam_webapp.repository;
 
+import com.testing_exam_webapp.dto.NameSearchResult;
 import com.testing_exam_webapp.model.mysql.Doctor;
 import com.testing_exam_webapp.model.types.DoctorSpecialityType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface DoctorRepository extends JpaRepository<Doctor, UUID> {
     @Query("SELECT d FROM Doctor d WHERE d.ward.wardId = :wardId")
@@ -17,5 +23,11 @@ public interface DoctorRepository extends JpaRepository<Doctor, UUID> {
     
     @Query("SELECT d FROM Doctor d WHERE d.hospital.hospitalId = :hospitalId")
     List<Doctor> findByHospitalId(@Param("hospitalId") UUID hospitalId);
-}
 
+    @Query("SELECT new com.testing_exam_webapp.dto.NameSearchResult(d.doctorId, d.doctorName) FROM Doctor d")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<NameSearchResult> streamAllNames();
+
+    @Query("SELECT new com.testing_exam_webapp.dto.NameSearchResult(d.doctorId, d.doctorName) FROM Doctor d WHERE d.doctorId IN :ids")
+    List<NameSearchResult> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
+}
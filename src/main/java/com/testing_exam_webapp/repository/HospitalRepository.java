@@ -2,11 +2,15 @@ package com.testing_exam_webapp.repository;
 
 import com.testing_exam_webapp.model.mysql.Hospital;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.UUID;
 
 public interface HospitalRepository extends JpaRepository<Hospital, UUID> {
     List<Hospital> findByCity(String city);
+
+    @Query("SELECT DISTINCT h.city FROM Hospital h WHERE h.city IS NOT NULL")
+    List<String> findDistinctCities();
 }
 
@@ -1,10 +1,24 @@
 package com.testing_exam_webapp.repository;
 
+import com.testing_exam_webapp.dto.NameSearchResult;
 import com.testing_exam_webapp.model.mysql.Nurse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface NurseRepository extends JpaRepository<Nurse, UUID> {
-}
+    @Query("SELECT new com.testing_exam_webapp.dto.NameSearchResult(n.nurseId, n.nurseName) FROM Nurse n")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<NameSearchResult> streamAllNames();
 
+    @Query("SELECT new com.testing_exam_webapp.dto.NameSearchResult(n.nurseId, n.nurseName) FROM Nurse n WHERE n.nurseId IN :ids")
+    List<NameSearchResult> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -1,12 +1,21 @@
 package com.testing_exam_webapp.repository;
 
+import com.testing_exam_webapp.dto.ChartDiagnosisDto;
+import com.testing_exam_webapp.dto.NameSearchResult;
+import com.testing_exam_webapp.dto.PatientChartDto;
 import com.testing_exam_webapp.model.mysql.Patient;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface PatientRepository extends JpaRepository<Patient, UUID> {
     @Query("SELECT p FROM Patient p WHERE p.ward.wardId = :wardId")
@@ -14,5 +23,25 @@ public interface PatientRepository extends JpaRepository<Patient, UUID> {
     
     @Query("SELECT p FROM Patient p WHERE p.hospital.hospitalId = :hospitalId")
     List<Patient> findByHospitalId(@Param("hospitalId") UUID hospitalId);
-}
 
+    @Query("SELECT p.ward.wardId FROM Patient p WHERE p.patientId = :patientId")
+    Optional<UUID> findWardIdByPatientId(@Param("patientId") UUID patientId);
+
+    @Query("SELECT new com.testing_exam_webapp.dto.NameSearchResult(p.patientId, p.patientName) FROM Patient p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<NameSearchResult> streamAllNames();
+
+    @Query("SELECT new com.testing_exam_webapp.dto.NameSearchResult(p.patientId, p.patientName) FROM Patient p WHERE p.patientId IN :ids")
+    List<NameSearchResult> findNamesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("SELECT new com.testing_exam_webapp.dto.PatientChartDto(p.patientId, p.patientName, p.dateOfBirth, p.gender, " +
+           "w.wardId, w.type, h.hospitalId, h.hospitalName) " +
+           "FROM Patient p LEFT JOIN p.ward w LEFT JOIN p.hospital h WHERE p.patientId = :patientId")
+    Optional<PatientChartDto> findChartHeaderById(@Param("patientId") UUID patientId);
+
+    @Query("SELECT new com.testing_exam_webapp.dto.ChartDiagnosisDto(d.diagnosisId, d.diagnosisDate, d.description, " +
+           "doc.doctorName) " +
+           "FROM Patient p JOIN p.diagnosis d LEFT JOIN d.doctor doc " +
+           "WHERE p.patientId = :patientId ORDER BY d.diagnosisDate DESC")
+    List<ChartDiagnosisDto> findChartDiagnosesById(@Param("patientId") UUID patientId);
+}
@@ -1,10 +1,49 @@
 package com.testing_exam_webapp.repository;
 
+import com.testing_exam_webapp.dto.ActivePrescriptionDto;
+import com.testing_exam_webapp.dto.ChartPrescriptionDto;
 import com.testing_exam_webapp.model.mysql.Prescription;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
-public interface PrescriptionRepository extends JpaRepository<Prescription, UUID> {
-}
+public interface PrescriptionRepository extends JpaRepository<Prescription, UUID>, JpaSpecificationExecutor<Prescription> {
+    // Served by idx_prescriptions_patient_start_end
+    @Query("SELECT p FROM Prescription p WHERE p.patient.patientId = :patientId ORDER BY p.startDate DESC")
+    List<Prescription> findByPatientId(@Param("patientId") UUID patientId);
+
+    @Query("SELECT new com.testing_exam_webapp.dto.ChartPrescriptionDto(p.prescriptionId, p.startDate, p.endDate, " +
+           "m.medicationId, m.medicationName, m.dosage, d.doctorId, d.doctorName) " +
+           "FROM Prescription p LEFT JOIN p.medication m LEFT JOIN p.doctor d " +
+           "WHERE p.patient.patientId = :patientId ORDER BY p.startDate DESC")
+    List<ChartPrescriptionDto> findChartEntriesByPatientId(@Param("patientId") UUID patientId);
+
+    // Prescriptions overlapping [from, to]; a null end date is open-ended
+    @Query("SELECT new com.testing_exam_webapp.dto.ActivePrescriptionDto(p.prescriptionId, pt.patientId, pt.patientName, " +
+           "w.wardId, m.medicationId, m.medicationName, m.dosage, p.startDate, p.endDate) " +
+           "FROM Prescription p JOIN p.patient pt LEFT JOIN pt.ward w LEFT JOIN p.medication m " +
+           "WHERE p.startDate <= :to AND (p.endDate IS NULL OR p.endDate >= :from)")
+    List<ActivePrescriptionDto> findActiveEntriesBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
 
+    // Served by idx_prescriptions_patient_start_end
+    @Query("SELECT new com.testing_exam_webapp.dto.ActivePrescriptionDto(p.prescriptionId, pt.patientId, pt.patientName, " +
+           "w.wardId, m.medicationId, m.medicationName, m.dosage, p.startDate, p.endDate) " +
+           "FROM Prescription p JOIN p.patient pt LEFT JOIN pt.ward w LEFT JOIN p.medication m " +
+           "WHERE pt.patientId = :patientId AND p.startDate <= :date AND (p.endDate IS NULL OR p.endDate >= :date)")
+    List<ActivePrescriptionDto> findActiveEntriesByPatientId(@Param("patientId") UUID patientId, @Param("date") LocalDate date);
+
+    // Served by idx_prescriptions_patient_start_end; a null :to means open-ended
+    @Query("SELECT new com.testing_exam_webapp.dto.ActivePrescriptionDto(p.prescriptionId, pt.patientId, pt.patientName, " +
+           "w.wardId, m.medicationId, m.medicationName, m.dosage, p.startDate, p.endDate) " +
+           "FROM Prescription p JOIN p.patient pt LEFT JOIN pt.ward w LEFT JOIN p.medication m " +
+           "WHERE pt.patientId = :patientId AND (:to IS NULL OR p.startDate <= :to) " +
+           "AND (p.endDate IS NULL OR p.endDate >= :from)")
+    List<ActivePrescriptionDto> findOverlappingEntriesByPatientId(@Param("patientId") UUID patientId,
+                                                                 @Param("from") LocalDate from,
+                                                                 @Param("to") LocalDate to);
+}
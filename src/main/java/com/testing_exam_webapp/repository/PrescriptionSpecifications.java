@@ -0,0 +1,74 @@
+package com.testing_exam_webapp.repository;
+
+import com.testing_exam_webapp.dto.PrescriptionFilter;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Prescription;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Composable filters for prescriptions. A date range selects prescriptions whose
+ * start/end period overlaps it; an open end date counts as still running.
+ */
+public final class PrescriptionSpecifications {
+
+    private PrescriptionSpecifications() {
+    }
+
+    public static Specification<Prescription> matching(PrescriptionFilter filter) {
+        return Specification.where(endsOnOrAfter(filter.getStartDate()))
+                .and(startsOnOrBefore(filter.getEndDate()))
+                .and(hasPatient(filter.getPatientId()))
+                .and(hasDoctor(filter.getDoctorId()))
+                .and(hasMedication(filter.getMedicationId()))
+                .and(inHospital(filter.getHospitalId()))
+                .and(inWard(filter.getWardId()));
+    }
+
+    public static Specification<Prescription> endsOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> date == null ? null
+                : cb.or(cb.isNull(root.get("endDate")), cb.greaterThanOrEqualTo(root.get("endDate"), date));
+    }
+
+    public static Specification<Prescription> startsOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.lessThanOrEqualTo(root.get("startDate"), date);
+    }
+
+    public static Specification<Prescription> hasPatient(UUID patientId) {
+        return (root, query, cb) -> patientId == null ? null : cb.equal(root.get("patient").get("patientId"), patientId);
+    }
+
+    public static Specification<Prescription> hasDoctor(UUID doctorId) {
+        return (root, query, cb) -> doctorId == null ? null : cb.equal(root.get("doctor").get("doctorId"), doctorId);
+    }
+
+    public static Specification<Prescription> hasMedication(UUID medicationId) {
+        return (root, query, cb) -> medicationId == null ? null
+                : cb.equal(root.get("medication").get("medicationId"), medicationId);
+    }
+
+    public static Specification<Prescription> inHospital(UUID hospitalId) {
+        return (root, query, cb) -> hospitalId == null ? null
+                : cb.equal(patient(root).get("hospital").get("hospitalId"), hospitalId);
+    }
+
+    public static Specification<Prescription> inWard(UUID wardId) {
+        return (root, query, cb) -> wardId == null ? null
+                : cb.equal(patient(root).get("ward").get("wardId"), wardId);
+    }
+
+    // Hospital and ward filters share one join to the patient
+    @SuppressWarnings("unchecked")
+    private static Join<Prescription, Patient> patient(Root<Prescription> root) {
+        for (Join<Prescription, ?> join : root.getJoins()) {
+            if ("patient".equals(join.getAttribute().getName())) {
+                return (Join<Prescription, Patient>) join;
+            }
+        }
+        return root.join("patient");
+    }
+}
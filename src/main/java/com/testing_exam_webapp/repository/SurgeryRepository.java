@@ -1,10 +1,37 @@
 package com.testing_exam_webapp.repository;
 
+import com.testing_exam_webapp.dto.ChartSurgeryDto;
 import com.testing_exam_webapp.model.mysql.Surgery;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
-public interface SurgeryRepository extends JpaRepository<Surgery, UUID> {
-}
+public interface SurgeryRepository extends JpaRepository<Surgery, UUID>, JpaSpecificationExecutor<Surgery> {
+    // Served by idx_surgeries_patient_date
+    @Query("SELECT s FROM Surgery s WHERE s.patient.patientId = :patientId ORDER BY s.surgeryDate DESC")
+    List<Surgery> findByPatientId(@Param("patientId") UUID patientId);
+
+    @Query("SELECT new com.testing_exam_webapp.dto.ChartSurgeryDto(s.surgeryId, s.surgeryDate, s.description, " +
+           "d.doctorId, d.doctorName) " +
+           "FROM Surgery s LEFT JOIN s.doctor d " +
+           "WHERE s.patient.patientId = :patientId ORDER BY s.surgeryDate DESC")
+    List<ChartSurgeryDto> findChartEntriesByPatientId(@Param("patientId") UUID patientId);
+
+    // Served by idx_surgeries_date
+    List<Surgery> findBySurgeryDateBetween(LocalDate startDate, LocalDate endDate);
 
+    @Query("SELECT MIN(s.surgeryDate) FROM Surgery s")
+    LocalDate findOldestDate();
+
+    // Removes the hot rows of a month once ArchivedSurgeryRepository.copyFromHot has copied them
+    @Modifying
+    @Query("DELETE FROM Surgery s WHERE s.surgeryId IN (SELECT x.surgeryId FROM ArchivedSurgery x " +
+           "WHERE x.surgeryDate >= :from AND x.surgeryDate < :to)")
+    int deleteArchivedBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
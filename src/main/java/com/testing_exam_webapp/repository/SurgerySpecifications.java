@@ -0,0 +1,66 @@
+package com.testing_exam_webapp.repository;
+
+import com.testing_exam_webapp.dto.SurgeryFilter;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Surgery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Composable filters for surgeries, see {@link AppointmentSpecifications}.
+ */
+public final class SurgerySpecifications {
+
+    private SurgerySpecifications() {
+    }
+
+    public static Specification<Surgery> matching(SurgeryFilter filter) {
+        return Specification.where(onOrAfter(filter.getStartDate()))
+                .and(onOrBefore(filter.getEndDate()))
+                .and(hasPatient(filter.getPatientId()))
+                .and(hasDoctor(filter.getDoctorId()))
+                .and(inHospital(filter.getHospitalId()))
+                .and(inWard(filter.getWardId()));
+    }
+
+    public static Specification<Surgery> onOrAfter(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.greaterThanOrEqualTo(root.get("surgeryDate"), date);
+    }
+
+    public static Specification<Surgery> onOrBefore(LocalDate date) {
+        return (root, query, cb) -> date == null ? null : cb.lessThanOrEqualTo(root.get("surgeryDate"), date);
+    }
+
+    public static Specification<Surgery> hasPatient(UUID patientId) {
+        return (root, query, cb) -> patientId == null ? null : cb.equal(root.get("patient").get("patientId"), patientId);
+    }
+
+    public static Specification<Surgery> hasDoctor(UUID doctorId) {
+        return (root, query, cb) -> doctorId == null ? null : cb.equal(root.get("doctor").get("doctorId"), doctorId);
+    }
+
+    public static Specification<Surgery> inHospital(UUID hospitalId) {
+        return (root, query, cb) -> hospitalId == null ? null
+                : cb.equal(patient(root).get("hospital").get("hospitalId"), hospitalId);
+    }
+
+    public static Specification<Surgery> inWard(UUID wardId) {
+        return (root, query, cb) -> wardId == null ? null
+                : cb.equal(patient(root).get("ward").get("wardId"), wardId);
+    }
+
+    // Hospital and ward filters share one join to the patient
+    @SuppressWarnings("unchecked")
+    private static Join<Surgery, Patient> patient(Root<Surgery> root) {
+        for (Join<Surgery, ?> join : root.getJoins()) {
+            if ("patient".equals(join.getAttribute().getName())) {
+                return (Join<Surgery, Patient>) join;
+            }
+        }
+        return root.join("patient");
+    }
+}
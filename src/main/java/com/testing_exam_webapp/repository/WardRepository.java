@@ -1,12 +1,16 @@
 package com.testing_exam_webapp.repository;
 
+import com.testing_exam_webapp.dto.WardUtilizationDto;
 import com.testing_exam_webapp.model.mysql.Ward;
 import com.testing_exam_webapp.model.types.WardType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface WardRepository extends JpaRepository<Ward, UUID> {
@@ -14,5 +18,38 @@ public interface WardRepository extends JpaRepository<Ward, UUID> {
     
     @Query("SELECT w FROM Ward w JOIN w.hospitals h WHERE h.hospitalId = :hospitalId")
     List<Ward> findByHospitalId(@Param("hospitalId") UUID hospitalId);
+
+    // Ward-hospital membership from the hospitals_wards primary key, without loading Ward.hospitals
+    @Query("SELECT CASE WHEN COUNT(w) > 0 THEN true ELSE false END " +
+           "FROM Hospital h JOIN h.wards w WHERE h.hospitalId = :hospitalId AND w.wardId = :wardId")
+    boolean existsInHospital(@Param("wardId") UUID wardId, @Param("hospitalId") UUID hospitalId);
+
+    @Query("SELECT new com.testing_exam_webapp.dto.WardUtilizationDto(w.wardId, w.type, w.maxCapacity, COUNT(p)) " +
+           "FROM Ward w LEFT JOIN Patient p ON p.ward = w " +
+           "GROUP BY w.wardId, w.type, w.maxCapacity")
+    List<WardUtilizationDto> findWardUtilization();
+
+    // Occupancy counter maintained by WardAdmissionService; the WHERE clause is the capacity guard
+    @Modifying
+    @Query(value = "UPDATE wards SET occupied_beds = occupied_beds + :beds " +
+                   "WHERE ward_id = :wardId AND occupied_beds + :beds <= max_capacity", nativeQuery = true)
+    int occupyBeds(@Param("wardId") UUID wardId, @Param("beds") int beds);
+
+    @Modifying
+    @Query(value = "UPDATE wards SET occupied_beds = GREATEST(occupied_beds - :beds, 0) WHERE ward_id = :wardId", nativeQuery = true)
+    int releaseBeds(@Param("wardId") UUID wardId, @Param("beds") int beds);
+
+    // Also run at startup, outside any service transaction
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE wards SET occupied_beds = " +
+                   "(SELECT COUNT(*) FROM patients p WHERE p.ward_ward_id = wards.ward_id)", nativeQuery = true)
+    int recountOccupiedBeds();
+
+    @Query("SELECT w.wardId, w.occupiedBeds FROM Ward w")
+    List<Object[]> findOccupiedBeds();
+
+    @Query("SELECT w.occupiedBeds FROM Ward w WHERE w.wardId = :wardId")
+    Optional<Integer> findOccupiedBedsByWardId(@Param("wardId") UUID wardId);
 }
 
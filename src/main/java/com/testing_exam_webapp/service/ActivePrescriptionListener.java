@@ -0,0 +1,86 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.ActivePrescriptionDto;
+import com.testing_exam_webapp.model.mysql.Medication;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Prescription;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * JPA listener on Prescription and Patient that keeps {@link ActivePrescriptionService}'s active set
+ * current between its reloads, which run on a short fixed delay of
+ * {@code app.prescriptions.active-set.refresh-interval-ms} (60 s by default). The change is captured
+ * when the entity is flushed and applied only after the transaction commits.
+ */
+@Component
+public class ActivePrescriptionListener {
+
+    private final ObjectProvider<ActivePrescriptionService> activePrescriptions;
+
+    public ActivePrescriptionListener(ObjectProvider<ActivePrescriptionService> activePrescriptions) {
+        this.activePrescriptions = activePrescriptions;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Prescription prescription) {
+            ActivePrescriptionDto snapshot = snapshot(prescription);
+            afterCommit(service -> service.upsert(snapshot));
+        } else if (entity instanceof Patient patient) {
+            UUID patientId = patient.getPatientId();
+            String patientName = patient.getPatientName();
+            UUID wardId = patient.getWard() != null ? patient.getWard().getWardId() : null;
+            afterCommit(service -> service.patientChanged(patientId, patientName, wardId));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Prescription prescription) {
+            UUID prescriptionId = prescription.getPrescriptionId();
+            afterCommit(service -> service.remove(prescriptionId));
+        }
+    }
+
+    private void afterCommit(Consumer<ActivePrescriptionService> change) {
+        ActivePrescriptionService service = activePrescriptions.getIfAvailable();
+        if (service == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.accept(service);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.accept(service);
+            }
+        });
+    }
+
+    static ActivePrescriptionDto snapshot(Prescription prescription) {
+        Patient patient = prescription.getPatient();
+        Medication medication = prescription.getMedication();
+        return new ActivePrescriptionDto(
+                prescription.getPrescriptionId(),
+                patient != null ? patient.getPatientId() : null,
+                patient != null ? patient.getPatientName() : null,
+                patient != null && patient.getWard() != null ? patient.getWard().getWardId() : null,
+                medication != null ? medication.getMedicationId() : null,
+                medication != null ? medication.getMedicationName() : null,
+                medication != null ? medication.getDosage() : null,
+                prescription.getStartDate(),
+                prescription.getEndDate());
+    }
+}
@@ -0,0 +1,222 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.ActivePrescriptionDto;
+import com.testing_exam_webapp.repository.PrescriptionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers "which prescriptions are active on a date" from an in-memory active set.
+ * <p>
+ * The set holds only prescriptions overlapping today plus a short horizon, so expired history never
+ * occupies memory. It is rebuilt on the first lookup of a new day and reloaded on a short fixed delay,
+ * so writes committed on other instances show up within that interval; this instance's own writes are
+ * applied immediately by {@link ActivePrescriptionListener} after each commit. Dates outside the window
+ * are answered by an indexed range query.
+ */
+@Service
+public class ActivePrescriptionService {
+
+    private static final Comparator<ActivePrescriptionDto> ROUND_ORDER = Comparator
+            .comparing(ActivePrescriptionDto::getPatientName, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ActivePrescriptionDto::getMedicationName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final PrescriptionRepository prescriptionRepository;
+    private final int horizonDays;
+    private final Clock clock;
+    private volatile ActiveSet activeSet;
+
+    public ActivePrescriptionService(PrescriptionRepository prescriptionRepository,
+                                     @Value("${app.prescriptions.active-set.horizon-days:7}") int horizonDays) {
+        this(prescriptionRepository, horizonDays, Clock.systemDefaultZone());
+    }
+
+    ActivePrescriptionService(PrescriptionRepository prescriptionRepository, int horizonDays, Clock clock) {
+        this.prescriptionRepository = prescriptionRepository;
+        this.horizonDays = horizonDays;
+        this.clock = clock;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ActivePrescriptionDto> getActivePrescriptions(LocalDate date) {
+        LocalDate day = date != null ? date : LocalDate.now(clock);
+        ActiveSet set = current();
+        if (!set.covers(day)) {
+            return sorted(prescriptionRepository.findActiveEntriesBetween(day, day));
+        }
+        return sorted(set.byId.values().stream().filter(p -> p.isActiveOn(day)).toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<ActivePrescriptionDto> getActivePrescriptionsForPatient(UUID patientId, LocalDate date) {
+        Objects.requireNonNull(patientId, "Patient ID cannot be null");
+        LocalDate day = date != null ? date : LocalDate.now(clock);
+        ActiveSet set = current();
+        if (!set.covers(day)) {
+            return sorted(prescriptionRepository.findActiveEntriesByPatientId(patientId, day));
+        }
+        return sorted(set.lookup(set.byPatient.get(patientId), day));
+    }
+
+    /** Everything to hand out on one ward's medication round. */
+    @Transactional(readOnly = true)
+    public List<ActivePrescriptionDto> getWardMedicationRound(UUID wardId, LocalDate date) {
+        Objects.requireNonNull(wardId, "Ward ID cannot be null");
+        LocalDate day = date != null ? date : LocalDate.now(clock);
+        ActiveSet set = current();
+        if (!set.covers(day)) {
+            return sorted(prescriptionRepository.findActiveEntriesBetween(day, day).stream()
+                    .filter(p -> wardId.equals(p.getWardId()))
+                    .toList());
+        }
+        return sorted(set.lookup(set.byWard.get(wardId), day));
+    }
+
+    /** Reloads the window from the database, dropping what expired and picking up other instances' writes. */
+    @Scheduled(fixedDelayString = "${app.prescriptions.active-set.refresh-interval-ms:60000}",
+            initialDelayString = "${app.prescriptions.active-set.refresh-interval-ms:60000}")
+    public synchronized void roll() {
+        activeSet = load(LocalDate.now(clock));
+    }
+
+    // Write-through from ActivePrescriptionListener, applied after commit
+
+    synchronized void upsert(ActivePrescriptionDto prescription) {
+        ActiveSet set = activeSet;
+        if (set == null) {
+            return;
+        }
+        set.remove(prescription.getPrescriptionId());
+        if (set.overlaps(prescription)) {
+            set.put(prescription);
+        }
+    }
+
+    synchronized void remove(UUID prescriptionId) {
+        ActiveSet set = activeSet;
+        if (set != null) {
+            set.remove(prescriptionId);
+        }
+    }
+
+    /** A patient's name or ward changed; re-key their prescriptions. */
+    synchronized void patientChanged(UUID patientId, String patientName, UUID wardId) {
+        ActiveSet set = activeSet;
+        Set<UUID> ids = set != null ? set.byPatient.get(patientId) : null;
+        if (ids == null) {
+            return;
+        }
+        for (UUID id : List.copyOf(ids)) {
+            ActivePrescriptionDto old = set.byId.get(id);
+            if (old != null) {
+                set.remove(id);
+                set.put(new ActivePrescriptionDto(old.getPrescriptionId(), patientId, patientName, wardId,
+                        old.getMedicationId(), old.getMedicationName(), old.getDosage(), old.getStartDate(), old.getEndDate()));
+            }
+        }
+    }
+
+    int activeSetSize() {
+        ActiveSet set = activeSet;
+        return set == null ? 0 : set.byId.size();
+    }
+
+    private ActiveSet current() {
+        ActiveSet set = activeSet;
+        if (set == null || !set.from.equals(LocalDate.now(clock))) {
+            set = rollIfStale();
+        }
+        return set;
+    }
+
+    // Re-checked under the lock so the threads queued behind the first lookup of a day reuse its load
+    private synchronized ActiveSet rollIfStale() {
+        LocalDate today = LocalDate.now(clock);
+        ActiveSet set = activeSet;
+        if (set == null || !set.from.equals(today)) {
+            set = load(today);
+            activeSet = set;
+        }
+        return set;
+    }
+
+    private ActiveSet load(LocalDate today) {
+        LocalDate until = today.plusDays(horizonDays);
+        ActiveSet loaded = new ActiveSet(today, until);
+        prescriptionRepository.findActiveEntriesBetween(today, until).forEach(loaded::put);
+        return loaded;
+    }
+
+    private static List<ActivePrescriptionDto> sorted(Collection<ActivePrescriptionDto> prescriptions) {
+        return prescriptions.stream().sorted(ROUND_ORDER).toList();
+    }
+
+    /** Prescriptions overlapping [from, to], indexed by id, patient and ward. */
+    private static final class ActiveSet {
+        final LocalDate from;
+        final LocalDate to;
+        final Map<UUID, ActivePrescriptionDto> byId = new ConcurrentHashMap<>();
+        final Map<UUID, Set<UUID>> byPatient = new ConcurrentHashMap<>();
+        final Map<UUID, Set<UUID>> byWard = new ConcurrentHashMap<>();
+
+        ActiveSet(LocalDate from, LocalDate to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        boolean covers(LocalDate day) {
+            return !day.isBefore(from) && !day.isAfter(to);
+        }
+
+        boolean overlaps(ActivePrescriptionDto p) {
+            return p.getStartDate() != null && !p.getStartDate().isAfter(to)
+                    && (p.getEndDate() == null || !p.getEndDate().isBefore(from));
+        }
+
+        void put(ActivePrescriptionDto p) {
+            byId.put(p.getPrescriptionId(), p);
+            if (p.getPatientId() != null) {
+                byPatient.computeIfAbsent(p.getPatientId(), k -> ConcurrentHashMap.newKeySet()).add(p.getPrescriptionId());
+            }
+            if (p.getWardId() != null) {
+                byWard.computeIfAbsent(p.getWardId(), k -> ConcurrentHashMap.newKeySet()).add(p.getPrescriptionId());
+            }
+        }
+
+        void remove(UUID prescriptionId) {
+            ActivePrescriptionDto p = byId.remove(prescriptionId);
+            if (p == null) {
+                return;
+            }
+            if (p.getPatientId() != null) {
+                byPatient.computeIfPresent(p.getPatientId(), (k, ids) -> ids.remove(prescriptionId) && ids.isEmpty() ? null : ids);
+            }
+            if (p.getWardId() != null) {
+                byWard.computeIfPresent(p.getWardId(), (k, ids) -> ids.remove(prescriptionId) && ids.isEmpty() ? null : ids);
+            }
+        }
+
+        List<ActivePrescriptionDto> lookup(Set<UUID> ids, LocalDate day) {
+            if (ids == null) {
+                return List.of();
+            }
+            return ids.stream()
+                    .map(byId::get)
+                    .filter(p -> p != null && p.isActiveOn(day))
+                    .toList();
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package com.testing_exam_webapp.service;
 
+import com.testing_exam_webapp.dto.AppointmentFilter;
 import com.testing_exam_webapp.dto.AppointmentRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
+import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.Appointment;
 import com.testing_exam_webapp.model.mysql.Doctor;
 import com.testing_exam_webapp.model.mysql.Nurse;
 import com.testing_exam_webapp.model.mysql.Patient;
 import com.testing_exam_webapp.model.types.AppointmentStatusType;
 import com.testing_exam_webapp.repository.AppointmentRepository;
+import com.testing_exam_webapp.repository.AppointmentSpecifications;
 import com.testing_exam_webapp.repository.DoctorRepository;
 import com.testing_exam_webapp.repository.NurseRepository;
 import com.testing_exam_webapp.repository.PatientRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -24,27 +31,33 @@ public class AppointmentService {
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
     private final NurseRepository nurseRepository;
+    private final ClinicalArchiveService archiveService;
 
     public AppointmentService(AppointmentRepository appointmentRepository,
                               PatientRepository patientRepository,
                               DoctorRepository doctorRepository,
-                              NurseRepository nurseRepository) {
+                              NurseRepository nurseRepository,
+                              ClinicalArchiveService archiveService) {
         this.appointmentRepository = appointmentRepository;
         this.patientRepository = patientRepository;
         this.doctorRepository = doctorRepository;
         this.nurseRepository = nurseRepository;
+        this.archiveService = archiveService;
     }
 
+    @Transactional(readOnly = true)
     public List<Appointment> getAppointments() {
         return appointmentRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Appointment getAppointmentById(UUID id) {
         UUID appointmentId = Objects.requireNonNull(id, "Appointment ID cannot be null");
         return appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new EntityNotFoundException("Appointment not found"));
     }
 
+    @Transactional
     public Appointment createAppointment(AppointmentRequest request) {
         Appointment appointment = new Appointment();
         appointment.setAppointmentId(UUID.randomUUID());
@@ -76,10 +89,12 @@ public class AppointmentService {
         return appointmentRepository.save(appointment);
     }
 
-    public Appointment updateAppointment(UUID id, AppointmentRequest request) {
+    @Transactional
+    public Appointment updateAppointment(UUID id, AppointmentRequest request, Long expectedVersion) {
         UUID appointmentId = Objects.requireNonNull(id, "Appointment ID cannot be null");
         Appointment appointment = appointmentRepository.findById(appointmentId)
                 .orElseThrow(() -> new EntityNotFoundException("Appointment not found"));
+        EntityVersions.check("Appointment", expectedVersion, appointment.getVersion());
 
         appointment.setAppointmentDate(request.getAppointmentDate());
         appointment.setReason(request.getReason());
@@ -109,6 +124,7 @@ public class AppointmentService {
         return appointmentRepository.save(appointment);
     }
 
+    @Transactional
     public void deleteAppointment(UUID id) {
         UUID appointmentId = Objects.requireNonNull(id, "Appointment ID cannot be null");
         if (!appointmentRepository.existsById(appointmentId)) {
@@ -118,34 +134,63 @@ public class AppointmentService {
     }
 
     // Query methods
+    @Transactional(readOnly = true)
     public List<Appointment> getAppointmentsByPatientId(UUID patientId) {
         Objects.requireNonNull(patientId, "Patient ID cannot be null");
-        return appointmentRepository.findByPatientId(patientId);
+        return withArchived(appointmentRepository.findByPatientId(patientId),
+                archiveService.getAppointmentsByPatientId(patientId));
     }
 
+    @Transactional(readOnly = true)
     public List<Appointment> getAppointmentsByDoctorId(UUID doctorId) {
         Objects.requireNonNull(doctorId, "Doctor ID cannot be null");
         return appointmentRepository.findByDoctorId(doctorId);
     }
 
+    @Transactional(readOnly = true)
     public List<Appointment> getAppointmentsByNurseId(UUID nurseId) {
         Objects.requireNonNull(nurseId, "Nurse ID cannot be null");
         return appointmentRepository.findByNurseId(nurseId);
     }
 
+    @Transactional(readOnly = true)
     public List<Appointment> getAppointmentsByStatus(AppointmentStatusType status) {
         Objects.requireNonNull(status, "Status cannot be null");
         return appointmentRepository.findByStatus(status);
     }
 
+    @Transactional(readOnly = true)
     public List<Appointment> getAppointmentsByDate(LocalDate date) {
         Objects.requireNonNull(date, "Date cannot be null");
-        return appointmentRepository.findByAppointmentDate(date);
+        return withArchived(appointmentRepository.findByAppointmentDate(date),
+                archiveService.getAppointmentsBetween(date, date));
     }
 
+    @Transactional(readOnly = true)
     public List<Appointment> getAppointmentsByDateRange(LocalDate startDate, LocalDate endDate) {
         Objects.requireNonNull(startDate, "Start date cannot be null");
         Objects.requireNonNull(endDate, "End date cannot be null");
-        return appointmentRepository.findByAppointmentDateBetween(startDate, endDate);
+        return withArchived(appointmentRepository.findByAppointmentDateBetween(startDate, endDate),
+                archiveService.getAppointmentsBetween(startDate, endDate));
+    }
+
+    /** Paged filter search over the hot table only; archived appointments are reached through the by-patient and date-range reads. */
+    @Transactional(readOnly = true)
+    public Page<Appointment> searchAppointments(AppointmentFilter filter, Pageable pageable) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        if (filter.getStartDate() != null && filter.getEndDate() != null
+                && filter.getStartDate().isAfter(filter.getEndDate())) {
+            throw new ValidationException("Start date must not be after end date");
+        }
+        return appointmentRepository.findAll(AppointmentSpecifications.matching(filter), pageable);
+    }
+
+    private static List<Appointment> withArchived(List<Appointment> hot, List<Appointment> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<Appointment> combined = new ArrayList<>(hot);
+        combined.addAll(archived);
+        return combined;
     }
 }
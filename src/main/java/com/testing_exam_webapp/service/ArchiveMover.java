@@ -0,0 +1,71 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.CacheConfig;
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import com.testing_exam_webapp.repository.AppointmentRepository;
+import com.testing_exam_webapp.repository.ArchivedAppointmentRepository;
+import com.testing_exam_webapp.repository.ArchivedSurgeryRepository;
+import com.testing_exam_webapp.repository.SurgeryRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Moves one month of rows from a hot table to its archive table in one transaction: a set-based
+ * copy followed by a delete of exactly the copied ids. Bulk statements bypass the entity listeners,
+ * so cached patient charts are dropped on commit instead. After a copy the archive service re-reads the
+ * newest archived dates, which decide whether date-range reads consult the archive.
+ */
+@Component
+public class ArchiveMover {
+
+    private static final List<String> ARCHIVABLE_STATUS_NAMES = ClinicalArchiveService.ARCHIVABLE_STATUSES.stream()
+            .map(AppointmentStatusType::name)
+            .toList();
+
+    private final AppointmentRepository appointmentRepository;
+    private final SurgeryRepository surgeryRepository;
+    private final ArchivedAppointmentRepository archivedAppointmentRepository;
+    private final ArchivedSurgeryRepository archivedSurgeryRepository;
+    private final ClinicalArchiveService archiveService;
+
+    public ArchiveMover(AppointmentRepository appointmentRepository,
+                        SurgeryRepository surgeryRepository,
+                        ArchivedAppointmentRepository archivedAppointmentRepository,
+                        ArchivedSurgeryRepository archivedSurgeryRepository,
+                        ClinicalArchiveService archiveService) {
+        this.appointmentRepository = appointmentRepository;
+        this.surgeryRepository = surgeryRepository;
+        this.archivedAppointmentRepository = archivedAppointmentRepository;
+        this.archivedSurgeryRepository = archivedSurgeryRepository;
+        this.archiveService = archiveService;
+    }
+
+    /** Archives completed or cancelled appointments dated in [from, to). */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PATIENT_CHARTS, allEntries = true)
+    public int moveAppointments(LocalDate from, LocalDate to) {
+        int copied = archivedAppointmentRepository.copyFromHot(from, to, ARCHIVABLE_STATUS_NAMES);
+        if (copied == 0) {
+            return 0;
+        }
+        // Raised before commit: a read that briefly consults the archive for nothing is harmless
+        archiveService.refreshNewestArchived();
+        return appointmentRepository.deleteArchivedBetween(from, to);
+    }
+
+    /** Archives surgeries dated in [from, to). */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PATIENT_CHARTS, allEntries = true)
+    public int moveSurgeries(LocalDate from, LocalDate to) {
+        int copied = archivedSurgeryRepository.copyFromHot(from, to);
+        if (copied == 0) {
+            return 0;
+        }
+        archiveService.refreshNewestArchived();
+        return surgeryRepository.deleteArchivedBetween(from, to);
+    }
+}
@@ -0,0 +1,70 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.repository.AppointmentRepository;
+import com.testing_exam_webapp.repository.SurgeryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Nightly retention run: moves everything older than the archive cutoff out of the hot tables,
+ * one calendar month per transaction so each step touches a single partition and locks stay short.
+ * A month that fails (for example because another node archived it first) is logged and skipped;
+ * the next run picks it up again. Every run ends by refreshing the newest archived dates, so nodes
+ * whose months were moved by another node also start reading the archive for them.
+ */
+@Component
+public class ArchiveRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveRetentionJob.class);
+
+    private final ClinicalArchiveService archiveService;
+    private final ArchiveMover archiveMover;
+    private final AppointmentRepository appointmentRepository;
+    private final SurgeryRepository surgeryRepository;
+    private final ObjectProvider<MySqlPartitionMaintainer> partitionMaintainer;
+
+    public ArchiveRetentionJob(ClinicalArchiveService archiveService,
+                               ArchiveMover archiveMover,
+                               AppointmentRepository appointmentRepository,
+                               SurgeryRepository surgeryRepository,
+                               ObjectProvider<MySqlPartitionMaintainer> partitionMaintainer) {
+        this.archiveService = archiveService;
+        this.archiveMover = archiveMover;
+        this.appointmentRepository = appointmentRepository;
+        this.surgeryRepository = surgeryRepository;
+        this.partitionMaintainer = partitionMaintainer;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 30 1 * * *}")
+    public void run() {
+        LocalDate cutoff = archiveService.cutoff();
+        int appointments = moveMonths(appointmentRepository.findOldestDateWithStatusIn(ClinicalArchiveService.ARCHIVABLE_STATUSES),
+                cutoff, archiveMover::moveAppointments);
+        int surgeries = moveMonths(surgeryRepository.findOldestDate(), cutoff, archiveMover::moveSurgeries);
+        logger.info("Archived {} appointments and {} surgeries dated before {}", appointments, surgeries, cutoff);
+        archiveService.refreshNewestArchived();
+        partitionMaintainer.ifAvailable(maintainer -> maintainer.ensurePartitions(cutoff));
+    }
+
+    private static int moveMonths(LocalDate oldest, LocalDate cutoff, ToIntBiFunction<LocalDate, LocalDate> move) {
+        if (oldest == null) {
+            return 0;
+        }
+        int moved = 0;
+        for (LocalDate month = oldest.withDayOfMonth(1); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            try {
+                moved += move.applyAsInt(month, month.plusMonths(1));
+            } catch (DataAccessException e) {
+                logger.warn("Archiving the month starting {} failed, retrying on the next run: {}", month, e.getMessage());
+            }
+        }
+        return moved;
+    }
+}
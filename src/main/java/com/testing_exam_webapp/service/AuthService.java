@@ -1,6 +1,7 @@
 package com.testing_exam_webapp.service;
 
 import com.testing_exam_webapp.config.JwtTokenProvider;
+import com.testing_exam_webapp.config.TokenRevocationStore;
 import com.testing_exam_webapp.dto.LoginRequest;
 import com.testing_exam_webapp.dto.LoginResponse;
 import com.testing_exam_webapp.dto.RegisterRequest;
@@ -9,9 +10,12 @@ import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.User;
 import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -20,23 +24,72 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TokenRevocationStore revocationStore;
+    // Hash checked against when the username does not exist, so unknown users cost the same as wrong passwords
+    private volatile String dummyHash;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtTokenProvider jwtTokenProvider,
+                       LoginRateLimiter loginRateLimiter, TokenRevocationStore revocationStore) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.loginRateLimiter = loginRateLimiter;
+        this.revocationStore = revocationStore;
     }
 
     public LoginResponse login(LoginRequest loginRequest) {
-        User user = userRepository.findByUsername(loginRequest.getUsername())
-                .orElseThrow(() -> new UnauthorizedException("Invalid username or password"));
+        return login(loginRequest, null);
+    }
+
+    /**
+     * Rejects the attempt with TooManyRequestsException before hashing anything when the username or
+     * client IP has too many recent failures. A stored hash with an outdated encoding or cost is
+     * replaced after a successful match.
+     */
+    public LoginResponse login(LoginRequest loginRequest, String clientIp) {
+        String username = loginRequest.getUsername();
+        loginRateLimiter.checkAllowed(username, clientIp);
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+        Optional<User> found = userRepository.findByUsername(username);
+        String hash = found.map(User::getPassword).orElseGet(this::dummyHash);
+        boolean matches = passwordEncoder.matches(loginRequest.getPassword(), hash);
+        if (found.isEmpty() || !matches) {
+            loginRateLimiter.recordFailure(username, clientIp);
             throw new UnauthorizedException("Invalid username or password");
         }
+        loginRateLimiter.recordSuccess(username);
+
+        User user = found.get();
+        if (passwordEncoder.upgradeEncoding(hash)) {
+            user.setPassword(passwordEncoder.encode(loginRequest.getPassword()));
+            userRepository.save(user);
+        }
+
+        return issueTokens(user.getUsername(), user.getRole().name());
+    }
+
+    /**
+     * Exchanges a refresh token for a new access and refresh token pair without a user lookup.
+     * The presented refresh token is revoked, so each one can be used exactly once.
+     */
+    public LoginResponse refresh(String refreshToken) {
+        Claims claims = parseOrNull(refreshToken);
+        if (claims == null || !JwtTokenProvider.isRefreshToken(claims)
+                || !revocationStore.revoke(claims.getId(), claims.getExpiration().toInstant())) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+        return issueTokens(claims.getSubject(), claims.get("role", String.class));
+    }
 
-        String token = jwtTokenProvider.generateToken(user.getUsername(), user.getRole().name());
-        return new LoginResponse(token, user.getRole().name());
+    /** Revokes both tokens; invalid or already expired tokens are ignored. */
+    public void logout(String accessToken, String refreshToken) {
+        for (String token : new String[]{accessToken, refreshToken}) {
+            Claims claims = parseOrNull(token);
+            if (claims != null) {
+                revocationStore.revoke(claims.getId(), claims.getExpiration().toInstant());
+            }
+        }
     }
 
     public User register(RegisterRequest registerRequest) {
@@ -52,5 +105,32 @@ public class AuthService {
 
         return userRepository.save(user);
     }
+
+    private LoginResponse issueTokens(String username, String role) {
+        String token = jwtTokenProvider.generateToken(username, role);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(username, role);
+        return new LoginResponse(token, role, refreshToken);
+    }
+
+    private Claims parseOrNull(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return jwtTokenProvider.parseClaims(token);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null) {
+            // Racing threads may each encode once, any of the results will do
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyHash = hash;
+        }
+        return hash;
+    }
 }
 
@@ -3,6 +3,7 @@ package com.testing_exam_webapp.service;
 import com.testing_exam_webapp.model.mysql.*;
 import com.testing_exam_webapp.model.types.*;
 import com.testing_exam_webapp.repository.*;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +11,7 @@ import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 
+@Lazy
 @Service
 public class BulkDataSeederService {
 
@@ -23,9 +25,11 @@ public class BulkDataSeederService {
     private final MedicationRepository medicationRepository;
     private final PrescriptionRepository prescriptionRepository;
     private final SurgeryRepository surgeryRepository;
+    private final NameSearchService nameSearchService;
+    private final WardAdmissionService wardAdmissionService;
 
     // Danish cities for realistic data
-    private static final String[] CITIES = {
+    static final String[] CITIES = {
         "København", "Aarhus", "Odense", "Aalborg", "Esbjerg", "Randers", "Kolding",
         "Horsens", "Vejle", "Roskilde", "Herning", "Helsingør", "Silkeborg", "Næstved",
         "Fredericia", "Viborg", "Køge", "Holstebro", "Taastrup", "Sønderborg"
@@ -61,7 +65,9 @@ public class BulkDataSeederService {
             DiagnosisRepository diagnosisRepository,
             MedicationRepository medicationRepository,
             PrescriptionRepository prescriptionRepository,
-            SurgeryRepository surgeryRepository) {
+            SurgeryRepository surgeryRepository,
+            NameSearchService nameSearchService,
+            WardAdmissionService wardAdmissionService) {
         this.hospitalRepository = hospitalRepository;
         this.wardRepository = wardRepository;
         this.patientRepository = patientRepository;
@@ -72,6 +78,8 @@ public class BulkDataSeederService {
         this.medicationRepository = medicationRepository;
         this.prescriptionRepository = prescriptionRepository;
         this.surgeryRepository = surgeryRepository;
+        this.nameSearchService = nameSearchService;
+        this.wardAdmissionService = wardAdmissionService;
     }
 
     @Transactional
@@ -97,13 +105,18 @@ public class BulkDataSeederService {
 
         // Generate doctors and nurses (distributed across wards)
         List<Doctor> doctors = generateDoctors(doctorCount, allWards);
+        nameSearchService.indexDoctors(doctors);
         results.put("doctors", doctors.size());
 
         List<Nurse> nurses = generateNurses(nurseCount, allWards);
+        nameSearchService.indexNurses(nurses);
         results.put("nurses", nurses.size());
 
         // Generate patients (distributed across hospitals and wards)
         List<Patient> patients = generatePatients(patientCount, hospitals, allWards);
+        nameSearchService.indexPatients(patients);
+        // Seeded patients skip admission checks, so bring the ward occupancy columns up to date
+        wardAdmissionService.recount();
         results.put("patients", patients.size());
 
         // Generate medications
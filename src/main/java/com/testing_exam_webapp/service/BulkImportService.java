@@ -0,0 +1,410 @@
+package com.testing_exam_webapp.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testing_exam_webapp.dto.AppointmentRequest;
+import com.testing_exam_webapp.dto.ImportErrorDto;
+import com.testing_exam_webapp.dto.ImportResultDto;
+import com.testing_exam_webapp.dto.PatientRequest;
+import com.testing_exam_webapp.exception.TooManyRequestsException;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming bulk import of patients and appointments from CSV or NDJSON.
+ * <p>
+ * The upload is processed as a three-stage pipeline joined by bounded queues of fixed-size batches:
+ * the request thread reads and tokenizes lines, one worker binds, validates and resolves references
+ * per batch, and a second worker inserts each batch in its own transaction, taking ward beds for the
+ * imported patients. A slow stage makes the stages before it block, so at most a few batches are held
+ * in memory whatever the file size.
+ * Bad rows are skipped and reported by line number; the rest of the file is still imported.
+ * <p>
+ * CSV input needs a header row with the request field names ({@code patientName,dateOfBirth,...});
+ * quoted fields may contain commas and doubled quotes but not line breaks. NDJSON input is one request
+ * object per line. Diagnosis links are not part of the import.
+ */
+@Lazy
+@Service
+public class BulkImportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private static final TypeReference<Map<String, Object>> FIELDS = new TypeReference<>() {
+    };
+    private static final List<?> END = new ArrayList<>();
+    private static final long POLL_MILLIS = 100;
+
+    private final ImportBatchProcessor processor;
+    private final NameSearchService nameSearchService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Executor executor;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxErrors;
+    private final Semaphore permits;
+
+    public BulkImportService(ImportBatchProcessor processor,
+                             NameSearchService nameSearchService,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             @Qualifier("importExecutor") Executor executor,
+                             @Value("${app.import.batch-size:500}") int batchSize,
+                             @Value("${app.import.queue-capacity:4}") int queueCapacity,
+                             @Value("${app.import.max-errors:1000}") int maxErrors,
+                             @Value("${app.import.max-concurrent:2}") int maxConcurrent) {
+        this.processor = processor;
+        this.nameSearchService = nameSearchService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.maxErrors = maxErrors;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public ImportResultDto importPatients(InputStream input, Format format) throws IOException {
+        return runImport(input, format, PatientRequest.class, processor::resolvePatients,
+                processor::insertPatients, nameSearchService::indexPatients);
+    }
+
+    public ImportResultDto importAppointments(InputStream input, Format format) throws IOException {
+        return runImport(input, format, AppointmentRequest.class, processor::resolveAppointments,
+                processor::insertAppointments, inserted -> {
+                });
+    }
+
+    private <R, T> ImportResultDto runImport(InputStream input, Format format, Class<R> requestType,
+                                             BiFunction<List<Staged<R>>, ImportProgress, List<Staged<T>>> resolve,
+                                             BiFunction<List<Staged<T>>, ImportProgress, List<T>> insert,
+                                             Consumer<List<T>> afterInsert) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new TooManyRequestsException("Too many imports running, try again later");
+        }
+        try {
+            ImportProgress progress = new ImportProgress(maxErrors);
+            AtomicBoolean aborted = new AtomicBoolean();
+            BlockingQueue<List<ImportRow>> parsed = new ArrayBlockingQueue<>(queueCapacity);
+            BlockingQueue<List<Staged<T>>> resolved = new ArrayBlockingQueue<>(queueCapacity);
+            List<CompletableFuture<Void>> workers = new ArrayList<>(2);
+
+            try {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    // Ward-hospital membership checks are memoized across all batches of this import
+                    try (LookupScope scope = LookupScope.open()) {
+                        for (List<ImportRow> batch = take(parsed, aborted); batch != END; batch = take(parsed, aborted)) {
+                            put(resolved, resolve.apply(validate(batch, requestType, progress), progress), aborted);
+                        }
+                    } finally {
+                        put(resolved, end(), aborted);
+                    }
+                }, executor).whenComplete((ok, e) -> abortOn(e, aborted)));
+                workers.add(CompletableFuture.runAsync(() -> {
+                    for (List<Staged<T>> batch = take(resolved, aborted); batch != END; batch = take(resolved, aborted)) {
+                        insertBatch(batch, progress, insert, afterInsert);
+                    }
+                }, executor).whenComplete((ok, e) -> abortOn(e, aborted)));
+
+                parse(input, format, batch -> put(parsed, batch, aborted), progress);
+                put(parsed, end(), aborted);
+            } catch (IOException | RuntimeException e) {
+                aborted.set(true);
+                awaitStopped(workers);
+                throw e;
+            }
+            try {
+                CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            return progress.toResult();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** Waits for the workers of an aborted import to stop, so its permit is not released while they still run. */
+    private static void awaitStopped(List<CompletableFuture<Void>> workers) {
+        for (CompletableFuture<Void> worker : workers) {
+            try {
+                worker.join();
+            } catch (CompletionException | CancellationException e) {
+                // The import already failed with the exception being rethrown
+            }
+        }
+    }
+
+    // Stage 1: read and tokenize
+
+    private void parse(InputStream input, Format format, Consumer<List<ImportRow>> sink, ImportProgress progress) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+        String[] header = null;
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && header == null) {
+                header = splitCsv(line).toArray(String[]::new);
+                continue;
+            }
+            progress.read();
+            try {
+                batch.add(new ImportRow(lineNumber, format == Format.CSV ? csvFields(header, line) : jsonFields(line)));
+            } catch (JsonProcessingException e) {
+                progress.fail(lineNumber, "Malformed JSON");
+            } catch (IllegalArgumentException e) {
+                progress.fail(lineNumber, e.getMessage());
+            }
+            if (batch.size() == batchSize) {
+                sink.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.accept(batch);
+        }
+    }
+
+    private Map<String, Object> jsonFields(String line) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(line);
+        // A literal null or an array would otherwise reach binding as a null or unusable row
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return objectMapper.convertValue(node, FIELDS);
+    }
+
+    private static Map<String, Object> csvFields(String[] header, String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() != header.length) {
+            throw new IllegalArgumentException("Expected " + header.length + " columns but found " + values.size());
+        }
+        Map<String, Object> fields = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            String value = values.get(i);
+            fields.put(header[i], value.isEmpty() ? null : value);
+        }
+        return fields;
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString().strip());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        values.add(current.toString().strip());
+        return values;
+    }
+
+    // Stage 2: bind and validate; reference resolution follows in ImportBatchProcessor
+
+    private <R> List<Staged<R>> validate(List<ImportRow> batch, Class<R> requestType, ImportProgress progress) {
+        List<Staged<R>> valid = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            R request;
+            try {
+                request = objectMapper.convertValue(row.fields(), requestType);
+            } catch (IllegalArgumentException e) {
+                progress.fail(row.line(), bindingError(e));
+                continue;
+            }
+            Set<ConstraintViolation<R>> violations = validator.validate(request);
+            if (violations.isEmpty()) {
+                valid.add(new Staged<>(row.line(), request));
+            } else {
+                progress.fail(row.line(), violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            }
+        }
+        return valid;
+    }
+
+    private static String bindingError(IllegalArgumentException e) {
+        if (e.getCause() instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            return "Invalid value for " + mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+        }
+        return "Invalid row";
+    }
+
+    // Stage 3: insert
+
+    private <T> void insertBatch(List<Staged<T>> batch, ImportProgress progress,
+                                 BiFunction<List<Staged<T>>, ImportProgress, List<T>> insert, Consumer<List<T>> afterInsert) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<T> inserted;
+        try {
+            inserted = insert.apply(batch, progress);
+        } catch (DataAccessException | PersistenceException e) {
+            String message = "Insert failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            batch.forEach(row -> progress.fail(row.line(), message));
+            return;
+        }
+        progress.imported(inserted.size());
+        afterInsert.accept(inserted);
+    }
+
+    // Queue plumbing: every wait gives up once another stage has failed
+
+    private static <E> void put(BlockingQueue<E> queue, E item, AtomicBoolean aborted) {
+        try {
+            while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (aborted.get()) {
+                    throw new IllegalStateException("Import aborted");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        }
+    }
+
+    private static <E> E take(BlockingQueue<E> queue, AtomicBoolean aborted) {
+        try {
+            // Checked before every item, so queued batches are dropped once another stage has failed
+            while (!aborted.get()) {
+                E item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (item != null && !aborted.get()) {
+                    return item;
+                }
+            }
+            return end();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E end() {
+        return (E) END;
+    }
+
+    private static void abortOn(Throwable failure, AtomicBoolean aborted) {
+        if (failure != null) {
+            aborted.set(true);
+        }
+    }
+
+    /** One tokenized input line. */
+    record ImportRow(long line, Map<String, Object> fields) {
+    }
+
+    /** A value on its way through the pipeline, tagged with the input line it came from. */
+    public record Staged<T>(long line, T value) {
+    }
+
+    /** Counters and per-line errors shared by the stages. */
+    public static final class ImportProgress {
+
+        private final int maxErrors;
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicInteger errorCount = new AtomicInteger();
+        private final ConcurrentLinkedQueue<ImportErrorDto> errors = new ConcurrentLinkedQueue<>();
+
+        ImportProgress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        public void fail(long line, String message) {
+            failed.incrementAndGet();
+            if (errorCount.incrementAndGet() <= maxErrors) {
+                errors.add(new ImportErrorDto(line, message));
+            }
+        }
+
+        void read() {
+            rowsRead.incrementAndGet();
+        }
+
+        void imported(int count) {
+            imported.addAndGet(count);
+        }
+
+        ImportResultDto toResult() {
+            ImportResultDto result = new ImportResultDto();
+            result.setRowsRead(rowsRead.get());
+            result.setImported(imported.get());
+            result.setFailed(failed.get());
+            result.setErrors(errors.stream().sorted(Comparator.comparingLong(ImportErrorDto::getLine)).toList());
+            result.setErrorsTruncated(errorCount.get() > maxErrors);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.WeatherDto;
+import com.testing_exam_webapp.exception.ValidationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weather for many cities in one call, for overviews that show every hospital city.
+ * <p>
+ * Requested names are resolved the same way as single lookups, so spelling variants of a city are
+ * fetched once. Each distinct city goes through {@link WeatherService#getWeatherByCity} on the weather
+ * executor, whose pool size bounds how many API calls run at once; cached cities return immediately.
+ * A city that fails, is rejected by a saturated pool or takes longer than
+ * {@code app.weather.bulk.timeout-ms} gets the default weather, so the response time is bounded by
+ * the slowest single call rather than the sum of all calls.
+ */
+@Service
+public class BulkWeatherService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkWeatherService.class);
+
+    private final WeatherService weatherService;
+    private final Executor executor;
+    private final int maxCities;
+    private final long timeoutMillis;
+
+    public BulkWeatherService(WeatherService weatherService,
+                              @Qualifier("weatherExecutor") Executor executor,
+                              @Value("${app.weather.bulk.max-cities:50}") int maxCities,
+                              @Value("${app.weather.bulk.timeout-ms:3000}") long timeoutMillis) {
+        this.weatherService = weatherService;
+        this.executor = executor;
+        this.maxCities = maxCities;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Returns the weather for each requested city, keyed by the name as requested (trimmed) and in
+     * request order. Blank names are skipped.
+     */
+    public Map<String, WeatherDto> getWeatherForCities(Collection<String> cities) {
+        Map<String, String> requested = new LinkedHashMap<>();
+        if (cities != null) {
+            for (String city : cities) {
+                if (city != null && !city.trim().isEmpty()) {
+                    requested.putIfAbsent(city.trim(), WeatherService.cacheKey(city));
+                }
+            }
+        }
+        if (requested.isEmpty()) {
+            throw new ValidationException("At least one city is required");
+        }
+
+        if (new HashSet<>(requested.values()).size() > maxCities) {
+            throw new ValidationException("At most " + maxCities + " distinct cities can be requested at once");
+        }
+
+        Map<String, CompletableFuture<WeatherDto>> lookups = new HashMap<>();
+        requested.forEach((city, key) -> lookups.computeIfAbsent(key, k -> fetch(city)));
+        CompletableFuture.allOf(lookups.values().toArray(new CompletableFuture<?>[0])).join();
+
+        Map<String, WeatherDto> result = new LinkedHashMap<>();
+        requested.forEach((city, key) -> result.put(city, lookups.get(key).join()));
+        return result;
+    }
+
+    private CompletableFuture<WeatherDto> fetch(String city) {
+        String resolvedCity = WeatherService.resolveCity(city);
+        WeatherDto fallback = WeatherService.createDefaultWeather(resolvedCity);
+        try {
+            return CompletableFuture.supplyAsync(() -> weatherService.getWeatherByCity(city), executor)
+                    .completeOnTimeout(fallback, timeoutMillis, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        logger.debug("Weather lookup for '{}' failed: {}", resolvedCity, e.getMessage());
+                        return fallback;
+                    });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Weather executor saturated, using default weather for '{}'", resolvedCity);
+            return CompletableFuture.completedFuture(fallback);
+        }
+    }
+}
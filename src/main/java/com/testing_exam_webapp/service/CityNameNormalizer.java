@@ -0,0 +1,131 @@
+package com.testing_exam_webapp.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the city names hospitals and users write to the name OpenWeatherMap knows the city by.
+ * <p>
+ * The alias table in {@code city-aliases.csv} is loaded once and keyed by folded name: NFKD-decomposed
+ * with the combining marks dropped, ø and æ (which have no decomposition) spelled o and ae, lower case
+ * and single-spaced. Resolving a name is one fold plus one hash lookup, and plain ASCII input skips the
+ * Unicode normalization. Names not in the table are used as entered.
+ */
+final class CityNameNormalizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CityNameNormalizer.class);
+
+    static final String ALIASES_RESOURCE = "city-aliases.csv";
+
+    private static final Map<String, String> CANONICAL = loadBundled();
+
+    private CityNameNormalizer() {
+    }
+
+    /** The canonical name for {@code city}, or {@code city} trimmed if the table does not know it. */
+    static String resolve(String city) {
+        String canonical = CANONICAL.get(fold(city));
+        return canonical != null ? canonical : city.trim();
+    }
+
+    static boolean isKnown(String city) {
+        return CANONICAL.containsKey(fold(city));
+    }
+
+    /** The comparison form of a name; two spellings of a city that fold alike are treated as one. */
+    static String fold(String name) {
+        String trimmed = name.trim();
+        String decomposed = isAscii(trimmed) ? trimmed : Normalizer.normalize(trimmed, Normalizer.Form.NFKD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = folded.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                folded.append(' ');
+                pendingSpace = false;
+            }
+            char lower = Character.toLowerCase(c);
+            switch (lower) {
+                case 'ø' -> folded.append('o');
+                case 'æ' -> folded.append("ae");
+                case 'œ' -> folded.append("oe");
+                case 'ß' -> folded.append("ss");
+                default -> folded.append(lower);
+            }
+        }
+        return folded.toString();
+    }
+
+    /**
+     * Parses {@code canonical,alias,alias,...} lines into a folded-name lookup. Blank lines and lines
+     * starting with {@code #} are skipped; a spelling claimed by two different cities is an error.
+     */
+    static Map<String, String> parse(Reader source, String description) throws IOException {
+        Map<String, String> table = new HashMap<>();
+        BufferedReader reader = new BufferedReader(source);
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            String[] names = line.split(",");
+            String canonical = names[0].trim();
+            if (canonical.isEmpty()) {
+                throw new IllegalStateException(description + " line " + lineNumber + ": missing city name");
+            }
+            for (String name : names) {
+                if (name.isBlank()) {
+                    continue;
+                }
+                String previous = table.putIfAbsent(fold(name), canonical);
+                if (previous != null && !previous.equals(canonical)) {
+                    throw new IllegalStateException(description + " line " + lineNumber + ": '" + name.trim()
+                            + "' is already an alias of " + previous);
+                }
+            }
+        }
+        return table;
+    }
+
+    private static Map<String, String> loadBundled() {
+        InputStream in = CityNameNormalizer.class.getClassLoader().getResourceAsStream(ALIASES_RESOURCE);
+        if (in == null) {
+            logger.warn("City alias table {} not found, city names are used as entered", ALIASES_RESOURCE);
+            return Map.of();
+        }
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return Map.copyOf(parse(reader, ALIASES_RESOURCE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + ALIASES_RESOURCE, e);
+        }
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,184 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.model.mysql.Appointment;
+import com.testing_exam_webapp.model.mysql.ArchivedAppointment;
+import com.testing_exam_webapp.model.mysql.ArchivedSurgery;
+import com.testing_exam_webapp.model.mysql.Doctor;
+import com.testing_exam_webapp.model.mysql.Nurse;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Surgery;
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import com.testing_exam_webapp.repository.ArchivedAppointmentRepository;
+import com.testing_exam_webapp.repository.ArchivedSurgeryRepository;
+import com.testing_exam_webapp.repository.DoctorRepository;
+import com.testing_exam_webapp.repository.NurseRepository;
+import com.testing_exam_webapp.repository.PatientRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read side of the archive tier.
+ * <p>
+ * Completed or cancelled appointments and all surgeries dated before {@link #cutoff()} are moved to
+ * archive tables by {@link ArchiveRetentionJob}. Date-range reads consult the archive only when the
+ * range starts on or before the newest archived date, so recent lookups never touch it. That date is
+ * read on first use and refreshed by {@link ArchiveMover} after each move and at the end of every
+ * retention run, so it stays correct when the retention window changes. Archived rows come back as
+ * detached {@link Appointment} and {@link Surgery} instances, so callers see one list regardless of tier.
+ */
+@Service
+public class ClinicalArchiveService {
+
+    static final Set<AppointmentStatusType> ARCHIVABLE_STATUSES =
+            EnumSet.of(AppointmentStatusType.COMPLETED, AppointmentStatusType.CANCELLED);
+
+    private final ArchivedAppointmentRepository archivedAppointmentRepository;
+    private final ArchivedSurgeryRepository archivedSurgeryRepository;
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final NurseRepository nurseRepository;
+    private final int retentionMonths;
+    private final Clock clock;
+    private volatile NewestArchived newestArchived;
+
+    public ClinicalArchiveService(ArchivedAppointmentRepository archivedAppointmentRepository,
+                                  ArchivedSurgeryRepository archivedSurgeryRepository,
+                                  PatientRepository patientRepository,
+                                  DoctorRepository doctorRepository,
+                                  NurseRepository nurseRepository,
+                                  @Value("${app.archive.retention-months:12}") int retentionMonths) {
+        this(archivedAppointmentRepository, archivedSurgeryRepository, patientRepository, doctorRepository,
+                nurseRepository, retentionMonths, Clock.systemDefaultZone());
+    }
+
+    ClinicalArchiveService(ArchivedAppointmentRepository archivedAppointmentRepository,
+                           ArchivedSurgeryRepository archivedSurgeryRepository,
+                           PatientRepository patientRepository,
+                           DoctorRepository doctorRepository,
+                           NurseRepository nurseRepository,
+                           int retentionMonths,
+                           Clock clock) {
+        this.archivedAppointmentRepository = archivedAppointmentRepository;
+        this.archivedSurgeryRepository = archivedSurgeryRepository;
+        this.patientRepository = patientRepository;
+        this.doctorRepository = doctorRepository;
+        this.nurseRepository = nurseRepository;
+        this.retentionMonths = retentionMonths;
+        this.clock = clock;
+    }
+
+    /** First day of the oldest month kept in the hot tables; everything before it is eligible for archiving. */
+    public LocalDate cutoff() {
+        return YearMonth.now(clock).minusMonths(retentionMonths).atDay(1);
+    }
+
+    /** Re-reads the newest archived appointment and surgery dates. */
+    @Transactional(readOnly = true)
+    public void refreshNewestArchived() {
+        newestArchived = new NewestArchived(archivedAppointmentRepository.findNewestDate(),
+                archivedSurgeryRepository.findNewestDate());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Appointment> getAppointmentsBetween(LocalDate startDate, LocalDate endDate) {
+        if (!archivedOnOrAfter(startDate, newestArchived().appointments())) {
+            return List.of();
+        }
+        return toAppointments(archivedAppointmentRepository.findByAppointmentDateBetween(startDate, endDate));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Appointment> getAppointmentsByPatientId(UUID patientId) {
+        return toAppointments(archivedAppointmentRepository.findByPatientId(patientId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Surgery> getSurgeriesBetween(LocalDate startDate, LocalDate endDate) {
+        if (!archivedOnOrAfter(startDate, newestArchived().surgeries())) {
+            return List.of();
+        }
+        return toSurgeries(archivedSurgeryRepository.findBySurgeryDateBetween(startDate, endDate));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Surgery> getSurgeriesByPatientId(UUID patientId) {
+        return toSurgeries(archivedSurgeryRepository.findByPatientId(patientId));
+    }
+
+    private NewestArchived newestArchived() {
+        if (newestArchived == null) {
+            refreshNewestArchived();
+        }
+        return newestArchived;
+    }
+
+    private static boolean archivedOnOrAfter(LocalDate startDate, LocalDate newest) {
+        return newest != null && !startDate.isAfter(newest);
+    }
+
+    private List<Appointment> toAppointments(List<ArchivedAppointment> archived) {
+        if (archived.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Patient> patients = index(patientRepository.findAllById(ids(archived, ArchivedAppointment::getPatientId)), Patient::getPatientId);
+        Map<UUID, Doctor> doctors = index(doctorRepository.findAllById(ids(archived, ArchivedAppointment::getDoctorId)), Doctor::getDoctorId);
+        Map<UUID, Nurse> nurses = index(nurseRepository.findAllById(ids(archived, ArchivedAppointment::getNurseId)), Nurse::getNurseId);
+        return archived.stream().map(a -> {
+            Appointment appointment = new Appointment();
+            appointment.setAppointmentId(a.getAppointmentId());
+            appointment.setAppointmentDate(a.getAppointmentDate());
+            appointment.setReason(a.getReason());
+            appointment.setStatus(a.getStatus());
+            appointment.setPatient(lookup(patients, a.getPatientId()));
+            appointment.setDoctor(lookup(doctors, a.getDoctorId()));
+            appointment.setNurse(lookup(nurses, a.getNurseId()));
+            return appointment;
+        }).toList();
+    }
+
+    private List<Surgery> toSurgeries(List<ArchivedSurgery> archived) {
+        if (archived.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Patient> patients = index(patientRepository.findAllById(ids(archived, ArchivedSurgery::getPatientId)), Patient::getPatientId);
+        Map<UUID, Doctor> doctors = index(doctorRepository.findAllById(ids(archived, ArchivedSurgery::getDoctorId)), Doctor::getDoctorId);
+        return archived.stream().map(s -> {
+            Surgery surgery = new Surgery();
+            surgery.setSurgeryId(s.getSurgeryId());
+            surgery.setSurgeryDate(s.getSurgeryDate());
+            surgery.setDescription(s.getDescription());
+            surgery.setPatient(lookup(patients, s.getPatientId()));
+            surgery.setDoctor(lookup(doctors, s.getDoctorId()));
+            return surgery;
+        }).toList();
+    }
+
+    private static <T> Set<UUID> ids(Collection<T> rows, Function<T, UUID> id) {
+        return rows.stream().map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<UUID, T> index(List<T> entities, Function<T, UUID> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private static <T> T lookup(Map<UUID, T> entities, UUID id) {
+        return id == null ? null : entities.get(id);
+    }
+
+    private record NewestArchived(LocalDate appointments, LocalDate surgeries) {
+    }
+}
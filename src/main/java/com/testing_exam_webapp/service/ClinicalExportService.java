@@ -0,0 +1,189 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.ExportStatusDto;
+import com.testing_exam_webapp.service.ClinicalExportWriter.ExportTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exports the clinical tables to gzip CSV files for analytics, so reports are built from files
+ * instead of the {@code /all} endpoints.
+ * <p>
+ * Each run writes one {@code <table>-<timestamp>[-incremental].csv.gz} per table. Incremental runs
+ * only include rows whose {@code updated_at} is at or after the watermark of the previous successful run
+ * of that table, recorded in {@code export-state.properties}; consumers upsert by id. The watermark is
+ * the run's start minus {@code app.export.watermark-overlap}, because {@code updated_at} is stamped
+ * before commit by whichever instance wrote the row and the scan may read a lagging replica, so a row
+ * stamped just before the start can become visible after the scan. Rows in the overlap are exported
+ * again, which the upsert makes harmless. Deletes are not tracked. The archive tables are only written
+ * by full runs: their rows come from the hot tables unchanged, so incremental consumers already have
+ * them. Only one export runs at a time per instance, on the dedicated export thread or the nightly
+ * schedule; the schedule fires on every node, each with its own directory and
+ * {@code export-state.properties}.
+ */
+@Service
+public class ClinicalExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClinicalExportService.class);
+
+    static final List<ExportTable> TABLES = List.of(
+            new ExportTable("patients", "patient_id, patient_name, gender, date_of_birth, ward_ward_id, hospital_hospital_id, updated_at"),
+            new ExportTable("appointments", "appointment_id, appointment_date, status, reason, patient_patient_id, doctor_doctor_id, nurse_nurse_id, updated_at"),
+            new ExportTable("prescriptions", "prescription_id, start_date, end_date, patient_patient_id, doctor_doctor_id, medication_medication_id, updated_at"),
+            new ExportTable("surgeries", "surgery_id, surgery_date, description, patient_patient_id, doctor_doctor_id, updated_at"),
+            // Rows only arrive here from the hot tables and never change afterwards
+            new ExportTable("appointments_archive", "appointment_id, appointment_date, status, reason, patient_patient_id, doctor_doctor_id, nurse_nurse_id", false),
+            new ExportTable("surgeries_archive", "surgery_id, surgery_date, description, patient_patient_id, doctor_doctor_id", false));
+
+    private static final String STATE_FILE = "export-state.properties";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final ClinicalExportWriter writer;
+    private final Executor executor;
+    private final Path directory;
+    private final Duration watermarkOverlap;
+    private final Clock clock;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile ExportStatusDto lastRun;
+
+    public ClinicalExportService(ClinicalExportWriter writer,
+                                 @Qualifier("exportExecutor") Executor executor,
+                                 @Value("${app.export.directory:exports}") Path directory,
+                                 @Value("${app.export.watermark-overlap:10m}") Duration watermarkOverlap) {
+        this(writer, executor, directory, watermarkOverlap, Clock.systemUTC());
+    }
+
+    ClinicalExportService(ClinicalExportWriter writer, Executor executor, Path directory,
+                          Duration watermarkOverlap, Clock clock) {
+        this.writer = writer;
+        this.executor = executor;
+        this.directory = directory;
+        this.watermarkOverlap = watermarkOverlap;
+        this.clock = clock;
+    }
+
+    /** Starts an export in the background; returns false if one is already running. */
+    public boolean startExport(boolean incremental) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    runExport(incremental);
+                } finally {
+                    running.set(false);
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            running.set(false);
+            return false;
+        }
+    }
+
+    @Scheduled(cron = "${app.export.cron:0 0 2 * * *}")
+    public void scheduledExport() {
+        if (running.compareAndSet(false, true)) {
+            try {
+                runExport(true);
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    public ExportStatusDto getStatus() {
+        ExportStatusDto status = new ExportStatusDto();
+        ExportStatusDto last = lastRun;
+        if (last != null) {
+            status.setIncremental(last.isIncremental());
+            status.setStartedAt(last.getStartedAt());
+            status.setFinishedAt(last.getFinishedAt());
+            status.setRows(last.getRows());
+            status.setError(last.getError());
+        }
+        status.setRunning(running.get());
+        return status;
+    }
+
+    void runExport(boolean incremental) {
+        ExportStatusDto status = new ExportStatusDto();
+        status.setIncremental(incremental);
+        status.setStartedAt(clock.instant());
+        Map<String, Long> rows = new LinkedHashMap<>();
+        status.setRows(rows);
+        try {
+            Files.createDirectories(directory);
+            Properties state = readState();
+            for (ExportTable table : TABLES) {
+                if (incremental && !table.tracksChanges()) {
+                    continue;
+                }
+                Instant startedAt = clock.instant();
+                String watermark = state.getProperty(table.name());
+                Instant since = incremental && watermark != null ? Instant.parse(watermark) : null;
+                String fileName = table.name() + "-" + FILE_TIMESTAMP.format(startedAt) + (since != null ? "-incremental" : "") + ".csv.gz";
+                Path part = directory.resolve(fileName + ".part");
+                try {
+                    rows.put(table.name(), writer.export(table, since, part));
+                } catch (IOException | RuntimeException e) {
+                    Files.deleteIfExists(part);
+                    throw e;
+                }
+                Files.move(part, directory.resolve(fileName), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                state.setProperty(table.name(), startedAt.minus(watermarkOverlap).toString());
+                writeState(state);
+            }
+            logger.info("Exported {} to {}", rows, directory.toAbsolutePath());
+        } catch (IOException | RuntimeException e) {
+            status.setError(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            logger.error("Export failed after {}", rows, e);
+        } finally {
+            status.setFinishedAt(clock.instant());
+            lastRun = status;
+        }
+    }
+
+    private Properties readState() throws IOException {
+        Properties state = new Properties();
+        Path file = directory.resolve(STATE_FILE);
+        if (Files.exists(file)) {
+            try (Reader in = Files.newBufferedReader(file)) {
+                state.load(in);
+            }
+        }
+        return state;
+    }
+
+    private void writeState(Properties state) throws IOException {
+        Path temp = directory.resolve(STATE_FILE + ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp)) {
+            state.store(out, "Start of the last successful export per table, minus the overlap");
+        }
+        Files.move(temp, directory.resolve(STATE_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
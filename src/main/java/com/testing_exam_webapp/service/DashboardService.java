@@ -0,0 +1,128 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.CacheConfig;
+import com.testing_exam_webapp.dto.DashboardDto;
+import com.testing_exam_webapp.dto.StatusCount;
+import com.testing_exam_webapp.dto.TimeDto;
+import com.testing_exam_webapp.dto.WardUtilizationDto;
+import com.testing_exam_webapp.dto.WeatherDto;
+import com.testing_exam_webapp.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Builds the dashboard document in one round trip. Counts and utilization come from aggregate
+ * queries; weather and time are fetched concurrently and left out if they are slow.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final NurseRepository nurseRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final HospitalRepository hospitalRepository;
+    private final WardRepository wardRepository;
+    private final WeatherService weatherService;
+    private final TimeService timeService;
+    private final Executor executor;
+    private final long externalTimeoutMillis;
+
+    public DashboardService(PatientRepository patientRepository,
+                            DoctorRepository doctorRepository,
+                            NurseRepository nurseRepository,
+                            AppointmentRepository appointmentRepository,
+                            HospitalRepository hospitalRepository,
+                            WardRepository wardRepository,
+                            WeatherService weatherService,
+                            TimeService timeService,
+                            @Qualifier("dashboardExecutor") Executor executor,
+                            @Value("${app.dashboard.external-timeout-ms:2000}") long externalTimeoutMillis) {
+        this.patientRepository = patientRepository;
+        this.doctorRepository = doctorRepository;
+        this.nurseRepository = nurseRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.hospitalRepository = hospitalRepository;
+        this.wardRepository = wardRepository;
+        this.weatherService = weatherService;
+        this.timeService = timeService;
+        this.executor = executor;
+        this.externalTimeoutMillis = externalTimeoutMillis;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD,
+            key = "T(com.testing_exam_webapp.service.WeatherService).cacheKey(#city) + '|' + #timezone")
+    public DashboardDto getDashboard(String city, String timezone) {
+        LocalDate today = LocalDate.now();
+
+        CompletableFuture<Long> patients = async(patientRepository::count);
+        CompletableFuture<Long> doctors = async(doctorRepository::count);
+        CompletableFuture<Long> nurses = async(nurseRepository::count);
+        CompletableFuture<Long> appointments = async(appointmentRepository::count);
+        CompletableFuture<Long> hospitals = async(hospitalRepository::count);
+        CompletableFuture<Long> wards = async(wardRepository::count);
+        CompletableFuture<List<StatusCount>> todayByStatus = async(() -> appointmentRepository.countByStatusOnDate(today));
+        CompletableFuture<List<WardUtilizationDto>> utilization = async(wardRepository::findWardUtilization);
+        CompletableFuture<WeatherDto> weather = external(() -> weatherService.getWeatherByCity(city), "weather");
+        CompletableFuture<TimeDto> time = external(() -> timeService.getCurrentTime(timezone), "time");
+
+        try {
+            CompletableFuture.allOf(patients, doctors, nurses, appointments, hospitals, wards,
+                    todayByStatus, utilization, weather, time).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+        }
+
+        DashboardDto dashboard = new DashboardDto();
+        dashboard.setPatients(patients.join());
+        dashboard.setDoctors(doctors.join());
+        dashboard.setNurses(nurses.join());
+        dashboard.setAppointments(appointments.join());
+        dashboard.setHospitals(hospitals.join());
+        dashboard.setWards(wards.join());
+        dashboard.setToday(today);
+
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long total = 0;
+        for (StatusCount statusCount : todayByStatus.join()) {
+            byStatus.put(statusCount.getStatus().name(), statusCount.getCount());
+            total += statusCount.getCount();
+        }
+        dashboard.setAppointmentsToday(total);
+        dashboard.setAppointmentsTodayByStatus(byStatus);
+        dashboard.setWardUtilization(utilization.join());
+        dashboard.setWeather(weather.join());
+        dashboard.setTime(time.join());
+        return dashboard;
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    // External widgets are optional, a slow or failing API must not hold up the counts
+    private <T> CompletableFuture<T> external(Supplier<T> call, String name) {
+        return CompletableFuture.supplyAsync(call, executor)
+                .completeOnTimeout(null, externalTimeoutMillis, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    logger.debug("Dashboard {} lookup failed: {}", name, e.getMessage());
+                    return null;
+                });
+    }
+}
@@ -7,6 +7,7 @@ import com.testing_exam_webapp.model.mysql.Doctor;
 import com.testing_exam_webapp.repository.DiagnosisRepository;
 import com.testing_exam_webapp.repository.DoctorRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -23,16 +24,19 @@ public class DiagnosisService {
         this.doctorRepository = doctorRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<Diagnosis> getDiagnoses() {
         return diagnosisRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Diagnosis getDiagnosisById(UUID id) {
         UUID diagnosisId = Objects.requireNonNull(id, "Diagnosis ID cannot be null");
         return diagnosisRepository.findById(diagnosisId)
                 .orElseThrow(() -> new EntityNotFoundException("Diagnosis not found"));
     }
 
+    @Transactional
     public Diagnosis createDiagnosis(DiagnosisRequest request) {
         Diagnosis diagnosis = new Diagnosis();
         diagnosis.setDiagnosisId(UUID.randomUUID());
@@ -49,10 +53,12 @@ public class DiagnosisService {
         return diagnosisRepository.save(diagnosis);
     }
 
-    public Diagnosis updateDiagnosis(UUID id, DiagnosisRequest request) {
+    @Transactional
+    public Diagnosis updateDiagnosis(UUID id, DiagnosisRequest request, Long expectedVersion) {
         UUID diagnosisId = Objects.requireNonNull(id, "Diagnosis ID cannot be null");
         Diagnosis diagnosis = diagnosisRepository.findById(diagnosisId)
                 .orElseThrow(() -> new EntityNotFoundException("Diagnosis not found"));
+        EntityVersions.check("Diagnosis", expectedVersion, diagnosis.getVersion());
 
         diagnosis.setDiagnosisDate(request.getDiagnosisDate());
         diagnosis.setDescription(request.getDescription());
@@ -67,6 +73,7 @@ public class DiagnosisService {
         return diagnosisRepository.save(diagnosis);
     }
 
+    @Transactional
     public void deleteDiagnosis(UUID id) {
         UUID diagnosisId = Objects.requireNonNull(id, "Diagnosis ID cannot be null");
         if (!diagnosisRepository.existsById(diagnosisId)) {
@@ -1,8 +1,8 @@
 package com.testing_exam_webapp.service;
 
+import com.testing_exam_webapp.dto.NameSearchResult;
 import com.testing_exam_webapp.dto.DoctorRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
-import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.Doctor;
 import com.testing_exam_webapp.model.mysql.Hospital;
 import com.testing_exam_webapp.model.mysql.Ward;
@@ -11,6 +11,7 @@ import com.testing_exam_webapp.repository.DoctorRepository;
 import com.testing_exam_webapp.repository.HospitalRepository;
 import com.testing_exam_webapp.repository.WardRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -21,24 +22,29 @@ public class DoctorService {
     private final DoctorRepository doctorRepository;
     private final WardRepository wardRepository;
     private final HospitalRepository hospitalRepository;
+    private final NameSearchService nameSearchService;
 
     public DoctorService(DoctorRepository doctorRepository, WardRepository wardRepository,
-                         HospitalRepository hospitalRepository) {
+                         HospitalRepository hospitalRepository, NameSearchService nameSearchService) {
         this.doctorRepository = doctorRepository;
         this.wardRepository = wardRepository;
         this.hospitalRepository = hospitalRepository;
+        this.nameSearchService = nameSearchService;
     }
 
+    @Transactional(readOnly = true)
     public List<Doctor> getDoctors() {
         return doctorRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Doctor getDoctorById(UUID id) {
         UUID doctorId = Objects.requireNonNull(id, "Doctor ID cannot be null");
         return doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
     }
 
+    @Transactional
     public Doctor createDoctor(DoctorRequest request) {
         Doctor doctor = new Doctor();
         doctor.setDoctorId(UUID.randomUUID());
@@ -52,41 +58,32 @@ public class DoctorService {
         Hospital hospital = null;
         
         if (wardId != null) {
-            ward = wardRepository.findById(wardId)
-                    .orElseThrow(() -> new EntityNotFoundException("Ward not found"));
+            ward = WardLookups.findWard(wardRepository, wardId);
         }
         
         if (hospitalId != null) {
-            hospital = hospitalRepository.findById(hospitalId)
-                    .orElseThrow(() -> new EntityNotFoundException("Hospital not found"));
+            hospital = WardLookups.findHospital(hospitalRepository, hospitalId);
         }
         
         // Validate that ward belongs to hospital if both are provided
         if (ward != null && hospital != null) {
-            final UUID hospitalIdToCheck = hospital.getHospitalId();
-            final String hospitalName = hospital.getHospitalName();
-            boolean wardBelongsToHospital = ward.getHospitals() != null && 
-                    ward.getHospitals().stream()
-                            .anyMatch(h -> h.getHospitalId().equals(hospitalIdToCheck));
-            
-            if (!wardBelongsToHospital) {
-                throw new ValidationException(
-                    "The selected ward does not belong to the selected hospital. " +
-                    "Please select a ward that exists in " + hospitalName + "."
-                );
-            }
+            WardLookups.requireWardInHospital(wardRepository, ward, hospital);
         }
         
         doctor.setWard(ward);
         doctor.setHospital(hospital);
 
-        return doctorRepository.save(doctor);
+        Doctor saved = doctorRepository.save(doctor);
+        nameSearchService.indexDoctor(saved);
+        return saved;
     }
 
-    public Doctor updateDoctor(UUID id, DoctorRequest request) {
+    @Transactional
+    public Doctor updateDoctor(UUID id, DoctorRequest request, Long expectedVersion) {
         UUID doctorId = Objects.requireNonNull(id, "Doctor ID cannot be null");
         Doctor doctor = doctorRepository.findById(doctorId)
                 .orElseThrow(() -> new EntityNotFoundException("Doctor not found"));
+        EntityVersions.check("Doctor", expectedVersion, doctor.getVersion());
 
         doctor.setDoctorName(request.getDoctorName());
         doctor.setSpeciality(request.getSpeciality());
@@ -98,59 +95,56 @@ public class DoctorService {
         Hospital hospital = null;
         
         if (wardId != null) {
-            ward = wardRepository.findById(wardId)
-                    .orElseThrow(() -> new EntityNotFoundException("Ward not found"));
+            ward = WardLookups.findWard(wardRepository, wardId);
         }
         
         if (hospitalId != null) {
-            hospital = hospitalRepository.findById(hospitalId)
-                    .orElseThrow(() -> new EntityNotFoundException("Hospital not found"));
+            hospital = WardLookups.findHospital(hospitalRepository, hospitalId);
         }
         
         // Validate that ward belongs to hospital if both are provided
         if (ward != null && hospital != null) {
-            final UUID hospitalIdToCheck = hospital.getHospitalId();
-            final String hospitalName = hospital.getHospitalName();
-            boolean wardBelongsToHospital = ward.getHospitals() != null && 
-                    ward.getHospitals().stream()
-                            .anyMatch(h -> h.getHospitalId().equals(hospitalIdToCheck));
-            
-            if (!wardBelongsToHospital) {
-                throw new ValidationException(
-                    "The selected ward does not belong to the selected hospital. " +
-                    "Please select a ward that exists in " + hospitalName + "."
-                );
-            }
+            WardLookups.requireWardInHospital(wardRepository, ward, hospital);
         }
         
         doctor.setWard(ward);
         doctor.setHospital(hospital);
 
-        return doctorRepository.save(doctor);
+        Doctor saved = doctorRepository.save(doctor);
+        nameSearchService.indexDoctor(saved);
+        return saved;
     }
 
+    @Transactional
     public void deleteDoctor(UUID id) {
         UUID doctorId = Objects.requireNonNull(id, "Doctor ID cannot be null");
         if (!doctorRepository.existsById(doctorId)) {
             throw new EntityNotFoundException("Doctor not found");
         }
         doctorRepository.deleteById(doctorId);
+        nameSearchService.removeDoctor(doctorId);
     }
 
     // Query methods
+    @Transactional(readOnly = true)
     public List<Doctor> getDoctorsByWardId(UUID wardId) {
         Objects.requireNonNull(wardId, "Ward ID cannot be null");
         return doctorRepository.findByWardId(wardId);
     }
 
+    @Transactional(readOnly = true)
     public List<Doctor> getDoctorsBySpeciality(DoctorSpecialityType speciality) {
         Objects.requireNonNull(speciality, "Speciality cannot be null");
         return doctorRepository.findBySpeciality(speciality);
     }
 
+    @Transactional(readOnly = true)
     public List<Doctor> getDoctorsByHospitalId(UUID hospitalId) {
         Objects.requireNonNull(hospitalId, "Hospital ID cannot be null");
         return doctorRepository.findByHospitalId(hospitalId);
     }
-}
 
+    public List<NameSearchResult> searchDoctorsByName(String query, int page, int size) {
+        return nameSearchService.searchDoctors(query, page, size);
+    }
+}
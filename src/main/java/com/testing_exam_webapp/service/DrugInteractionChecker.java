@@ -0,0 +1,214 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.DrugInteraction;
+import com.testing_exam_webapp.model.types.InteractionSeverityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Checks medications against a table of known drug-drug interactions.
+ * <p>
+ * The rules file is compiled into an immutable table: every medication name gets a dense ordinal and
+ * each unordered pair maps to one byte of a triangular severity matrix, so checking a new prescription
+ * against a patient's current medications is a hash lookup per name plus one array read per pair.
+ * The file is polled for changes and a new table is swapped in atomically; a broken edit keeps the
+ * previous table in service.
+ */
+@Component
+public class DrugInteractionChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(DrugInteractionChecker.class);
+
+    private final Resource rules;
+    private final InteractionSeverityType blockingSeverity;
+    private volatile InteractionTable table;
+    private volatile long loadedModified = Long.MIN_VALUE;
+
+    public DrugInteractionChecker(ResourceLoader resourceLoader,
+                                  @Value("${app.prescriptions.interactions.rules-location:classpath:drug-interactions.csv}") String rulesLocation,
+                                  @Value("${app.prescriptions.interactions.blocking-severity:MAJOR}") InteractionSeverityType blockingSeverity) {
+        this(resourceLoader.getResource(rulesLocation), blockingSeverity);
+    }
+
+    DrugInteractionChecker(Resource rules, InteractionSeverityType blockingSeverity) {
+        this.rules = rules;
+        this.blockingSeverity = blockingSeverity;
+        // Refuse to start on a missing or malformed rules file rather than silently check nothing
+        if (!rules.exists()) {
+            throw new IllegalStateException("Drug-interaction rules not found at " + rules.getDescription());
+        }
+        table = load(rules);
+        loadedModified = lastModified(rules);
+    }
+
+    /** Interactions between {@code medicationName} and any of the medications the patient is already on. */
+    public List<DrugInteraction> check(String medicationName, Collection<String> currentMedicationNames) {
+        InteractionTable current = table;
+        int candidate = current.ordinal(medicationName);
+        if (candidate < 0 || currentMedicationNames.isEmpty()) {
+            return List.of();
+        }
+        List<DrugInteraction> found = new ArrayList<>();
+        for (String other : currentMedicationNames) {
+            int ordinal = current.ordinal(other);
+            if (ordinal >= 0 && ordinal != candidate) {
+                current.collect(candidate, ordinal, found);
+            }
+        }
+        return found;
+    }
+
+    /** Whether the interaction is severe enough to refuse the prescription. */
+    public boolean isBlocking(DrugInteraction interaction) {
+        return interaction.getSeverity().compareTo(blockingSeverity) >= 0;
+    }
+
+    /** Swaps in a new table when the rules file has been modified since the last load. */
+    @Scheduled(fixedDelayString = "${app.prescriptions.interactions.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        if (!rules.exists()) {
+            return;
+        }
+        long modified = lastModified(rules);
+        if (modified == loadedModified) {
+            return;
+        }
+        try {
+            InteractionTable reloaded = load(rules);
+            table = reloaded;
+            logger.info("Reloaded {} drug-interaction rules over {} medications", reloaded.ruleCount, reloaded.names.length);
+        } catch (IllegalStateException e) {
+            logger.error("Keeping previous drug-interaction rules: {}", e.getMessage());
+        }
+        loadedModified = modified;
+    }
+
+    int medicationCount() {
+        return table.names.length;
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Parses {@code medication,medication,SEVERITY[,description]} lines. Blank lines and lines starting
+     * with {@code #} are skipped; a repeated pair keeps its most severe rule.
+     */
+    static InteractionTable load(Resource resource) {
+        Map<String, Integer> ordinals = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        List<int[]> pairs = new ArrayList<>();
+        List<InteractionSeverityType> severities = new ArrayList<>();
+        List<String> descriptions = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                String trimmed = line.strip();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = trimmed.split(",", 4);
+                if (fields.length < 3 || fields[0].isBlank() || fields[1].isBlank()) {
+                    throw new IllegalStateException("Invalid interaction rule on line " + lineNumber + ": " + trimmed);
+                }
+                InteractionSeverityType severity;
+                try {
+                    severity = InteractionSeverityType.valueOf(fields[2].strip().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalStateException("Unknown severity on line " + lineNumber + ": " + fields[2].strip());
+                }
+                int a = ordinals.computeIfAbsent(normalize(fields[0]), k -> { names.add(fields[0].strip()); return names.size() - 1; });
+                int b = ordinals.computeIfAbsent(normalize(fields[1]), k -> { names.add(fields[1].strip()); return names.size() - 1; });
+                if (a == b) {
+                    throw new IllegalStateException("Medication interacts with itself on line " + lineNumber);
+                }
+                pairs.add(new int[]{a, b});
+                severities.add(severity);
+                descriptions.add(fields.length == 4 ? fields[3].strip() : null);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read drug-interaction rules: " + e.getMessage(), e);
+        }
+        return new InteractionTable(ordinals, names.toArray(String[]::new), pairs, severities, descriptions);
+    }
+
+    private static String normalize(String medicationName) {
+        return medicationName.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /** Immutable compiled rules: name to ordinal, and a lower-triangular byte matrix of severities. */
+    static final class InteractionTable {
+
+        private static final InteractionSeverityType[] SEVERITIES = InteractionSeverityType.values();
+
+        private final Map<String, Integer> ordinals;
+        private final String[] names;
+        // 0 = no interaction, otherwise severity ordinal + 1
+        private final byte[] matrix;
+        private final Map<Integer, String> descriptions = new HashMap<>();
+        private final int ruleCount;
+
+        InteractionTable(Map<String, Integer> ordinals, String[] names, List<int[]> pairs,
+                         List<InteractionSeverityType> severities, List<String> descriptions) {
+            this.ordinals = Map.copyOf(ordinals);
+            this.names = names;
+            this.matrix = new byte[cell(names.length, 0)];
+            for (int i = 0; i < pairs.size(); i++) {
+                int cell = cell(pairs.get(i)[0], pairs.get(i)[1]);
+                byte severity = (byte) (severities.get(i).ordinal() + 1);
+                if (severity > matrix[cell]) {
+                    matrix[cell] = severity;
+                    this.descriptions.put(cell, descriptions.get(i));
+                }
+            }
+            this.ruleCount = pairs.size();
+        }
+
+        int ordinal(String medicationName) {
+            if (medicationName == null) {
+                return -1;
+            }
+            Integer ordinal = ordinals.get(normalize(medicationName));
+            return ordinal == null ? -1 : ordinal;
+        }
+
+        void collect(int candidate, int other, List<DrugInteraction> found) {
+            int cell = cell(candidate, other);
+            byte severity = matrix[cell];
+            if (severity != 0) {
+                found.add(new DrugInteraction(names[candidate], names[other], SEVERITIES[severity - 1], descriptions.get(cell)));
+            }
+        }
+
+        /** Index of the unordered pair (a, b) in the lower triangle, which needs n(n-1)/2 cells. */
+        private static int cell(int a, int b) {
+            int high = Math.max(a, b);
+            int low = Math.min(a, b);
+            return high * (high - 1) / 2 + low;
+        }
+    }
+}
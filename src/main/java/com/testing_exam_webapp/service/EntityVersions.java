@@ -0,0 +1,22 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.exception.PreconditionFailedException;
+
+/**
+ * Version check for conditional updates. The caller's expected version comes from an If-Match header;
+ * the {@code @Version} column then guards the write itself, so a change committed between this check
+ * and the flush still fails with an optimistic locking error instead of being overwritten.
+ */
+final class EntityVersions {
+
+    private EntityVersions() {
+    }
+
+    /** Throws if {@code expectedVersion} is set and differs from the stored version. */
+    static void check(String entityName, Long expectedVersion, Long currentVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new PreconditionFailedException(entityName + " has been modified since version " + expectedVersion
+                    + " (current version " + currentVersion + ")");
+        }
+    }
+}
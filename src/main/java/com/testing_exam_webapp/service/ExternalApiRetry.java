@@ -0,0 +1,28 @@
+package com.testing_exam_webapp.service;
+
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.util.retry.Retry;
+import reactor.util.retry.RetryBackoffSpec;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+/** Retry policy of the reactive external-API services. */
+final class ExternalApiRetry {
+
+    private ExternalApiRetry() {
+    }
+
+    static RetryBackoffSpec transientFailures(int maxRetries, Duration backoff) {
+        return Retry.backoff(maxRetries, backoff).filter(ExternalApiRetry::isTransient);
+    }
+
+    /** Connection failures, timeouts, 429 and 5xx; any other 4xx answer would only be repeated. */
+    static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+}
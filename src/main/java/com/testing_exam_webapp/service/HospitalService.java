@@ -1,12 +1,18 @@
 package com.testing_exam_webapp.service;
 
+import com.testing_exam_webapp.config.cache.CacheConfig;
 import com.testing_exam_webapp.dto.HospitalRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
 import com.testing_exam_webapp.model.mysql.Hospital;
 import com.testing_exam_webapp.model.mysql.Ward;
 import com.testing_exam_webapp.repository.HospitalRepository;
 import com.testing_exam_webapp.repository.WardRepository;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
@@ -20,16 +26,24 @@ public class HospitalService {
         this.wardRepository = wardRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<Hospital> getHospitals() {
         return hospitalRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.HOSPITALS, key = "#id")
     public Hospital getHospitalById(UUID id) {
         UUID hospitalId = Objects.requireNonNull(id, "Hospital ID cannot be null");
-        return hospitalRepository.findById(hospitalId)
+        Hospital hospital = hospitalRepository.findById(hospitalId)
                 .orElseThrow(() -> new EntityNotFoundException("Hospital not found"));
+        // Cached instances outlive the session, load the wards while it is open
+        Hibernate.initialize(hospital.getWards());
+        return hospital;
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.WARDS, allEntries = true)
     public Hospital createHospital(HospitalRequest request) {
         Hospital hospital = new Hospital();
         hospital.setHospitalId(UUID.randomUUID());
@@ -51,10 +65,16 @@ public class HospitalService {
         return hospitalRepository.save(hospital);
     }
 
-    public Hospital updateHospital(UUID id, HospitalRequest request) {
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.HOSPITALS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.WARDS, allEntries = true)
+    })
+    public Hospital updateHospital(UUID id, HospitalRequest request, Long expectedVersion) {
         UUID hospitalId = Objects.requireNonNull(id, "Hospital ID cannot be null");
         Hospital hospital = hospitalRepository.findById(hospitalId)
                 .orElseThrow(() -> new EntityNotFoundException("Hospital not found"));
+        EntityVersions.check("Hospital", expectedVersion, hospital.getVersion());
 
         hospital.setHospitalName(request.getHospitalName());
         hospital.setAddress(request.getAddress());
@@ -74,6 +94,11 @@ public class HospitalService {
         return hospitalRepository.save(hospital);
     }
 
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.HOSPITALS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.WARDS, allEntries = true)
+    })
     public void deleteHospital(UUID id) {
         UUID hospitalId = Objects.requireNonNull(id, "Hospital ID cannot be null");
         if (!hospitalRepository.existsById(hospitalId)) {
@@ -83,6 +108,7 @@ public class HospitalService {
     }
 
     // Query methods
+    @Transactional(readOnly = true)
     public List<Hospital> getHospitalsByCity(String city) {
         Objects.requireNonNull(city, "City cannot be null");
         return hospitalRepository.findByCity(city);
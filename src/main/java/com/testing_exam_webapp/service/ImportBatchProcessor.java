@@ -0,0 +1,186 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.AppointmentRequest;
+import com.testing_exam_webapp.dto.PatientRequest;
+import com.testing_exam_webapp.model.mysql.Appointment;
+import com.testing_exam_webapp.model.mysql.Doctor;
+import com.testing_exam_webapp.model.mysql.Hospital;
+import com.testing_exam_webapp.model.mysql.Nurse;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Ward;
+import com.testing_exam_webapp.repository.DoctorRepository;
+import com.testing_exam_webapp.repository.HospitalRepository;
+import com.testing_exam_webapp.repository.NurseRepository;
+import com.testing_exam_webapp.repository.PatientRepository;
+import com.testing_exam_webapp.repository.WardRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Batch-level resolve and insert steps of {@link BulkImportService}.
+ * <p>
+ * References are resolved with one {@code findAllById} per referenced table per batch instead of one
+ * lookup per row, and rows are inserted with {@code persist} rather than {@code save}: with assigned
+ * UUIDs {@code save} would merge, costing a select per row. Hibernate groups the inserts into JDBC
+ * batches; the persistence context is cleared after each batch so memory stays flat. Ward-hospital
+ * membership is checked per distinct pair and memoized for the whole import.
+ */
+@Lazy
+@Component
+public class ImportBatchProcessor {
+
+    private final PatientRepository patientRepository;
+    private final WardRepository wardRepository;
+    private final HospitalRepository hospitalRepository;
+    private final DoctorRepository doctorRepository;
+    private final NurseRepository nurseRepository;
+    private final WardAdmissionService wardAdmissionService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ImportBatchProcessor(PatientRepository patientRepository,
+                                WardRepository wardRepository,
+                                HospitalRepository hospitalRepository,
+                                DoctorRepository doctorRepository,
+                                NurseRepository nurseRepository,
+                                WardAdmissionService wardAdmissionService) {
+        this.patientRepository = patientRepository;
+        this.wardRepository = wardRepository;
+        this.hospitalRepository = hospitalRepository;
+        this.doctorRepository = doctorRepository;
+        this.nurseRepository = nurseRepository;
+        this.wardAdmissionService = wardAdmissionService;
+    }
+
+    /** Builds patients for a batch of validated requests; rows whose references do not resolve are reported. */
+    @Transactional(readOnly = true)
+    public List<BulkImportService.Staged<Patient>> resolvePatients(List<BulkImportService.Staged<PatientRequest>> batch,
+                                                                    BulkImportService.ImportProgress progress) {
+        Map<UUID, Ward> wards = index(wardRepository.findAllById(ids(batch, PatientRequest::getWardId)), Ward::getWardId);
+        Map<UUID, Hospital> hospitals = index(hospitalRepository.findAllById(ids(batch, PatientRequest::getHospitalId)), Hospital::getHospitalId);
+        List<BulkImportService.Staged<Patient>> resolved = new ArrayList<>(batch.size());
+        for (BulkImportService.Staged<PatientRequest> row : batch) {
+            PatientRequest request = row.value();
+            Ward ward = request.getWardId() != null ? wards.get(request.getWardId()) : null;
+            Hospital hospital = request.getHospitalId() != null ? hospitals.get(request.getHospitalId()) : null;
+            if (request.getWardId() != null && ward == null) {
+                progress.fail(row.line(), "Ward not found");
+            } else if (request.getHospitalId() != null && hospital == null) {
+                progress.fail(row.line(), "Hospital not found");
+            } else if (ward != null && hospital != null && !WardLookups.belongsTo(wardRepository, ward, hospital)) {
+                progress.fail(row.line(), "The selected ward does not belong to the selected hospital");
+            } else {
+                Patient patient = new Patient();
+                patient.setPatientId(UUID.randomUUID());
+                patient.setPatientName(request.getPatientName());
+                patient.setDateOfBirth(request.getDateOfBirth());
+                patient.setGender(request.getGender());
+                patient.setWard(ward);
+                patient.setHospital(hospital);
+                resolved.add(new BulkImportService.Staged<>(row.line(), patient));
+            }
+        }
+        return resolved;
+    }
+
+    @Transactional(readOnly = true)
+    public List<BulkImportService.Staged<Appointment>> resolveAppointments(List<BulkImportService.Staged<AppointmentRequest>> batch,
+                                                                            BulkImportService.ImportProgress progress) {
+        Map<UUID, Patient> patients = index(patientRepository.findAllById(ids(batch, AppointmentRequest::getPatientId)), Patient::getPatientId);
+        Map<UUID, Doctor> doctors = index(doctorRepository.findAllById(ids(batch, AppointmentRequest::getDoctorId)), Doctor::getDoctorId);
+        Map<UUID, Nurse> nurses = index(nurseRepository.findAllById(ids(batch, AppointmentRequest::getNurseId)), Nurse::getNurseId);
+        List<BulkImportService.Staged<Appointment>> resolved = new ArrayList<>(batch.size());
+        for (BulkImportService.Staged<AppointmentRequest> row : batch) {
+            AppointmentRequest request = row.value();
+            if (request.getPatientId() != null && !patients.containsKey(request.getPatientId())) {
+                progress.fail(row.line(), "Patient not found");
+            } else if (request.getDoctorId() != null && !doctors.containsKey(request.getDoctorId())) {
+                progress.fail(row.line(), "Doctor not found");
+            } else if (request.getNurseId() != null && !nurses.containsKey(request.getNurseId())) {
+                progress.fail(row.line(), "Nurse not found");
+            } else {
+                Appointment appointment = new Appointment();
+                appointment.setAppointmentId(UUID.randomUUID());
+                appointment.setAppointmentDate(request.getAppointmentDate());
+                appointment.setReason(request.getReason());
+                appointment.setStatus(request.getStatus());
+                appointment.setPatient(lookup(patients, request.getPatientId()));
+                appointment.setDoctor(lookup(doctors, request.getDoctorId()));
+                appointment.setNurse(lookup(nurses, request.getNurseId()));
+                resolved.add(new BulkImportService.Staged<>(row.line(), appointment));
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Inserts one batch of patients in its own transaction. Beds are taken per ward for all of the
+     * batch's patients on that ward at once; if the ward cannot take them all, those rows are reported
+     * and the rest of the batch is still inserted.
+     */
+    @Transactional
+    public List<Patient> insertPatients(List<BulkImportService.Staged<Patient>> batch, BulkImportService.ImportProgress progress) {
+        Map<UUID, List<BulkImportService.Staged<Patient>>> byWard = new LinkedHashMap<>();
+        List<Patient> admitted = new ArrayList<>(batch.size());
+        for (BulkImportService.Staged<Patient> row : batch) {
+            Ward ward = row.value().getWard();
+            if (ward == null) {
+                admitted.add(row.value());
+            } else {
+                byWard.computeIfAbsent(ward.getWardId(), id -> new ArrayList<>()).add(row);
+            }
+        }
+        List<BulkImportService.Staged<Patient>> refused = new ArrayList<>();
+        for (List<BulkImportService.Staged<Patient>> rows : byWard.values()) {
+            if (wardAdmissionService.admit(rows.get(0).value().getWard(), rows.size())) {
+                rows.forEach(row -> admitted.add(row.value()));
+            } else {
+                refused.addAll(rows);
+            }
+        }
+        persistAll(admitted);
+        // Reported only once the batch is flushed; if it fails, every row is reported as an insert failure
+        refused.forEach(row -> progress.fail(row.line(), "Ward does not have a free bed for this patient"));
+        return admitted;
+    }
+
+    /** Inserts one batch of appointments in its own transaction. */
+    @Transactional
+    public List<Appointment> insertAppointments(List<BulkImportService.Staged<Appointment>> batch, BulkImportService.ImportProgress progress) {
+        List<Appointment> appointments = batch.stream().map(BulkImportService.Staged::value).toList();
+        persistAll(appointments);
+        return appointments;
+    }
+
+    private void persistAll(Collection<?> entities) {
+        entities.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static <R> Collection<UUID> ids(List<BulkImportService.Staged<R>> batch, Function<R, UUID> id) {
+        return batch.stream().map(row -> id.apply(row.value())).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<UUID, T> index(List<T> entities, Function<T, UUID> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
+    private static <T> T lookup(Map<UUID, T> entities, UUID id) {
+        return id == null ? null : entities.get(id);
+    }
+}
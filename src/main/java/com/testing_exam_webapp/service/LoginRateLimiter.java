@@ -0,0 +1,114 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Counts failed logins per username and per client IP over a sliding window and rejects further
+ * attempts once a limit is reached, before any password hash is computed.
+ * <p>
+ * Each key holds an immutable two-bucket window swapped in with CAS, so concurrent logins never block
+ * each other. The sliding count is the current bucket plus the part of the previous bucket that still
+ * overlaps the window.
+ */
+@Component
+public class LoginRateLimiter {
+
+    /** Above this many tracked keys, idle windows are swept on the next failure. */
+    static final int SWEEP_THRESHOLD = 10_000;
+
+    private final int maxFailuresPerUsername;
+    private final int maxFailuresPerIp;
+    private final long windowNanos;
+    private final ConcurrentHashMap<String, AtomicReference<Window>> windows = new ConcurrentHashMap<>();
+
+    public LoginRateLimiter(@Value("${security.login.max-failures-per-username:5}") int maxFailuresPerUsername,
+                            @Value("${security.login.max-failures-per-ip:20}") int maxFailuresPerIp,
+                            @Value("${security.login.window:5m}") Duration window) {
+        this.maxFailuresPerUsername = maxFailuresPerUsername;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Throws {@link TooManyRequestsException} if the username or the client IP has used up its failures.
+     * A null IP (no request context) only checks the username.
+     */
+    public void checkAllowed(String username, String clientIp) {
+        long now = System.nanoTime();
+        if (count(userKey(username), now) >= maxFailuresPerUsername
+                || (clientIp != null && count(ipKey(clientIp), now) >= maxFailuresPerIp)) {
+            throw new TooManyRequestsException("Too many failed login attempts, try again later");
+        }
+    }
+
+    public void recordFailure(String username, String clientIp) {
+        long now = System.nanoTime();
+        increment(userKey(username), now);
+        if (clientIp != null) {
+            increment(ipKey(clientIp), now);
+        }
+        if (windows.size() > SWEEP_THRESHOLD) {
+            sweep(now);
+        }
+    }
+
+    /** A successful login clears the username's failures; the IP keeps its count. */
+    public void recordSuccess(String username) {
+        windows.remove(userKey(username));
+    }
+
+    private double count(String key, long now) {
+        AtomicReference<Window> ref = windows.get(key);
+        return ref == null ? 0 : ref.get().advance(now, windowNanos).estimate(now, windowNanos);
+    }
+
+    private void increment(String key, long now) {
+        AtomicReference<Window> ref = windows.computeIfAbsent(key, k -> new AtomicReference<>(new Window(now, 0, 0)));
+        Window current;
+        Window next;
+        do {
+            current = ref.get();
+            Window advanced = current.advance(now, windowNanos);
+            next = new Window(advanced.start(), advanced.previous(), advanced.current() + 1);
+        } while (!ref.compareAndSet(current, next));
+    }
+
+    private void sweep(long now) {
+        windows.entrySet().removeIf(e -> now - e.getValue().get().start() >= 2 * windowNanos);
+    }
+
+    private static String userKey(String username) {
+        return "u:" + (username == null ? "" : username.toLowerCase(Locale.ROOT));
+    }
+
+    private static String ipKey(String clientIp) {
+        return "ip:" + clientIp;
+    }
+
+    private record Window(long start, int previous, int current) {
+
+        /** Rolls the buckets forward so that {@code now} falls inside the current one. */
+        Window advance(long now, long windowNanos) {
+            long elapsed = now - start;
+            if (elapsed < windowNanos) {
+                return this;
+            }
+            if (elapsed < 2 * windowNanos) {
+                return new Window(start + windowNanos, current, 0);
+            }
+            return new Window(now, 0, 0);
+        }
+
+        double estimate(long now, long windowNanos) {
+            double overlap = 1.0 - (double) (now - start) / windowNanos;
+            return current + previous * Math.max(0.0, overlap);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.testing_exam_webapp.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes reference-data answers for the length of one import, so asking whether a ward belongs to a
+ * hospital again in a later batch does not go back to the database.
+ * <p>
+ * A scope is bound to the thread that opened it and closed with try-with-resources; opening one inside
+ * an open scope joins the outer scope. Without an open scope {@link #memoize} just calls the loader.
+ * Values are never invalidated and outlive the transactions that loaded them, so memoize ids and plain
+ * values only, never entities, and only for work that reads what it memoizes.
+ */
+public final class LookupScope implements AutoCloseable {
+
+    private static final ThreadLocal<LookupScope> CURRENT = new ThreadLocal<>();
+    private static final LookupScope JOINED = new LookupScope();
+
+    private final Map<Object, Object> values = new HashMap<>();
+
+    private LookupScope() {
+    }
+
+    public static LookupScope open() {
+        if (CURRENT.get() != null) {
+            return JOINED;
+        }
+        LookupScope scope = new LookupScope();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /** The value memoized under {@code key} in the current scope, loading it on first use; failures are not memoized. */
+    @SuppressWarnings("unchecked")
+    static <V> V memoize(Object key, Supplier<V> loader) {
+        LookupScope scope = CURRENT.get();
+        if (scope == null) {
+            return loader.get();
+        }
+        // Not computeIfAbsent: a loader may itself memoize, which HashMap does not allow mid-compute
+        if (scope.values.containsKey(key)) {
+            return (V) scope.values.get(key);
+        }
+        V value = loader.get();
+        scope.values.put(key, value);
+        return value;
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+}
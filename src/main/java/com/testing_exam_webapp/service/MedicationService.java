@@ -1,10 +1,14 @@
 package com.testing_exam_webapp.service;
 
+import com.testing_exam_webapp.config.cache.CacheConfig;
 import com.testing_exam_webapp.dto.MedicationRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
 import com.testing_exam_webapp.model.mysql.Medication;
 import com.testing_exam_webapp.repository.MedicationRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -18,16 +22,20 @@ public class MedicationService {
         this.medicationRepository = medicationRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<Medication> getMedications() {
         return medicationRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.MEDICATIONS, key = "#id")
     public Medication getMedicationById(UUID id) {
         UUID medicationId = Objects.requireNonNull(id, "Medication ID cannot be null");
         return medicationRepository.findById(medicationId)
                 .orElseThrow(() -> new EntityNotFoundException("Medication not found"));
     }
 
+    @Transactional
     public Medication createMedication(MedicationRequest request) {
         Medication medication = new Medication();
         medication.setMedicationId(UUID.randomUUID());
@@ -37,10 +45,13 @@ public class MedicationService {
         return medicationRepository.save(medication);
     }
 
-    public Medication updateMedication(UUID id, MedicationRequest request) {
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.MEDICATIONS, key = "#id")
+    public Medication updateMedication(UUID id, MedicationRequest request, Long expectedVersion) {
         UUID medicationId = Objects.requireNonNull(id, "Medication ID cannot be null");
         Medication medication = medicationRepository.findById(medicationId)
                 .orElseThrow(() -> new EntityNotFoundException("Medication not found"));
+        EntityVersions.check("Medication", expectedVersion, medication.getVersion());
 
         medication.setMedicationName(request.getMedicationName());
         medication.setDosage(request.getDosage());
@@ -48,6 +59,8 @@ public class MedicationService {
         return medicationRepository.save(medication);
     }
 
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.MEDICATIONS, key = "#id")
     public void deleteMedication(UUID id) {
         UUID medicationId = Objects.requireNonNull(id, "Medication ID cannot be null");
         if (!medicationRepository.existsById(medicationId)) {
@@ -0,0 +1,190 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.NameSearchResult;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory token prefix index over a single name column.
+ * Names are split into normalized tokens (lowercase, diacritics stripped) and every token
+ * points at the ids carrying it, so a typeahead query is a range scan on a sorted map.
+ */
+final class NameIndex {
+
+    /** Upper bound on candidates ranked per query, keeps one-letter queries cheap at millions of rows. */
+    static final int MAX_CANDIDATES = 5000;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ConcurrentHashMap<UUID, String> names = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<UUID>> tokens = new ConcurrentSkipListMap<>();
+
+    void put(UUID id, String name) {
+        if (id == null) {
+            return;
+        }
+        if (name == null || name.isBlank()) {
+            remove(id);
+            return;
+        }
+        String previous = names.put(id, name);
+        if (previous != null) {
+            unlinkTokens(id, previous);
+        }
+        for (String token : tokenize(name)) {
+            tokens.computeIfAbsent(token, t -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    void remove(UUID id) {
+        if (id == null) {
+            return;
+        }
+        String previous = names.remove(id);
+        if (previous != null) {
+            unlinkTokens(id, previous);
+        }
+    }
+
+    void clear() {
+        names.clear();
+        tokens.clear();
+    }
+
+    int size() {
+        return names.size();
+    }
+
+    List<NameSearchResult> search(String query, int page, int size) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Drive the scan from the longest token, it has the narrowest prefix range
+        String driver = queryTokens.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+        Set<UUID> candidates = collectCandidates(driver);
+
+        String normalizedQuery = String.join(" ", queryTokens);
+        List<ScoredName> scored = new ArrayList<>();
+        for (UUID id : candidates) {
+            String name = names.get(id);
+            if (name == null) {
+                continue;
+            }
+            List<String> nameTokens = tokenize(name);
+            int score = score(queryTokens, normalizedQuery, nameTokens);
+            if (score > 0) {
+                scored.add(new ScoredName(id, name, score));
+            }
+        }
+
+        scored.sort(Comparator.comparingInt(ScoredName::score).reversed()
+                .thenComparingInt(s -> s.name().length())
+                .thenComparing(ScoredName::name, String.CASE_INSENSITIVE_ORDER));
+
+        // In long, so a huge page number gives an empty page instead of overflowing to a valid offset
+        long offset = (long) page * size;
+        if (offset >= scored.size()) {
+            return Collections.emptyList();
+        }
+        int from = (int) offset;
+        int to = Math.min(from + size, scored.size());
+        List<NameSearchResult> results = new ArrayList<>(to - from);
+        for (ScoredName s : scored.subList(from, to)) {
+            results.add(new NameSearchResult(s.id(), s.name()));
+        }
+        return results;
+    }
+
+    private Set<UUID> collectCandidates(String prefix) {
+        Set<UUID> candidates = new LinkedHashSet<>();
+        // Exact token hits come first so they survive the candidate cap
+        Set<UUID> exact = tokens.get(prefix);
+        if (exact != null) {
+            candidates.addAll(exact);
+        }
+        ConcurrentNavigableMap<String, Set<UUID>> range = tokens.subMap(prefix, false, prefix + Character.MAX_VALUE, false);
+        for (Set<UUID> ids : range.values()) {
+            for (UUID id : ids) {
+                candidates.add(id);
+                if (candidates.size() >= MAX_CANDIDATES) {
+                    return candidates;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Every query token must prefix some name token. Exact token matches, matches in the same
+     * position and a name that starts with the whole query weigh more.
+     */
+    private static int score(List<String> queryTokens, String normalizedQuery, List<String> nameTokens) {
+        int score = 0;
+        for (int q = 0; q < queryTokens.size(); q++) {
+            String queryToken = queryTokens.get(q);
+            int best = 0;
+            for (int n = 0; n < nameTokens.size(); n++) {
+                String nameToken = nameTokens.get(n);
+                int tokenScore = 0;
+                if (nameToken.equals(queryToken)) {
+                    tokenScore = 10;
+                } else if (nameToken.startsWith(queryToken)) {
+                    tokenScore = 5;
+                }
+                if (tokenScore > 0 && n == q) {
+                    tokenScore += 2;
+                }
+                best = Math.max(best, tokenScore);
+            }
+            if (best == 0) {
+                return 0;
+            }
+            score += best;
+        }
+        String normalizedName = String.join(" ", nameTokens);
+        if (normalizedName.equals(normalizedQuery)) {
+            score += 50;
+        } else if (normalizedName.startsWith(normalizedQuery)) {
+            score += 20;
+        }
+        return score;
+    }
+
+    private void unlinkTokens(UUID id, String name) {
+        for (String token : tokenize(name)) {
+            tokens.computeIfPresent(token, (t, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return Collections.emptyList();
+        }
+        String folded = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFKD);
+        folded = COMBINING_MARKS.matcher(folded).replaceAll("")
+                .replace("ø", "o")
+                .replace("æ", "ae")
+                .replace("ß", "ss");
+        List<String> result = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(folded)) {
+            if (!token.isEmpty()) {
+                result.add(token);
+            }
+        }
+        return result;
+    }
+
+    private record ScoredName(UUID id, String name, int score) {
+    }
+}
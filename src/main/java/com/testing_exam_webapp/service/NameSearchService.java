@@ -0,0 +1,210 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.CacheInvalidation;
+import com.testing_exam_webapp.config.cache.RemoteCacheStore;
+import com.testing_exam_webapp.dto.NameSearchResult;
+import com.testing_exam_webapp.exception.ValidationException;
+import com.testing_exam_webapp.model.mysql.Doctor;
+import com.testing_exam_webapp.model.mysql.Nurse;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.repository.DoctorRepository;
+import com.testing_exam_webapp.repository.NurseRepository;
+import com.testing_exam_webapp.repository.PatientRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Name search over patients, doctors and nurses.
+ * Each entity type has its own in-memory prefix index, loaded once at startup and
+ * kept in sync by the services that write those entities. Every instance keeps its own
+ * indexes, so committed changes are also broadcast over the {@link RemoteCacheStore}
+ * invalidation channel; the other instances re-read the changed names from the database.
+ */
+@Service
+public class NameSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    // Invalidation channels, one per index; the message key is the list of changed ids
+    static final String PATIENTS = "name-search.patients";
+    static final String DOCTORS = "name-search.doctors";
+    static final String NURSES = "name-search.nurses";
+
+    private static final Logger logger = LoggerFactory.getLogger(NameSearchService.class);
+
+    private final PatientRepository patientRepository;
+    private final DoctorRepository doctorRepository;
+    private final NurseRepository nurseRepository;
+    private final RemoteCacheStore remote;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final NameIndex patientIndex = new NameIndex();
+    private final NameIndex doctorIndex = new NameIndex();
+    private final NameIndex nurseIndex = new NameIndex();
+
+    public NameSearchService(PatientRepository patientRepository,
+                             DoctorRepository doctorRepository,
+                             NurseRepository nurseRepository,
+                             RemoteCacheStore remote) {
+        this.patientRepository = patientRepository;
+        this.doctorRepository = doctorRepository;
+        this.nurseRepository = nurseRepository;
+        this.remote = remote;
+        remote.subscribe(this::onRemoteChange);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        load(patientIndex, patientRepository.streamAllNames());
+        load(doctorIndex, doctorRepository.streamAllNames());
+        load(nurseIndex, nurseRepository.streamAllNames());
+        logger.info("Name search index loaded: {} patients, {} doctors, {} nurses",
+                patientIndex.size(), doctorIndex.size(), nurseIndex.size());
+    }
+
+    // Search methods
+    public List<NameSearchResult> searchPatients(String query, int page, int size) {
+        validatePaging(page, size);
+        return patientIndex.search(query, page, size);
+    }
+
+    public List<NameSearchResult> searchDoctors(String query, int page, int size) {
+        validatePaging(page, size);
+        return doctorIndex.search(query, page, size);
+    }
+
+    public List<NameSearchResult> searchNurses(String query, int page, int size) {
+        validatePaging(page, size);
+        return nurseIndex.search(query, page, size);
+    }
+
+    // Write hooks
+    public void indexPatient(Patient patient) {
+        if (patient != null) {
+            indexPatients(List.of(patient));
+        }
+    }
+
+    public void indexPatients(Collection<Patient> patients) {
+        afterCommit(PATIENTS, patients.stream().map(Patient::getPatientId).toList(),
+                () -> patients.forEach(p -> patientIndex.put(p.getPatientId(), p.getPatientName())));
+    }
+
+    public void removePatient(UUID patientId) {
+        afterCommit(PATIENTS, List.of(patientId), () -> patientIndex.remove(patientId));
+    }
+
+    public void indexDoctor(Doctor doctor) {
+        if (doctor != null) {
+            indexDoctors(List.of(doctor));
+        }
+    }
+
+    public void indexDoctors(Collection<Doctor> doctors) {
+        afterCommit(DOCTORS, doctors.stream().map(Doctor::getDoctorId).toList(),
+                () -> doctors.forEach(d -> doctorIndex.put(d.getDoctorId(), d.getDoctorName())));
+    }
+
+    public void removeDoctor(UUID doctorId) {
+        afterCommit(DOCTORS, List.of(doctorId), () -> doctorIndex.remove(doctorId));
+    }
+
+    public void indexNurse(Nurse nurse) {
+        if (nurse != null) {
+            indexNurses(List.of(nurse));
+        }
+    }
+
+    public void indexNurses(Collection<Nurse> nurses) {
+        afterCommit(NURSES, nurses.stream().map(Nurse::getNurseId).toList(),
+                () -> nurses.forEach(n -> nurseIndex.put(n.getNurseId(), n.getNurseName())));
+    }
+
+    public void removeNurse(UUID nurseId) {
+        afterCommit(NURSES, List.of(nurseId), () -> nurseIndex.remove(nurseId));
+    }
+
+    /** Applies a change committed on another instance by re-reading the changed names. */
+    private void onRemoteChange(CacheInvalidation change) {
+        if (instanceId.equals(change.origin()) || !(change.key() instanceof Collection<?> keys)) {
+            return;
+        }
+        List<UUID> ids = keys.stream().filter(UUID.class::isInstance).map(UUID.class::cast).toList();
+        try {
+            switch (change.cacheName()) {
+                case PATIENTS -> reload(patientIndex, ids, patientRepository::findNamesByIdIn);
+                case DOCTORS -> reload(doctorIndex, ids, doctorRepository::findNamesByIdIn);
+                case NURSES -> reload(nurseIndex, ids, nurseRepository::findNamesByIdIn);
+                default -> {
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not apply a name change from another instance; search stays stale until restart", e);
+        }
+    }
+
+    private static void reload(NameIndex index, List<UUID> ids, Function<Collection<UUID>, List<NameSearchResult>> loader) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<UUID> deleted = new HashSet<>(ids);
+        for (NameSearchResult row : loader.apply(ids)) {
+            index.put(row.getId(), row.getName());
+            deleted.remove(row.getId());
+        }
+        deleted.forEach(index::remove);
+    }
+
+    private static void load(NameIndex index, Stream<NameSearchResult> rows) {
+        index.clear();
+        try (rows) {
+            rows.forEach(row -> index.put(row.getId(), row.getName()));
+        }
+    }
+
+    private static void validatePaging(int page, int size) {
+        if (page < 0) {
+            throw new ValidationException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * Applies an index change and tells the other instances about it once the surrounding transaction
+     * commits, so rolled back writes never become searchable. Without a transaction this happens directly.
+     */
+    private void afterCommit(String channel, List<UUID> ids, Runnable change) {
+        Runnable apply = () -> {
+            change.run();
+            remote.publish(new CacheInvalidation(instanceId, channel, ids));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.testing_exam_webapp.service;
 
+import com.testing_exam_webapp.dto.NameSearchResult;
 import com.testing_exam_webapp.dto.NurseRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
-import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.Hospital;
 import com.testing_exam_webapp.model.mysql.Nurse;
 import com.testing_exam_webapp.model.mysql.Ward;
@@ -10,6 +10,7 @@ import com.testing_exam_webapp.repository.HospitalRepository;
 import com.testing_exam_webapp.repository.NurseRepository;
 import com.testing_exam_webapp.repository.WardRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -20,24 +21,29 @@ public class NurseService {
     private final NurseRepository nurseRepository;
     private final WardRepository wardRepository;
     private final HospitalRepository hospitalRepository;
+    private final NameSearchService nameSearchService;
 
     public NurseService(NurseRepository nurseRepository, WardRepository wardRepository,
-                        HospitalRepository hospitalRepository) {
+                        HospitalRepository hospitalRepository, NameSearchService nameSearchService) {
         this.nurseRepository = nurseRepository;
         this.wardRepository = wardRepository;
         this.hospitalRepository = hospitalRepository;
+        this.nameSearchService = nameSearchService;
     }
 
+    @Transactional(readOnly = true)
     public List<Nurse> getNurses() {
         return nurseRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Nurse getNurseById(UUID id) {
         UUID nurseId = Objects.requireNonNull(id, "Nurse ID cannot be null");
         return nurseRepository.findById(nurseId)
                 .orElseThrow(() -> new EntityNotFoundException("Nurse not found"));
     }
 
+    @Transactional
     public Nurse createNurse(NurseRequest request) {
         Nurse nurse = new Nurse();
         nurse.setNurseId(UUID.randomUUID());
@@ -51,41 +57,32 @@ public class NurseService {
         Hospital hospital = null;
         
         if (wardId != null) {
-            ward = wardRepository.findById(wardId)
-                    .orElseThrow(() -> new EntityNotFoundException("Ward not found"));
+            ward = WardLookups.findWard(wardRepository, wardId);
         }
         
         if (hospitalId != null) {
-            hospital = hospitalRepository.findById(hospitalId)
-                    .orElseThrow(() -> new EntityNotFoundException("Hospital not found"));
+            hospital = WardLookups.findHospital(hospitalRepository, hospitalId);
         }
         
         // Validate that ward belongs to hospital if both are provided
         if (ward != null && hospital != null) {
-            final UUID hospitalIdToCheck = hospital.getHospitalId();
-            final String hospitalName = hospital.getHospitalName();
-            boolean wardBelongsToHospital = ward.getHospitals() != null && 
-                    ward.getHospitals().stream()
-                            .anyMatch(h -> h.getHospitalId().equals(hospitalIdToCheck));
-            
-            if (!wardBelongsToHospital) {
-                throw new ValidationException(
-                    "The selected ward does not belong to the selected hospital. " +
-                    "Please select a ward that exists in " + hospitalName + "."
-                );
-            }
+            WardLookups.requireWardInHospital(wardRepository, ward, hospital);
         }
         
         nurse.setWard(ward);
         nurse.setHospital(hospital);
 
-        return nurseRepository.save(nurse);
+        Nurse saved = nurseRepository.save(nurse);
+        nameSearchService.indexNurse(saved);
+        return saved;
     }
 
-    public Nurse updateNurse(UUID id, NurseRequest request) {
+    @Transactional
+    public Nurse updateNurse(UUID id, NurseRequest request, Long expectedVersion) {
         UUID nurseId = Objects.requireNonNull(id, "Nurse ID cannot be null");
         Nurse nurse = nurseRepository.findById(nurseId)
                 .orElseThrow(() -> new EntityNotFoundException("Nurse not found"));
+        EntityVersions.check("Nurse", expectedVersion, nurse.getVersion());
 
         nurse.setNurseName(request.getNurseName());
         nurse.setSpeciality(request.getSpeciality());
@@ -97,43 +94,38 @@ public class NurseService {
         Hospital hospital = null;
         
         if (wardId != null) {
-            ward = wardRepository.findById(wardId)
-                    .orElseThrow(() -> new EntityNotFoundException("Ward not found"));
+            ward = WardLookups.findWard(wardRepository, wardId);
         }
         
         if (hospitalId != null) {
-            hospital = hospitalRepository.findById(hospitalId)
-                    .orElseThrow(() -> new EntityNotFoundException("Hospital not found"));
+            hospital = WardLookups.findHospital(hospitalRepository, hospitalId);
         }
         
         // Validate that ward belongs to hospital if both are provided
         if (ward != null && hospital != null) {
-            final UUID hospitalIdToCheck = hospital.getHospitalId();
-            final String hospitalName = hospital.getHospitalName();
-            boolean wardBelongsToHospital = ward.getHospitals() != null && 
-                    ward.getHospitals().stream()
-                            .anyMatch(h -> h.getHospitalId().equals(hospitalIdToCheck));
-            
-            if (!wardBelongsToHospital) {
-                throw new ValidationException(
-                    "The selected ward does not belong to the selected hospital. " +
-                    "Please select a ward that exists in " + hospitalName + "."
-                );
-            }
+            WardLookups.requireWardInHospital(wardRepository, ward, hospital);
         }
         
         nurse.setWard(ward);
         nurse.setHospital(hospital);
 
-        return nurseRepository.save(nurse);
+        Nurse saved = nurseRepository.save(nurse);
+        nameSearchService.indexNurse(saved);
+        return saved;
     }
 
+    @Transactional
     public void deleteNurse(UUID id) {
         UUID nurseId = Objects.requireNonNull(id, "Nurse ID cannot be null");
         if (!nurseRepository.existsById(nurseId)) {
             throw new EntityNotFoundException("Nurse not found");
         }
         nurseRepository.deleteById(nurseId);
+        nameSearchService.removeNurse(nurseId);
     }
-}
 
+    // Query methods
+    public List<NameSearchResult> searchNursesByName(String query, int page, int size) {
+        return nameSearchService.searchNurses(query, page, size);
+    }
+}
@@ -0,0 +1,83 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.CacheConfig;
+import com.testing_exam_webapp.dto.ChartAppointmentDto;
+import com.testing_exam_webapp.dto.ChartSurgeryDto;
+import com.testing_exam_webapp.dto.PatientChartDto;
+import com.testing_exam_webapp.exception.EntityNotFoundException;
+import com.testing_exam_webapp.repository.AppointmentRepository;
+import com.testing_exam_webapp.repository.ArchivedAppointmentRepository;
+import com.testing_exam_webapp.repository.ArchivedSurgeryRepository;
+import com.testing_exam_webapp.repository.PatientRepository;
+import com.testing_exam_webapp.repository.PrescriptionRepository;
+import com.testing_exam_webapp.repository.SurgeryRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Builds a patient's chart from indexed by-patient projection queries instead of one call per
+ * section. Appointments and surgeries include rows moved to the archive tables, so the chart does not
+ * lose history when the retention job runs. Charts are cached per patient and evicted by
+ * {@link com.testing_exam_webapp.config.cache.PatientChartInvalidationListener} whenever the patient or
+ * one of their appointments, prescriptions or surgeries is written, and by {@link ArchiveMover} when rows move.
+ */
+@Service
+public class PatientChartService {
+
+    private final PatientRepository patientRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final PrescriptionRepository prescriptionRepository;
+    private final SurgeryRepository surgeryRepository;
+    private final ArchivedAppointmentRepository archivedAppointmentRepository;
+    private final ArchivedSurgeryRepository archivedSurgeryRepository;
+
+    public PatientChartService(PatientRepository patientRepository,
+                               AppointmentRepository appointmentRepository,
+                               PrescriptionRepository prescriptionRepository,
+                               SurgeryRepository surgeryRepository,
+                               ArchivedAppointmentRepository archivedAppointmentRepository,
+                               ArchivedSurgeryRepository archivedSurgeryRepository) {
+        this.patientRepository = patientRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.prescriptionRepository = prescriptionRepository;
+        this.surgeryRepository = surgeryRepository;
+        this.archivedAppointmentRepository = archivedAppointmentRepository;
+        this.archivedSurgeryRepository = archivedSurgeryRepository;
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PATIENT_CHARTS, key = "#patientId")
+    public PatientChartDto getPatientChart(UUID patientId) {
+        Objects.requireNonNull(patientId, "Patient ID cannot be null");
+        PatientChartDto chart = patientRepository.findChartHeaderById(patientId)
+                .orElseThrow(() -> new EntityNotFoundException("Patient not found"));
+        chart.setDiagnoses(patientRepository.findChartDiagnosesById(patientId));
+        chart.setAppointments(newestFirst(appointmentRepository.findChartEntriesByPatientId(patientId),
+                archivedAppointmentRepository.findChartEntriesByPatientId(patientId), ChartAppointmentDto::getAppointmentDate));
+        chart.setPrescriptions(prescriptionRepository.findChartEntriesByPatientId(patientId));
+        chart.setSurgeries(newestFirst(surgeryRepository.findChartEntriesByPatientId(patientId),
+                archivedSurgeryRepository.findChartEntriesByPatientId(patientId), ChartSurgeryDto::getSurgeryDate));
+        return chart;
+    }
+
+    /** Hot rows followed by archived ones, by date descending; both inputs are already newest first. */
+    private static <T> List<T> newestFirst(List<T> hot, List<T> archived, Function<T, LocalDate> date) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<T> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(hot);
+        merged.addAll(archived);
+        merged.sort(Comparator.comparing(date, Comparator.nullsLast(Comparator.reverseOrder())));
+        return merged;
+    }
+}
@@ -1,5 +1,6 @@
 package com.testing_exam_webapp.service;
 
+import com.testing_exam_webapp.dto.NameSearchResult;
 import com.testing_exam_webapp.dto.PatientRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
 import com.testing_exam_webapp.exception.ValidationException;
@@ -12,6 +13,7 @@ import com.testing_exam_webapp.repository.HospitalRepository;
 import com.testing_exam_webapp.repository.PatientRepository;
 import com.testing_exam_webapp.repository.WardRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 
@@ -21,26 +23,35 @@ public class PatientService {
     private final WardRepository wardRepository;
     private final HospitalRepository hospitalRepository;
     private final DiagnosisRepository diagnosisRepository;
+    private final NameSearchService nameSearchService;
+    private final WardAdmissionService wardAdmissionService;
 
     public PatientService(PatientRepository patientRepository,
                           WardRepository wardRepository,
-                          HospitalRepository hospitalRepository, DiagnosisRepository diagnosisRepository) {
+                          HospitalRepository hospitalRepository, DiagnosisRepository diagnosisRepository,
+                          NameSearchService nameSearchService,
+                          WardAdmissionService wardAdmissionService) {
         this.patientRepository = patientRepository;
         this.wardRepository = wardRepository;
         this.hospitalRepository = hospitalRepository;
         this.diagnosisRepository = diagnosisRepository;
+        this.nameSearchService = nameSearchService;
+        this.wardAdmissionService = wardAdmissionService;
     }
 
+    @Transactional(readOnly = true)
     public List<Patient> getPatients() {
         return patientRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Patient getPatientById(UUID id) {
         UUID patientId = Objects.requireNonNull(id, "Patient ID cannot be null");
         return patientRepository.findById(patientId)
                 .orElseThrow(() -> new EntityNotFoundException("Patient not found"));
     }
 
+    @Transactional
     public Patient createPatient(PatientRequest request) {
         Patient patient = new Patient();
         patient.setPatientId(UUID.randomUUID());
@@ -66,41 +77,36 @@ public class PatientService {
         Hospital hospital = null;
         
         if (wardId != null) {
-            ward = wardRepository.findById(wardId)
-                    .orElseThrow(() -> new EntityNotFoundException("Ward not found"));
+            ward = WardLookups.findWard(wardRepository, wardId);
         }
         
         if (hospitalId != null) {
-            hospital = hospitalRepository.findById(hospitalId)
-                    .orElseThrow(() -> new EntityNotFoundException("Hospital not found"));
+            hospital = WardLookups.findHospital(hospitalRepository, hospitalId);
         }
         
         // Validate that ward belongs to hospital if both are provided
         if (ward != null && hospital != null) {
-            final UUID hospitalIdToCheck = hospital.getHospitalId();
-            final String hospitalName = hospital.getHospitalName();
-            boolean wardBelongsToHospital = ward.getHospitals() != null && 
-                    ward.getHospitals().stream()
-                            .anyMatch(h -> h.getHospitalId().equals(hospitalIdToCheck));
-            
-            if (!wardBelongsToHospital) {
-                throw new ValidationException(
-                    "The selected ward does not belong to the selected hospital. " +
-                    "Please select a ward that exists in " + hospitalName + "."
-                );
-            }
+            WardLookups.requireWardInHospital(wardRepository, ward, hospital);
         }
         
+        if (ward != null && !wardAdmissionService.admit(ward, 1)) {
+            throw new ValidationException("The selected ward is full");
+        }
+
         patient.setWard(ward);
         patient.setHospital(hospital);
 
-        return patientRepository.save(patient);
+        Patient saved = patientRepository.save(patient);
+        nameSearchService.indexPatient(saved);
+        return saved;
     }
 
-    public Patient updatePatient(UUID id, PatientRequest request) {
+    @Transactional
+    public Patient updatePatient(UUID id, PatientRequest request, Long expectedVersion) {
         UUID patientId = Objects.requireNonNull(id, "Patient ID cannot be null");
         Patient patient = patientRepository.findById(patientId)
                 .orElseThrow(() -> new EntityNotFoundException("Patient not found"));
+        EntityVersions.check("Patient", expectedVersion, patient.getVersion());
 
         patient.setPatientName(request.getPatientName());
         patient.setDateOfBirth(request.getDateOfBirth());
@@ -124,54 +130,63 @@ public class PatientService {
         Hospital hospital = null;
         
         if (wardId != null) {
-            ward = wardRepository.findById(wardId)
-                    .orElseThrow(() -> new EntityNotFoundException("Ward not found"));
+            ward = WardLookups.findWard(wardRepository, wardId);
         }
         
         if (hospitalId != null) {
-            hospital = hospitalRepository.findById(hospitalId)
-                    .orElseThrow(() -> new EntityNotFoundException("Hospital not found"));
+            hospital = WardLookups.findHospital(hospitalRepository, hospitalId);
         }
         
         // Validate that ward belongs to hospital if both are provided
         if (ward != null && hospital != null) {
-            final UUID hospitalIdToCheck = hospital.getHospitalId();
-            final String hospitalName = hospital.getHospitalName();
-            boolean wardBelongsToHospital = ward.getHospitals() != null && 
-                    ward.getHospitals().stream()
-                            .anyMatch(h -> h.getHospitalId().equals(hospitalIdToCheck));
-            
-            if (!wardBelongsToHospital) {
-                throw new ValidationException(
-                    "The selected ward does not belong to the selected hospital. " +
-                    "Please select a ward that exists in " + hospitalName + "."
-                );
-            }
+            WardLookups.requireWardInHospital(wardRepository, ward, hospital);
         }
         
+        // Moving to another ward takes a bed there and frees the old one
+        UUID currentWardId = patient.getWard() != null ? patient.getWard().getWardId() : null;
+        if (!Objects.equals(currentWardId, wardId)) {
+            if (ward != null && !wardAdmissionService.admit(ward, 1)) {
+                throw new ValidationException("The selected ward is full");
+            }
+            if (currentWardId != null) {
+                wardAdmissionService.discharge(currentWardId, 1);
+            }
+        }
+
         patient.setWard(ward);
         patient.setHospital(hospital);
 
-        return patientRepository.save(patient);
+        Patient saved = patientRepository.save(patient);
+        nameSearchService.indexPatient(saved);
+        return saved;
     }
 
+    @Transactional
     public void deletePatient(UUID id) {
         UUID patientId = Objects.requireNonNull(id, "Patient ID cannot be null");
         if (!patientRepository.existsById(patientId)) {
             throw new EntityNotFoundException("Patient not found");
         }
+        patientRepository.findWardIdByPatientId(patientId)
+                .ifPresent(wardId -> wardAdmissionService.discharge(wardId, 1));
         patientRepository.deleteById(patientId);
+        nameSearchService.removePatient(patientId);
     }
 
     // Query methods
+    @Transactional(readOnly = true)
     public List<Patient> getPatientsByWardId(UUID wardId) {
         Objects.requireNonNull(wardId, "Ward ID cannot be null");
         return patientRepository.findByWardId(wardId);
     }
 
+    @Transactional(readOnly = true)
     public List<Patient> getPatientsByHospitalId(UUID hospitalId) {
         Objects.requireNonNull(hospitalId, "Hospital ID cannot be null");
         return patientRepository.findByHospitalId(hospitalId);
     }
-}
 
+    public List<NameSearchResult> searchPatientsByName(String query, int page, int size) {
+        return nameSearchService.searchPatients(query, page, size);
+    }
+}
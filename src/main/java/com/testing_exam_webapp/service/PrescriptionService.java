@@ -1,7 +1,11 @@
 package com.testing_exam_webapp.service;
 
+import com.testing_exam_webapp.dto.ActivePrescriptionDto;
+import com.testing_exam_webapp.dto.DrugInteraction;
+import com.testing_exam_webapp.dto.PrescriptionFilter;
 import com.testing_exam_webapp.dto.PrescriptionRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
+import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.Doctor;
 import com.testing_exam_webapp.model.mysql.Medication;
 import com.testing_exam_webapp.model.mysql.Patient;
@@ -10,10 +14,16 @@ import com.testing_exam_webapp.repository.DoctorRepository;
 import com.testing_exam_webapp.repository.MedicationRepository;
 import com.testing_exam_webapp.repository.PatientRepository;
 import com.testing_exam_webapp.repository.PrescriptionRepository;
+import com.testing_exam_webapp.repository.PrescriptionSpecifications;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.UUID;
 
 @Service
@@ -22,27 +32,33 @@ public class PrescriptionService {
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
     private final MedicationRepository medicationRepository;
+    private final DrugInteractionChecker drugInteractionChecker;
 
     public PrescriptionService(PrescriptionRepository prescriptionRepository,
                                PatientRepository patientRepository,
                                DoctorRepository doctorRepository,
-                               MedicationRepository medicationRepository) {
+                               MedicationRepository medicationRepository,
+                               DrugInteractionChecker drugInteractionChecker) {
         this.prescriptionRepository = prescriptionRepository;
         this.patientRepository = patientRepository;
         this.doctorRepository = doctorRepository;
         this.medicationRepository = medicationRepository;
+        this.drugInteractionChecker = drugInteractionChecker;
     }
 
+    @Transactional(readOnly = true)
     public List<Prescription> getPrescriptions() {
         return prescriptionRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Prescription getPrescriptionById(UUID id) {
         UUID prescriptionId = Objects.requireNonNull(id, "Prescription ID cannot be null");
         return prescriptionRepository.findById(prescriptionId)
                 .orElseThrow(() -> new EntityNotFoundException("Prescription not found"));
     }
 
+    @Transactional
     public Prescription createPrescription(PrescriptionRequest request) {
         Prescription prescription = new Prescription();
         prescription.setPrescriptionId(UUID.randomUUID());
@@ -70,13 +86,16 @@ public class PrescriptionService {
             prescription.setMedication(medication);
         }
 
+        checkInteractions(prescription);
         return prescriptionRepository.save(prescription);
     }
 
-    public Prescription updatePrescription(UUID id, PrescriptionRequest request) {
+    @Transactional
+    public Prescription updatePrescription(UUID id, PrescriptionRequest request, Long expectedVersion) {
         UUID prescriptionId = Objects.requireNonNull(id, "Prescription ID cannot be null");
         Prescription prescription = prescriptionRepository.findById(prescriptionId)
                 .orElseThrow(() -> new EntityNotFoundException("Prescription not found"));
+        EntityVersions.check("Prescription", expectedVersion, prescription.getVersion());
 
         prescription.setStartDate(request.getStartDate());
         prescription.setEndDate(request.getEndDate());
@@ -102,9 +121,11 @@ public class PrescriptionService {
             prescription.setMedication(medication);
         }
 
+        checkInteractions(prescription);
         return prescriptionRepository.save(prescription);
     }
 
+    @Transactional
     public void deletePrescription(UUID id) {
         UUID prescriptionId = Objects.requireNonNull(id, "Prescription ID cannot be null");
         if (!prescriptionRepository.existsById(prescriptionId)) {
@@ -112,5 +133,48 @@ public class PrescriptionService {
         }
         prescriptionRepository.deleteById(prescriptionId);
     }
-}
 
+    /**
+     * Rejects the prescription if its medication interacts at or above the blocking severity with
+     * another prescription the patient has during the same period.
+     */
+    private void checkInteractions(Prescription prescription) {
+        if (prescription.getPatient() == null || prescription.getMedication() == null) {
+            return;
+        }
+        LocalDate from = prescription.getStartDate() != null ? prescription.getStartDate() : LocalDate.now();
+        List<String> current = prescriptionRepository
+                .findOverlappingEntriesByPatientId(prescription.getPatient().getPatientId(), from, prescription.getEndDate())
+                .stream()
+                .filter(p -> !p.getPrescriptionId().equals(prescription.getPrescriptionId()))
+                .map(ActivePrescriptionDto::getMedicationName)
+                .toList();
+        List<DrugInteraction> blocking = drugInteractionChecker
+                .check(prescription.getMedication().getMedicationName(), current)
+                .stream()
+                .filter(drugInteractionChecker::isBlocking)
+                .toList();
+        if (!blocking.isEmpty()) {
+            throw new ValidationException("Drug interaction: " + blocking.stream()
+                    .map(i -> i.getMedicationName() + " with " + i.getInteractingMedicationName() + " (" + i.getSeverity() + ")")
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    // Query methods
+    @Transactional(readOnly = true)
+    public List<Prescription> getPrescriptionsByPatientId(UUID patientId) {
+        Objects.requireNonNull(patientId, "Patient ID cannot be null");
+        return prescriptionRepository.findByPatientId(patientId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Prescription> searchPrescriptions(PrescriptionFilter filter, Pageable pageable) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        if (filter.getStartDate() != null && filter.getEndDate() != null
+                && filter.getStartDate().isAfter(filter.getEndDate())) {
+            throw new ValidationException("Start date must not be after end date");
+        }
+        return prescriptionRepository.findAll(PrescriptionSpecifications.matching(filter), pageable);
+    }
+}
@@ -0,0 +1,66 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.TimeDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Non-blocking counterpart of {@link TimeService} on WebClient, with the same per-attempt timeout and
+ * retry policy as {@link ReactiveWeatherService}. Any failure that outlasts the retries returns the
+ * default Copenhagen time.
+ */
+@Service
+public class ReactiveTimeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveTimeService.class);
+
+    private final WebClient webClient;
+    private final String apiUrl;
+    private final Duration timeout;
+    private final int maxRetries;
+    private final Duration backoff;
+
+    public ReactiveTimeService(WebClient.Builder webClientBuilder,
+                               @Value("${time.api.url}") String apiUrl,
+                               @Value("${app.external.reactive.timeout:2s}") Duration timeout,
+                               @Value("${app.external.reactive.max-retries:2}") int maxRetries,
+                               @Value("${app.external.reactive.backoff:200ms}") Duration backoff) {
+        this.webClient = webClientBuilder.build();
+        this.apiUrl = apiUrl;
+        this.timeout = timeout;
+        this.maxRetries = maxRetries;
+        this.backoff = backoff;
+    }
+
+    public Mono<TimeDto> getCurrentTime(String timezone) {
+        String timezoneToUse = (timezone == null || timezone.trim().isEmpty())
+                ? TimeService.DEFAULT_TIMEZONE
+                : timezone.trim();
+        if (apiUrl == null || apiUrl.trim().isEmpty()) {
+            return Mono.fromSupplier(TimeService::createDefaultTime);
+        }
+
+        // URI.create rejects malformed timezones inside defer, so they end in the fallback as well
+        return Mono.defer(() -> webClient.get()
+                        .uri(URI.create(String.format("%s/timezone/%s", apiUrl, timezoneToUse)))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToMono(TimeService.WorldTimeResponse.class)
+                        .timeout(timeout))
+                .retryWhen(ExternalApiRetry.transientFailures(maxRetries, backoff))
+                .map(TimeService::toTime)
+                .switchIfEmpty(Mono.fromSupplier(TimeService::createDefaultTime))
+                .onErrorResume(e -> {
+                    logger.debug("Time lookup for '{}' failed: {}", timezoneToUse, e.getMessage());
+                    return Mono.fromSupplier(TimeService::createDefaultTime);
+                });
+    }
+}
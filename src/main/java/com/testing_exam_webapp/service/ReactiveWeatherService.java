@@ -0,0 +1,104 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.CacheConfig;
+import com.testing_exam_webapp.dto.WeatherDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Non-blocking counterpart of {@link WeatherService}: the OpenWeatherMap call runs on WebClient, so no
+ * request thread waits for the upstream round-trip.
+ * <p>
+ * Lookups share the weather cache entries of {@link WeatherService}, including the ones the prefetcher
+ * keeps warm. Each attempt is cut off after {@code app.external.reactive.timeout} and transient failures
+ * are retried with exponential backoff; whatever still fails ends in the same default weather as the
+ * blocking lookup.
+ */
+@Service
+public class ReactiveWeatherService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveWeatherService.class);
+
+    private final WebClient webClient;
+    private final Cache cache;
+    private final String apiUrl;
+    private final String apiKey;
+    private final Duration timeout;
+    private final int maxRetries;
+    private final Duration backoff;
+
+    public ReactiveWeatherService(WebClient.Builder webClientBuilder,
+                                  CacheManager cacheManager,
+                                  @Value("${weather.api.url}") String apiUrl,
+                                  @Value("${weather.api.key}") String apiKey,
+                                  @Value("${app.external.reactive.timeout:2s}") Duration timeout,
+                                  @Value("${app.external.reactive.max-retries:2}") int maxRetries,
+                                  @Value("${app.external.reactive.backoff:200ms}") Duration backoff) {
+        this.webClient = webClientBuilder.build();
+        this.cache = cacheManager.getCache(CacheConfig.WEATHER);
+        this.apiUrl = apiUrl;
+        this.apiKey = apiKey;
+        this.timeout = timeout;
+        this.maxRetries = maxRetries;
+        this.backoff = backoff;
+    }
+
+    public Mono<WeatherDto> getWeatherByCity(String city) {
+        String resolvedCity = WeatherService.resolveCity(city);
+        String key = WeatherService.cacheKey(city);
+        WeatherDto cached = cache != null ? cache.get(key, WeatherDto.class) : null;
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        if (apiKey == null || apiKey.trim().isEmpty()) {
+            return Mono.just(WeatherService.createDefaultWeather(resolvedCity));
+        }
+
+        return Mono.defer(() -> webClient.get()
+                        .uri(URI.create(String.format("%s?q=%s&appid=%s&units=metric",
+                                apiUrl, URLEncoder.encode(resolvedCity, StandardCharsets.UTF_8), apiKey)))
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToMono(WeatherService.OpenWeatherResponse.class)
+                        .timeout(timeout))
+                .retryWhen(ExternalApiRetry.transientFailures(maxRetries, backoff))
+                .map(response -> WeatherService.toWeather(response, resolvedCity))
+                .flatMap(weather -> store(key, weather))
+                .switchIfEmpty(Mono.fromSupplier(() -> WeatherService.createDefaultWeather(resolvedCity)))
+                .onErrorResume(e -> Mono.fromSupplier(() -> fallback(resolvedCity, e)));
+    }
+
+    // The cache may be backed by a remote store, so the write is kept off the HTTP client's event loop
+    private Mono<WeatherDto> store(String key, WeatherDto weather) {
+        if (cache == null) {
+            return Mono.just(weather);
+        }
+        return Mono.fromRunnable(() -> cache.put(key, weather))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(weather);
+    }
+
+    private static WeatherDto fallback(String city, Throwable e) {
+        if (e instanceof WebClientResponseException.Unauthorized || e instanceof WebClientResponseException.NotFound) {
+            // Same as the blocking lookup: invalid API key or unknown city reports the default city
+            logger.debug("Weather lookup for '{}' rejected ({}), returning default weather", city, e.getMessage());
+            return WeatherService.createDefaultWeather(WeatherService.DEFAULT_CITY);
+        }
+        logger.debug("Weather lookup for '{}' failed: {}", city, e.getMessage());
+        return WeatherService.createDefaultWeather(city);
+    }
+}
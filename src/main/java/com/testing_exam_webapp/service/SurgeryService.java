@@ -1,15 +1,23 @@
 package com.testing_exam_webapp.service;
 
+import com.testing_exam_webapp.dto.SurgeryFilter;
 import com.testing_exam_webapp.dto.SurgeryRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
+import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.Doctor;
 import com.testing_exam_webapp.model.mysql.Patient;
 import com.testing_exam_webapp.model.mysql.Surgery;
 import com.testing_exam_webapp.repository.DoctorRepository;
 import com.testing_exam_webapp.repository.PatientRepository;
 import com.testing_exam_webapp.repository.SurgeryRepository;
+import com.testing_exam_webapp.repository.SurgerySpecifications;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -19,25 +27,31 @@ public class SurgeryService {
     private final SurgeryRepository surgeryRepository;
     private final PatientRepository patientRepository;
     private final DoctorRepository doctorRepository;
+    private final ClinicalArchiveService archiveService;
 
     public SurgeryService(SurgeryRepository surgeryRepository,
                           PatientRepository patientRepository,
-                          DoctorRepository doctorRepository) {
+                          DoctorRepository doctorRepository,
+                          ClinicalArchiveService archiveService) {
         this.surgeryRepository = surgeryRepository;
         this.patientRepository = patientRepository;
         this.doctorRepository = doctorRepository;
+        this.archiveService = archiveService;
     }
 
+    @Transactional(readOnly = true)
     public List<Surgery> getSurgeries() {
         return surgeryRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Surgery getSurgeryById(UUID id) {
         UUID surgeryId = Objects.requireNonNull(id, "Surgery ID cannot be null");
         return surgeryRepository.findById(surgeryId)
                 .orElseThrow(() -> new EntityNotFoundException("Surgery not found"));
     }
 
+    @Transactional
     public Surgery createSurgery(SurgeryRequest request) {
         Surgery surgery = new Surgery();
         surgery.setSurgeryId(UUID.randomUUID());
@@ -61,10 +75,12 @@ public class SurgeryService {
         return surgeryRepository.save(surgery);
     }
 
-    public Surgery updateSurgery(UUID id, SurgeryRequest request) {
+    @Transactional
+    public Surgery updateSurgery(UUID id, SurgeryRequest request, Long expectedVersion) {
         UUID surgeryId = Objects.requireNonNull(id, "Surgery ID cannot be null");
         Surgery surgery = surgeryRepository.findById(surgeryId)
                 .orElseThrow(() -> new EntityNotFoundException("Surgery not found"));
+        EntityVersions.check("Surgery", expectedVersion, surgery.getVersion());
 
         surgery.setSurgeryDate(request.getSurgeryDate());
         surgery.setDescription(request.getDescription());
@@ -86,6 +102,7 @@ public class SurgeryService {
         return surgeryRepository.save(surgery);
     }
 
+    @Transactional
     public void deleteSurgery(UUID id) {
         UUID surgeryId = Objects.requireNonNull(id, "Surgery ID cannot be null");
         if (!surgeryRepository.existsById(surgeryId)) {
@@ -93,5 +110,40 @@ public class SurgeryService {
         }
         surgeryRepository.deleteById(surgeryId);
     }
-}
 
+    // Query methods
+    @Transactional(readOnly = true)
+    public List<Surgery> getSurgeriesByPatientId(UUID patientId) {
+        Objects.requireNonNull(patientId, "Patient ID cannot be null");
+        return withArchived(surgeryRepository.findByPatientId(patientId),
+                archiveService.getSurgeriesByPatientId(patientId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Surgery> getSurgeriesByDateRange(LocalDate startDate, LocalDate endDate) {
+        Objects.requireNonNull(startDate, "Start date cannot be null");
+        Objects.requireNonNull(endDate, "End date cannot be null");
+        return withArchived(surgeryRepository.findBySurgeryDateBetween(startDate, endDate),
+                archiveService.getSurgeriesBetween(startDate, endDate));
+    }
+
+    /** Paged filter search over the hot table only; archived surgeries are reached through the by-patient and date-range reads. */
+    @Transactional(readOnly = true)
+    public Page<Surgery> searchSurgeries(SurgeryFilter filter, Pageable pageable) {
+        Objects.requireNonNull(filter, "Filter cannot be null");
+        if (filter.getStartDate() != null && filter.getEndDate() != null
+                && filter.getStartDate().isAfter(filter.getEndDate())) {
+            throw new ValidationException("Start date must not be after end date");
+        }
+        return surgeryRepository.findAll(SurgerySpecifications.matching(filter), pageable);
+    }
+
+    private static List<Surgery> withArchived(List<Surgery> hot, List<Surgery> archived) {
+        if (archived.isEmpty()) {
+            return hot;
+        }
+        List<Surgery> combined = new ArrayList<>(hot);
+        combined.addAll(archived);
+        return combined;
+    }
+}
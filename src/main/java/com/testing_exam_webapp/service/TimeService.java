@@ -1,23 +1,34 @@
 package com.testing_exam_webapp.service;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.testing_exam_webapp.dto.TimeDto;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Map;
+import java.util.List;
 
-@SuppressWarnings("unchecked")
 @Service
 public class TimeService {
 
+    private static final ObjectReader RESPONSE_READER = new ObjectMapper()
+            .readerFor(WorldTimeResponse.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    static final String DEFAULT_TIMEZONE = "Europe/Copenhagen";
+
     private final RestTemplate restTemplate;
     private final String apiUrl;
-    private final String defaultTimezone = "Europe/Copenhagen";
 
     public TimeService(@Value("${time.api.url}") String apiUrl) {
         this.apiUrl = apiUrl;
@@ -26,7 +37,7 @@ public class TimeService {
 
     public TimeDto getCurrentTime(String timezone) {
         String timezoneToUse = (timezone == null || timezone.trim().isEmpty()) 
-                ? defaultTimezone 
+                ? DEFAULT_TIMEZONE
                 : timezone.trim();
 
         try {
@@ -36,14 +47,10 @@ public class TimeService {
             }
             
             String url = String.format("%s/timezone/%s", apiUrl, timezoneToUse);
-            @SuppressWarnings("rawtypes")
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return mapToTimeDto(response.getBody());
-            } else {
-                return createDefaultTime();
-            }
+            TimeDto time = restTemplate.execute(url, HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                    response -> response.getStatusCode() == HttpStatus.OK ? readTime(response.getBody()) : null);
+            return time != null ? time : createDefaultTime();
         } catch (IllegalArgumentException | org.springframework.web.client.RestClientException e) {
             // URL formatting errors or RestTemplate errors (network issues, etc.) - return default time
             return createDefaultTime();
@@ -51,37 +58,38 @@ public class TimeService {
     }
 
     public TimeDto getCurrentTime() {
-        return getCurrentTime(defaultTimezone);
+        return getCurrentTime(DEFAULT_TIMEZONE);
     }
 
-    private TimeDto mapToTimeDto(Map<String, Object> response) {
-        TimeDto dto = new TimeDto();
-        dto.setDatetime((String) response.get("datetime"));
-        dto.setTimezone((String) response.get("timezone"));
-        dto.setAbbreviation((String) response.get("abbreviation"));
-        
-        Object dayOfWeek = response.get("day_of_week");
-        if (dayOfWeek instanceof Number) {
-            dto.setDayOfWeek(((Number) dayOfWeek).intValue());
-        }
-        
-        Object dayOfYear = response.get("day_of_year");
-        if (dayOfYear instanceof Number) {
-            dto.setDayOfYear(((Number) dayOfYear).intValue());
-        }
+    /** Reads a WorldTimeAPI timezone response into a {@link TimeDto}; fails with an {@link IOException} if malformed. */
+    public static TimeDto readTime(InputStream body) throws IOException {
+        return toTime(RESPONSE_READER.readValue(body));
+    }
 
+    static TimeDto toTime(WorldTimeResponse response) {
+        TimeDto dto = new TimeDto();
+        dto.setDatetime(response.datetime());
+        dto.setTimezone(response.timezone());
+        dto.setAbbreviation(response.abbreviation());
+        dto.setDayOfWeek(response.dayOfWeek());
+        dto.setDayOfYear(response.dayOfYear());
         return dto;
     }
 
-    private TimeDto createDefaultTime() {
+    static TimeDto createDefaultTime() {
         TimeDto dto = new TimeDto();
         LocalDateTime now = LocalDateTime.now();
         dto.setDatetime(now.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
-        dto.setTimezone(defaultTimezone);
+        dto.setTimezone(DEFAULT_TIMEZONE);
         dto.setAbbreviation("CET");
         dto.setDayOfWeek(now.getDayOfWeek().getValue());
         dto.setDayOfYear(now.getDayOfYear());
         return dto;
     }
-}
 
+    /** The parts of the WorldTimeAPI response this service uses. */
+    record WorldTimeResponse(String datetime, String timezone, String abbreviation,
+                             @JsonProperty("day_of_week") Integer dayOfWeek,
+                             @JsonProperty("day_of_year") Integer dayOfYear) {
+    }
+}
@@ -0,0 +1,193 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.CacheConfig;
+import com.testing_exam_webapp.model.mysql.Ward;
+import com.testing_exam_webapp.repository.WardRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Enforces ward capacity when patients are admitted, discharged or moved between wards.
+ * <p>
+ * The authority is the {@code occupied_beds} column on {@code wards}, changed only through guarded
+ * single-row updates ({@code ... WHERE occupied_beds + n <= max_capacity}), so two admissions can never
+ * both take the last bed, whichever instance they run on. In front of it sits an in-memory counter per
+ * ward, reserved with a compare-and-set. An admission the counter says does not fit re-reads the
+ * committed occupancy, since the counter misses discharges made on other instances, and is turned away
+ * without locking the ward row if the ward is full there too. Counters are per-ward atomics in a
+ * concurrent map, so admissions to different wards never contend. They are refreshed from the column at
+ * startup and every {@code app.admission.reconcile-interval-ms}, which also picks up admissions made by
+ * other instances.
+ * <p>
+ * Must be called inside the transaction that inserts, moves or deletes the patient: the column update
+ * rolls back with it, and the counter is adjusted once the outcome is known. Every change also evicts
+ * the ward from the {@link CacheConfig#WARDS} cache, which the cache manager defers until commit.
+ */
+@Service
+public class WardAdmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WardAdmissionService.class);
+
+    private final WardRepository wardRepository;
+    private final CacheManager cacheManager;
+    private final boolean recountOnStartup;
+    private final Map<UUID, AtomicInteger> occupied = new ConcurrentHashMap<>();
+
+    public WardAdmissionService(WardRepository wardRepository,
+                                CacheManager cacheManager,
+                                @Value("${app.admission.recount-on-startup:true}") boolean recountOnStartup) {
+        this.wardRepository = wardRepository;
+        this.cacheManager = cacheManager;
+        this.recountOnStartup = recountOnStartup;
+    }
+
+    /**
+     * Takes {@code beds} beds on the ward, all or none. Returns false if the ward does not have that
+     * many free beds.
+     */
+    @Transactional
+    public boolean admit(Ward ward, int beds) {
+        UUID wardId = Objects.requireNonNull(ward.getWardId(), "Ward ID cannot be null");
+        AtomicInteger counter = counter(wardId);
+        if (!reserve(counter, beds, ward.getMaxCapacity())) {
+            int committed = wardRepository.findOccupiedBedsByWardId(wardId).orElse(0);
+            if (committed + beds > ward.getMaxCapacity()) {
+                return false;
+            }
+            // The counter is ahead of the column; reserve anyway and let the guarded update decide
+            counter.addAndGet(beds);
+        }
+
+        if (wardRepository.occupyBeds(wardId, beds) == 0) {
+            // Another instance filled the ward; the counter was behind
+            counter.addAndGet(-beds);
+            return false;
+        }
+        afterRollback(() -> counter.addAndGet(-beds));
+        wardCache().evict(wardId);
+        return true;
+    }
+
+    /** Frees {@code beds} beds on the ward. */
+    @Transactional
+    public void discharge(UUID wardId, int beds) {
+        Objects.requireNonNull(wardId, "Ward ID cannot be null");
+        wardRepository.releaseBeds(wardId, beds);
+        wardCache().evict(wardId);
+        afterCommit(() -> {
+            AtomicInteger counter = occupied.get(wardId);
+            if (counter != null) {
+                counter.updateAndGet(value -> Math.max(0, value - beds));
+            }
+        });
+    }
+
+    /** Recomputes {@code occupied_beds} from the patients table; for repair after writes that bypass admissions. */
+    @Transactional
+    public void recount() {
+        wardRepository.recountOccupiedBeds();
+        wardCache().clear();
+        afterCommit(this::reconcile);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        if (recountOnStartup) {
+            recount();
+        } else {
+            reconcile();
+        }
+    }
+
+    /**
+     * Resets the counters to the committed occupancy. Reservations still in flight are briefly not
+     * counted; the guarded update still refuses them if the ward fills up meanwhile.
+     */
+    @Scheduled(fixedDelayString = "${app.admission.reconcile-interval-ms:60000}", initialDelayString = "${app.admission.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            Map<UUID, Integer> committed = new HashMap<>();
+            for (Object[] row : wardRepository.findOccupiedBeds()) {
+                committed.put((UUID) row[0], ((Number) row[1]).intValue());
+            }
+            committed.forEach((wardId, beds) -> occupied.computeIfAbsent(wardId, id -> new AtomicInteger()).set(beds));
+            occupied.keySet().retainAll(committed.keySet());
+        } catch (DataAccessException e) {
+            logger.warn("Could not reconcile ward occupancy, keeping current counters", e);
+        }
+    }
+
+    int occupiedBeds(UUID wardId) {
+        AtomicInteger counter = occupied.get(wardId);
+        return counter != null ? counter.get() : 0;
+    }
+
+    private Cache wardCache() {
+        return Objects.requireNonNull(cacheManager.getCache(CacheConfig.WARDS), "Wards cache is not configured");
+    }
+
+    private static boolean reserve(AtomicInteger counter, int beds, int capacity) {
+        int current;
+        do {
+            current = counter.get();
+            if (current + beds > capacity) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current + beds));
+        return true;
+    }
+
+    private AtomicInteger counter(UUID wardId) {
+        AtomicInteger counter = occupied.get(wardId);
+        if (counter != null) {
+            return counter;
+        }
+        // Ward created since the last reconcile: start from its committed value
+        int committed = wardRepository.findOccupiedBedsByWardId(wardId).orElse(0);
+        return occupied.computeIfAbsent(wardId, id -> new AtomicInteger(committed));
+    }
+
+    private static void afterRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
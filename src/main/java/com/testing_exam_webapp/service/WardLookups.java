@@ -0,0 +1,58 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.exception.EntityNotFoundException;
+import com.testing_exam_webapp.exception.ValidationException;
+import com.testing_exam_webapp.model.mysql.Hospital;
+import com.testing_exam_webapp.model.mysql.Ward;
+import com.testing_exam_webapp.repository.HospitalRepository;
+import com.testing_exam_webapp.repository.WardRepository;
+import org.hibernate.Hibernate;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Ward and hospital reads shared by the services that place patients and staff on a ward. Ward-hospital
+ * membership is answered by {@link WardRepository#existsInHospital} unless the ward's hospitals are already
+ * loaded, and the answer is memoized in the current {@link LookupScope}. Entities themselves are not
+ * memoized: within a request the persistence context already returns the same instance, and one kept
+ * across transactions would be a detached copy with stale state such as the ward's capacity.
+ */
+final class WardLookups {
+
+    private WardLookups() {
+    }
+
+    static Ward findWard(WardRepository wardRepository, UUID wardId) {
+        return wardRepository.findById(wardId)
+                .orElseThrow(() -> new EntityNotFoundException("Ward not found"));
+    }
+
+    static Hospital findHospital(HospitalRepository hospitalRepository, UUID hospitalId) {
+        return hospitalRepository.findById(hospitalId)
+                .orElseThrow(() -> new EntityNotFoundException("Hospital not found"));
+    }
+
+    static boolean belongsTo(WardRepository wardRepository, Ward ward, Hospital hospital) {
+        Set<Hospital> hospitals = ward.getHospitals();
+        if (Hibernate.isInitialized(hospitals)) {
+            return hospitals != null && hospitals.stream()
+                    .anyMatch(h -> h.getHospitalId().equals(hospital.getHospitalId()));
+        }
+        return LookupScope.memoize(new Membership(ward.getWardId(), hospital.getHospitalId()),
+                () -> wardRepository.existsInHospital(ward.getWardId(), hospital.getHospitalId()));
+    }
+
+    /** Throws a {@link ValidationException} naming the hospital if the ward is not one of its wards. */
+    static void requireWardInHospital(WardRepository wardRepository, Ward ward, Hospital hospital) {
+        if (!belongsTo(wardRepository, ward, hospital)) {
+            throw new ValidationException(
+                "The selected ward does not belong to the selected hospital. " +
+                "Please select a ward that exists in " + hospital.getHospitalName() + "."
+            );
+        }
+    }
+
+    private record Membership(UUID wardId, UUID hospitalId) {
+    }
+}
@@ -1,11 +1,18 @@
 package com.testing_exam_webapp.service;
 
+import com.testing_exam_webapp.config.cache.CacheConfig;
 import com.testing_exam_webapp.dto.WardRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
+import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.Ward;
 import com.testing_exam_webapp.model.types.WardType;
 import com.testing_exam_webapp.repository.WardRepository;
+import org.hibernate.Hibernate;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
@@ -19,16 +26,23 @@ public class WardService {
         this.wardRepository = wardRepository;
     }
 
+    @Transactional(readOnly = true)
     public List<Ward> getWards() {
         return wardRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.WARDS, key = "#id")
     public Ward getWardById(UUID id) {
         UUID wardId = Objects.requireNonNull(id, "Ward ID cannot be null");
-        return wardRepository.findById(wardId)
+        Ward ward = wardRepository.findById(wardId)
                 .orElseThrow(() -> new EntityNotFoundException("Ward not found"));
+        // Cached instances outlive the session, load the hospitals while it is open
+        Hibernate.initialize(ward.getHospitals());
+        return ward;
     }
 
+    @Transactional
     public Ward createWard(WardRequest request) {
         Ward ward = new Ward();
         ward.setWardId(UUID.randomUUID());
@@ -38,10 +52,19 @@ public class WardService {
         return wardRepository.save(ward);
     }
 
-    public Ward updateWard(UUID id, WardRequest request) {
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.WARDS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.HOSPITALS, allEntries = true)
+    })
+    public Ward updateWard(UUID id, WardRequest request, Long expectedVersion) {
         UUID wardId = Objects.requireNonNull(id, "Ward ID cannot be null");
         Ward ward = wardRepository.findById(wardId)
                 .orElseThrow(() -> new EntityNotFoundException("Ward not found"));
+        EntityVersions.check("Ward", expectedVersion, ward.getVersion());
+        if (request.getMaxCapacity() < ward.getOccupiedBeds()) {
+            throw new ValidationException("Max capacity cannot be below the " + ward.getOccupiedBeds() + " occupied beds");
+        }
 
         ward.setType(request.getType());
         ward.setMaxCapacity(request.getMaxCapacity());
@@ -49,6 +72,11 @@ public class WardService {
         return wardRepository.save(ward);
     }
 
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.WARDS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.HOSPITALS, allEntries = true)
+    })
     public void deleteWard(UUID id) {
         UUID wardId = Objects.requireNonNull(id, "Ward ID cannot be null");
         if (!wardRepository.existsById(wardId)) {
@@ -58,10 +86,12 @@ public class WardService {
     }
 
     // Query methods
+    @Transactional(readOnly = true)
     public List<Ward> getWardsByType(WardType type) {
         return wardRepository.findByType(type);
     }
 
+    @Transactional(readOnly = true)
     public List<Ward> getWardsByHospitalId(UUID hospitalId) {
         Objects.requireNonNull(hospitalId, "Hospital ID cannot be null");
         return wardRepository.findByHospitalId(hospitalId);
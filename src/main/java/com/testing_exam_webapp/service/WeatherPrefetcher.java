@@ -0,0 +1,227 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.CacheConfig;
+import com.testing_exam_webapp.dto.WeatherDto;
+import com.testing_exam_webapp.dto.WeatherPrefetchStatusDto;
+import com.testing_exam_webapp.repository.HospitalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Keeps the weather cache warm for every hospital city, so user requests are served from the cache
+ * instead of waiting on OpenWeatherMap.
+ * <p>
+ * Each tick re-reads the distinct {@code Hospital.city} values and refreshes the cities that are due
+ * through {@link WeatherService#refreshWeather}, which writes the cache entry
+ * {@link WeatherService#getWeatherByCity} reads. A city is next due one interval later, give or take
+ * a random jitter, so refreshes spread out instead of arriving in bursts; a failed refresh is retried
+ * after {@code app.weather.prefetch.retry}. The interval must stay below the weather cache TTL.
+ * <p>
+ * Every instance runs the prefetcher against the same shared cache, so a due city whose shared entry
+ * was fetched less than an interval ago, by any instance, is rescheduled from that entry instead of
+ * refreshed again. Together the instances then call the API about once per city and interval.
+ * Refreshes draw from a per-instance token bucket sized below the upstream rate limit, leaving room for
+ * the cache misses of user requests; cities that find the bucket empty wait for a later tick.
+ */
+@Service
+public class WeatherPrefetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeatherPrefetcher.class);
+
+    private final HospitalRepository hospitalRepository;
+    private final WeatherService weatherService;
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+    private final Duration interval;
+    private final Duration jitter;
+    private final Duration retry;
+    private final TokenBucket bucket;
+    private final Clock clock;
+    // Keyed by WeatherService.cacheKey, so spelling variants of a city are refreshed once
+    private final Map<String, CityState> cities = new ConcurrentHashMap<>();
+    private volatile Instant lastRunAt;
+
+    public WeatherPrefetcher(HospitalRepository hospitalRepository,
+                             WeatherService weatherService,
+                             CacheManager cacheManager,
+                             @Value("${app.weather.prefetch.enabled:true}") boolean enabled,
+                             @Value("${app.weather.prefetch.interval:5m}") Duration interval,
+                             @Value("${app.weather.prefetch.jitter:30s}") Duration jitter,
+                             @Value("${app.weather.prefetch.retry:1m}") Duration retry,
+                             @Value("${app.weather.prefetch.requests-per-minute:30}") int requestsPerMinute,
+                             @Value("${app.weather.prefetch.burst:5}") int burst) {
+        this(hospitalRepository, weatherService, cacheManager, enabled, interval, jitter, retry, requestsPerMinute, burst,
+                Clock.systemUTC());
+    }
+
+    WeatherPrefetcher(HospitalRepository hospitalRepository, WeatherService weatherService, CacheManager cacheManager,
+                      boolean enabled, Duration interval, Duration jitter, Duration retry, int requestsPerMinute, int burst,
+                      Clock clock) {
+        this.hospitalRepository = hospitalRepository;
+        this.weatherService = weatherService;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.jitter = jitter;
+        this.retry = retry;
+        this.bucket = new TokenBucket(burst, requestsPerMinute / 60_000.0, clock.millis());
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${app.weather.prefetch.tick-ms:15000}", initialDelayString = "${app.weather.prefetch.tick-ms:15000}")
+    public void refreshDue() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = clock.instant();
+        Map<String, String> current = hospitalCities();
+        if (current != null) {
+            cities.keySet().retainAll(current.keySet());
+            // New cities are spread over the jitter window rather than all refreshed on the first tick
+            current.forEach((key, city) -> cities.computeIfAbsent(key,
+                    k -> new CityState(city, now.plus(randomUpTo(jitter)), null, false)));
+        }
+
+        List<Map.Entry<String, CityState>> due = cities.entrySet().stream()
+                .filter(entry -> !entry.getValue().nextRefreshAt().isAfter(now))
+                .sorted(Comparator.comparing(entry -> entry.getValue().nextRefreshAt()))
+                .toList();
+        for (Map.Entry<String, CityState> entry : due) {
+            if (refreshedElsewhere(entry.getKey(), entry.getValue(), now)) {
+                continue;
+            }
+            if (!bucket.tryAcquire(clock.millis())) {
+                logger.debug("Weather prefetch rate limit reached, the remaining due cities wait for the next tick");
+                break;
+            }
+            refresh(entry.getKey(), entry.getValue());
+        }
+        lastRunAt = now;
+    }
+
+    public WeatherPrefetchStatusDto getStatus() {
+        Instant now = clock.instant();
+        Map<String, Long> ages = new LinkedHashMap<>();
+        int stale = 0;
+        Long maxAge = null;
+        for (CityState state : cities.values().stream().sorted(Comparator.comparing(CityState::city)).toList()) {
+            Long age = state.lastRefreshedAt() != null
+                    ? Duration.between(state.lastRefreshedAt(), now).toSeconds()
+                    : null;
+            ages.put(state.city(), age);
+            if (age == null || state.lastFailed()) {
+                stale++;
+            }
+            if (age != null && (maxAge == null || age > maxAge)) {
+                maxAge = age;
+            }
+        }
+        WeatherPrefetchStatusDto status = new WeatherPrefetchStatusDto();
+        status.setEnabled(enabled);
+        status.setCities(ages.size());
+        status.setStale(stale);
+        status.setMaxAgeSeconds(maxAge);
+        status.setLastRunAt(lastRunAt);
+        status.setAgeSeconds(ages);
+        return status;
+    }
+
+    /** Distinct hospital cities keyed by cache key, or null if they could not be read. */
+    private Map<String, String> hospitalCities() {
+        try {
+            Map<String, String> current = new LinkedHashMap<>();
+            for (String city : hospitalRepository.findDistinctCities()) {
+                if (!city.trim().isEmpty()) {
+                    current.putIfAbsent(WeatherService.cacheKey(city), city);
+                }
+            }
+            return current;
+        } catch (DataAccessException e) {
+            logger.warn("Could not read hospital cities, keeping the current set", e);
+            return null;
+        }
+    }
+
+    /** Reschedules the city from the shared entry if another instance fetched it within the interval. */
+    private boolean refreshedElsewhere(String key, CityState state, Instant now) {
+        Cache cache = cacheManager.getCache(CacheConfig.WEATHER);
+        WeatherDto shared = cache != null ? cache.get(key, WeatherDto.class) : null;
+        Instant fetchedAt = shared != null ? shared.getFetchedAt() : null;
+        if (fetchedAt == null || !fetchedAt.plus(interval).isAfter(now)
+                || (state.lastRefreshedAt() != null && !fetchedAt.isAfter(state.lastRefreshedAt()))) {
+            return false;
+        }
+        cities.replace(key, state, new CityState(state.city(), nextRefreshAfter(fetchedAt), fetchedAt, false));
+        return true;
+    }
+
+    private void refresh(String key, CityState state) {
+        boolean refreshed;
+        try {
+            WeatherDto weather = weatherService.refreshWeather(state.city());
+            refreshed = weather != null && !weather.isFallback();
+        } catch (RuntimeException e) {
+            logger.debug("Weather prefetch for '{}' failed: {}", state.city(), e.getMessage());
+            refreshed = false;
+        }
+        Instant now = clock.instant();
+        CityState next = refreshed
+                ? new CityState(state.city(), nextRefreshAfter(now), now, false)
+                : new CityState(state.city(), now.plus(retry), state.lastRefreshedAt(), true);
+        // The city may have been dropped from the hospital list meanwhile
+        cities.replace(key, state, next);
+    }
+
+    private Instant nextRefreshAfter(Instant refreshedAt) {
+        return refreshedAt.plus(interval).plus(randomUpTo(jitter.multipliedBy(2))).minus(jitter);
+    }
+
+    private static Duration randomUpTo(Duration bound) {
+        return bound.isZero() ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound.toMillis()));
+    }
+
+    record CityState(String city, Instant nextRefreshAt, Instant lastRefreshedAt, boolean lastFailed) {
+    }
+
+    /** Refills continuously at {@code tokensPerMilli} up to {@code capacity}; one token per upstream call. */
+    static final class TokenBucket {
+
+        private final double capacity;
+        private final double tokensPerMilli;
+        private double tokens;
+        private long lastRefillMillis;
+
+        TokenBucket(double capacity, double tokensPerMilli, long nowMillis) {
+            this.capacity = capacity;
+            this.tokensPerMilli = tokensPerMilli;
+            this.tokens = capacity;
+            this.lastRefillMillis = nowMillis;
+        }
+
+        synchronized boolean tryAcquire(long nowMillis) {
+            tokens = Math.min(capacity, tokens + Math.max(0, nowMillis - lastRefillMillis) * tokensPerMilli);
+            lastRefillMillis = nowMillis;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
@@ -1,49 +1,89 @@
 package com.testing_exam_webapp.service;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.testing_exam_webapp.config.cache.CacheConfig;
 import com.testing_exam_webapp.dto.WeatherDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.Locale;
-import java.util.Map;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 
-@SuppressWarnings("unchecked")
 @Service
 public class WeatherService {
 
     private static final Logger logger = LoggerFactory.getLogger(WeatherService.class);
-    private static final String DEFAULT_CITY = "Copenhagen";
+    static final String DEFAULT_CITY = "Copenhagen";
+
+    // Binds straight from the response stream; fields the records do not declare are skipped unread
+    private static final ObjectReader RESPONSE_READER = new ObjectMapper()
+            .readerFor(OpenWeatherResponse.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
     private final RestTemplate restTemplate;
     private final String apiUrl;
     private final String apiKey;
 
+    public WeatherService(String apiUrl, String apiKey) {
+        this(apiUrl, apiKey, Duration.ofSeconds(2), Duration.ofSeconds(3));
+    }
+
+    /**
+     * Calls time out after {@code connectTimeout} to connect and {@code readTimeout} without data, so a
+     * hung API gives back the weatherExecutor and prefetch threads instead of holding them.
+     */
+    @Autowired
     public WeatherService(@Value("${weather.api.url}") String apiUrl,
-                         @Value("${weather.api.key}") String apiKey) {
+                         @Value("${weather.api.key}") String apiKey,
+                         @Value("${weather.api.connect-timeout:2s}") Duration connectTimeout,
+                         @Value("${weather.api.read-timeout:3s}") Duration readTimeout) {
         this.apiUrl = apiUrl;
         this.apiKey = apiKey;
-        this.restTemplate = new RestTemplate();
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restTemplate = new RestTemplate(requestFactory);
     }
 
+    @Cacheable(cacheNames = CacheConfig.WEATHER,
+            key = "T(com.testing_exam_webapp.service.WeatherService).cacheKey(#city)",
+            unless = "#result.fallback")
     public WeatherDto getWeatherByCity(String city) {
-        // Use default city if city is null or empty
-        String cityToUse = (city == null || city.trim().isEmpty()) ? DEFAULT_CITY : city.trim();
-        
-        // Convert Danish city names to English for API compatibility
-        String originalCity = cityToUse;
-        cityToUse = normalizeCityName(cityToUse);
-        
-        // Debug: Log the normalization (remove after testing)
-        if (!originalCity.equals(cityToUse)) {
-            logger.debug("Normalized city from '{}' to '{}'", originalCity, cityToUse);
-        }
+        return fetchWeather(city);
+    }
+
+    /**
+     * Fetches the weather from the API even if it is cached and stores the result for
+     * {@link #getWeatherByCity} to read; a fallback result leaves the cached entry alone.
+     */
+    @CachePut(cacheNames = CacheConfig.WEATHER,
+            key = "T(com.testing_exam_webapp.service.WeatherService).cacheKey(#city)",
+            unless = "#result.fallback")
+    public WeatherDto refreshWeather(String city) {
+        return fetchWeather(city);
+    }
+
+    private WeatherDto fetchWeather(String city) {
+        // Default city for a blank name, Danish and other aliases mapped to the name the API knows
+        String cityToUse = resolveCity(city);
 
         // Check if API key is configured
         if (apiKey == null || apiKey.trim().isEmpty()) {
@@ -56,17 +96,14 @@ public class WeatherService {
             String url = String.format("%s?q=%s&appid=%s&units=metric", 
                     apiUrl, encodedCity, apiKey);
             
-            @SuppressWarnings("rawtypes")
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-
-            if (response.getStatusCode() == HttpStatus.OK) {
-                Map<String, Object> responseBody = response.getBody();
-                if (responseBody != null) {
-                    return mapToWeatherDto(responseBody, cityToUse);
-                }
-            }
-            // Non-OK status or null body (shouldn't happen as RestTemplate throws exceptions, but safety check)
-            return createDefaultWeather(cityToUse);
+            String resolvedCity = cityToUse;
+            WeatherDto weather = restTemplate.execute(url, HttpMethod.GET,
+                    request -> request.getHeaders().setAccept(List.of(MediaType.APPLICATION_JSON)),
+                    response -> response.getStatusCode() == HttpStatus.OK
+                            ? readWeather(response.getBody(), resolvedCity)
+                            : null);
+            // Non-OK status (shouldn't happen as RestTemplate throws exceptions, but safety check)
+            return weather != null ? weather : createDefaultWeather(cityToUse);
         } catch (HttpClientErrorException.Unauthorized e) {
             // Invalid API key - return default weather silently
             logger.debug("Invalid API key, returning default weather");
@@ -87,81 +124,49 @@ public class WeatherService {
     }
 
     /**
-     * Normalizes city names from Danish to English for API compatibility
+     * Cache key for a city lookup, so spelling variants of the same city share one entry
      */
-    private String normalizeCityName(String city) {
-        if (city == null) {
-            return DEFAULT_CITY;
-        }
-        
-        String normalized = city.trim();
-        String lowerNormalized = normalized.toLowerCase(Locale.ROOT);
-        
-        // Copenhagen/København - catch all variations including encoding issues
-        // Check if it contains both "k" (or "K") and "benhavn" anywhere in the string
-        if ((lowerNormalized.contains("k") || normalized.contains("K")) && 
-            (lowerNormalized.contains("benhavn") || normalized.contains("benhavn"))) {
-            return DEFAULT_CITY;
-        }
-        
-        // Exact matches for common variations
-        if (lowerNormalized.equals("københavn") || 
-            lowerNormalized.equals("kobenhavn") || 
-            lowerNormalized.equals("kbh") || 
-            lowerNormalized.equals("copenhagen")) {
-            return DEFAULT_CITY;
-        }
-        // Return as-is if no mapping found
-        return normalized;
+    public static String cacheKey(String city) {
+        return CityNameNormalizer.fold(resolveCity(city));
+    }
+
+    /** The city name a lookup for {@code city} is made and reported under. */
+    static String resolveCity(String city) {
+        return (city == null || city.trim().isEmpty()) ? DEFAULT_CITY : CityNameNormalizer.resolve(city);
+    }
+
+    /**
+     * Reads an OpenWeatherMap current-weather response into a {@link WeatherDto} for {@code city}.
+     * An empty or malformed body fails with an {@link IOException}.
+     */
+    public static WeatherDto readWeather(InputStream body, String city) throws IOException {
+        return toWeather(RESPONSE_READER.readValue(body), city);
     }
 
-    private WeatherDto mapToWeatherDto(Map<String, Object> response, String city) {
+    static WeatherDto toWeather(OpenWeatherResponse response, String city) {
         WeatherDto dto = new WeatherDto();
-        
-        // Extract city and country
-        Map<String, Object> sys = (Map<String, Object>) response.get("sys");
-        if (sys != null) {
-            dto.setCountry((String) sys.get("country"));
-        }
         dto.setCity(city);
-
-        // Extract main weather data
-        Map<String, Object> main = (Map<String, Object>) response.get("main");
-        if (main != null) {
-            Object tempObj = main.get("temp");
-            if (tempObj instanceof Number number) {
-                dto.setTemperature(number.doubleValue());
-            }
-            Object humidityObj = main.get("humidity");
-            if (humidityObj instanceof Number number) {
-                dto.setHumidity(number.doubleValue());
-            }
+        dto.setFetchedAt(Instant.now());
+        if (response.sys() != null) {
+            dto.setCountry(response.sys().country());
         }
-
-        // Extract weather description
-        java.util.List<Map<String, Object>> weatherList = (java.util.List<Map<String, Object>>) response.get("weather");
-        if (weatherList != null && !weatherList.isEmpty()) {
-            Map<String, Object> weather = weatherList.get(0);
-            if (weather != null) {
-                dto.setDescription((String) weather.get("description"));
-                dto.setCondition((String) weather.get("main"));
-                dto.setIcon((String) weather.get("icon"));
-            }
+        if (response.main() != null) {
+            dto.setTemperature(response.main().temp());
+            dto.setHumidity(response.main().humidity());
         }
-
-        // Extract wind speed
-        Map<String, Object> wind = (Map<String, Object>) response.get("wind");
-        if (wind != null) {
-            Object speedObj = wind.get("speed");
-            if (speedObj instanceof Number number) {
-                dto.setWindSpeed(number.doubleValue());
-            }
+        if (response.weather() != null && !response.weather().isEmpty() && response.weather().get(0) != null) {
+            OpenWeatherResponse.Condition condition = response.weather().get(0);
+            dto.setDescription(condition.description());
+            dto.setCondition(condition.main());
+            dto.setIcon(condition.icon());
+        }
+        if (response.wind() != null) {
+            dto.setWindSpeed(response.wind().speed());
         }
-
         return dto;
     }
 
-    private WeatherDto createDefaultWeather(String city) {
+    static WeatherDto createDefaultWeather(String city) {
         WeatherDto dto = new WeatherDto();
         dto.setCity(city);
         dto.setCountry("DK");
@@ -171,7 +176,23 @@ public class WeatherService {
         dto.setIcon("02d");
         dto.setHumidity(65.0);
         dto.setWindSpeed(10.0);
+        dto.setFallback(true);
         return dto;
     }
-}
 
+    /** The parts of the OpenWeatherMap response this service uses. */
+    record OpenWeatherResponse(Sys sys, Main main, List<Condition> weather, Wind wind) {
+
+        record Sys(String country) {
+        }
+
+        record Main(Double temp, Double humidity) {
+        }
+
+        record Condition(String main, String description, String icon) {
+        }
+
+        record Wind(Double speed) {
+        }
+    }
+}
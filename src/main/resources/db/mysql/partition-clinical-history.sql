@@ -0,0 +1,28 @@
+-- Monthly RANGE partitioning of the hot appointment and surgery tables (MySQL 8).
+--
+-- Run once against an existing schema, then enable app.archive.mysql-partitioning.enabled so
+-- MySqlPartitionMaintainer splits pmax into one partition per month on every retention run.
+-- Range queries on appointment_date / surgery_date are then pruned to the months they touch, and
+-- ArchiveRetentionJob moves data one partition at a time.
+--
+-- MySQL requires the partitioning column in every unique key and does not support foreign keys on
+-- partitioned tables. Drop the foreign keys on these two tables first (fk_appointments_* and
+-- fk_surgeries_* when the schema was created with schema.sql); list them with
+--   SELECT TABLE_NAME, CONSTRAINT_NAME FROM information_schema.REFERENTIAL_CONSTRAINTS
+--   WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME IN ('appointments', 'surgeries');
+-- and remove each with ALTER TABLE <table> DROP FOREIGN KEY <name>. Referential checks for these
+-- tables are then enforced by the services only.
+
+ALTER TABLE appointments MODIFY appointment_date DATE NOT NULL;
+ALTER TABLE appointments DROP PRIMARY KEY, ADD PRIMARY KEY (appointment_id, appointment_date);
+ALTER TABLE appointments PARTITION BY RANGE COLUMNS (appointment_date) (
+    PARTITION p_history VALUES LESS THAN ('2000-01-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+ALTER TABLE surgeries MODIFY surgery_date DATE NOT NULL;
+ALTER TABLE surgeries DROP PRIMARY KEY, ADD PRIMARY KEY (surgery_id, surgery_date);
+ALTER TABLE surgeries PARTITION BY RANGE COLUMNS (surgery_date) (
+    PARTITION p_history VALUES LESS THAN ('2000-01-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
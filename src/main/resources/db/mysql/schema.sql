@@ -0,0 +1,196 @@
+-- Production schema (MySQL 8) for the prod profile, which only validates the schema on startup
+-- (spring.jpa.hibernate.ddl-auto=validate) and never creates or alters tables itself.
+--
+-- Create an empty database and run this script once before the first start:
+--   mysql -u root -p testing_exam_webapp < src/main/resources/db/mysql/schema.sql
+-- Column types are the ones Hibernate maps the entities to on MySQL: UUIDs as binary(16), Instants as
+-- datetime(6) and @Enumerated(STRING) fields as enum columns. A schema generated with ddl-auto=create
+-- from the same entities is equivalent. Keep this file in step with the entities; a column an entity
+-- gains must also be added to existing databases with ALTER TABLE before the new version starts.
+--
+-- After that, partition-clinical-history.sql can optionally partition appointments and surgeries.
+
+CREATE TABLE hospitals (
+    hospital_id   binary(16)   NOT NULL,
+    hospital_name varchar(255),
+    address       varchar(255),
+    city          varchar(255),
+    version       bigint,
+    PRIMARY KEY (hospital_id)
+) ENGINE = InnoDB;
+
+-- occupied_beds is only changed by guarded UPDATE statements, never by the entity
+CREATE TABLE wards (
+    ward_id       binary(16) NOT NULL,
+    type          enum ('CARDIOLOGY','GENERAL_MEDICINE','NEUROLOGY'),
+    max_capacity  integer    NOT NULL,
+    occupied_beds integer    NOT NULL DEFAULT 0,
+    version       bigint,
+    PRIMARY KEY (ward_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE hospitals_wards (
+    hospital_id binary(16) NOT NULL,
+    ward_id     binary(16) NOT NULL,
+    PRIMARY KEY (hospital_id, ward_id),
+    CONSTRAINT fk_hospitals_wards_ward FOREIGN KEY (ward_id) REFERENCES wards (ward_id),
+    CONSTRAINT fk_hospitals_wards_hospital FOREIGN KEY (hospital_id) REFERENCES hospitals (hospital_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE doctors (
+    doctor_id            binary(16)   NOT NULL,
+    doctor_name          varchar(255),
+    speciality           enum ('CARDIOLOGY','GENERAL_MEDICINE','NEUROLOGY','SURGERY'),
+    ward_ward_id         binary(16),
+    hospital_hospital_id binary(16),
+    version              bigint,
+    PRIMARY KEY (doctor_id),
+    CONSTRAINT fk_doctors_ward FOREIGN KEY (ward_ward_id) REFERENCES wards (ward_id),
+    CONSTRAINT fk_doctors_hospital FOREIGN KEY (hospital_hospital_id) REFERENCES hospitals (hospital_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE nurses (
+    nurse_id             binary(16)   NOT NULL,
+    nurse_name           varchar(255),
+    speciality           enum ('EMERGENCY','GENERAL_CARE','ICU'),
+    ward_ward_id         binary(16),
+    hospital_hospital_id binary(16),
+    version              bigint,
+    PRIMARY KEY (nurse_id),
+    CONSTRAINT fk_nurses_ward FOREIGN KEY (ward_ward_id) REFERENCES wards (ward_id),
+    CONSTRAINT fk_nurses_hospital FOREIGN KEY (hospital_hospital_id) REFERENCES hospitals (hospital_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE medications (
+    medication_id   binary(16)   NOT NULL,
+    medication_name varchar(255),
+    dosage          varchar(255),
+    version         bigint,
+    PRIMARY KEY (medication_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE diagnosis (
+    diagnosis_id     binary(16)   NOT NULL,
+    diagnosis_date   date,
+    description      varchar(255),
+    doctor_doctor_id binary(16),
+    version          bigint,
+    PRIMARY KEY (diagnosis_id),
+    CONSTRAINT fk_diagnosis_doctor FOREIGN KEY (doctor_doctor_id) REFERENCES doctors (doctor_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE patients (
+    patient_id           binary(16)   NOT NULL,
+    patient_name         varchar(255),
+    date_of_birth        date,
+    gender               varchar(255),
+    ward_ward_id         binary(16),
+    hospital_hospital_id binary(16),
+    version              bigint,
+    updated_at           datetime(6),
+    PRIMARY KEY (patient_id),
+    INDEX idx_patients_updated_at (updated_at),
+    CONSTRAINT fk_patients_ward FOREIGN KEY (ward_ward_id) REFERENCES wards (ward_id),
+    CONSTRAINT fk_patients_hospital FOREIGN KEY (hospital_hospital_id) REFERENCES hospitals (hospital_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE patients_diagnosis (
+    patient_patient_id     binary(16) NOT NULL,
+    diagnosis_diagnosis_id binary(16) NOT NULL,
+    PRIMARY KEY (patient_patient_id, diagnosis_diagnosis_id),
+    CONSTRAINT fk_patients_diagnosis_diagnosis FOREIGN KEY (diagnosis_diagnosis_id) REFERENCES diagnosis (diagnosis_id),
+    CONSTRAINT fk_patients_diagnosis_patient FOREIGN KEY (patient_patient_id) REFERENCES patients (patient_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE appointments (
+    appointment_id     binary(16)   NOT NULL,
+    appointment_date   date,
+    reason             varchar(255),
+    status             enum ('CANCELLED','COMPLETED','SCHEDULED'),
+    patient_patient_id binary(16),
+    doctor_doctor_id   binary(16),
+    nurse_nurse_id     binary(16),
+    version            bigint,
+    updated_at         datetime(6),
+    PRIMARY KEY (appointment_id),
+    INDEX idx_appointments_date_status (appointment_date, status),
+    INDEX idx_appointments_patient_date (patient_patient_id, appointment_date),
+    INDEX idx_appointments_doctor_date (doctor_doctor_id, appointment_date),
+    INDEX idx_appointments_nurse_date (nurse_nurse_id, appointment_date),
+    INDEX idx_appointments_updated_at (updated_at),
+    CONSTRAINT fk_appointments_patient FOREIGN KEY (patient_patient_id) REFERENCES patients (patient_id),
+    CONSTRAINT fk_appointments_doctor FOREIGN KEY (doctor_doctor_id) REFERENCES doctors (doctor_id),
+    CONSTRAINT fk_appointments_nurse FOREIGN KEY (nurse_nurse_id) REFERENCES nurses (nurse_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE surgeries (
+    surgery_id         binary(16)   NOT NULL,
+    surgery_date       date,
+    description        varchar(255),
+    patient_patient_id binary(16),
+    doctor_doctor_id   binary(16),
+    version            bigint,
+    updated_at         datetime(6),
+    PRIMARY KEY (surgery_id),
+    INDEX idx_surgeries_date (surgery_date),
+    INDEX idx_surgeries_patient_date (patient_patient_id, surgery_date),
+    INDEX idx_surgeries_doctor_date (doctor_doctor_id, surgery_date),
+    INDEX idx_surgeries_updated_at (updated_at),
+    CONSTRAINT fk_surgeries_patient FOREIGN KEY (patient_patient_id) REFERENCES patients (patient_id),
+    CONSTRAINT fk_surgeries_doctor FOREIGN KEY (doctor_doctor_id) REFERENCES doctors (doctor_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE prescriptions (
+    prescription_id          binary(16) NOT NULL,
+    start_date               date,
+    end_date                 date,
+    patient_patient_id       binary(16),
+    doctor_doctor_id         binary(16),
+    medication_medication_id binary(16),
+    version                  bigint,
+    updated_at               datetime(6),
+    PRIMARY KEY (prescription_id),
+    INDEX idx_prescriptions_patient_start_end (patient_patient_id, start_date, end_date),
+    INDEX idx_prescriptions_end_start (end_date, start_date),
+    INDEX idx_prescriptions_doctor_start (doctor_doctor_id, start_date),
+    INDEX idx_prescriptions_medication (medication_medication_id),
+    INDEX idx_prescriptions_updated_at (updated_at),
+    CONSTRAINT fk_prescriptions_patient FOREIGN KEY (patient_patient_id) REFERENCES patients (patient_id),
+    CONSTRAINT fk_prescriptions_doctor FOREIGN KEY (doctor_doctor_id) REFERENCES doctors (doctor_id),
+    CONSTRAINT fk_prescriptions_medication FOREIGN KEY (medication_medication_id) REFERENCES medications (medication_id)
+) ENGINE = InnoDB;
+
+-- Archive tables hold rows moved out of appointments and surgeries by ArchiveRetentionJob. They keep
+-- the referenced ids without foreign keys, so archived rows never block deleting a patient or doctor.
+CREATE TABLE appointments_archive (
+    appointment_id     binary(16)   NOT NULL,
+    appointment_date   date,
+    reason             varchar(255),
+    status             enum ('CANCELLED','COMPLETED','SCHEDULED'),
+    patient_patient_id binary(16),
+    doctor_doctor_id   binary(16),
+    nurse_nurse_id     binary(16),
+    PRIMARY KEY (appointment_id),
+    INDEX idx_appointments_archive_date (appointment_date),
+    INDEX idx_appointments_archive_patient_date (patient_patient_id, appointment_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE surgeries_archive (
+    surgery_id         binary(16)   NOT NULL,
+    surgery_date       date,
+    description        varchar(255),
+    patient_patient_id binary(16),
+    doctor_doctor_id   binary(16),
+    PRIMARY KEY (surgery_id),
+    INDEX idx_surgeries_archive_date (surgery_date),
+    INDEX idx_surgeries_archive_patient_date (patient_patient_id, surgery_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    user_id  binary(16)            NOT NULL,
+    username varchar(255)          NOT NULL,
+    password varchar(255)          NOT NULL,
+    role     enum ('ADMIN','USER') NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+) ENGINE = InnoDB;
@@ -0,0 +1,85 @@
+package com.testing_exam_webapp.config;
+
+import com.testing_exam_webapp.model.mysql.User;
+import com.testing_exam_webapp.repository.HospitalRepository;
+import com.testing_exam_webapp.repository.UserRepository;
+import com.testing_exam_webapp.repository.WardRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for DataInitializer.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataInitializer Tests")
+class DataInitializerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    @Mock
+    private WardRepository wardRepository;
+
+    @Test
+    @DisplayName("onApplicationReady - Seeding is handed to the startup executor")
+    void onApplicationReady_SubmitsSeedingToExecutor() {
+        List<Runnable> submitted = new ArrayList<>();
+        DataInitializer initializer = new DataInitializer(userRepository, passwordEncoder,
+                hospitalRepository, wardRepository, submitted::add);
+
+        initializer.onApplicationReady();
+
+        assertEquals(1, submitted.size());
+        verifyNoInteractions(userRepository, passwordEncoder, hospitalRepository, wardRepository);
+
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.of(new User()));
+        when(hospitalRepository.count()).thenReturn(2L);
+        submitted.get(0).run();
+
+        verify(userRepository, never()).save(any(User.class));
+        verify(passwordEncoder, never()).encode(anyString());
+    }
+
+    @Test
+    @DisplayName("onApplicationReady - Missing default users are created with encoded passwords")
+    void onApplicationReady_MissingUsers_CreatesThem() {
+        DataInitializer initializer = new DataInitializer(userRepository, passwordEncoder,
+                hospitalRepository, wardRepository, Runnable::run);
+        when(userRepository.findByUsername(anyString())).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+        when(hospitalRepository.count()).thenReturn(2L);
+
+        initializer.onApplicationReady();
+
+        verify(userRepository, times(2)).save(argThat(user -> "encoded".equals(user.getPassword())));
+    }
+
+    @Test
+    @DisplayName("onApplicationReady - Seeding failure is logged, not thrown")
+    void onApplicationReady_SeedingFails_DoesNotThrow() {
+        DataInitializer initializer = new DataInitializer(userRepository, passwordEncoder,
+                hospitalRepository, wardRepository, Runnable::run);
+        when(userRepository.findByUsername(anyString())).thenThrow(new IllegalStateException("Database unavailable"));
+
+        assertDoesNotThrow(initializer::onApplicationReady);
+    }
+}
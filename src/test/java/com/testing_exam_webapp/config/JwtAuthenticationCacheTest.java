@@ -0,0 +1,99 @@
+package com.testing_exam_webapp.config;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for JwtAuthenticationCache.
+ */
+@DisplayName("JwtAuthenticationCache Tests")
+class JwtAuthenticationCacheTest {
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "testSecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLongForHS256Algorithm");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 60_000L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshExpirationInMs", 120_000L);
+        cache = new JwtAuthenticationCache(tokenProvider, 2);
+    }
+
+    @Test
+    @DisplayName("get - Access token resolves to an authenticated principal with its role mask")
+    void get_AccessToken_ReturnsAuthentication() {
+        String token = tokenProvider.generateToken("doctor", "ADMIN");
+
+        JwtAuthentication authentication = cache.get(token);
+
+        assertTrue(authentication.isAuthenticated());
+        assertEquals("doctor", authentication.getName());
+        assertEquals("ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+        assertEquals(RoleAuthorizationManager.maskOf("ADMIN"), authentication.getRoleMask());
+        assertNotNull(authentication.getTokenId());
+    }
+
+    @Test
+    @DisplayName("get - Same token returns the cached instance")
+    void get_SameToken_ReturnsSameInstance() {
+        String token = tokenProvider.generateToken("doctor", "USER");
+
+        assertSame(cache.get(token), cache.get(token));
+    }
+
+    @Test
+    @DisplayName("get - Refresh token is not accepted as an access token")
+    void get_RefreshToken_ReturnsNull() {
+        String token = tokenProvider.generateRefreshToken("doctor", "USER");
+
+        assertNull(cache.get(token));
+    }
+
+    @Test
+    @DisplayName("get - Tampered token throws")
+    void get_TamperedToken_Throws() {
+        String token = tokenProvider.generateToken("doctor", "USER");
+
+        assertThrows(JwtException.class, () -> cache.get(token + "x"));
+    }
+
+    @Test
+    @DisplayName("get - Cache stays within its size bound")
+    void get_ManyTokens_BoundedSize() {
+        for (int i = 0; i < 5; i++) {
+            cache.get(tokenProvider.generateToken("user" + i, "USER"));
+        }
+
+        assertTrue(cache.size() <= 2);
+    }
+
+    @Test
+    @DisplayName("get - Full cache evicts single entries instead of emptying")
+    void get_FullCache_KeepsOtherEntries() {
+        for (int i = 0; i < 3; i++) {
+            cache.get(tokenProvider.generateToken("user" + i, "USER"));
+        }
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    @DisplayName("get - Shared authentication ignores details and authenticated changes")
+    void get_SharedAuthentication_IgnoresMutation() {
+        JwtAuthentication authentication = cache.get(tokenProvider.generateToken("doctor", "USER"));
+
+        authentication.setDetails("request details");
+        authentication.setAuthenticated(false);
+
+        assertNull(authentication.getDetails());
+        assertTrue(authentication.isAuthenticated());
+    }
+}
@@ -0,0 +1,99 @@
+package com.testing_exam_webapp.config;
+
+import com.testing_exam_webapp.dto.ActivePrescriptionDto;
+import com.testing_exam_webapp.dto.ChartAppointmentDto;
+import com.testing_exam_webapp.dto.NameSearchResult;
+import com.testing_exam_webapp.dto.WardUtilizationDto;
+import com.testing_exam_webapp.model.entity_bases.PatientBase;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Ward;
+import com.testing_exam_webapp.model.types.WardType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for NativeHintsConfig.
+ */
+@DisplayName("NativeHintsConfig Tests")
+class NativeHintsConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHintsConfig.ApplicationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("registerHints - Entities, mapped superclasses and enums are fully reflective")
+    void registerHints_ModelTypes_RegisteredWithAllMembers() {
+        for (Class<?> type : new Class<?>[]{Patient.class, Ward.class, PatientBase.class, WardType.class}) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(type)
+                    .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS)
+                    .test(hints), type.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("registerHints - DTOs built by JPQL constructor expressions have invocable constructors")
+    void registerHints_QueryDtos_ConstructorsRegistered() {
+        for (Class<?> type : new Class<?>[]{NameSearchResult.class, ChartAppointmentDto.class,
+                ActivePrescriptionDto.class, WardUtilizationDto.class}) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(type)
+                    .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)
+                    .test(hints), type.getName());
+        }
+    }
+
+    @Test
+    @DisplayName("registerHints - JJWT implementation classes and Jackson service files are included")
+    void registerHints_Jjwt_Registered() {
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtBuilder"))
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("io.jsonwebtoken.jackson.io.JacksonSerializer")).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/services/io.jsonwebtoken.io.Serializer").test(hints));
+    }
+
+    @Test
+    @DisplayName("registerHints - Swagger UI assets and external API response records are covered")
+    void registerHints_SwaggerUiAndResponseRecords_Registered() {
+        assertTrue(RuntimeHintsPredicates.resource()
+                .forResource("META-INF/resources/webjars/swagger-ui/5.17.14/index.html").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.testing_exam_webapp.service.WeatherService$OpenWeatherResponse$Main"))
+                .test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onType(TypeReference.of("com.testing_exam_webapp.service.TimeService$WorldTimeResponse"))
+                .test(hints));
+    }
+
+    @Test
+    @DisplayName("registerHints - City alias table and default drug-interaction rules are bundled")
+    void registerHints_ClasspathTables_Registered() {
+        assertTrue(RuntimeHintsPredicates.resource().forResource("city-aliases.csv").test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("drug-interactions.csv").test(hints));
+    }
+
+    @Test
+    @DisplayName("typesIn - Scans only the given package")
+    void typesIn_OnlyGivenPackage() {
+        List<String> types = NativeHintsConfig.ApplicationRuntimeHints.typesIn(NativeHintsConfig.MODEL_PACKAGE,
+                getClass().getClassLoader());
+
+        assertTrue(types.contains(Patient.class.getName()));
+        assertTrue(types.stream().allMatch(type -> type.startsWith(NativeHintsConfig.MODEL_PACKAGE + ".")));
+    }
+}
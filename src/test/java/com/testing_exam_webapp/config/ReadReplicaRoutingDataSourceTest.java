@@ -0,0 +1,155 @@
+package com.testing_exam_webapp.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ReadReplicaRoutingDataSource.
+ * Two in-memory H2 databases stand in for the primary and the replica.
+ */
+@DisplayName("ReadReplicaRoutingDataSource Tests")
+class ReadReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = h2("routing_primary");
+        replica = h2("routing_replica");
+        execute(replica, "CREATE TABLE replica_lag (seconds BIGINT)");
+        execute(replica, "INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        execute(primary, "SHUTDOWN");
+        execute(replica, "SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Outside a read-only transaction - Routes to primary")
+    void getConnection_NotReadOnly_UsesPrimary() throws SQLException {
+        DataSource routing = routing(replica, null);
+
+        assertEquals("routing_primary", databaseName(routing));
+    }
+
+    @Test
+    @DisplayName("Read-only transaction - Routes to replica")
+    void getConnection_ReadOnly_UsesReplica() throws SQLException {
+        DataSource routing = routing(replica, null);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("routing_replica", databaseName(routing));
+    }
+
+    @Test
+    @DisplayName("Read-only transaction - Replica within max lag - Routes to replica")
+    void getConnection_ReplicaWithinLag_UsesReplica() throws SQLException {
+        DataSource routing = routing(replica, LAG_QUERY);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("routing_replica", databaseName(routing));
+    }
+
+    @Test
+    @DisplayName("Read-only transaction - Replica lagging - Falls back to primary")
+    void getConnection_ReplicaLagging_FallsBackToPrimary() throws SQLException {
+        execute(replica, "UPDATE replica_lag SET seconds = 60");
+        DataSource routing = routing(replica, LAG_QUERY);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("routing_primary", databaseName(routing));
+    }
+
+    @Test
+    @DisplayName("Read-only transaction - Replica unreachable - Falls back to primary")
+    void getConnection_ReplicaDown_FallsBackToPrimary() throws SQLException {
+        JdbcDataSource unreachable = new JdbcDataSource();
+        unreachable.setURL("jdbc:h2:tcp://localhost:1/routing_missing");
+        DataSource routing = routing(unreachable, null);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("routing_primary", databaseName(routing));
+    }
+
+    @Test
+    @DisplayName("isUsable - Answers from the last probe without touching the replica")
+    void isUsable_BetweenRefreshes_ReusesLastResult() throws SQLException {
+        ReplicaHealthCheck health = new ReplicaHealthCheck("replica-0", replica, LAG_QUERY, Duration.ofSeconds(5));
+        assertFalse(health.isUsable(), "not usable before the first probe");
+
+        health.refresh();
+        assertTrue(health.isUsable());
+        execute(replica, "UPDATE replica_lag SET seconds = 60");
+        assertTrue(health.isUsable(), "last result is reused until the next refresh");
+
+        health.refresh();
+        assertFalse(health.isUsable());
+    }
+
+    @Test
+    @DisplayName("Background health check - Replica starting to lag is taken out of rotation")
+    void healthCheck_ReplicaStartsLagging_FallsBackToPrimary() throws Exception {
+        ReplicaHealthCheck health = new ReplicaHealthCheck("replica-0", replica, LAG_QUERY, Duration.ofSeconds(5));
+        try (ReadReplicaRoutingDataSource router = new ReadReplicaRoutingDataSource(primary, List.of(health), Duration.ofMillis(20))) {
+            DataSource routing = new LazyConnectionDataSourceProxy(router);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertEquals("routing_replica", databaseName(routing));
+
+            execute(replica, "UPDATE replica_lag SET seconds = 60");
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (health.isUsable() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals("routing_primary", databaseName(routing));
+        }
+    }
+
+    private DataSource routing(DataSource replicaDataSource, String lagQuery) {
+        ReplicaHealthCheck health = new ReplicaHealthCheck("replica-0", replicaDataSource, lagQuery, Duration.ofSeconds(5));
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(primary, List.of(health), Duration.ofHours(1)));
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+
+    private static void execute(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String databaseName(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT DATABASE()")) {
+            rs.next();
+            return rs.getString(1).toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.testing_exam_webapp.config;
+
+import com.testing_exam_webapp.model.types.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for RoleAuthorizationManager.
+ */
+@DisplayName("RoleAuthorizationManager Tests")
+class RoleAuthorizationManagerTest {
+
+    private final RoleAuthorizationManager manager = new RoleAuthorizationManager();
+
+    @Test
+    @DisplayName("check - Admin-only method grants ADMIN and denies USER")
+    void check_AdminOnlyMethod() throws NoSuchMethodException {
+        SimpleMethodInvocation invocation = invocation("adminOnly");
+
+        assertTrue(manager.check(() -> jwt(Role.ADMIN), invocation).isGranted());
+        assertFalse(manager.check(() -> jwt(Role.USER), invocation).isGranted());
+    }
+
+    @Test
+    @DisplayName("check - Any-of method grants both roles")
+    void check_AnyRoleMethod() throws NoSuchMethodException {
+        SimpleMethodInvocation invocation = invocation("anyRole");
+
+        assertTrue(manager.check(() -> jwt(Role.ADMIN), invocation).isGranted());
+        assertTrue(manager.check(() -> jwt(Role.USER), invocation).isGranted());
+    }
+
+    @Test
+    @DisplayName("check - Class-level annotation applies to unannotated methods")
+    void check_ClassLevelAnnotation() throws NoSuchMethodException {
+        SimpleMethodInvocation invocation = new SimpleMethodInvocation(new AdminEndpoints(),
+                AdminEndpoints.class.getMethod("inherited"));
+
+        assertTrue(manager.check(() -> jwt(Role.ADMIN), invocation).isGranted());
+        assertFalse(manager.check(() -> jwt(Role.USER), invocation).isGranted());
+    }
+
+    @Test
+    @DisplayName("check - Missing or unauthenticated caller is denied")
+    void check_NoAuthentication_Denied() throws NoSuchMethodException {
+        SimpleMethodInvocation invocation = invocation("anyRole");
+        TestingAuthenticationToken unauthenticated = new TestingAuthenticationToken("user", null, "ROLE_USER");
+        unauthenticated.setAuthenticated(false);
+
+        assertFalse(manager.check(() -> null, invocation).isGranted());
+        assertFalse(manager.check(() -> unauthenticated, invocation).isGranted());
+    }
+
+    @Test
+    @DisplayName("check - Non-JWT authentication is checked through its authorities")
+    void check_OtherAuthentication_UsesAuthorities() throws NoSuchMethodException {
+        Authentication admin = new TestingAuthenticationToken("admin", null, "ROLE_ADMIN");
+        Authentication other = new TestingAuthenticationToken("x", null, "ROLE_AUDITOR");
+
+        assertTrue(manager.check(() -> admin, invocation("adminOnly")).isGranted());
+        assertFalse(manager.check(() -> other, invocation("anyRole")).isGranted());
+    }
+
+    @Test
+    @DisplayName("maskOf - Unknown role name is an empty mask")
+    void maskOf_UnknownRole_ReturnsZero() {
+        assertEquals(0, RoleAuthorizationManager.maskOf("AUDITOR"));
+        assertEquals(0, RoleAuthorizationManager.maskOf((String) null));
+        assertNotEquals(0, RoleAuthorizationManager.maskOf("ADMIN"));
+    }
+
+    private static SimpleMethodInvocation invocation(String method) throws NoSuchMethodException {
+        return new SimpleMethodInvocation(new Endpoints(), Endpoints.class.getMethod(method));
+    }
+
+    private static JwtAuthentication jwt(Role role) {
+        return new JwtAuthentication("user", role.name(), "jti", Instant.now().plusSeconds(60));
+    }
+
+    static class Endpoints {
+        @RequireRoles(Role.ADMIN)
+        public void adminOnly() {
+        }
+
+        @RequireRoles({Role.ADMIN, Role.USER})
+        public void anyRole() {
+        }
+    }
+
+    @RequireRoles(Role.ADMIN)
+    static class AdminEndpoints {
+        public void inherited() {
+        }
+    }
+}
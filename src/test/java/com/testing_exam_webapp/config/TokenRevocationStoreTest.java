@@ -0,0 +1,148 @@
+package com.testing_exam_webapp.config;
+
+import com.testing_exam_webapp.config.cache.LocalRemoteCacheStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TokenRevocationStore.
+ */
+@DisplayName("TokenRevocationStore Tests")
+class TokenRevocationStoreTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+    private static final Duration ACCESS_LIFETIME = Duration.ofMinutes(15);
+
+    private LocalRemoteCacheStore remote;
+
+    @BeforeEach
+    void setUp() {
+        remote = new LocalRemoteCacheStore();
+    }
+
+    @Test
+    @DisplayName("isRevoked - Revoked id is reported until it expires")
+    void isRevoked_RevokedId_ReturnsTrue() {
+        TokenRevocationStore store = new TokenRevocationStore(remote, 100, Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertTrue(store.revoke("jti-1", NOW.plusSeconds(60)));
+
+        assertTrue(store.isRevoked("jti-1"));
+        assertFalse(store.isRevoked("jti-2"));
+        assertFalse(store.isRevoked(null));
+    }
+
+    @Test
+    @DisplayName("revoke - Second revocation of the same id returns false")
+    void revoke_SameIdTwice_ReturnsFalse() {
+        TokenRevocationStore store = new TokenRevocationStore(remote, 100, Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertTrue(store.revoke("jti-1", NOW.plusSeconds(60)));
+        assertFalse(store.revoke("jti-1", NOW.plusSeconds(60)));
+    }
+
+    @Test
+    @DisplayName("revoke - Already expired token is not stored")
+    void revoke_ExpiredToken_NotStored() {
+        TokenRevocationStore store = new TokenRevocationStore(remote, 100, Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertFalse(store.revoke("jti-1", NOW.minusSeconds(1)));
+
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("purgeExpired - Drops expired ids and keeps live ones")
+    void purgeExpired_RemovesOnlyExpiredEntries() {
+        MutableClock clock = new MutableClock(NOW);
+        TokenRevocationStore store = new TokenRevocationStore(remote, 100, Duration.ZERO, clock);
+        store.revoke("short", NOW.plusSeconds(10));
+        store.revoke("long", NOW.plusSeconds(3600));
+
+        clock.advance(Duration.ofSeconds(30));
+        store.purgeExpired();
+
+        assertEquals(1, store.size());
+        assertFalse(store.isRevoked("short"));
+        assertTrue(store.isRevoked("long"));
+    }
+
+    @Test
+    @DisplayName("revoke/isRevoked - Instances sharing a store see each other's revocations and used refresh tokens")
+    void revoke_SharedStore_VisibleOnEveryInstance() {
+        MutableClock clock = new MutableClock(NOW);
+        TokenRevocationStore first = new TokenRevocationStore(remote, 100, ACCESS_LIFETIME, clock);
+        TokenRevocationStore second = new TokenRevocationStore(remote, 100, ACCESS_LIFETIME, clock);
+        clock.advance(ACCESS_LIFETIME);
+
+        assertTrue(first.revoke("jti-1", NOW.plus(Duration.ofHours(1))));
+
+        assertTrue(second.isRevoked("jti-1"));
+        assertFalse(second.revoke("jti-1", NOW.plus(Duration.ofHours(1))));
+        assertFalse(second.isRevoked("jti-2"));
+    }
+
+    @Test
+    @DisplayName("isRevoked - Instance started after a revocation finds it in the store while not yet warm")
+    void isRevoked_StartedAfterRevocation_ConsultsStore() {
+        MutableClock clock = new MutableClock(NOW);
+        new TokenRevocationStore(remote, 100, ACCESS_LIFETIME, clock).revoke("jti-1", NOW.plus(Duration.ofMinutes(10)));
+
+        TokenRevocationStore started = new TokenRevocationStore(remote, 100, ACCESS_LIFETIME, clock);
+
+        assertTrue(started.isRevoked("jti-1"));
+        assertFalse(started.isRevoked("jti-2"));
+    }
+
+    @Test
+    @DisplayName("isRevoked - No false negatives well past the expected size")
+    void isRevoked_ManyEntries_NoFalseNegatives() {
+        TokenRevocationStore store = new TokenRevocationStore(remote, 1_000, Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+        String[] ids = new String[5_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            store.revoke(ids[i], NOW.plusSeconds(60));
+        }
+
+        for (String id : ids) {
+            assertTrue(store.isRevoked(id));
+        }
+        assertFalse(store.isRevoked(UUID.randomUUID().toString()));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
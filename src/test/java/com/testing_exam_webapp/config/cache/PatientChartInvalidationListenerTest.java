@@ -0,0 +1,88 @@
+package com.testing_exam_webapp.config.cache;
+
+import com.testing_exam_webapp.model.mysql.Appointment;
+import com.testing_exam_webapp.model.mysql.Medication;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Prescription;
+import com.testing_exam_webapp.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for PatientChartInvalidationListener.
+ */
+@DisplayName("PatientChartInvalidationListener Tests")
+class PatientChartInvalidationListenerTest {
+
+    private Cache cache;
+    private PatientChartInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        cache = mock(Cache.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(CacheConfig.PATIENT_CHARTS)).thenReturn(cache);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("cacheManager", cacheManager);
+        listener = new PatientChartInvalidationListener(beanFactory.getBeanProvider(CacheManager.class));
+    }
+
+    @Test
+    @DisplayName("onChange - Patient write evicts its own chart")
+    void onChange_Patient_EvictsChart() {
+        Patient patient = TestDataBuilder.createPatient();
+
+        listener.onChange(patient);
+
+        verify(cache).evict(patient.getPatientId());
+    }
+
+    @Test
+    @DisplayName("onChange - Appointment write evicts the owning patient's chart")
+    void onChange_Appointment_EvictsOwnerChart() {
+        Patient patient = TestDataBuilder.createPatient();
+        Appointment appointment = new Appointment();
+        appointment.setPatient(patient);
+
+        listener.onChange(appointment);
+
+        verify(cache).evict(patient.getPatientId());
+    }
+
+    @Test
+    @DisplayName("onChange - Records without a patient and other entities are ignored")
+    void onChange_NoPatient_DoesNothing() {
+        listener.onChange(new Prescription());
+        listener.onChange(new Medication());
+
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("onChange - Same patient is evicted once per transaction")
+    void onChange_InTransaction_EvictsOncePerPatient() {
+        Patient patient = TestDataBuilder.createPatient();
+        Prescription first = new Prescription();
+        first.setPatient(patient);
+        Prescription second = new Prescription();
+        second.setPatient(patient);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            listener.onChange(first);
+            listener.onChange(second);
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCompletion(0));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(cache, times(1)).evict(patient.getPatientId());
+    }
+}
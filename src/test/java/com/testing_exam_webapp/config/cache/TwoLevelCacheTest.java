@@ -0,0 +1,161 @@
+package com.testing_exam_webapp.config.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TwoLevelCache and TwoLevelCacheManager.
+ * Two managers sharing one LocalRemoteCacheStore play two app instances.
+ */
+@DisplayName("TwoLevelCache Tests")
+class TwoLevelCacheTest {
+
+    private LocalRemoteCacheStore remote;
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        remote = new LocalRemoteCacheStore();
+        TwoLevelCacheProperties properties = new TwoLevelCacheProperties();
+        properties.setNearTtl(Duration.ofMinutes(5));
+        nodeA = manager(properties);
+        nodeB = manager(properties);
+    }
+
+    @Test
+    @DisplayName("put - Value written on one node is readable on the other")
+    void put_OnNodeA_VisibleOnNodeB() {
+        nodeA.getCache("hospitals").put("h1", "Rigshospitalet");
+
+        Cache.ValueWrapper value = nodeB.getCache("hospitals").get("h1");
+
+        assertNotNull(value);
+        assertEquals("Rigshospitalet", value.get());
+    }
+
+    @Test
+    @DisplayName("evict - Eviction on one node drops the other node's near copy")
+    void evict_OnNodeA_InvalidatesNearCacheOnNodeB() {
+        nodeA.getCache("hospitals").put("h1", "Rigshospitalet");
+        // Node B now holds a near copy
+        assertNotNull(nodeB.getCache("hospitals").get("h1"));
+
+        nodeA.getCache("hospitals").evict("h1");
+
+        assertNull(nodeB.getCache("hospitals").get("h1"));
+        assertNull(remote.get("hospitals", "h1"));
+    }
+
+    @Test
+    @DisplayName("put - Overwrite on one node replaces the other node's near copy")
+    void put_Overwrite_OtherNodeSeesNewValue() {
+        nodeA.getCache("wards").put("w1", "Cardiology");
+        assertEquals("Cardiology", nodeB.getCache("wards").get("w1").get());
+
+        nodeA.getCache("wards").put("w1", "Neurology");
+
+        assertEquals("Neurology", nodeB.getCache("wards").get("w1").get());
+    }
+
+    @Test
+    @DisplayName("clear - Clears the cache on every node")
+    void clear_OnNodeA_ClearsNodeB() {
+        nodeA.getCache("medications").put("m1", "Ibuprofen");
+        nodeB.getCache("medications").get("m1");
+
+        nodeA.getCache("medications").clear();
+
+        assertNull(nodeB.getCache("medications").get("m1"));
+    }
+
+    @Test
+    @DisplayName("get - Expired shared entry is a miss")
+    void get_ExpiredEntry_ReturnsNull() {
+        TwoLevelCacheProperties properties = new TwoLevelCacheProperties();
+        properties.setTtl(Map.of("weather", Duration.ZERO));
+        TwoLevelCacheManager manager = manager(properties);
+
+        manager.getCache("weather").put("copenhagen", "sunny");
+
+        assertNull(manager.getCache("weather").get("copenhagen"));
+    }
+
+    @Test
+    @DisplayName("put - A full near layer evicts old keys instead of refusing new ones")
+    void put_NearLayerFull_KeepsCachingNewKeys() {
+        TwoLevelCacheProperties properties = new TwoLevelCacheProperties();
+        properties.setNearMaxEntries(2);
+        Cache cache = manager(properties).getCache("hospitals");
+        com.github.benmanes.caffeine.cache.Cache<?, ?> near =
+                (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("h" + i, "Hospital " + i);
+        }
+        near.cleanUp();
+        // Gone from the shared store: only the near layer can still answer
+        remote.evict("hospitals", "h9");
+
+        assertTrue(near.estimatedSize() <= 2);
+        assertEquals("Hospital 9", cache.get("h9").get());
+    }
+
+    @Test
+    @DisplayName("put - Expired shared entries are purged without being read again")
+    void put_ExpiredSharedEntries_Purged() {
+        for (int i = 0; i < 100; i++) {
+            remote.put("patient-charts", "p" + i, "chart", Duration.ZERO);
+        }
+
+        assertEquals(0, remote.size("patient-charts"));
+    }
+
+    @Test
+    @DisplayName("get with loader - Loads once and serves later calls from cache")
+    void get_WithLoader_LoadsOnce() {
+        int[] calls = {0};
+        Cache cache = nodeA.getCache("hospitals");
+
+        String first = cache.get("h2", () -> "Loaded " + ++calls[0]);
+        String second = cache.get("h2", () -> "Loaded " + ++calls[0]);
+
+        assertEquals("Loaded 1", first);
+        assertEquals("Loaded 1", second);
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    @DisplayName("evict - Inside a transaction the eviction waits for commit")
+    void evict_InTransaction_DeferredUntilCommit() {
+        nodeA.getCache("hospitals").put("h1", "Rigshospitalet");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            nodeA.getCache("hospitals").evict("h1");
+            assertNotNull(nodeB.getCache("hospitals").get("h1"), "not evicted before commit");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.afterCommit());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(nodeB.getCache("hospitals").get("h1"));
+    }
+
+    private TwoLevelCacheManager manager(TwoLevelCacheProperties properties) {
+        TwoLevelCacheManager manager = new TwoLevelCacheManager(remote, properties,
+                List.of("hospitals", "wards", "medications", "weather"));
+        manager.afterPropertiesSet();
+        return manager;
+    }
+}
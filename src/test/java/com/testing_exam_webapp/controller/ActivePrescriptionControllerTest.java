@@ -0,0 +1,73 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.dto.ActivePrescriptionDto;
+import com.testing_exam_webapp.service.ActivePrescriptionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ActivePrescriptionController.
+ */
+@DisplayName("ActivePrescriptionController Tests")
+class ActivePrescriptionControllerTest {
+
+    private ActivePrescriptionService activePrescriptionService;
+    private ActivePrescriptionController activePrescriptionController;
+    private ActivePrescriptionDto activePrescription;
+
+    @BeforeEach
+    void setUp() {
+        activePrescriptionService = mock(ActivePrescriptionService.class);
+        activePrescriptionController = new ActivePrescriptionController(activePrescriptionService);
+        activePrescription = new ActivePrescriptionDto(UUID.randomUUID(), UUID.randomUUID(), "Bob", UUID.randomUUID(),
+                UUID.randomUUID(), "Ibuprofen", "400mg", LocalDate.now(), null);
+    }
+
+    @Test
+    @DisplayName("getActivePrescriptions - With results - Returns OK")
+    void getActivePrescriptions_WithResults_ReturnsOk() {
+        when(activePrescriptionService.getActivePrescriptions(null)).thenReturn(List.of(activePrescription));
+
+        ResponseEntity<List<ActivePrescriptionDto>> response = activePrescriptionController.getActivePrescriptions(null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+    }
+
+    @Test
+    @DisplayName("getActivePrescriptionsForPatient - None active - Returns NO_CONTENT")
+    void getActivePrescriptionsForPatient_NoneActive_ReturnsNoContent() {
+        UUID patientId = UUID.randomUUID();
+        LocalDate date = LocalDate.of(2024, 6, 10);
+        when(activePrescriptionService.getActivePrescriptionsForPatient(patientId, date)).thenReturn(Collections.emptyList());
+
+        ResponseEntity<List<ActivePrescriptionDto>> response =
+                activePrescriptionController.getActivePrescriptionsForPatient(patientId, date);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(activePrescriptionService, times(1)).getActivePrescriptionsForPatient(patientId, date);
+    }
+
+    @Test
+    @DisplayName("getWardMedicationRound - With results - Returns OK")
+    void getWardMedicationRound_WithResults_ReturnsOk() {
+        UUID wardId = activePrescription.getWardId();
+        when(activePrescriptionService.getWardMedicationRound(wardId, null)).thenReturn(List.of(activePrescription));
+
+        ResponseEntity<List<ActivePrescriptionDto>> response = activePrescriptionController.getWardMedicationRound(wardId, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Ibuprofen", response.getBody().get(0).getMedicationName());
+    }
+}
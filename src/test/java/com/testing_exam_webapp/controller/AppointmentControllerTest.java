@@ -1,5 +1,6 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.dto.AppointmentFilter;
 import com.testing_exam_webapp.dto.AppointmentRequest;
 import com.testing_exam_webapp.model.mysql.Appointment;
 import com.testing_exam_webapp.model.types.AppointmentStatusType;
@@ -7,6 +8,10 @@ import com.testing_exam_webapp.service.AppointmentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -19,6 +24,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -120,16 +126,16 @@ class AppointmentControllerTest {
         AppointmentRequest request = new AppointmentRequest();
         request.setStatus(AppointmentStatusType.COMPLETED);
 
-        when(appointmentService.updateAppointment(eq(appointmentId), any(AppointmentRequest.class)))
+        when(appointmentService.updateAppointment(eq(appointmentId), any(AppointmentRequest.class), isNull()))
                 .thenReturn(testAppointment);
 
         // Act
-        ResponseEntity<Appointment> response = appointmentController.updateAppointment(appointmentId, request);
+        ResponseEntity<Appointment> response = appointmentController.updateAppointment(appointmentId, request, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(appointmentService, times(1)).updateAppointment(eq(appointmentId), any(AppointmentRequest.class));
+        verify(appointmentService, times(1)).updateAppointment(eq(appointmentId), any(AppointmentRequest.class), isNull());
     }
 
     @Test
@@ -268,5 +274,38 @@ class AppointmentControllerTest {
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         verify(appointmentService, times(1)).getAppointmentsByDateRange(startDate, endDate);
     }
-}
 
+    @Test
+    @DisplayName("searchAppointments - Should return OK with matching page")
+    void searchAppointments_WithMatches_ReturnsOk() {
+        // Arrange
+        AppointmentFilter filter = new AppointmentFilter();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(appointmentService.searchAppointments(filter, pageable))
+                .thenReturn(new PageImpl<>(List.of(testAppointment), pageable, 1));
+
+        // Act
+        ResponseEntity<Page<Appointment>> response = appointmentController.searchAppointments(filter, pageable);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getTotalElements());
+        verify(appointmentService, times(1)).searchAppointments(filter, pageable);
+    }
+
+    @Test
+    @DisplayName("searchAppointments - Should return NO_CONTENT when nothing matches")
+    void searchAppointments_NoMatches_ReturnsNoContent() {
+        // Arrange
+        AppointmentFilter filter = new AppointmentFilter();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(appointmentService.searchAppointments(filter, pageable)).thenReturn(Page.empty(pageable));
+
+        // Act
+        ResponseEntity<Page<Appointment>> response = appointmentController.searchAppointments(filter, pageable);
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+}
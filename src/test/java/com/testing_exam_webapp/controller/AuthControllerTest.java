@@ -2,6 +2,7 @@ package com.testing_exam_webapp.controller;
 
 import com.testing_exam_webapp.dto.LoginRequest;
 import com.testing_exam_webapp.dto.LoginResponse;
+import com.testing_exam_webapp.dto.RefreshTokenRequest;
 import com.testing_exam_webapp.dto.RegisterRequest;
 import com.testing_exam_webapp.model.mysql.User;
 import com.testing_exam_webapp.model.types.Role;
@@ -11,11 +12,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -29,6 +32,7 @@ class AuthControllerTest {
     private AuthController authController;
     private LoginRequest loginRequest;
     private RegisterRequest registerRequest;
+    private MockHttpServletRequest httpRequest;
 
     @BeforeEach
     void setUp() {
@@ -42,31 +46,69 @@ class AuthControllerTest {
         registerRequest = new RegisterRequest();
         registerRequest.setUsername("newuser");
         registerRequest.setPassword("password123");
+
+        httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("10.0.0.1");
     }
 
     @Test
     @DisplayName("login - Valid credentials - Returns OK with token")
     void login_ValidCredentials_ReturnsOk() {
         LoginResponse loginResponse = new LoginResponse("jwt-token-123", "USER");
-        when(authService.login(any(LoginRequest.class))).thenReturn(loginResponse);
+        when(authService.login(any(LoginRequest.class), anyString())).thenReturn(loginResponse);
 
-        ResponseEntity<LoginResponse> response = authController.login(loginRequest);
+        ResponseEntity<LoginResponse> response = authController.login(loginRequest, httpRequest);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("jwt-token-123", response.getBody().getToken());
         assertEquals("USER", response.getBody().getRole());
-        verify(authService, times(1)).login(loginRequest);
+        verify(authService, times(1)).login(loginRequest, "10.0.0.1");
     }
 
     @Test
     @DisplayName("login - Service throws exception - Exception propagated")
     void login_ServiceThrowsException_ExceptionPropagated() {
-        when(authService.login(any(LoginRequest.class)))
+        when(authService.login(any(LoginRequest.class), anyString()))
                 .thenThrow(new RuntimeException("Authentication failed"));
 
-        assertThrows(RuntimeException.class, () -> authController.login(loginRequest));
-        verify(authService, times(1)).login(loginRequest);
+        assertThrows(RuntimeException.class, () -> authController.login(loginRequest, httpRequest));
+        verify(authService, times(1)).login(loginRequest, "10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("refresh - Valid refresh token - Returns OK with new tokens")
+    void refresh_ValidToken_ReturnsOk() {
+        RefreshTokenRequest refreshRequest = new RefreshTokenRequest();
+        refreshRequest.setRefreshToken("refresh-token");
+        when(authService.refresh("refresh-token")).thenReturn(new LoginResponse("new-access", "USER", "new-refresh"));
+
+        ResponseEntity<LoginResponse> response = authController.refresh(refreshRequest);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("new-access", response.getBody().getToken());
+        assertEquals("new-refresh", response.getBody().getRefreshToken());
+    }
+
+    @Test
+    @DisplayName("logout - Bearer and refresh token - Returns NO_CONTENT and revokes both")
+    void logout_WithTokens_ReturnsNoContent() {
+        RefreshTokenRequest refreshRequest = new RefreshTokenRequest();
+        refreshRequest.setRefreshToken("refresh-token");
+
+        ResponseEntity<Void> response = authController.logout("Bearer access-token", refreshRequest);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(authService).logout("access-token", "refresh-token");
+    }
+
+    @Test
+    @DisplayName("logout - No tokens - Returns NO_CONTENT")
+    void logout_WithoutTokens_ReturnsNoContent() {
+        ResponseEntity<Void> response = authController.logout(null, null);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(authService).logout(null, null);
     }
 
     @Test
@@ -102,10 +144,10 @@ class AuthControllerTest {
     @Test
     @DisplayName("login - Null request body - Handles gracefully")
     void login_NullRequestBody_HandlesGracefully() {
-        when(authService.login(null))
+        when(authService.login(null, "10.0.0.1"))
                 .thenThrow(new IllegalArgumentException("Login request cannot be null"));
 
-        assertThrows(IllegalArgumentException.class, () -> authController.login(null));
+        assertThrows(IllegalArgumentException.class, () -> authController.login(null, httpRequest));
     }
 
     @Test
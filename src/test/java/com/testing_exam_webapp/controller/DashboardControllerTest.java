@@ -0,0 +1,46 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.dto.DashboardDto;
+import com.testing_exam_webapp.service.DashboardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for DashboardController.
+ */
+@DisplayName("DashboardController Tests")
+class DashboardControllerTest {
+
+    private DashboardService dashboardService;
+    private DashboardController dashboardController;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = mock(DashboardService.class);
+        dashboardController = new DashboardController(dashboardService);
+    }
+
+    @Test
+    @DisplayName("getDashboard - Should return OK with the dashboard document")
+    void getDashboard_ReturnsOk() {
+        // Arrange
+        DashboardDto dashboard = new DashboardDto();
+        dashboard.setPatients(42);
+        when(dashboardService.getDashboard("Aarhus", "Europe/Copenhagen")).thenReturn(dashboard);
+
+        // Act
+        ResponseEntity<DashboardDto> response = dashboardController.getDashboard("Aarhus", "Europe/Copenhagen");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(42, response.getBody().getPatients());
+        verify(dashboardService, times(1)).getDashboard("Aarhus", "Europe/Copenhagen");
+    }
+}
@@ -19,6 +19,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -100,13 +101,13 @@ class DiagnosisControllerTest {
     @DisplayName("updateDiagnosis - Valid request - Returns OK")
     void updateDiagnosis_ValidRequest_ReturnsOk() {
         UUID diagnosisId = testDiagnosis.getDiagnosisId();
-        when(diagnosisService.updateDiagnosis(eq(diagnosisId), any(DiagnosisRequest.class))).thenReturn(testDiagnosis);
+        when(diagnosisService.updateDiagnosis(eq(diagnosisId), any(DiagnosisRequest.class), isNull())).thenReturn(testDiagnosis);
 
-        ResponseEntity<Diagnosis> response = diagnosisController.updateDiagnosis(diagnosisId, diagnosisRequest);
+        ResponseEntity<Diagnosis> response = diagnosisController.updateDiagnosis(diagnosisId, diagnosisRequest, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(diagnosisService, times(1)).updateDiagnosis(diagnosisId, diagnosisRequest);
+        verify(diagnosisService, times(1)).updateDiagnosis(diagnosisId, diagnosisRequest, null);
     }
 
     @Test
@@ -19,6 +19,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -114,15 +115,15 @@ class DoctorControllerTest {
         DoctorRequest request = new DoctorRequest();
         request.setDoctorName("Updated Doctor");
 
-        when(doctorService.updateDoctor(eq(doctorId), any(DoctorRequest.class))).thenReturn(testDoctor);
+        when(doctorService.updateDoctor(eq(doctorId), any(DoctorRequest.class), isNull())).thenReturn(testDoctor);
 
         // Act
-        ResponseEntity<Doctor> response = doctorController.updateDoctor(doctorId, request);
+        ResponseEntity<Doctor> response = doctorController.updateDoctor(doctorId, request, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(doctorService, times(1)).updateDoctor(eq(doctorId), any(DoctorRequest.class));
+        verify(doctorService, times(1)).updateDoctor(eq(doctorId), any(DoctorRequest.class), isNull());
     }
 
     @Test
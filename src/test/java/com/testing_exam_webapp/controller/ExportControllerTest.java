@@ -0,0 +1,59 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.dto.ExportStatusDto;
+import com.testing_exam_webapp.service.ClinicalExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ExportController.
+ */
+@DisplayName("ExportController Tests")
+class ExportControllerTest {
+
+    private ClinicalExportService clinicalExportService;
+    private ExportController exportController;
+
+    @BeforeEach
+    void setUp() {
+        clinicalExportService = mock(ClinicalExportService.class);
+        exportController = new ExportController(clinicalExportService);
+        when(clinicalExportService.getStatus()).thenReturn(new ExportStatusDto());
+    }
+
+    @Test
+    @DisplayName("runExport - Started - Returns ACCEPTED")
+    void runExport_Started_ReturnsAccepted() {
+        when(clinicalExportService.startExport(true)).thenReturn(true);
+
+        ResponseEntity<ExportStatusDto> response = exportController.runExport(true);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertNotNull(response.getBody());
+    }
+
+    @Test
+    @DisplayName("runExport - Already running - Returns CONFLICT")
+    void runExport_AlreadyRunning_ReturnsConflict() {
+        when(clinicalExportService.startExport(false)).thenReturn(false);
+
+        ResponseEntity<ExportStatusDto> response = exportController.runExport(false);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("getStatus - Returns OK with the last run")
+    void getStatus_ReturnsOk() {
+        ResponseEntity<ExportStatusDto> response = exportController.getStatus();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(clinicalExportService).getStatus();
+    }
+}
@@ -18,6 +18,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -100,13 +101,13 @@ class HospitalControllerTest {
     @DisplayName("updateHospital - Valid request - Returns OK")
     void updateHospital_ValidRequest_ReturnsOk() {
         UUID hospitalId = testHospital.getHospitalId();
-        when(hospitalService.updateHospital(eq(hospitalId), any(HospitalRequest.class))).thenReturn(testHospital);
+        when(hospitalService.updateHospital(eq(hospitalId), any(HospitalRequest.class), isNull())).thenReturn(testHospital);
 
-        ResponseEntity<Hospital> response = hospitalController.updateHospital(hospitalId, hospitalRequest);
+        ResponseEntity<Hospital> response = hospitalController.updateHospital(hospitalId, hospitalRequest, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(hospitalService, times(1)).updateHospital(hospitalId, hospitalRequest);
+        verify(hospitalService, times(1)).updateHospital(hospitalId, hospitalRequest, null);
     }
 
     @Test
@@ -0,0 +1,74 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.dto.ImportResultDto;
+import com.testing_exam_webapp.service.BulkImportService;
+import com.testing_exam_webapp.service.BulkImportService.Format;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ImportController.
+ */
+@DisplayName("ImportController Tests")
+class ImportControllerTest {
+
+    private BulkImportService bulkImportService;
+    private ImportController importController;
+
+    @BeforeEach
+    void setUp() {
+        bulkImportService = mock(BulkImportService.class);
+        importController = new ImportController(bulkImportService);
+    }
+
+    @Test
+    @DisplayName("importPatients - CSV file - Returns OK with the result")
+    void importPatients_CsvFile_ReturnsOk() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "patients.csv", "text/csv", "patientName\n".getBytes());
+        ImportResultDto result = new ImportResultDto();
+        when(bulkImportService.importPatients(any(), eq(Format.CSV))).thenReturn(result);
+
+        // Act
+        ResponseEntity<ImportResultDto> response = importController.importPatients(file, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(result, response.getBody());
+    }
+
+    @Test
+    @DisplayName("importAppointments - NDJSON file - Detected from the extension")
+    void importAppointments_NdjsonFile_DetectsFormat() throws IOException {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "appointments.ndjson", "application/octet-stream", "{}\n".getBytes());
+        when(bulkImportService.importAppointments(any(), eq(Format.NDJSON))).thenReturn(new ImportResultDto());
+
+        // Act
+        ResponseEntity<ImportResultDto> response = importController.importAppointments(file, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(bulkImportService).importAppointments(any(), eq(Format.NDJSON));
+    }
+
+    @Test
+    @DisplayName("formatOf - Explicit format - Overrides the file name")
+    void formatOf_ExplicitFormat_Wins() {
+        MockMultipartFile file = new MockMultipartFile("file", "patients.jsonl", null, new byte[0]);
+
+        assertEquals(Format.CSV, ImportController.formatOf(file, Format.CSV));
+        assertEquals(Format.NDJSON, ImportController.formatOf(file, null));
+    }
+}
@@ -17,6 +17,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -101,13 +102,13 @@ class MedicationControllerTest {
     @DisplayName("updateMedication - Valid request - Returns OK")
     void updateMedication_ValidRequest_ReturnsOk() {
         UUID medicationId = testMedication.getMedicationId();
-        when(medicationService.updateMedication(eq(medicationId), any(MedicationRequest.class))).thenReturn(testMedication);
+        when(medicationService.updateMedication(eq(medicationId), any(MedicationRequest.class), isNull())).thenReturn(testMedication);
 
-        ResponseEntity<Medication> response = medicationController.updateMedication(medicationId, medicationRequest);
+        ResponseEntity<Medication> response = medicationController.updateMedication(medicationId, medicationRequest, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(medicationService, times(1)).updateMedication(medicationId, medicationRequest);
+        verify(medicationService, times(1)).updateMedication(medicationId, medicationRequest, null);
     }
 
     @Test
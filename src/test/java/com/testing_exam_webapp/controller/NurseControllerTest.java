@@ -18,6 +18,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -102,13 +103,13 @@ class NurseControllerTest {
     @DisplayName("updateNurse - Valid request - Returns OK")
     void updateNurse_ValidRequest_ReturnsOk() {
         UUID nurseId = testNurse.getNurseId();
-        when(nurseService.updateNurse(eq(nurseId), any(NurseRequest.class))).thenReturn(testNurse);
+        when(nurseService.updateNurse(eq(nurseId), any(NurseRequest.class), isNull())).thenReturn(testNurse);
 
-        ResponseEntity<Nurse> response = nurseController.updateNurse(nurseId, nurseRequest);
+        ResponseEntity<Nurse> response = nurseController.updateNurse(nurseId, nurseRequest, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(nurseService, times(1)).updateNurse(nurseId, nurseRequest);
+        verify(nurseService, times(1)).updateNurse(nurseId, nurseRequest, null);
     }
 
     @Test
@@ -0,0 +1,55 @@
+package com.testing_exam_webapp.controller;
+
+import com.testing_exam_webapp.dto.PatientChartDto;
+import com.testing_exam_webapp.exception.EntityNotFoundException;
+import com.testing_exam_webapp.service.PatientChartService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for PatientChartController.
+ */
+@DisplayName("PatientChartController Tests")
+class PatientChartControllerTest {
+
+    private PatientChartService patientChartService;
+    private PatientChartController patientChartController;
+
+    @BeforeEach
+    void setUp() {
+        patientChartService = mock(PatientChartService.class);
+        patientChartController = new PatientChartController(patientChartService);
+    }
+
+    @Test
+    @DisplayName("getPatientChart - Valid ID - Returns OK with chart")
+    void getPatientChart_ValidId_ReturnsOk() {
+        UUID patientId = UUID.randomUUID();
+        PatientChartDto chart = new PatientChartDto();
+        chart.setPatientId(patientId);
+        when(patientChartService.getPatientChart(patientId)).thenReturn(chart);
+
+        ResponseEntity<PatientChartDto> response = patientChartController.getPatientChart(patientId);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(patientId, response.getBody().getPatientId());
+        verify(patientChartService, times(1)).getPatientChart(patientId);
+    }
+
+    @Test
+    @DisplayName("getPatientChart - Unknown ID - Exception propagated")
+    void getPatientChart_UnknownId_ExceptionPropagated() {
+        UUID patientId = UUID.randomUUID();
+        when(patientChartService.getPatientChart(patientId)).thenThrow(new EntityNotFoundException("Patient not found"));
+
+        assertThrows(EntityNotFoundException.class, () -> patientChartController.getPatientChart(patientId));
+    }
+}
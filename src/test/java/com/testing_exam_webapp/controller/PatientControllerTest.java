@@ -1,6 +1,8 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.dto.NameSearchResult;
 import com.testing_exam_webapp.dto.PatientRequest;
+import com.testing_exam_webapp.exception.PreconditionFailedException;
 import com.testing_exam_webapp.model.mysql.Patient;
 import com.testing_exam_webapp.service.PatientService;
 import com.testing_exam_webapp.util.TestDataBuilder;
@@ -16,6 +18,7 @@ import java.util.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -93,13 +96,39 @@ class PatientControllerTest {
         PatientRequest request = new PatientRequest();
         request.setPatientName("Updated Name");
 
-        when(patientService.updatePatient(eq(patientId), any(PatientRequest.class))).thenReturn(testPatient);
+        when(patientService.updatePatient(eq(patientId), any(PatientRequest.class), isNull())).thenReturn(testPatient);
 
-        ResponseEntity<Patient> response = patientController.updatePatient(patientId, request);
+        ResponseEntity<Patient> response = patientController.updatePatient(patientId, request, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
 
+    @Test
+    @DisplayName("updatePatient - Should pass the If-Match version through and return the new ETag")
+    void updatePatient_IfMatch_PassesVersionAndReturnsETag() {
+        UUID patientId = testPatient.getPatientId();
+        PatientRequest request = new PatientRequest();
+        request.setPatientName("Updated Name");
+        testPatient.setVersion(4L);
+
+        when(patientService.updatePatient(patientId, request, 3L)).thenReturn(testPatient);
+
+        ResponseEntity<Patient> response = patientController.updatePatient(patientId, request, "\"3\"");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("updatePatient - Should reject an If-Match that is not a version")
+    void updatePatient_MalformedIfMatch_ThrowsPreconditionFailed() {
+        UUID patientId = testPatient.getPatientId();
+        PatientRequest request = new PatientRequest();
+
+        assertThrows(PreconditionFailedException.class, () -> patientController.updatePatient(patientId, request, "\"abc\""));
+        verifyNoInteractions(patientService);
+    }
+
     @Test
     @DisplayName("deletePatient - Should return NO_CONTENT")
     void deletePatient_ValidId_ReturnsNoContent() {
@@ -158,5 +187,27 @@ class PatientControllerTest {
 
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
-}
 
+    @Test
+    @DisplayName("searchPatientsByName - Should return OK with matches")
+    void searchPatientsByName_WithMatches_ReturnsOk() {
+        List<NameSearchResult> results = List.of(new NameSearchResult(testPatient.getPatientId(), "Test Patient"));
+        when(patientService.searchPatientsByName("test", 0, 20)).thenReturn(results);
+
+        ResponseEntity<List<NameSearchResult>> response = patientController.searchPatientsByName("test", 0, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().size());
+    }
+
+    @Test
+    @DisplayName("searchPatientsByName - No matches - Returns NO_CONTENT")
+    void searchPatientsByName_NoMatches_ReturnsNoContent() {
+        when(patientService.searchPatientsByName("zzz", 0, 20)).thenReturn(Collections.emptyList());
+
+        ResponseEntity<List<NameSearchResult>> response = patientController.searchPatientsByName("zzz", 0, 20);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+}
@@ -1,11 +1,16 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.dto.PrescriptionFilter;
 import com.testing_exam_webapp.dto.PrescriptionRequest;
 import com.testing_exam_webapp.model.mysql.Prescription;
 import com.testing_exam_webapp.service.PrescriptionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -18,6 +23,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -102,13 +108,13 @@ class PrescriptionControllerTest {
     @DisplayName("updatePrescription - Valid request - Returns OK")
     void updatePrescription_ValidRequest_ReturnsOk() {
         UUID prescriptionId = testPrescription.getPrescriptionId();
-        when(prescriptionService.updatePrescription(eq(prescriptionId), any(PrescriptionRequest.class))).thenReturn(testPrescription);
+        when(prescriptionService.updatePrescription(eq(prescriptionId), any(PrescriptionRequest.class), isNull())).thenReturn(testPrescription);
 
-        ResponseEntity<Prescription> response = prescriptionController.updatePrescription(prescriptionId, prescriptionRequest);
+        ResponseEntity<Prescription> response = prescriptionController.updatePrescription(prescriptionId, prescriptionRequest, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(prescriptionService, times(1)).updatePrescription(prescriptionId, prescriptionRequest);
+        verify(prescriptionService, times(1)).updatePrescription(prescriptionId, prescriptionRequest, null);
     }
 
     @Test
@@ -122,5 +128,68 @@ class PrescriptionControllerTest {
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         verify(prescriptionService, times(1)).deletePrescription(prescriptionId);
     }
-}
 
+    @Test
+    @DisplayName("searchPrescriptions - Should return OK with matching page")
+    void searchPrescriptions_WithMatches_ReturnsOk() {
+        // Arrange
+        PrescriptionFilter filter = new PrescriptionFilter();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(prescriptionService.searchPrescriptions(filter, pageable))
+                .thenReturn(new PageImpl<>(List.of(testPrescription), pageable, 1));
+
+        // Act
+        ResponseEntity<Page<Prescription>> response = prescriptionController.searchPrescriptions(filter, pageable);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getTotalElements());
+        verify(prescriptionService, times(1)).searchPrescriptions(filter, pageable);
+    }
+
+    @Test
+    @DisplayName("searchPrescriptions - Should return NO_CONTENT when nothing matches")
+    void searchPrescriptions_NoMatches_ReturnsNoContent() {
+        // Arrange
+        PrescriptionFilter filter = new PrescriptionFilter();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(prescriptionService.searchPrescriptions(filter, pageable)).thenReturn(Page.empty(pageable));
+
+        // Act
+        ResponseEntity<Page<Prescription>> response = prescriptionController.searchPrescriptions(filter, pageable);
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("getPrescriptionsByPatientId - Should return OK with the patient's prescriptions")
+    void getPrescriptionsByPatientId_WithResults_ReturnsOk() {
+        // Arrange
+        UUID patientId = UUID.randomUUID();
+        when(prescriptionService.getPrescriptionsByPatientId(patientId)).thenReturn(List.of(testPrescription));
+
+        // Act
+        ResponseEntity<List<Prescription>> response = prescriptionController.getPrescriptionsByPatientId(patientId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        verify(prescriptionService, times(1)).getPrescriptionsByPatientId(patientId);
+    }
+
+    @Test
+    @DisplayName("getPrescriptionsByPatientId - Should return NO_CONTENT when the patient has none")
+    void getPrescriptionsByPatientId_NoResults_ReturnsNoContent() {
+        // Arrange
+        UUID patientId = UUID.randomUUID();
+        when(prescriptionService.getPrescriptionsByPatientId(patientId)).thenReturn(Collections.emptyList());
+
+        // Act
+        ResponseEntity<List<Prescription>> response = prescriptionController.getPrescriptionsByPatientId(patientId);
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+}
@@ -1,11 +1,16 @@
 package com.testing_exam_webapp.controller;
 
+import com.testing_exam_webapp.dto.SurgeryFilter;
 import com.testing_exam_webapp.dto.SurgeryRequest;
 import com.testing_exam_webapp.model.mysql.Surgery;
 import com.testing_exam_webapp.service.SurgeryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -18,6 +23,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -102,13 +108,13 @@ class SurgeryControllerTest {
     @DisplayName("updateSurgery - Valid request - Returns OK")
     void updateSurgery_ValidRequest_ReturnsOk() {
         UUID surgeryId = testSurgery.getSurgeryId();
-        when(surgeryService.updateSurgery(eq(surgeryId), any(SurgeryRequest.class))).thenReturn(testSurgery);
+        when(surgeryService.updateSurgery(eq(surgeryId), any(SurgeryRequest.class), isNull())).thenReturn(testSurgery);
 
-        ResponseEntity<Surgery> response = surgeryController.updateSurgery(surgeryId, surgeryRequest);
+        ResponseEntity<Surgery> response = surgeryController.updateSurgery(surgeryId, surgeryRequest, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(surgeryService, times(1)).updateSurgery(surgeryId, surgeryRequest);
+        verify(surgeryService, times(1)).updateSurgery(surgeryId, surgeryRequest, null);
     }
 
     @Test
@@ -141,5 +147,99 @@ class SurgeryControllerTest {
 
         assertThrows(RuntimeException.class, () -> surgeryController.createSurgery(surgeryRequest));
     }
-}
 
+    @Test
+    @DisplayName("searchSurgeries - Should return OK with matching page")
+    void searchSurgeries_WithMatches_ReturnsOk() {
+        // Arrange
+        SurgeryFilter filter = new SurgeryFilter();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(surgeryService.searchSurgeries(filter, pageable))
+                .thenReturn(new PageImpl<>(List.of(testSurgery), pageable, 1));
+
+        // Act
+        ResponseEntity<Page<Surgery>> response = surgeryController.searchSurgeries(filter, pageable);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(1, response.getBody().getTotalElements());
+        verify(surgeryService, times(1)).searchSurgeries(filter, pageable);
+    }
+
+    @Test
+    @DisplayName("searchSurgeries - Should return NO_CONTENT when nothing matches")
+    void searchSurgeries_NoMatches_ReturnsNoContent() {
+        // Arrange
+        SurgeryFilter filter = new SurgeryFilter();
+        Pageable pageable = PageRequest.of(0, 20);
+        when(surgeryService.searchSurgeries(filter, pageable)).thenReturn(Page.empty(pageable));
+
+        // Act
+        ResponseEntity<Page<Surgery>> response = surgeryController.searchSurgeries(filter, pageable);
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("getSurgeriesByPatientId - Should return OK with the patient's surgeries")
+    void getSurgeriesByPatientId_WithResults_ReturnsOk() {
+        // Arrange
+        UUID patientId = UUID.randomUUID();
+        when(surgeryService.getSurgeriesByPatientId(patientId)).thenReturn(List.of(testSurgery));
+
+        // Act
+        ResponseEntity<List<Surgery>> response = surgeryController.getSurgeriesByPatientId(patientId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        verify(surgeryService, times(1)).getSurgeriesByPatientId(patientId);
+    }
+
+    @Test
+    @DisplayName("getSurgeriesByPatientId - Should return NO_CONTENT when the patient has none")
+    void getSurgeriesByPatientId_NoResults_ReturnsNoContent() {
+        // Arrange
+        UUID patientId = UUID.randomUUID();
+        when(surgeryService.getSurgeriesByPatientId(patientId)).thenReturn(Collections.emptyList());
+
+        // Act
+        ResponseEntity<List<Surgery>> response = surgeryController.getSurgeriesByPatientId(patientId);
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("getSurgeriesByDateRange - Should return OK with surgeries in range")
+    void getSurgeriesByDateRange_WithResults_ReturnsOk() {
+        // Arrange
+        LocalDate startDate = LocalDate.of(2024, 6, 1);
+        LocalDate endDate = LocalDate.of(2024, 6, 30);
+        when(surgeryService.getSurgeriesByDateRange(startDate, endDate)).thenReturn(List.of(testSurgery));
+
+        // Act
+        ResponseEntity<List<Surgery>> response = surgeryController.getSurgeriesByDateRange(startDate, endDate);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+    }
+
+    @Test
+    @DisplayName("getSurgeriesByDateRange - Should return NO_CONTENT when none are in range")
+    void getSurgeriesByDateRange_NoResults_ReturnsNoContent() {
+        // Arrange
+        LocalDate startDate = LocalDate.of(2024, 6, 1);
+        LocalDate endDate = LocalDate.of(2024, 6, 30);
+        when(surgeryService.getSurgeriesByDateRange(startDate, endDate)).thenReturn(Collections.emptyList());
+
+        // Act
+        ResponseEntity<List<Surgery>> response = surgeryController.getSurgeriesByDateRange(startDate, endDate);
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+}
@@ -1,12 +1,14 @@
 package com.testing_exam_webapp.controller;
 
 import com.testing_exam_webapp.dto.TimeDto;
+import com.testing_exam_webapp.service.ReactiveTimeService;
 import com.testing_exam_webapp.service.TimeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -20,13 +22,15 @@ import static org.mockito.Mockito.*;
 class TimeControllerTest {
 
     private TimeService timeService;
+    private ReactiveTimeService reactiveTimeService;
     private TimeController timeController;
     private TimeDto testTimeDto;
 
     @BeforeEach
     void setUp() {
         timeService = mock(TimeService.class);
-        timeController = new TimeController(timeService);
+        reactiveTimeService = mock(ReactiveTimeService.class);
+        timeController = new TimeController(timeService, reactiveTimeService);
         
         testTimeDto = new TimeDto();
         testTimeDto.setDatetime("2024-06-15T12:00:00");
@@ -86,5 +90,17 @@ class TimeControllerTest {
 
         assertThrows(RuntimeException.class, () -> timeController.getCurrentTime(timezone));
     }
-}
 
+    @Test
+    @DisplayName("getCurrentTimeReactive - Emits OK with the reactive service's time")
+    void getCurrentTimeReactive_ReturnsOk() {
+        when(reactiveTimeService.getCurrentTime("Europe/Copenhagen")).thenReturn(Mono.just(testTimeDto));
+
+        ResponseEntity<TimeDto> response = timeController.getCurrentTimeReactive("Europe/Copenhagen").block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(testTimeDto, response.getBody());
+        verifyNoInteractions(timeService);
+    }
+}
@@ -19,6 +19,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -114,15 +115,15 @@ class WardControllerTest {
         WardRequest request = new WardRequest();
         request.setMaxCapacity(30);
 
-        when(wardService.updateWard(eq(wardId), any(WardRequest.class))).thenReturn(testWard);
+        when(wardService.updateWard(eq(wardId), any(WardRequest.class), isNull())).thenReturn(testWard);
 
         // Act
-        ResponseEntity<Ward> response = wardController.updateWard(wardId, request);
+        ResponseEntity<Ward> response = wardController.updateWard(wardId, request, null);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        verify(wardService, times(1)).updateWard(eq(wardId), any(WardRequest.class));
+        verify(wardService, times(1)).updateWard(eq(wardId), any(WardRequest.class), isNull());
     }
 
     @Test
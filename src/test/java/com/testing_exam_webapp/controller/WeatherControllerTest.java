@@ -1,12 +1,21 @@
 package com.testing_exam_webapp.controller;
 
 import com.testing_exam_webapp.dto.WeatherDto;
+import com.testing_exam_webapp.dto.WeatherPrefetchStatusDto;
+import com.testing_exam_webapp.service.BulkWeatherService;
+import com.testing_exam_webapp.service.ReactiveWeatherService;
+import com.testing_exam_webapp.service.WeatherPrefetcher;
 import com.testing_exam_webapp.service.WeatherService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -19,13 +28,20 @@ import static org.mockito.Mockito.*;
 class WeatherControllerTest {
 
     private WeatherService weatherService;
+    private BulkWeatherService bulkWeatherService;
+    private WeatherPrefetcher weatherPrefetcher;
+    private ReactiveWeatherService reactiveWeatherService;
     private WeatherController weatherController;
     private WeatherDto testWeatherDto;
 
     @BeforeEach
     void setUp() {
         weatherService = mock(WeatherService.class);
-        weatherController = new WeatherController(weatherService);
+        bulkWeatherService = mock(BulkWeatherService.class);
+        weatherPrefetcher = mock(WeatherPrefetcher.class);
+        reactiveWeatherService = mock(ReactiveWeatherService.class);
+        weatherController = new WeatherController(weatherService, bulkWeatherService, weatherPrefetcher,
+                reactiveWeatherService);
         
         testWeatherDto = new WeatherDto();
         testWeatherDto.setCity("Copenhagen");
@@ -109,5 +125,48 @@ class WeatherControllerTest {
 
         assertThrows(RuntimeException.class, () -> weatherController.getWeather(city));
     }
-}
 
+    @Test
+    @DisplayName("getWeatherForCities - Returns the weather keyed by requested city")
+    void getWeatherForCities_ReturnsOk() {
+        List<String> cities = List.of("Copenhagen", "Aarhus");
+        WeatherDto aarhus = new WeatherDto();
+        aarhus.setCity("Aarhus");
+        Map<String, WeatherDto> weather = new LinkedHashMap<>();
+        weather.put("Copenhagen", testWeatherDto);
+        weather.put("Aarhus", aarhus);
+        when(bulkWeatherService.getWeatherForCities(cities)).thenReturn(weather);
+
+        ResponseEntity<Map<String, WeatherDto>> response = weatherController.getWeatherForCities(cities);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(weather, response.getBody());
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    @DisplayName("getWeatherReactive - Emits OK with the reactive service's weather")
+    void getWeatherReactive_ReturnsOk() {
+        when(reactiveWeatherService.getWeatherByCity("Copenhagen")).thenReturn(Mono.just(testWeatherDto));
+
+        ResponseEntity<WeatherDto> response = weatherController.getWeatherReactive("Copenhagen").block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(testWeatherDto, response.getBody());
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    @DisplayName("getPrefetchStatus - Returns the prefetcher status")
+    void getPrefetchStatus_ReturnsOk() {
+        WeatherPrefetchStatusDto status = new WeatherPrefetchStatusDto();
+        status.setCities(2);
+        when(weatherPrefetcher.getStatus()).thenReturn(status);
+
+        ResponseEntity<WeatherPrefetchStatusDto> response = weatherController.getPrefetchStatus();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(status, response.getBody());
+    }
+}
@@ -1,9 +1,11 @@
 package com.testing_exam_webapp.exception;
 
+import com.testing_exam_webapp.model.mysql.Patient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -97,6 +100,34 @@ class GlobalExceptionHandlerTest {
         assertEquals("Date of birth cannot be null", response.getBody().get("dateOfBirth"));
     }
 
+    @Test
+    @DisplayName("handlePreconditionFailed - Should return PRECONDITION_FAILED with error message")
+    void handlePreconditionFailed_ReturnsPreconditionFailed() {
+        // Arrange
+        PreconditionFailedException ex = new PreconditionFailedException("Patient has been modified since version 3");
+
+        // Act
+        ResponseEntity<Map<String, String>> response = exceptionHandler.handlePreconditionFailed(ex);
+
+        // Assert
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals("Patient has been modified since version 3", response.getBody().get("error"));
+    }
+
+    @Test
+    @DisplayName("handleOptimisticLockingFailure - Should return CONFLICT")
+    void handleOptimisticLockingFailure_ReturnsConflict() {
+        // Arrange
+        ObjectOptimisticLockingFailureException ex = new ObjectOptimisticLockingFailureException(Patient.class, UUID.randomUUID());
+
+        // Act
+        ResponseEntity<Map<String, String>> response = exceptionHandler.handleOptimisticLockingFailure(ex);
+
+        // Assert
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNotNull(response.getBody().get("error"));
+    }
+
     @Test
     @DisplayName("handleRuntimeException - Should return INTERNAL_SERVER_ERROR with error message")
     void handleRuntimeException_ReturnsInternalServerError() {
@@ -0,0 +1,100 @@
+package com.testing_exam_webapp.integration;
+
+import com.testing_exam_webapp.dto.ActivePrescriptionDto;
+import com.testing_exam_webapp.model.mysql.Medication;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Prescription;
+import com.testing_exam_webapp.model.mysql.Ward;
+import com.testing_exam_webapp.repository.PrescriptionRepository;
+import com.testing_exam_webapp.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the active prescription range queries.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Active Prescription Queries Integration Tests")
+class ActivePrescriptionQueriesIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PrescriptionRepository prescriptionRepository;
+
+    private Patient patient;
+    private Ward ward;
+
+    @BeforeEach
+    void setUp() {
+        ward = entityManager.persistAndFlush(TestDataBuilder.createWard());
+        patient = TestDataBuilder.createPatient();
+        patient.setWard(ward);
+        patient = entityManager.persistAndFlush(patient);
+        Patient otherPatient = entityManager.persistAndFlush(TestDataBuilder.createPatient());
+
+        Medication medication = new Medication();
+        medication.setMedicationId(UUID.randomUUID());
+        medication.setMedicationName("Insulin");
+        medication.setDosage("10 units");
+        medication = entityManager.persistAndFlush(medication);
+
+        persist(patient, medication, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10));
+        persist(patient, medication, LocalDate.of(2024, 1, 5), null);
+        persist(otherPatient, medication, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 5));
+    }
+
+    @Test
+    @DisplayName("findActiveEntriesBetween - Includes bounded and open-ended prescriptions overlapping the range")
+    void findActiveEntriesBetween_OverlappingRange_ReturnsMatches() {
+        List<ActivePrescriptionDto> onJan7 = prescriptionRepository.findActiveEntriesBetween(
+                LocalDate.of(2024, 1, 7), LocalDate.of(2024, 1, 7));
+        List<ActivePrescriptionDto> inFebruary = prescriptionRepository.findActiveEntriesBetween(
+                LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 28));
+
+        assertEquals(2, onJan7.size());
+        assertEquals(2, inFebruary.size());
+        assertTrue(onJan7.stream().allMatch(p -> ward.getWardId().equals(p.getWardId())));
+        assertEquals("Insulin", onJan7.get(0).getMedicationName());
+    }
+
+    @Test
+    @DisplayName("findActiveEntriesBetween - Range before every start date is empty")
+    void findActiveEntriesBetween_BeforeAll_ReturnsEmpty() {
+        assertTrue(prescriptionRepository.findActiveEntriesBetween(
+                LocalDate.of(2023, 12, 1), LocalDate.of(2023, 12, 31)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findActiveEntriesByPatientId - Returns only what the patient is on that day")
+    void findActiveEntriesByPatientId_ReturnsCurrentOnly() {
+        List<ActivePrescriptionDto> active = prescriptionRepository.findActiveEntriesByPatientId(
+                patient.getPatientId(), LocalDate.of(2024, 1, 20));
+
+        assertEquals(1, active.size());
+        assertNull(active.get(0).getEndDate());
+    }
+
+    private void persist(Patient owner, Medication medication, LocalDate start, LocalDate end) {
+        Prescription prescription = new Prescription();
+        prescription.setPrescriptionId(UUID.randomUUID());
+        prescription.setPatient(owner);
+        prescription.setMedication(medication);
+        prescription.setStartDate(start);
+        prescription.setEndDate(end);
+        entityManager.persistAndFlush(prescription);
+    }
+}
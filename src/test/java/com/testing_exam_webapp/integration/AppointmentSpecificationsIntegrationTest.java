@@ -0,0 +1,129 @@
+package com.testing_exam_webapp.integration;
+
+import com.testing_exam_webapp.dto.AppointmentFilter;
+import com.testing_exam_webapp.model.mysql.*;
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import com.testing_exam_webapp.repository.AppointmentRepository;
+import com.testing_exam_webapp.repository.AppointmentSpecifications;
+import com.testing_exam_webapp.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for AppointmentSpecifications.
+ * Runs the composed filters against an in-memory H2 database.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("AppointmentSpecifications Integration Tests")
+class AppointmentSpecificationsIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    private Hospital testHospital;
+    private Ward testWard;
+    private Patient patientInWard;
+    private Patient otherPatient;
+    private Doctor testDoctor;
+
+    @BeforeEach
+    void setUp() {
+        testHospital = entityManager.persistAndFlush(TestDataBuilder.createHospital());
+        testWard = entityManager.persistAndFlush(TestDataBuilder.createWard());
+
+        patientInWard = TestDataBuilder.createPatient("Ward Patient", LocalDate.of(1980, 3, 1), "Female");
+        patientInWard.setHospital(testHospital);
+        patientInWard.setWard(testWard);
+        patientInWard = entityManager.persistAndFlush(patientInWard);
+
+        otherPatient = entityManager.persistAndFlush(TestDataBuilder.createPatient());
+        testDoctor = entityManager.persistAndFlush(TestDataBuilder.createDoctor());
+
+        persistAppointment(patientInWard, LocalDate.of(2024, 5, 1), AppointmentStatusType.SCHEDULED);
+        persistAppointment(patientInWard, LocalDate.of(2024, 5, 10), AppointmentStatusType.COMPLETED);
+        persistAppointment(otherPatient, LocalDate.of(2024, 5, 5), AppointmentStatusType.SCHEDULED);
+        persistAppointment(otherPatient, LocalDate.of(2024, 6, 1), AppointmentStatusType.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("matching - Empty Filter - Returns All Appointments")
+    void matching_EmptyFilter_ReturnsAll() {
+        Page<Appointment> result = appointmentRepository.findAll(
+                AppointmentSpecifications.matching(new AppointmentFilter()), PageRequest.of(0, 20));
+
+        assertEquals(4, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("matching - Status And Date Range - Combines Predicates")
+    void matching_StatusAndDateRange_ReturnsIntersection() {
+        AppointmentFilter filter = new AppointmentFilter();
+        filter.setStatus(AppointmentStatusType.SCHEDULED);
+        filter.setStartDate(LocalDate.of(2024, 5, 1));
+        filter.setEndDate(LocalDate.of(2024, 5, 31));
+
+        Page<Appointment> result = appointmentRepository.findAll(
+                AppointmentSpecifications.matching(filter), PageRequest.of(0, 20, Sort.by("appointmentDate")));
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(LocalDate.of(2024, 5, 1), result.getContent().get(0).getAppointmentDate());
+        assertEquals(LocalDate.of(2024, 5, 5), result.getContent().get(1).getAppointmentDate());
+    }
+
+    @Test
+    @DisplayName("matching - Hospital And Ward - Filters Through Patient")
+    void matching_HospitalAndWard_FiltersThroughPatient() {
+        AppointmentFilter filter = new AppointmentFilter();
+        filter.setHospitalId(testHospital.getHospitalId());
+        filter.setWardId(testWard.getWardId());
+
+        Page<Appointment> result = appointmentRepository.findAll(
+                AppointmentSpecifications.matching(filter), PageRequest.of(0, 20));
+
+        assertEquals(2, result.getTotalElements());
+        assertTrue(result.getContent().stream()
+                .allMatch(a -> a.getPatient().getPatientId().equals(patientInWard.getPatientId())));
+    }
+
+    @Test
+    @DisplayName("matching - Paging - Returns Requested Slice With Total Count")
+    void matching_Paging_ReturnsSliceWithTotal() {
+        AppointmentFilter filter = new AppointmentFilter();
+        filter.setDoctorId(testDoctor.getDoctorId());
+
+        Page<Appointment> result = appointmentRepository.findAll(
+                AppointmentSpecifications.matching(filter), PageRequest.of(1, 3, Sort.by("appointmentDate")));
+
+        assertEquals(4, result.getTotalElements());
+        assertEquals(1, result.getContent().size());
+        assertEquals(LocalDate.of(2024, 6, 1), result.getContent().get(0).getAppointmentDate());
+    }
+
+    private void persistAppointment(Patient patient, LocalDate date, AppointmentStatusType status) {
+        Appointment appointment = new Appointment();
+        appointment.setAppointmentId(UUID.randomUUID());
+        appointment.setPatient(patient);
+        appointment.setDoctor(testDoctor);
+        appointment.setAppointmentDate(date);
+        appointment.setStatus(status);
+        appointment.setReason("Checkup");
+        entityManager.persistAndFlush(appointment);
+    }
+}
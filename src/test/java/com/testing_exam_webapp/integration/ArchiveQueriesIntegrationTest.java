@@ -0,0 +1,146 @@
+package com.testing_exam_webapp.integration;
+
+import com.testing_exam_webapp.dto.ChartAppointmentDto;
+import com.testing_exam_webapp.dto.ChartSurgeryDto;
+import com.testing_exam_webapp.model.mysql.Appointment;
+import com.testing_exam_webapp.model.mysql.ArchivedAppointment;
+import com.testing_exam_webapp.model.mysql.ArchivedSurgery;
+import com.testing_exam_webapp.model.mysql.Doctor;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Surgery;
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import com.testing_exam_webapp.repository.AppointmentRepository;
+import com.testing_exam_webapp.repository.ArchivedAppointmentRepository;
+import com.testing_exam_webapp.repository.ArchivedSurgeryRepository;
+import com.testing_exam_webapp.repository.SurgeryRepository;
+import com.testing_exam_webapp.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the month-at-a-time archive copy and delete queries.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Archive Queries Integration Tests")
+class ArchiveQueriesIntegrationTest {
+
+    private static final LocalDate JANUARY = LocalDate.of(2024, 1, 1);
+    private static final LocalDate FEBRUARY = LocalDate.of(2024, 2, 1);
+    private static final List<String> ARCHIVABLE = List.of("COMPLETED", "CANCELLED");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private SurgeryRepository surgeryRepository;
+
+    @Autowired
+    private ArchivedAppointmentRepository archivedAppointmentRepository;
+
+    @Autowired
+    private ArchivedSurgeryRepository archivedSurgeryRepository;
+
+    private Patient patient;
+    private Doctor doctor;
+
+    @BeforeEach
+    void setUp() {
+        patient = entityManager.persistAndFlush(TestDataBuilder.createPatient());
+        doctor = entityManager.persistAndFlush(TestDataBuilder.createDoctor());
+
+        persistAppointment(LocalDate.of(2024, 1, 10), AppointmentStatusType.COMPLETED);
+        persistAppointment(LocalDate.of(2024, 1, 20), AppointmentStatusType.SCHEDULED);
+        persistAppointment(LocalDate.of(2024, 2, 5), AppointmentStatusType.CANCELLED);
+        persistSurgery(LocalDate.of(2024, 1, 15));
+        persistSurgery(LocalDate.of(2024, 2, 15));
+    }
+
+    @Test
+    @DisplayName("moving appointments - Copies and removes only archivable rows of the month")
+    void copyAndDeleteAppointments_OneMonth_MovesArchivableRows() {
+        int copied = archivedAppointmentRepository.copyFromHot(JANUARY, FEBRUARY, ARCHIVABLE);
+        int deleted = appointmentRepository.deleteArchivedBetween(JANUARY, FEBRUARY);
+        entityManager.clear();
+
+        assertEquals(1, copied);
+        assertEquals(1, deleted);
+        List<ArchivedAppointment> archived = archivedAppointmentRepository.findByPatientId(patient.getPatientId());
+        assertEquals(1, archived.size());
+        assertEquals(AppointmentStatusType.COMPLETED, archived.get(0).getStatus());
+        assertEquals(doctor.getDoctorId(), archived.get(0).getDoctorId());
+        assertEquals(2, appointmentRepository.count());
+        assertEquals(LocalDate.of(2024, 1, 20),
+                appointmentRepository.findOldestDateWithStatusIn(EnumSet.allOf(AppointmentStatusType.class)));
+    }
+
+    @Test
+    @DisplayName("moving surgeries - Copies and removes every surgery of the month")
+    void copyAndDeleteSurgeries_OneMonth_MovesRows() {
+        int copied = archivedSurgeryRepository.copyFromHot(JANUARY, FEBRUARY);
+        int deleted = surgeryRepository.deleteArchivedBetween(JANUARY, FEBRUARY);
+        entityManager.clear();
+
+        assertEquals(1, copied);
+        assertEquals(1, deleted);
+        List<ArchivedSurgery> archived = archivedSurgeryRepository.findBySurgeryDateBetween(JANUARY, FEBRUARY);
+        assertEquals(1, archived.size());
+        assertEquals(patient.getPatientId(), archived.get(0).getPatientId());
+        assertEquals(LocalDate.of(2024, 2, 15), surgeryRepository.findOldestDate());
+    }
+
+    @Test
+    @DisplayName("findChartEntriesByPatientId - Archived rows project into chart entries with the doctor joined by id")
+    void findChartEntriesByPatientId_ArchivedRows_JoinDoctor() {
+        archivedAppointmentRepository.copyFromHot(JANUARY, FEBRUARY, ARCHIVABLE);
+        archivedSurgeryRepository.copyFromHot(JANUARY, FEBRUARY);
+        entityManager.clear();
+
+        List<ChartAppointmentDto> appointments = archivedAppointmentRepository.findChartEntriesByPatientId(patient.getPatientId());
+        List<ChartSurgeryDto> surgeries = archivedSurgeryRepository.findChartEntriesByPatientId(patient.getPatientId());
+
+        assertEquals(1, appointments.size());
+        assertEquals(LocalDate.of(2024, 1, 10), appointments.get(0).getAppointmentDate());
+        assertEquals(doctor.getDoctorName(), appointments.get(0).getDoctorName());
+        assertNull(appointments.get(0).getNurseId());
+        assertEquals(1, surgeries.size());
+        assertEquals(doctor.getDoctorName(), surgeries.get(0).getDoctorName());
+        assertTrue(archivedSurgeryRepository.findChartEntriesByPatientId(UUID.randomUUID()).isEmpty());
+    }
+
+    private void persistAppointment(LocalDate date, AppointmentStatusType status) {
+        Appointment appointment = new Appointment();
+        appointment.setAppointmentId(UUID.randomUUID());
+        appointment.setAppointmentDate(date);
+        appointment.setStatus(status);
+        appointment.setReason("Checkup");
+        appointment.setPatient(patient);
+        appointment.setDoctor(doctor);
+        entityManager.persistAndFlush(appointment);
+    }
+
+    private void persistSurgery(LocalDate date) {
+        Surgery surgery = new Surgery();
+        surgery.setSurgeryId(UUID.randomUUID());
+        surgery.setSurgeryDate(date);
+        surgery.setDescription("Appendectomy");
+        surgery.setPatient(patient);
+        surgery.setDoctor(doctor);
+        entityManager.persistAndFlush(surgery);
+    }
+}
@@ -0,0 +1,90 @@
+package com.testing_exam_webapp.integration;
+
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.service.ClinicalExportWriter;
+import com.testing_exam_webapp.service.ClinicalExportWriter.ExportTable;
+import com.testing_exam_webapp.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for streaming a table into a gzip CSV file.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Clinical Export Writer Integration Tests")
+class ClinicalExportWriterIntegrationTest {
+
+    private static final ExportTable PATIENTS = new ExportTable("patients", "patient_id, patient_name, date_of_birth, updated_at");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @TempDir
+    Path directory;
+
+    private ClinicalExportWriter writer;
+    private Patient patient;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ClinicalExportWriter(dataSource, 2);
+        patient = entityManager.persistAndFlush(TestDataBuilder.createPatient("Doe, \"Jane\"", LocalDate.of(1980, 3, 4), "Female"));
+        entityManager.persistAndFlush(TestDataBuilder.createPatient());
+    }
+
+    @Test
+    @DisplayName("export - Writes a header and one quoted CSV line per row")
+    void export_AllRows_WritesCsv() throws IOException {
+        Path target = directory.resolve("patients.csv.gz");
+
+        long rows = writer.export(PATIENTS, null, target);
+
+        List<String> lines = read(target);
+        assertEquals(2, rows);
+        assertEquals("patient_id,patient_name,date_of_birth,updated_at", lines.get(0));
+        assertTrue(lines.stream().anyMatch(line ->
+                line.startsWith(patient.getPatientId() + ",\"Doe, \"\"Jane\"\"\",1980-03-04,")));
+    }
+
+    @Test
+    @DisplayName("export - Incremental export skips rows not changed since the watermark")
+    void export_SinceFuture_WritesHeaderOnly() throws IOException {
+        Path target = directory.resolve("patients-incremental.csv.gz");
+
+        long rows = writer.export(PATIENTS, Instant.now().plusSeconds(3600), target);
+
+        assertEquals(0, rows);
+        assertEquals(1, read(target).size());
+    }
+
+    private static List<String> read(Path file) throws IOException {
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return in.lines().toList();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.testing_exam_webapp.integration;
+
+import com.testing_exam_webapp.dto.LoginRequest;
+import com.testing_exam_webapp.dto.LoginResponse;
+import com.testing_exam_webapp.service.AuthService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for the client address seen behind a proxy: the login endpoint must receive the
+ * address from X-Forwarded-For, so the per-IP failure limit counts clients rather than the load balancer.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Forwarded Headers Integration Tests")
+class ForwardedHeadersIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private AuthService authService;
+
+    @Test
+    @DisplayName("login - Client IP is taken from X-Forwarded-For set by a trusted proxy")
+    void login_ForwardedFor_UsesClientAddress() {
+        when(authService.login(any(LoginRequest.class), any())).thenReturn(new LoginResponse("token", "USER"));
+
+        ResponseEntity<String> response = login("203.0.113.7");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(authService).login(any(LoginRequest.class), eq("203.0.113.7"));
+    }
+
+    @Test
+    @DisplayName("login - Addresses a client prepends to X-Forwarded-For are ignored")
+    void login_SpoofedForwardedFor_UsesLastUntrustedHop() {
+        when(authService.login(any(LoginRequest.class), any())).thenReturn(new LoginResponse("token", "USER"));
+
+        login("198.51.100.1, 203.0.113.7");
+
+        verify(authService).login(any(LoginRequest.class), eq("203.0.113.7"));
+    }
+
+    private ResponseEntity<String> login(String forwardedFor) {
+        LoginRequest request = new LoginRequest();
+        request.setUsername("testuser");
+        request.setPassword("password123");
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", forwardedFor);
+        return restTemplate.postForEntity("/auth/login", new HttpEntity<>(request, headers), String.class);
+    }
+}
@@ -0,0 +1,190 @@
+package com.testing_exam_webapp.integration;
+
+import com.testing_exam_webapp.dto.ChartAppointmentDto;
+import com.testing_exam_webapp.dto.ChartDiagnosisDto;
+import com.testing_exam_webapp.dto.ChartPrescriptionDto;
+import com.testing_exam_webapp.dto.ChartSurgeryDto;
+import com.testing_exam_webapp.dto.PatientChartDto;
+import com.testing_exam_webapp.model.mysql.*;
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import com.testing_exam_webapp.repository.AppointmentRepository;
+import com.testing_exam_webapp.repository.PatientRepository;
+import com.testing_exam_webapp.repository.PrescriptionRepository;
+import com.testing_exam_webapp.repository.SurgeryRepository;
+import com.testing_exam_webapp.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the patient chart projection queries.
+ * Each section must contain only the requested patient's rows, newest first.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@DisplayName("Patient Chart Queries Integration Tests")
+class PatientChartQueriesIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private PrescriptionRepository prescriptionRepository;
+
+    @Autowired
+    private SurgeryRepository surgeryRepository;
+
+    private Patient patient;
+    private Patient otherPatient;
+    private Doctor doctor;
+
+    @BeforeEach
+    void setUp() {
+        Hospital hospital = entityManager.persistAndFlush(TestDataBuilder.createHospital());
+        Ward ward = entityManager.persistAndFlush(TestDataBuilder.createWard());
+        doctor = entityManager.persistAndFlush(TestDataBuilder.createDoctor("Dr. Chart", null));
+
+        Diagnosis diagnosis = TestDataBuilder.createDiagnosis();
+        diagnosis.setDoctor(doctor);
+        diagnosis = entityManager.persistAndFlush(diagnosis);
+
+        patient = TestDataBuilder.createPatient("Chart Patient", LocalDate.of(1975, 6, 15), "Male");
+        patient.setHospital(hospital);
+        patient.setWard(ward);
+        patient.setDiagnosis(new HashSet<>(Set.of(diagnosis)));
+        patient = entityManager.persistAndFlush(patient);
+        otherPatient = entityManager.persistAndFlush(TestDataBuilder.createPatient());
+
+        Medication medication = new Medication();
+        medication.setMedicationId(UUID.randomUUID());
+        medication.setMedicationName("Ibuprofen");
+        medication.setDosage("400mg");
+        medication = entityManager.persistAndFlush(medication);
+
+        persistAppointment(patient, LocalDate.of(2024, 3, 1), doctor);
+        persistAppointment(patient, LocalDate.of(2024, 4, 1), null);
+        persistAppointment(otherPatient, LocalDate.of(2024, 3, 15), doctor);
+
+        persistPrescription(patient, LocalDate.of(2024, 1, 1), medication);
+        persistPrescription(otherPatient, LocalDate.of(2024, 1, 5), medication);
+
+        persistSurgery(patient, LocalDate.of(2024, 2, 1));
+    }
+
+    @Test
+    @DisplayName("findChartHeaderById - Returns patient with ward and hospital")
+    void findChartHeaderById_ExistingPatient_ReturnsHeader() {
+        PatientChartDto header = patientRepository.findChartHeaderById(patient.getPatientId()).orElseThrow();
+
+        assertEquals("Chart Patient", header.getPatientName());
+        assertEquals(patient.getWard().getWardId(), header.getWardId());
+        assertEquals(patient.getHospital().getHospitalName(), header.getHospitalName());
+    }
+
+    @Test
+    @DisplayName("findChartHeaderById - Patient without ward or hospital still resolves")
+    void findChartHeaderById_NoWardOrHospital_ReturnsHeader() {
+        PatientChartDto header = patientRepository.findChartHeaderById(otherPatient.getPatientId()).orElseThrow();
+
+        assertNull(header.getWardId());
+        assertNull(header.getHospitalId());
+    }
+
+    @Test
+    @DisplayName("findChartHeaderById - Unknown patient is empty")
+    void findChartHeaderById_UnknownPatient_ReturnsEmpty() {
+        assertTrue(patientRepository.findChartHeaderById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("findChartDiagnosesById - Returns diagnoses with doctor name")
+    void findChartDiagnosesById_ReturnsDiagnoses() {
+        List<ChartDiagnosisDto> diagnoses = patientRepository.findChartDiagnosesById(patient.getPatientId());
+
+        assertEquals(1, diagnoses.size());
+        assertEquals("Dr. Chart", diagnoses.get(0).getDoctorName());
+    }
+
+    @Test
+    @DisplayName("findChartEntriesByPatientId - Appointments are the patient's only, newest first")
+    void appointments_OnlyPatientsNewestFirst() {
+        List<ChartAppointmentDto> appointments = appointmentRepository.findChartEntriesByPatientId(patient.getPatientId());
+
+        assertEquals(2, appointments.size());
+        assertEquals(LocalDate.of(2024, 4, 1), appointments.get(0).getAppointmentDate());
+        assertNull(appointments.get(0).getDoctorName());
+        assertEquals("Dr. Chart", appointments.get(1).getDoctorName());
+    }
+
+    @Test
+    @DisplayName("findChartEntriesByPatientId - Prescriptions carry the medication")
+    void prescriptions_IncludeMedication() {
+        List<ChartPrescriptionDto> prescriptions = prescriptionRepository.findChartEntriesByPatientId(patient.getPatientId());
+
+        assertEquals(1, prescriptions.size());
+        assertEquals("Ibuprofen", prescriptions.get(0).getMedicationName());
+        assertEquals("400mg", prescriptions.get(0).getDosage());
+    }
+
+    @Test
+    @DisplayName("findByPatientId - Prescriptions and surgeries are filtered by patient")
+    void findByPatientId_FiltersByPatient() {
+        assertEquals(1, prescriptionRepository.findByPatientId(patient.getPatientId()).size());
+        assertEquals(1, prescriptionRepository.findByPatientId(otherPatient.getPatientId()).size());
+        assertEquals(1, surgeryRepository.findByPatientId(patient.getPatientId()).size());
+        assertTrue(surgeryRepository.findByPatientId(otherPatient.getPatientId()).isEmpty());
+
+        List<ChartSurgeryDto> surgeries = surgeryRepository.findChartEntriesByPatientId(patient.getPatientId());
+        assertEquals("Dr. Chart", surgeries.get(0).getDoctorName());
+    }
+
+    private void persistAppointment(Patient owner, LocalDate date, Doctor appointmentDoctor) {
+        Appointment appointment = new Appointment();
+        appointment.setAppointmentId(UUID.randomUUID());
+        appointment.setPatient(owner);
+        appointment.setDoctor(appointmentDoctor);
+        appointment.setAppointmentDate(date);
+        appointment.setReason("Checkup");
+        appointment.setStatus(AppointmentStatusType.SCHEDULED);
+        entityManager.persistAndFlush(appointment);
+    }
+
+    private void persistPrescription(Patient owner, LocalDate startDate, Medication medication) {
+        Prescription prescription = new Prescription();
+        prescription.setPrescriptionId(UUID.randomUUID());
+        prescription.setPatient(owner);
+        prescription.setDoctor(doctor);
+        prescription.setMedication(medication);
+        prescription.setStartDate(startDate);
+        prescription.setEndDate(startDate.plusDays(10));
+        entityManager.persistAndFlush(prescription);
+    }
+
+    private void persistSurgery(Patient owner, LocalDate date) {
+        Surgery surgery = new Surgery();
+        surgery.setSurgeryId(UUID.randomUUID());
+        surgery.setPatient(owner);
+        surgery.setDoctor(doctor);
+        surgery.setSurgeryDate(date);
+        surgery.setDescription("Appendectomy");
+        entityManager.persistAndFlush(surgery);
+    }
+}
@@ -1,12 +1,16 @@
 package com.testing_exam_webapp.integration;
 
+import com.testing_exam_webapp.config.cache.CacheConfig;
 import com.testing_exam_webapp.dto.PatientRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
 import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.*;
 import com.testing_exam_webapp.repository.*;
+import com.testing_exam_webapp.service.NameSearchService;
 import com.testing_exam_webapp.service.PatientService;
+import com.testing_exam_webapp.service.WardAdmissionService;
 import com.testing_exam_webapp.util.TestDataBuilder;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,7 +33,7 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 @DataJpaTest
 @ActiveProfiles("test")
-@Import(PatientService.class)
+@Import({PatientService.class, NameSearchService.class, WardAdmissionService.class, CacheConfig.class})
 @Transactional
 @DisplayName("PatientService Integration Tests")
 class PatientServiceIntegrationTest {
@@ -153,6 +158,35 @@ class PatientServiceIntegrationTest {
         assertEquals(0, patientRepository.count());
     }
 
+    @Test
+    @DisplayName("existsInHospital - Answers ward-hospital membership from the join table")
+    void existsInHospital_JoinTable_ReflectsAssociations() {
+        entityManager.clear();
+
+        assertTrue(wardRepository.existsInHospital(testWard.getWardId(), testHospital.getHospitalId()));
+        assertFalse(wardRepository.existsInHospital(testWard2.getWardId(), testHospital.getHospitalId()));
+        assertFalse(wardRepository.existsInHospital(UUID.randomUUID(), testHospital.getHospitalId()));
+    }
+
+    @Test
+    @DisplayName("createPatient - Ward loaded without its hospitals - Membership checked without loading them")
+    void createPatient_FreshlyLoadedWard_ValidatesMembership() {
+        entityManager.clear();
+        PatientRequest request = new PatientRequest();
+        request.setPatientName("Fresh Load");
+        request.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        request.setWardId(testWard.getWardId());
+        request.setHospitalId(testHospital.getHospitalId());
+
+        Patient result = patientService.createPatient(request);
+
+        assertEquals(testWard.getWardId(), result.getWard().getWardId());
+        assertFalse(Hibernate.isInitialized(result.getWard().getHospitals()));
+
+        request.setWardId(testWard2.getWardId());
+        assertThrows(ValidationException.class, () -> patientService.createPatient(request));
+    }
+
     @Test
     @DisplayName("createPatient - With Diagnosis IDs - Persists ManyToMany Relationship")
     void createPatient_WithDiagnosisIds_PersistsManyToManyRelationship() {
@@ -241,7 +275,7 @@ class PatientServiceIntegrationTest {
         updateRequest.setGender("Female");
 
         // Act
-        Patient result = patientService.updatePatient(existingPatient.getPatientId(), updateRequest);
+        Patient result = patientService.updatePatient(existingPatient.getPatientId(), updateRequest, null);
 
         // Assert
         assertEquals("Updated Name", result.getPatientName());
@@ -277,13 +311,76 @@ class PatientServiceIntegrationTest {
         updateRequest.setHospitalId(testHospital.getHospitalId());
 
         // Act
-        Patient result = patientService.updatePatient(existingPatient.getPatientId(), updateRequest);
+        Patient result = patientService.updatePatient(existingPatient.getPatientId(), updateRequest, null);
 
         // Assert
         assertNotNull(result.getWard());
         assertEquals(newWard.getWardId(), result.getWard().getWardId());
     }
 
+    @Test
+    @DisplayName("updatePatient - Current Version - Bumps the Version on Flush")
+    void updatePatient_CurrentVersion_BumpsVersion() {
+        // Arrange
+        Patient existingPatient = entityManager.persistAndFlush(TestDataBuilder.createPatient("Original Name",
+                LocalDate.of(1990, 1, 1), "Male"));
+        Long version = existingPatient.getVersion();
+        PatientRequest updateRequest = new PatientRequest();
+        updateRequest.setPatientName("Updated Name");
+        updateRequest.setDateOfBirth(LocalDate.of(1990, 1, 1));
+
+        // Act
+        Patient result = patientService.updatePatient(existingPatient.getPatientId(), updateRequest, version);
+        patientRepository.flush();
+
+        // Assert
+        assertEquals(version + 1, result.getVersion());
+    }
+
+    @Test
+    @DisplayName("updatePatient - Concurrent Write - Rejected at Flush")
+    void updatePatient_ConcurrentWrite_RejectedAtFlush() {
+        // Arrange - another transaction commits an edit after our copy was loaded
+        Patient existingPatient = entityManager.persistAndFlush(TestDataBuilder.createPatient("Original Name",
+                LocalDate.of(1990, 1, 1), "Male"));
+        Long version = existingPatient.getVersion();
+        entityManager.getEntityManager()
+                .createQuery("update Patient p set p.version = p.version + 1 where p.patientId = :id")
+                .setParameter("id", existingPatient.getPatientId())
+                .executeUpdate();
+        PatientRequest updateRequest = new PatientRequest();
+        updateRequest.setPatientName("Updated Name");
+        updateRequest.setDateOfBirth(LocalDate.of(1990, 1, 1));
+
+        // Act
+        patientService.updatePatient(existingPatient.getPatientId(), updateRequest, version);
+
+        // Assert
+        assertThrows(OptimisticLockingFailureException.class, () -> patientRepository.flush());
+    }
+
+    @Test
+    @DisplayName("createPatient - Ward Full - Rejected by the Occupancy Guard")
+    void createPatient_WardFull_ThrowsValidationException() {
+        // Arrange - a one-bed ward
+        Ward smallWard = entityManager.persistAndFlush(
+                TestDataBuilder.createWard(com.testing_exam_webapp.model.types.WardType.GENERAL_MEDICINE, 1));
+        PatientRequest request = new PatientRequest();
+        request.setPatientName("First Patient");
+        request.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        request.setWardId(smallWard.getWardId());
+        patientService.createPatient(request);
+
+        PatientRequest second = new PatientRequest();
+        second.setPatientName("Second Patient");
+        second.setDateOfBirth(LocalDate.of(1990, 1, 1));
+        second.setWardId(smallWard.getWardId());
+
+        // Act & Assert
+        assertThrows(ValidationException.class, () -> patientService.createPatient(second));
+        assertEquals(1, wardRepository.findOccupiedBedsByWardId(smallWard.getWardId()).orElseThrow());
+    }
+
     @Test
     @DisplayName("deletePatient - Existing Patient - Removes Patient from Database")
     void deletePatient_ExistingPatient_RemovesPatientFromDatabase() {
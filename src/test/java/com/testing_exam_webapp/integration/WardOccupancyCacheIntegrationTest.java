@@ -0,0 +1,59 @@
+package com.testing_exam_webapp.integration;
+
+import com.testing_exam_webapp.dto.PatientRequest;
+import com.testing_exam_webapp.dto.WardRequest;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Ward;
+import com.testing_exam_webapp.model.types.WardType;
+import com.testing_exam_webapp.service.PatientService;
+import com.testing_exam_webapp.service.WardService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the cached ward occupancy. Runs without a test transaction on purpose: cache
+ * evictions are deferred until commit, so each service call must commit on its own.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Ward Occupancy Cache Integration Tests")
+class WardOccupancyCacheIntegrationTest {
+
+    @Autowired
+    private WardService wardService;
+
+    @Autowired
+    private PatientService patientService;
+
+    @Test
+    @DisplayName("getWardById - Admissions and discharges are visible in the next read of a cached ward")
+    void getWardById_AfterAdmitAndDischarge_ShowsCurrentOccupancy() {
+        WardRequest wardRequest = new WardRequest();
+        wardRequest.setType(WardType.CARDIOLOGY);
+        wardRequest.setMaxCapacity(2);
+        Ward ward = wardService.createWard(wardRequest);
+
+        assertEquals(0, wardService.getWardById(ward.getWardId()).getOccupiedBeds());
+
+        PatientRequest patientRequest = new PatientRequest();
+        patientRequest.setPatientName("Cache Patient");
+        patientRequest.setDateOfBirth(LocalDate.of(1980, 1, 1));
+        patientRequest.setWardId(ward.getWardId());
+        Patient patient = patientService.createPatient(patientRequest);
+
+        assertEquals(1, wardService.getWardById(ward.getWardId()).getOccupiedBeds());
+
+        patientService.deletePatient(patient.getPatientId());
+
+        assertEquals(0, wardService.getWardById(ward.getWardId()).getOccupiedBeds());
+
+        wardService.deleteWard(ward.getWardId());
+    }
+}
@@ -0,0 +1,194 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.ActivePrescriptionDto;
+import com.testing_exam_webapp.repository.PrescriptionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for ActivePrescriptionService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivePrescriptionService Tests")
+class ActivePrescriptionServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 10);
+    private static final UUID WARD = UUID.randomUUID();
+    private static final UUID PATIENT = UUID.randomUUID();
+
+    @Mock
+    private PrescriptionRepository prescriptionRepository;
+
+    private ActivePrescriptionService service;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        service = new ActivePrescriptionService(prescriptionRepository, 7, clock);
+    }
+
+    @Test
+    @DisplayName("getActivePrescriptions - Today is served from the active set loaded once")
+    void getActivePrescriptions_Today_ServedFromActiveSet() {
+        ActivePrescriptionDto active = prescription("Bob", "Ibuprofen", TODAY.minusDays(2), TODAY.plusDays(2));
+        ActivePrescriptionDto startsLater = prescription("Bob", "Aspirin", TODAY.plusDays(3), null);
+        when(prescriptionRepository.findActiveEntriesBetween(TODAY, TODAY.plusDays(7)))
+                .thenReturn(List.of(active, startsLater));
+
+        List<ActivePrescriptionDto> first = service.getActivePrescriptions(null);
+        List<ActivePrescriptionDto> second = service.getActivePrescriptions(TODAY);
+
+        assertEquals(List.of(active), first);
+        assertEquals(first, second);
+        verify(prescriptionRepository, times(1)).findActiveEntriesBetween(TODAY, TODAY.plusDays(7));
+    }
+
+    @Test
+    @DisplayName("getActivePrescriptions - Date inside the horizon includes prescriptions starting later")
+    void getActivePrescriptions_FutureDateInHorizon_UsesActiveSet() {
+        ActivePrescriptionDto startsLater = prescription("Bob", "Aspirin", TODAY.plusDays(3), null);
+        when(prescriptionRepository.findActiveEntriesBetween(TODAY, TODAY.plusDays(7))).thenReturn(List.of(startsLater));
+
+        assertEquals(List.of(startsLater), service.getActivePrescriptions(TODAY.plusDays(4)));
+    }
+
+    @Test
+    @DisplayName("getActivePrescriptions - Date outside the window falls back to the range query")
+    void getActivePrescriptions_PastDate_QueriesDatabase() {
+        LocalDate past = TODAY.minusDays(30);
+        when(prescriptionRepository.findActiveEntriesBetween(TODAY, TODAY.plusDays(7))).thenReturn(List.of());
+        when(prescriptionRepository.findActiveEntriesBetween(past, past)).thenReturn(List.of());
+
+        service.getActivePrescriptions(past);
+
+        verify(prescriptionRepository).findActiveEntriesBetween(past, past);
+    }
+
+    @Test
+    @DisplayName("getWardMedicationRound - Returns the ward's active prescriptions sorted by patient and medication")
+    void getWardMedicationRound_ReturnsSortedWardEntries() {
+        ActivePrescriptionDto bobB = prescription("Bob", "Paracetamol", TODAY, TODAY);
+        ActivePrescriptionDto alice = prescription("Alice", "Insulin", TODAY, null);
+        ActivePrescriptionDto bobA = prescription("Bob", "Amoxicillin", TODAY.minusDays(1), TODAY.plusDays(1));
+        ActivePrescriptionDto otherWard = new ActivePrescriptionDto(UUID.randomUUID(), UUID.randomUUID(), "Carl",
+                UUID.randomUUID(), UUID.randomUUID(), "Morphine", "5mg", TODAY, null);
+        when(prescriptionRepository.findActiveEntriesBetween(TODAY, TODAY.plusDays(7)))
+                .thenReturn(List.of(bobB, alice, bobA, otherWard));
+
+        List<ActivePrescriptionDto> round = service.getWardMedicationRound(WARD, TODAY);
+
+        assertEquals(List.of(alice, bobA, bobB), round);
+    }
+
+    @Test
+    @DisplayName("upsert - Committed writes update the active set without reloading")
+    void upsert_UpdatesActiveSet() {
+        when(prescriptionRepository.findActiveEntriesBetween(TODAY, TODAY.plusDays(7))).thenReturn(List.of());
+        service.getActivePrescriptions(TODAY);
+
+        ActivePrescriptionDto added = prescription("Bob", "Ibuprofen", TODAY, null);
+        service.upsert(added);
+        assertEquals(List.of(added), service.getActivePrescriptionsForPatient(PATIENT, TODAY));
+
+        ActivePrescriptionDto ended = prescription("Bob", "Ibuprofen", TODAY.minusDays(10), TODAY.minusDays(1));
+        ended.setPrescriptionId(added.getPrescriptionId());
+        service.upsert(ended);
+        assertTrue(service.getActivePrescriptionsForPatient(PATIENT, TODAY).isEmpty());
+        assertEquals(0, service.activeSetSize());
+
+        verify(prescriptionRepository, times(1)).findActiveEntriesBetween(TODAY, TODAY.plusDays(7));
+    }
+
+    @Test
+    @DisplayName("roll - The scheduled reload picks up prescriptions written on another instance")
+    void roll_PicksUpOtherInstancesWrites() {
+        ActivePrescriptionDto elsewhere = prescription("Bob", "Ibuprofen", TODAY, null);
+        when(prescriptionRepository.findActiveEntriesBetween(TODAY, TODAY.plusDays(7)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(elsewhere));
+        assertTrue(service.getWardMedicationRound(WARD, TODAY).isEmpty());
+
+        service.roll();
+
+        assertEquals(List.of(elsewhere), service.getWardMedicationRound(WARD, TODAY));
+    }
+
+    @Test
+    @DisplayName("getActivePrescriptions - Concurrent first lookups of a day load the window once")
+    void getActivePrescriptions_ConcurrentFirstLookups_LoadOnce() throws Exception {
+        when(prescriptionRepository.findActiveEntriesBetween(TODAY, TODAY.plusDays(7))).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return List.of();
+        });
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<ActivePrescriptionDto>>> lookups = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                lookups.add(pool.submit(() -> service.getActivePrescriptions(TODAY)));
+            }
+            for (Future<List<ActivePrescriptionDto>> lookup : lookups) {
+                assertTrue(lookup.get(5, TimeUnit.SECONDS).isEmpty());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        verify(prescriptionRepository, times(1)).findActiveEntriesBetween(TODAY, TODAY.plusDays(7));
+    }
+
+    @Test
+    @DisplayName("patientChanged - Moving a patient moves their prescriptions to the new ward")
+    void patientChanged_NewWard_ReKeysPrescriptions() {
+        ActivePrescriptionDto active = prescription("Bob", "Ibuprofen", TODAY, null);
+        when(prescriptionRepository.findActiveEntriesBetween(TODAY, TODAY.plusDays(7))).thenReturn(List.of(active));
+        service.getActivePrescriptions(TODAY);
+        UUID newWard = UUID.randomUUID();
+
+        service.patientChanged(PATIENT, "Bob", newWard);
+
+        assertTrue(service.getWardMedicationRound(WARD, TODAY).isEmpty());
+        assertEquals(1, service.getWardMedicationRound(newWard, TODAY).size());
+    }
+
+    @Test
+    @DisplayName("remove - Deleted prescription leaves the active set")
+    void remove_DropsPrescription() {
+        ActivePrescriptionDto active = prescription("Bob", "Ibuprofen", TODAY, null);
+        when(prescriptionRepository.findActiveEntriesBetween(TODAY, TODAY.plusDays(7))).thenReturn(List.of(active));
+        service.getActivePrescriptions(TODAY);
+
+        service.remove(active.getPrescriptionId());
+
+        assertTrue(service.getWardMedicationRound(WARD, TODAY).isEmpty());
+    }
+
+    @Test
+    @DisplayName("getActivePrescriptionsForPatient - Should reject a null ID")
+    void getActivePrescriptionsForPatient_NullId_ThrowsException() {
+        assertThrows(NullPointerException.class, () -> service.getActivePrescriptionsForPatient(null, TODAY));
+    }
+
+    private static ActivePrescriptionDto prescription(String patientName, String medication, LocalDate start, LocalDate end) {
+        UUID patientId = "Bob".equals(patientName) ? PATIENT : UUID.randomUUID();
+        return new ActivePrescriptionDto(UUID.randomUUID(), patientId, patientName, WARD, UUID.randomUUID(),
+                medication, "10mg", start, end);
+    }
+}
@@ -1,6 +1,8 @@
 package com.testing_exam_webapp.service;
 
 import com.testing_exam_webapp.dto.AppointmentRequest;
+import com.testing_exam_webapp.exception.ValidationException;
+import com.testing_exam_webapp.dto.AppointmentFilter;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
 import com.testing_exam_webapp.model.mysql.Appointment;
 import com.testing_exam_webapp.model.mysql.Doctor;
@@ -23,6 +25,11 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -30,6 +37,7 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -51,6 +59,9 @@ class AppointmentServiceTest {
     @Mock
     private NurseRepository nurseRepository;
 
+    @Mock
+    private ClinicalArchiveService archiveService;
+
     @InjectMocks
     private AppointmentService appointmentService;
 
@@ -172,6 +183,21 @@ class AppointmentServiceTest {
         assertEquals(appointmentDate, result.getAppointmentDate());
     }
 
+    @Test
+    @DisplayName("getAppointmentsByDateRange - Should include archived appointments")
+    void getAppointmentsByDateRange_ReachesArchive_CombinesTiers() {
+        LocalDate startDate = LocalDate.now().minusYears(2);
+        LocalDate endDate = LocalDate.now();
+        Appointment archived = new Appointment();
+        archived.setAppointmentId(UUID.randomUUID());
+        when(appointmentRepository.findByAppointmentDateBetween(startDate, endDate)).thenReturn(List.of(testAppointment));
+        when(archiveService.getAppointmentsBetween(startDate, endDate)).thenReturn(List.of(archived));
+
+        List<Appointment> result = appointmentService.getAppointmentsByDateRange(startDate, endDate);
+
+        assertEquals(List.of(testAppointment, archived), result);
+    }
+
     @ParameterizedTest
     @EnumSource(AppointmentStatusType.class)
     @DisplayName("createAppointment - Equivalence Partitioning: Test all status types")
@@ -268,7 +294,7 @@ class AppointmentServiceTest {
         when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(testAppointment));
         when(appointmentRepository.save(any(Appointment.class))).thenReturn(testAppointment);
 
-        Appointment result = appointmentService.updateAppointment(appointmentId, request);
+        Appointment result = appointmentService.updateAppointment(appointmentId, request, null);
 
         assertNotNull(result);
         verify(appointmentRepository, times(1)).save(testAppointment);
@@ -287,7 +313,7 @@ class AppointmentServiceTest {
         when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(testAppointment));
         when(appointmentRepository.save(any(Appointment.class))).thenReturn(testAppointment);
 
-        Appointment result = appointmentService.updateAppointment(appointmentId, request);
+        Appointment result = appointmentService.updateAppointment(appointmentId, request, null);
         assertNotNull(result);
         verify(patientRepository, never()).findById(any());
     }
@@ -305,7 +331,7 @@ class AppointmentServiceTest {
         when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(testAppointment));
         when(appointmentRepository.save(any(Appointment.class))).thenReturn(testAppointment);
 
-        Appointment result = appointmentService.updateAppointment(appointmentId, request);
+        Appointment result = appointmentService.updateAppointment(appointmentId, request, null);
         assertNotNull(result);
         verify(doctorRepository, never()).findById(any());
     }
@@ -323,7 +349,7 @@ class AppointmentServiceTest {
         when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(testAppointment));
         when(appointmentRepository.save(any(Appointment.class))).thenReturn(testAppointment);
 
-        Appointment result = appointmentService.updateAppointment(appointmentId, request);
+        Appointment result = appointmentService.updateAppointment(appointmentId, request, null);
         assertNotNull(result);
         verify(nurseRepository, never()).findById(any());
     }
@@ -341,7 +367,7 @@ class AppointmentServiceTest {
         when(patientRepository.findById(nonExistentPatientId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            appointmentService.updateAppointment(appointmentId, request);
+            appointmentService.updateAppointment(appointmentId, request, null);
         });
         assertEquals("Patient not found", exception.getMessage());
     }
@@ -359,7 +385,7 @@ class AppointmentServiceTest {
         when(doctorRepository.findById(nonExistentDoctorId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            appointmentService.updateAppointment(appointmentId, request);
+            appointmentService.updateAppointment(appointmentId, request, null);
         });
         assertEquals("Doctor not found", exception.getMessage());
     }
@@ -377,7 +403,7 @@ class AppointmentServiceTest {
         when(nurseRepository.findById(nonExistentNurseId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            appointmentService.updateAppointment(appointmentId, request);
+            appointmentService.updateAppointment(appointmentId, request, null);
         });
         assertEquals("Nurse not found", exception.getMessage());
     }
@@ -463,7 +489,7 @@ class AppointmentServiceTest {
         when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(testAppointment));
         when(appointmentRepository.save(any(Appointment.class))).thenReturn(testAppointment);
 
-        Appointment result = appointmentService.updateAppointment(appointmentId, request);
+        Appointment result = appointmentService.updateAppointment(appointmentId, request, null);
         assertEquals(AppointmentStatusType.COMPLETED, result.getStatus());
     }
 
@@ -480,8 +506,44 @@ class AppointmentServiceTest {
         when(appointmentRepository.findById(appointmentId)).thenReturn(Optional.of(testAppointment));
         when(appointmentRepository.save(any(Appointment.class))).thenReturn(testAppointment);
 
-        Appointment result = appointmentService.updateAppointment(appointmentId, request);
+        Appointment result = appointmentService.updateAppointment(appointmentId, request, null);
         assertEquals(AppointmentStatusType.CANCELLED, result.getStatus());
     }
-}
 
+    @Test
+    @DisplayName("searchAppointments - Valid Filter - Delegates To Specification Query")
+    @SuppressWarnings("unchecked")
+    void searchAppointments_ValidFilter_ReturnsPage() {
+        // Arrange
+        AppointmentFilter filter = new AppointmentFilter();
+        filter.setStartDate(LocalDate.now());
+        filter.setEndDate(LocalDate.now().plusDays(7));
+        filter.setStatus(AppointmentStatusType.SCHEDULED);
+        Pageable pageable = PageRequest.of(0, 20);
+        when(appointmentRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(testAppointment), pageable, 1));
+
+        // Act
+        Page<Appointment> result = appointmentService.searchAppointments(filter, pageable);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals(testAppointment, result.getContent().get(0));
+        verify(appointmentRepository).findAll(any(Specification.class), eq(pageable));
+    }
+
+    @Test
+    @DisplayName("searchAppointments - Start After End - Throws ValidationException")
+    @SuppressWarnings("unchecked")
+    void searchAppointments_StartAfterEnd_ThrowsValidationException() {
+        // Arrange
+        AppointmentFilter filter = new AppointmentFilter();
+        filter.setStartDate(LocalDate.now().plusDays(7));
+        filter.setEndDate(LocalDate.now());
+
+        // Act & Assert
+        assertThrows(ValidationException.class,
+                () -> appointmentService.searchAppointments(filter, PageRequest.of(0, 20)));
+        verify(appointmentRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+}
@@ -0,0 +1,90 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.MySqlPartitionMaintainer;
+import com.testing_exam_webapp.repository.AppointmentRepository;
+import com.testing_exam_webapp.repository.SurgeryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ArchiveRetentionJob.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchiveRetentionJob Tests")
+class ArchiveRetentionJobTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2024, 4, 1);
+
+    @Mock
+    private ClinicalArchiveService archiveService;
+
+    @Mock
+    private ArchiveMover archiveMover;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private SurgeryRepository surgeryRepository;
+
+    @Mock
+    private ObjectProvider<MySqlPartitionMaintainer> partitionMaintainer;
+
+    @InjectMocks
+    private ArchiveRetentionJob job;
+
+    @Test
+    @DisplayName("run - Moves one month at a time from the oldest row up to the cutoff")
+    void run_OldRows_MovesEachMonthBeforeCutoff() {
+        when(archiveService.cutoff()).thenReturn(CUTOFF);
+        when(appointmentRepository.findOldestDateWithStatusIn(ClinicalArchiveService.ARCHIVABLE_STATUSES))
+                .thenReturn(LocalDate.of(2024, 1, 17));
+        when(surgeryRepository.findOldestDate()).thenReturn(LocalDate.of(2024, 3, 2));
+
+        job.run();
+
+        verify(archiveMover).moveAppointments(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1));
+        verify(archiveMover).moveAppointments(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1));
+        verify(archiveMover).moveAppointments(LocalDate.of(2024, 3, 1), CUTOFF);
+        verify(archiveMover).moveSurgeries(LocalDate.of(2024, 3, 1), CUTOFF);
+        verifyNoMoreInteractions(archiveMover);
+        verify(archiveService).refreshNewestArchived();
+    }
+
+    @Test
+    @DisplayName("run - Nothing to move when the hot tables hold no rows before the cutoff")
+    void run_NoOldRows_MovesNothing() {
+        when(archiveService.cutoff()).thenReturn(CUTOFF);
+        when(surgeryRepository.findOldestDate()).thenReturn(CUTOFF.plusDays(3));
+
+        job.run();
+
+        verifyNoInteractions(archiveMover);
+    }
+
+    @Test
+    @DisplayName("run - A failing month is skipped and later months still move")
+    void run_MonthFails_ContinuesWithNextMonth() {
+        when(archiveService.cutoff()).thenReturn(CUTOFF);
+        when(appointmentRepository.findOldestDateWithStatusIn(ClinicalArchiveService.ARCHIVABLE_STATUSES))
+                .thenReturn(LocalDate.of(2024, 2, 10));
+        when(archiveMover.moveAppointments(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        job.run();
+
+        verify(archiveMover).moveAppointments(LocalDate.of(2024, 3, 1), CUTOFF);
+        verify(archiveMover, never()).moveSurgeries(any(), any());
+    }
+}
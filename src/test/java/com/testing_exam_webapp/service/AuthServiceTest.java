@@ -1,14 +1,19 @@
 package com.testing_exam_webapp.service;
 
 import com.testing_exam_webapp.config.JwtTokenProvider;
+import com.testing_exam_webapp.config.TokenRevocationStore;
 import com.testing_exam_webapp.dto.LoginRequest;
 import com.testing_exam_webapp.dto.LoginResponse;
 import com.testing_exam_webapp.dto.RegisterRequest;
+import com.testing_exam_webapp.exception.TooManyRequestsException;
 import com.testing_exam_webapp.exception.UnauthorizedException;
 import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.User;
 import com.testing_exam_webapp.model.types.Role;
 import com.testing_exam_webapp.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,11 +26,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
+import java.util.Date;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -44,6 +53,12 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private LoginRateLimiter loginRateLimiter;
+
+    @Mock
+    private TokenRevocationStore revocationStore;
+
     @InjectMocks
     private AuthService authService;
 
@@ -110,6 +125,181 @@ class AuthServiceTest {
         assertEquals("Invalid username or password", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("login - Unknown username still runs a password check")
+    void login_UnknownUsername_StillMatchesAgainstDummyHash() {
+        LoginRequest request = new LoginRequest();
+        request.setUsername("nonexistent");
+        request.setPassword(PASSWORD);
+
+        when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
+        when(passwordEncoder.encode(anyString())).thenReturn(ENCODED_PASSWORD);
+
+        assertThrows(UnauthorizedException.class, () -> authService.login(request, "10.0.0.1"));
+
+        verify(passwordEncoder).matches(PASSWORD, ENCODED_PASSWORD);
+        verify(loginRateLimiter).recordFailure("nonexistent", "10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("login - Failed password is recorded against username and IP")
+    void login_InvalidPassword_RecordsFailure() {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(USERNAME);
+        request.setPassword("wrongpassword");
+
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches("wrongpassword", ENCODED_PASSWORD)).thenReturn(false);
+
+        assertThrows(UnauthorizedException.class, () -> authService.login(request, "10.0.0.1"));
+
+        verify(loginRateLimiter).recordFailure(USERNAME, "10.0.0.1");
+        verify(loginRateLimiter, never()).recordSuccess(any());
+    }
+
+    @Test
+    @DisplayName("login - Rate limited attempt is rejected before any hashing")
+    void login_RateLimited_ThrowsBeforeHashing() {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(USERNAME);
+        request.setPassword(PASSWORD);
+
+        doThrow(new TooManyRequestsException("Too many failed login attempts, try again later"))
+                .when(loginRateLimiter).checkAllowed(USERNAME, "10.0.0.1");
+
+        assertThrows(TooManyRequestsException.class, () -> authService.login(request, "10.0.0.1"));
+
+        verifyNoInteractions(userRepository, passwordEncoder, jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("login - Outdated hash is re-encoded and saved on success")
+    void login_OutdatedHash_RehashesPassword() {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(USERNAME);
+        request.setPassword(PASSWORD);
+
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(ENCODED_PASSWORD)).thenReturn(true);
+        when(passwordEncoder.encode(PASSWORD)).thenReturn("{bcrypt}$2a$12$upgraded");
+        when(jwtTokenProvider.generateToken(USERNAME, Role.USER.name())).thenReturn("test-token");
+
+        authService.login(request, "10.0.0.1");
+
+        assertEquals("{bcrypt}$2a$12$upgraded", testUser.getPassword());
+        verify(userRepository).save(testUser);
+        verify(loginRateLimiter).recordSuccess(USERNAME);
+    }
+
+    @Test
+    @DisplayName("login - Current hash is not rewritten")
+    void login_CurrentHash_DoesNotSave() {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(USERNAME);
+        request.setPassword(PASSWORD);
+
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+        when(jwtTokenProvider.generateToken(USERNAME, Role.USER.name())).thenReturn("test-token");
+
+        authService.login(request, "10.0.0.1");
+
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("login - Returns an access and a refresh token")
+    void login_ValidCredentials_ReturnsRefreshToken() {
+        LoginRequest request = new LoginRequest();
+        request.setUsername(USERNAME);
+        request.setPassword(PASSWORD);
+
+        when(userRepository.findByUsername(USERNAME)).thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(PASSWORD, ENCODED_PASSWORD)).thenReturn(true);
+        when(jwtTokenProvider.generateToken(USERNAME, Role.USER.name())).thenReturn("access-token");
+        when(jwtTokenProvider.generateRefreshToken(USERNAME, Role.USER.name())).thenReturn("refresh-token");
+
+        LoginResponse result = authService.login(request, "10.0.0.1");
+
+        assertEquals("access-token", result.getToken());
+        assertEquals("refresh-token", result.getRefreshToken());
+    }
+
+    @Test
+    @DisplayName("refresh - Valid refresh token is rotated into a new pair without a user lookup")
+    void refresh_ValidToken_RevokesOldAndIssuesNewPair() {
+        Claims claims = refreshClaims("jti-1");
+        when(jwtTokenProvider.parseClaims("old-refresh")).thenReturn(claims);
+        when(revocationStore.revoke(eq("jti-1"), any(Instant.class))).thenReturn(true);
+        when(jwtTokenProvider.generateToken(USERNAME, Role.USER.name())).thenReturn("new-access");
+        when(jwtTokenProvider.generateRefreshToken(USERNAME, Role.USER.name())).thenReturn("new-refresh");
+
+        LoginResponse result = authService.refresh("old-refresh");
+
+        assertEquals("new-access", result.getToken());
+        assertEquals("new-refresh", result.getRefreshToken());
+        assertEquals(Role.USER.name(), result.getRole());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("refresh - Replayed refresh token is rejected")
+    void refresh_AlreadyUsedToken_ThrowsUnauthorizedException() {
+        Claims claims = refreshClaims("jti-1");
+        when(jwtTokenProvider.parseClaims("old-refresh")).thenReturn(claims);
+        when(revocationStore.revoke(eq("jti-1"), any(Instant.class))).thenReturn(false);
+
+        UnauthorizedException exception = assertThrows(UnauthorizedException.class,
+                () -> authService.refresh("old-refresh"));
+        assertEquals("Invalid refresh token", exception.getMessage());
+        verify(jwtTokenProvider, never()).generateToken(any(), any());
+    }
+
+    @Test
+    @DisplayName("refresh - Access token is not accepted as a refresh token")
+    void refresh_AccessToken_ThrowsUnauthorizedException() {
+        Claims claims = Jwts.claims().id("jti-1").subject(USERNAME)
+                .add(JwtTokenProvider.TYPE_CLAIM, JwtTokenProvider.ACCESS).build();
+        when(jwtTokenProvider.parseClaims("access")).thenReturn(claims);
+
+        assertThrows(UnauthorizedException.class, () -> authService.refresh("access"));
+        verifyNoInteractions(revocationStore);
+    }
+
+    @Test
+    @DisplayName("refresh - Malformed token is rejected")
+    void refresh_MalformedToken_ThrowsUnauthorizedException() {
+        when(jwtTokenProvider.parseClaims("garbage")).thenThrow(new MalformedJwtException("bad"));
+
+        assertThrows(UnauthorizedException.class, () -> authService.refresh("garbage"));
+    }
+
+    @Test
+    @DisplayName("logout - Revokes both tokens and ignores invalid ones")
+    void logout_RevokesAccessAndRefreshTokens() {
+        Claims access = Jwts.claims().id("access-jti").expiration(new Date(System.currentTimeMillis() + 60_000)).build();
+        when(jwtTokenProvider.parseClaims("access")).thenReturn(access);
+        when(jwtTokenProvider.parseClaims("refresh")).thenReturn(refreshClaims("refresh-jti"));
+
+        authService.logout("access", "refresh");
+        authService.logout(null, null);
+
+        verify(revocationStore).revoke(eq("access-jti"), any(Instant.class));
+        verify(revocationStore).revoke(eq("refresh-jti"), any(Instant.class));
+        verifyNoMoreInteractions(revocationStore);
+    }
+
+    private static Claims refreshClaims(String jti) {
+        return Jwts.claims()
+                .id(jti)
+                .subject(USERNAME)
+                .add("role", Role.USER.name())
+                .add(JwtTokenProvider.TYPE_CLAIM, JwtTokenProvider.REFRESH)
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .build();
+    }
+
     @Test
     @DisplayName("register - Should create user for valid request")
     void register_ValidRequest_CreatesUser() {
@@ -0,0 +1,239 @@
+package com.testing_exam_webapp.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.testing_exam_webapp.dto.ImportResultDto;
+import com.testing_exam_webapp.dto.PatientRequest;
+import com.testing_exam_webapp.exception.TooManyRequestsException;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.service.BulkImportService.Format;
+import com.testing_exam_webapp.service.BulkImportService.ImportProgress;
+import com.testing_exam_webapp.service.BulkImportService.Staged;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for BulkImportService.
+ */
+@DisplayName("BulkImportService Tests")
+class BulkImportServiceTest {
+
+    private static final String HEADER = "patientName,dateOfBirth,gender\n";
+
+    private ImportBatchProcessor processor;
+    private NameSearchService nameSearchService;
+    private ExecutorService executor;
+    private BulkImportService bulkImportService;
+
+    @BeforeEach
+    void setUp() {
+        processor = mock(ImportBatchProcessor.class);
+        nameSearchService = mock(NameSearchService.class);
+        executor = Executors.newCachedThreadPool();
+        bulkImportService = new BulkImportService(processor, nameSearchService,
+                JsonMapper.builder().findAndAddModules().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build(),
+                Validation.buildDefaultValidatorFactory().getValidator(), executor, 2, 1, 10, 1);
+        when(processor.resolvePatients(anyList(), any())).thenAnswer(invocation -> {
+            List<Staged<PatientRequest>> batch = invocation.getArgument(0);
+            return batch.stream().map(row -> {
+                Patient patient = new Patient();
+                patient.setPatientName(row.value().getPatientName());
+                return new Staged<>(row.line(), patient);
+            }).toList();
+        });
+        when(processor.insertPatients(anyList(), any())).thenAnswer(invocation -> values(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("importPatients - CSV - Inserts valid rows in batches and indexes their names")
+    void importPatients_Csv_InsertsInBatches() throws Exception {
+        String csv = HEADER + "Ann,1980-01-01,F\n\"Smith, Bob\",1975-05-05,M\n\nCarl,1990-02-02,M\n";
+
+        ImportResultDto result = bulkImportService.importPatients(stream(csv), Format.CSV);
+
+        assertEquals(3, result.getRowsRead());
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getFailed());
+        verify(processor, times(2)).insertPatients(anyList(), any());
+        verify(nameSearchService, times(2)).indexPatients(anyList());
+    }
+
+    @Test
+    @DisplayName("importPatients - Bad rows - Skipped and reported by line")
+    void importPatients_BadRows_ReportedByLine() throws Exception {
+        String csv = HEADER + "Ann,1980-01-01,F\n,1980-01-01,F\nBob,not-a-date,M\nCarl,1990-02-02\n";
+
+        ImportResultDto result = bulkImportService.importPatients(stream(csv), Format.CSV);
+
+        assertEquals(4, result.getRowsRead());
+        assertEquals(1, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(List.of(3L, 4L, 5L), result.getErrors().stream().map(e -> e.getLine()).toList());
+        assertEquals("patientName: Patient name is required", result.getErrors().get(0).getMessage());
+        assertEquals("Invalid value for dateOfBirth", result.getErrors().get(1).getMessage());
+        assertEquals("Expected 3 columns but found 2", result.getErrors().get(2).getMessage());
+    }
+
+    @Test
+    @DisplayName("importPatients - NDJSON - Each line is one request")
+    void importPatients_Ndjson_ParsesEachLine() throws Exception {
+        String ndjson = "{\"patientName\":\"Ann\",\"dateOfBirth\":\"1980-01-01\"}\n{not json\n";
+
+        ImportResultDto result = bulkImportService.importPatients(stream(ndjson), Format.NDJSON);
+
+        assertEquals(1, result.getImported());
+        assertEquals("Malformed JSON", result.getErrors().get(0).getMessage());
+        assertEquals(2, result.getErrors().get(0).getLine());
+    }
+
+    @Test
+    @DisplayName("importPatients - NDJSON - A null or non-object line is reported and the import continues")
+    void importPatients_NdjsonNotAnObject_ReportedByLine() throws Exception {
+        String ndjson = "null\n[1,2]\n{\"patientName\":\"Ann\",\"dateOfBirth\":\"1980-01-01\"}\n";
+
+        ImportResultDto result = bulkImportService.importPatients(stream(ndjson), Format.NDJSON);
+
+        assertEquals(3, result.getRowsRead());
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(1L, 2L), result.getErrors().stream().map(e -> e.getLine()).toList());
+        assertEquals("Expected a JSON object", result.getErrors().get(0).getMessage());
+        assertEquals("Expected a JSON object", result.getErrors().get(1).getMessage());
+    }
+
+    @Test
+    @DisplayName("importPatients - Insert fails - Whole batch reported, later batches still imported")
+    void importPatients_InsertFails_BatchReported() throws Exception {
+        when(processor.insertPatients(anyList(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenAnswer(invocation -> values(invocation.getArgument(0)));
+        String csv = HEADER + "Ann,1980-01-01,F\nBob,1980-01-01,M\nCarl,1990-02-02,M\n";
+
+        ImportResultDto result = bulkImportService.importPatients(stream(csv), Format.CSV);
+
+        assertEquals(1, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals("Insert failed: duplicate key", result.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("importPatients - Resolver reports rows - They are not inserted")
+    void importPatients_ResolverRejects_RowsNotInserted() throws Exception {
+        when(processor.resolvePatients(anyList(), any())).thenAnswer(invocation -> {
+            List<Staged<PatientRequest>> batch = invocation.getArgument(0);
+            ImportProgress progress = invocation.getArgument(1);
+            batch.forEach(row -> progress.fail(row.line(), "Ward not found"));
+            return List.of();
+        });
+
+        ImportResultDto result = bulkImportService.importPatients(stream(HEADER + "Ann,1980-01-01,F\n"), Format.CSV);
+
+        assertEquals(0, result.getImported());
+        assertEquals(1, result.getFailed());
+        verify(processor, never()).insertPatients(any(), any());
+    }
+
+    @Test
+    @DisplayName("importPatients - Many errors - Error list is capped")
+    void importPatients_ManyErrors_Truncated() throws Exception {
+        String csv = HEADER + IntStream.range(0, 25).mapToObj(i -> ",1980-01-01,F\n").collect(Collectors.joining());
+
+        ImportResultDto result = bulkImportService.importPatients(stream(csv), Format.CSV);
+
+        assertEquals(25, result.getFailed());
+        assertEquals(10, result.getErrors().size());
+        assertTrue(result.isErrorsTruncated());
+    }
+
+    @Test
+    @DisplayName("importPatients - Import already running - Throws TooManyRequestsException")
+    void importPatients_Busy_Throws() throws Exception {
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(processor.insertPatients(anyList(), any())).thenAnswer(invocation -> {
+            inserting.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return values(invocation.getArgument(0));
+        });
+        Future<ImportResultDto> first = executor.submit(() -> bulkImportService.importPatients(stream(HEADER + "Ann,1980-01-01,F\n"), Format.CSV));
+        assertTrue(inserting.await(5, TimeUnit.SECONDS));
+
+        assertThrows(TooManyRequestsException.class,
+                () -> bulkImportService.importPatients(stream(HEADER), Format.CSV));
+
+        release.countDown();
+        assertEquals(1, first.get(5, TimeUnit.SECONDS).getImported());
+    }
+
+    @Test
+    @DisplayName("importPatients - Read fails - Waits for the workers to stop and drops queued batches")
+    void importPatients_ReadFails_WorkersStopFirst() throws Exception {
+        CountDownLatch inserting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(processor.insertPatients(anyList(), any())).thenAnswer(invocation -> {
+            inserting.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return values(invocation.getArgument(0));
+        });
+        InputStream failing = new SequenceInputStream(
+                stream(HEADER + "Ann,1980-01-01,F\nBob,1980-01-01,M\nCarl,1990-02-02,M\nDan,1990-02-02,M\n"),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("connection reset");
+                    }
+                });
+        Future<ImportResultDto> result = executor.submit(() -> bulkImportService.importPatients(failing, Format.CSV));
+        assertTrue(inserting.await(5, TimeUnit.SECONDS));
+
+        assertThrows(TimeoutException.class, () -> result.get(200, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, exception.getCause());
+        verify(processor, times(1)).insertPatients(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("splitCsv - Quoted fields keep commas and doubled quotes")
+    void splitCsv_QuotedFields() {
+        assertEquals(List.of("a", "b, c", "say \"hi\"", ""), BulkImportService.splitCsv("a,\"b, c\",\"say \"\"hi\"\"\","));
+    }
+
+    private static List<Patient> values(List<Staged<Patient>> batch) {
+        return batch.stream().map(Staged::value).toList();
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,145 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.WeatherDto;
+import com.testing_exam_webapp.exception.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for BulkWeatherService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkWeatherService Tests")
+class BulkWeatherServiceTest {
+
+    @Mock
+    private WeatherService weatherService;
+
+    private ExecutorService executor;
+    private BulkWeatherService bulkWeatherService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        bulkWeatherService = new BulkWeatherService(weatherService, executor, 3, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("getWeatherForCities - Spelling variants of a city are fetched once")
+    void getWeatherForCities_SpellingVariants_FetchedOnce() {
+        when(weatherService.getWeatherByCity(anyString())).thenAnswer(invocation ->
+                weather(WeatherService.resolveCity(invocation.getArgument(0))));
+
+        Map<String, WeatherDto> result = bulkWeatherService.getWeatherForCities(
+                List.of("København", " kbh ", "Aarhus", "kbh"));
+
+        assertEquals(List.of("København", "kbh", "Aarhus"), List.copyOf(result.keySet()));
+        assertEquals("Copenhagen", result.get("København").getCity());
+        assertSame(result.get("København"), result.get("kbh"));
+        assertEquals("Aarhus", result.get("Aarhus").getCity());
+        verify(weatherService, times(2)).getWeatherByCity(anyString());
+    }
+
+    @Test
+    @DisplayName("getWeatherForCities - Cities are fetched concurrently")
+    void getWeatherForCities_FetchesConcurrently() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        when(weatherService.getWeatherByCity(anyString())).thenAnswer(invocation -> {
+            allStarted.countDown();
+            // Only completes if all three lookups are in flight at the same time
+            assertTrue(allStarted.await(2, TimeUnit.SECONDS));
+            return weather(invocation.getArgument(0));
+        });
+        bulkWeatherService = new BulkWeatherService(weatherService, executor, 3, 5000);
+
+        Map<String, WeatherDto> result = bulkWeatherService.getWeatherForCities(List.of("Aarhus", "Odense", "Aalborg"));
+
+        assertEquals(3, result.size());
+        assertTrue(result.values().stream().noneMatch(WeatherDto::isFallback));
+    }
+
+    @Test
+    @DisplayName("getWeatherForCities - Slow or failing city gets the default weather, others are kept")
+    void getWeatherForCities_SlowOrFailingCity_FallsBackPerCity() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(weatherService.getWeatherByCity("Aarhus")).thenReturn(weather("Aarhus"));
+        when(weatherService.getWeatherByCity("Odense")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return weather("Odense");
+        });
+        when(weatherService.getWeatherByCity("Aalborg")).thenThrow(new IllegalStateException("boom"));
+
+        try {
+            Map<String, WeatherDto> result = bulkWeatherService.getWeatherForCities(List.of("Aarhus", "Odense", "Aalborg"));
+
+            assertFalse(result.get("Aarhus").isFallback());
+            assertTrue(result.get("Odense").isFallback());
+            assertEquals("Odense", result.get("Odense").getCity());
+            assertTrue(result.get("Aalborg").isFallback());
+            assertEquals("Aalborg", result.get("Aalborg").getCity());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("getWeatherForCities - Saturated executor answers with default weather")
+    void getWeatherForCities_ExecutorRejects_FallsBack() {
+        bulkWeatherService = new BulkWeatherService(weatherService, task -> {
+            throw new RejectedExecutionException("full");
+        }, 3, 500);
+
+        Map<String, WeatherDto> result = bulkWeatherService.getWeatherForCities(List.of("Aarhus"));
+
+        assertTrue(result.get("Aarhus").isFallback());
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    @DisplayName("getWeatherForCities - More distinct cities than allowed throws ValidationException")
+    void getWeatherForCities_TooManyCities_ThrowsValidationException() {
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> bulkWeatherService.getWeatherForCities(List.of("Aarhus", "Odense", "Aalborg", "Esbjerg")));
+
+        assertEquals("At most 3 distinct cities can be requested at once", exception.getMessage());
+        verifyNoInteractions(weatherService);
+    }
+
+    @Test
+    @DisplayName("getWeatherForCities - No usable city throws ValidationException")
+    void getWeatherForCities_NoCities_ThrowsValidationException() {
+        assertThrows(ValidationException.class, () -> bulkWeatherService.getWeatherForCities(List.of()));
+        assertThrows(ValidationException.class, () -> bulkWeatherService.getWeatherForCities(Arrays.asList(" ", null)));
+        assertThrows(ValidationException.class, () -> bulkWeatherService.getWeatherForCities(null));
+    }
+
+    private static WeatherDto weather(String city) {
+        WeatherDto dto = new WeatherDto();
+        dto.setCity(city);
+        dto.setTemperature(12.0);
+        return dto;
+    }
+}
@@ -0,0 +1,86 @@
+package com.testing_exam_webapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.text.Normalizer;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for CityNameNormalizer and the bundled city alias table.
+ */
+@DisplayName("CityNameNormalizer Tests")
+class CityNameNormalizerTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "København, Copenhagen",
+            "KØBENHAVN, Copenhagen",
+            "kobenhavn, Copenhagen",
+            "'  København   K ', Copenhagen",
+            "KÃ¸benhavn, Copenhagen",
+            "Århus, Aarhus",
+            "aarhus, Aarhus",
+            "Ålborg, Aalborg",
+            "helsingor, Helsingør",
+            "Koege, Køge"
+    })
+    @DisplayName("resolve - Aliases, case, accents and spacing resolve to the canonical name")
+    void resolve_Aliases_ReturnCanonical(String input, String expected) {
+        assertEquals(expected, CityNameNormalizer.resolve(input));
+    }
+
+    @Test
+    @DisplayName("resolve - Decomposed and composed forms of a name resolve alike")
+    void resolve_DecomposedInput_SameAsComposed() {
+        String decomposed = Normalizer.normalize("Århus", Normalizer.Form.NFD);
+
+        assertNotEquals("Århus", decomposed);
+        assertEquals("Aarhus", CityNameNormalizer.resolve(decomposed));
+        assertEquals(CityNameNormalizer.fold("Sønderborg"), CityNameNormalizer.fold(Normalizer.normalize("SØNDERBORG", Normalizer.Form.NFD)));
+    }
+
+    @Test
+    @DisplayName("resolve - Unknown city is used as entered, trimmed")
+    void resolve_UnknownCity_Unchanged() {
+        assertEquals("Springfield", CityNameNormalizer.resolve("  Springfield "));
+        assertFalse(CityNameNormalizer.isKnown("Springfield"));
+    }
+
+    @Test
+    @DisplayName("isKnown - Every city the data seeder assigns to hospitals is in the table")
+    void isKnown_SeederCities_AllCovered() {
+        for (String city : BulkDataSeederService.CITIES) {
+            assertTrue(CityNameNormalizer.isKnown(city), city);
+        }
+    }
+
+    @Test
+    @DisplayName("parse - Comments and blank lines are skipped, canonical names map to themselves")
+    void parse_ValidTable_MapsFoldedNames() throws IOException {
+        Map<String, String> table = CityNameNormalizer.parse(new StringReader("""
+                # comment
+
+                Copenhagen,København,Kbh
+                Odense
+                """), "test");
+
+        assertEquals(Map.of("copenhagen", "Copenhagen", "kobenhavn", "Copenhagen", "kbh", "Copenhagen",
+                "odense", "Odense"), table);
+    }
+
+    @Test
+    @DisplayName("parse - A spelling claimed by two cities throws IllegalStateException")
+    void parse_ConflictingAlias_Throws() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> CityNameNormalizer.parse(new StringReader("Aarhus,Århus\nArhus\n"), "test"));
+
+        assertEquals("test line 2: 'Arhus' is already an alias of Aarhus", exception.getMessage());
+    }
+}
@@ -0,0 +1,151 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.model.mysql.Appointment;
+import com.testing_exam_webapp.model.mysql.ArchivedAppointment;
+import com.testing_exam_webapp.model.mysql.ArchivedSurgery;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.model.mysql.Surgery;
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import com.testing_exam_webapp.repository.ArchivedAppointmentRepository;
+import com.testing_exam_webapp.repository.ArchivedSurgeryRepository;
+import com.testing_exam_webapp.repository.DoctorRepository;
+import com.testing_exam_webapp.repository.NurseRepository;
+import com.testing_exam_webapp.repository.PatientRepository;
+import com.testing_exam_webapp.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ClinicalArchiveService.
+ * The clock is fixed at 2024-06-15 with a 3 month retention, so the cutoff is 2024-03-01.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClinicalArchiveService Tests")
+class ClinicalArchiveServiceTest {
+
+    @Mock
+    private ArchivedAppointmentRepository archivedAppointmentRepository;
+
+    @Mock
+    private ArchivedSurgeryRepository archivedSurgeryRepository;
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Mock
+    private NurseRepository nurseRepository;
+
+    private ClinicalArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-06-15T10:00:00Z"), ZoneOffset.UTC);
+        archiveService = new ClinicalArchiveService(archivedAppointmentRepository, archivedSurgeryRepository,
+                patientRepository, doctorRepository, nurseRepository, 3, clock);
+    }
+
+    @Test
+    @DisplayName("cutoff - First day of the month retention-months back")
+    void cutoff_ReturnsFirstDayOfRetainedMonths() {
+        assertEquals(LocalDate.of(2024, 3, 1), archiveService.cutoff());
+    }
+
+    @Test
+    @DisplayName("getAppointmentsBetween - Range starting after the newest archived date skips the archive")
+    void getAppointmentsBetween_RecentRange_DoesNotQueryArchive() {
+        when(archivedAppointmentRepository.findNewestDate()).thenReturn(LocalDate.of(2024, 2, 28));
+
+        List<Appointment> result = archiveService.getAppointmentsBetween(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 6, 1));
+
+        assertTrue(result.isEmpty());
+        verify(archivedAppointmentRepository, never()).findByAppointmentDateBetween(any(), any());
+    }
+
+    @Test
+    @DisplayName("getAppointmentsBetween - Rows archived past the cutoff under a longer retention are still read")
+    void getAppointmentsBetween_ArchivedPastCutoff_QueriesArchive() {
+        LocalDate start = LocalDate.of(2024, 4, 1);
+        LocalDate end = LocalDate.of(2024, 6, 1);
+        when(archivedAppointmentRepository.findNewestDate()).thenReturn(LocalDate.of(2024, 4, 30));
+
+        archiveService.getAppointmentsBetween(start, end);
+
+        verify(archivedAppointmentRepository).findByAppointmentDateBetween(start, end);
+    }
+
+    @Test
+    @DisplayName("getSurgeriesBetween - Empty archive is skipped until a refresh finds archived rows")
+    void getSurgeriesBetween_RefreshAfterMove_QueriesArchive() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 2, 1);
+        when(archivedSurgeryRepository.findNewestDate()).thenReturn(null, LocalDate.of(2024, 1, 31));
+
+        assertTrue(archiveService.getSurgeriesBetween(start, end).isEmpty());
+        verify(archivedSurgeryRepository, never()).findBySurgeryDateBetween(any(), any());
+
+        archiveService.refreshNewestArchived();
+        archiveService.getSurgeriesBetween(start, end);
+
+        verify(archivedSurgeryRepository).findBySurgeryDateBetween(start, end);
+    }
+
+    @Test
+    @DisplayName("getAppointmentsBetween - Archived rows come back as appointments with their patient")
+    void getAppointmentsBetween_OldRange_HydratesArchivedRows() {
+        Patient patient = TestDataBuilder.createPatient();
+        ArchivedAppointment archived = new ArchivedAppointment();
+        archived.setAppointmentId(UUID.randomUUID());
+        archived.setAppointmentDate(LocalDate.of(2024, 1, 10));
+        archived.setStatus(AppointmentStatusType.COMPLETED);
+        archived.setPatientId(patient.getPatientId());
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 4, 1);
+        when(archivedAppointmentRepository.findNewestDate()).thenReturn(LocalDate.of(2024, 2, 29));
+        when(archivedAppointmentRepository.findByAppointmentDateBetween(start, end)).thenReturn(List.of(archived));
+        when(patientRepository.findAllById(Set.of(patient.getPatientId()))).thenReturn(List.of(patient));
+
+        List<Appointment> result = archiveService.getAppointmentsBetween(start, end);
+
+        assertEquals(1, result.size());
+        assertEquals(archived.getAppointmentId(), result.get(0).getAppointmentId());
+        assertEquals(AppointmentStatusType.COMPLETED, result.get(0).getStatus());
+        assertSame(patient, result.get(0).getPatient());
+        assertNull(result.get(0).getDoctor());
+    }
+
+    @Test
+    @DisplayName("getSurgeriesByPatientId - Always consults the archive")
+    void getSurgeriesByPatientId_HydratesArchivedRows() {
+        UUID patientId = UUID.randomUUID();
+        ArchivedSurgery archived = new ArchivedSurgery();
+        archived.setSurgeryId(UUID.randomUUID());
+        archived.setSurgeryDate(LocalDate.of(2023, 5, 2));
+        archived.setPatientId(patientId);
+        when(archivedSurgeryRepository.findByPatientId(patientId)).thenReturn(List.of(archived));
+
+        List<Surgery> result = archiveService.getSurgeriesByPatientId(patientId);
+
+        assertEquals(1, result.size());
+        assertEquals(LocalDate.of(2023, 5, 2), result.get(0).getSurgeryDate());
+        verify(patientRepository).findAllById(any());
+    }
+}
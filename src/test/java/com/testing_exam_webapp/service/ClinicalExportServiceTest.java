@@ -0,0 +1,109 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.ExportStatusDto;
+import com.testing_exam_webapp.service.ClinicalExportWriter.ExportTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ClinicalExportService, with the writer mocked and tasks run inline.
+ */
+@DisplayName("ClinicalExportService Tests")
+class ClinicalExportServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-15T02:00:00Z");
+    private static final Duration OVERLAP = Duration.ofMinutes(10);
+
+    @TempDir
+    Path directory;
+
+    private ClinicalExportWriter writer;
+    private List<Runnable> queued;
+    private ClinicalExportService exportService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        writer = mock(ClinicalExportWriter.class);
+        when(writer.export(any(), any(), any())).thenAnswer(invocation -> {
+            Files.writeString(invocation.getArgument(2, Path.class), "data");
+            return 3L;
+        });
+        queued = new ArrayList<>();
+        exportService = new ClinicalExportService(writer, queued::add, directory, OVERLAP, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("runExport - Full export writes one file per table and records the watermark")
+    void runExport_Full_WritesFilesAndState() throws IOException {
+        exportService.runExport(false);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(ClinicalExportService.TABLES.size() + 1, files.count());
+        }
+        assertTrue(Files.exists(directory.resolve("patients-20240615T020000Z.csv.gz")));
+        assertTrue(Files.readString(directory.resolve("export-state.properties")).contains("patients=2024-06-15T01\\:50\\:00Z"));
+        ExportStatusDto status = exportService.getStatus();
+        assertEquals(3L, status.getRows().get("appointments"));
+        assertNull(status.getError());
+        verify(writer, times(ClinicalExportService.TABLES.size())).export(any(), isNull(), any());
+    }
+
+    @Test
+    @DisplayName("runExport - Incremental export reads changes since the previous run minus the overlap")
+    void runExport_Incremental_UsesWatermark() throws IOException {
+        exportService.runExport(false);
+
+        exportService.runExport(true);
+
+        int tracked = (int) ClinicalExportService.TABLES.stream().filter(ExportTable::tracksChanges).count();
+        verify(writer, times(tracked)).export(any(), eq(NOW.minus(OVERLAP)), any());
+        assertTrue(Files.exists(directory.resolve("surgeries-20240615T020000Z-incremental.csv.gz")));
+        // The archive tables never change, so only full runs write them
+        assertFalse(exportService.getStatus().getRows().containsKey("surgeries_archive"));
+    }
+
+    @Test
+    @DisplayName("runExport - A failing table is reported and leaves no partial file")
+    void runExport_WriterFails_RecordsError() throws IOException {
+        doThrow(new IOException("disk full")).when(writer).export(any(), any(), any());
+
+        exportService.runExport(false);
+
+        assertEquals("disk full", exportService.getStatus().getError());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("startExport - Only one export runs at a time")
+    void startExport_WhileRunning_ReturnsFalse() {
+        assertTrue(exportService.startExport(true));
+        assertFalse(exportService.startExport(true));
+        assertTrue(exportService.getStatus().isRunning());
+
+        queued.get(0).run();
+
+        assertFalse(exportService.getStatus().isRunning());
+        assertTrue(exportService.startExport(false));
+    }
+}
@@ -0,0 +1,143 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.DashboardDto;
+import com.testing_exam_webapp.dto.StatusCount;
+import com.testing_exam_webapp.dto.TimeDto;
+import com.testing_exam_webapp.dto.WardUtilizationDto;
+import com.testing_exam_webapp.dto.WeatherDto;
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import com.testing_exam_webapp.model.types.WardType;
+import com.testing_exam_webapp.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for DashboardService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardService Tests")
+class DashboardServiceTest {
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Mock
+    private NurseRepository nurseRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    @Mock
+    private WardRepository wardRepository;
+
+    @Mock
+    private WeatherService weatherService;
+
+    @Mock
+    private TimeService timeService;
+
+    private ExecutorService executor;
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        dashboardService = new DashboardService(patientRepository, doctorRepository, nurseRepository,
+                appointmentRepository, hospitalRepository, wardRepository, weatherService, timeService,
+                executor, 200);
+
+        when(patientRepository.count()).thenReturn(120L);
+        when(doctorRepository.count()).thenReturn(15L);
+        when(nurseRepository.count()).thenReturn(30L);
+        when(appointmentRepository.count()).thenReturn(400L);
+        when(hospitalRepository.count()).thenReturn(3L);
+        when(wardRepository.count()).thenReturn(8L);
+        when(appointmentRepository.countByStatusOnDate(any(LocalDate.class))).thenReturn(List.of(
+                new StatusCount(AppointmentStatusType.SCHEDULED, 7),
+                new StatusCount(AppointmentStatusType.COMPLETED, 3)));
+        when(wardRepository.findWardUtilization()).thenReturn(List.of(
+                new WardUtilizationDto(UUID.randomUUID(), WardType.CARDIOLOGY, 20, 15)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("getDashboard - Assembles counts, today's appointments and utilization")
+    void getDashboard_AllSourcesAnswer_ReturnsFullDocument() {
+        WeatherDto weather = new WeatherDto();
+        weather.setCity("Copenhagen");
+        TimeDto time = new TimeDto();
+        time.setTimezone("Europe/Copenhagen");
+        when(weatherService.getWeatherByCity("Copenhagen")).thenReturn(weather);
+        when(timeService.getCurrentTime("Europe/Copenhagen")).thenReturn(time);
+
+        DashboardDto result = dashboardService.getDashboard("Copenhagen", "Europe/Copenhagen");
+
+        assertEquals(120, result.getPatients());
+        assertEquals(15, result.getDoctors());
+        assertEquals(30, result.getNurses());
+        assertEquals(400, result.getAppointments());
+        assertEquals(3, result.getHospitals());
+        assertEquals(8, result.getWards());
+        assertEquals(10, result.getAppointmentsToday());
+        assertEquals(7L, result.getAppointmentsTodayByStatus().get("SCHEDULED"));
+        assertEquals(0.75, result.getWardUtilization().get(0).getUtilization(), 0.0001);
+        assertSame(weather, result.getWeather());
+        assertSame(time, result.getTime());
+    }
+
+    @Test
+    @DisplayName("getDashboard - Slow weather API is left out instead of delaying the response")
+    void getDashboard_SlowWeather_ReturnsWithoutWeather() {
+        when(weatherService.getWeatherByCity("Copenhagen")).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return new WeatherDto();
+        });
+        when(timeService.getCurrentTime("Europe/Copenhagen")).thenReturn(new TimeDto());
+
+        long start = System.nanoTime();
+        DashboardDto result = dashboardService.getDashboard("Copenhagen", "Europe/Copenhagen");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertNull(result.getWeather());
+        assertNotNull(result.getTime());
+        assertEquals(120, result.getPatients());
+        assertTrue(elapsedMillis < 1500, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @DisplayName("getDashboard - Failing time API is left out")
+    void getDashboard_TimeFails_ReturnsWithoutTime() {
+        when(weatherService.getWeatherByCity("Copenhagen")).thenReturn(new WeatherDto());
+        when(timeService.getCurrentTime("Europe/Copenhagen")).thenThrow(new IllegalStateException("down"));
+
+        DashboardDto result = dashboardService.getDashboard("Copenhagen", "Europe/Copenhagen");
+
+        assertNull(result.getTime());
+        assertNotNull(result.getWeather());
+    }
+}
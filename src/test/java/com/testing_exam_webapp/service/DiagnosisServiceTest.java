@@ -113,7 +113,7 @@ class DiagnosisServiceTest {
         when(diagnosisRepository.findById(diagnosisId)).thenReturn(Optional.of(testDiagnosis));
         when(diagnosisRepository.save(any(Diagnosis.class))).thenReturn(testDiagnosis);
 
-        Diagnosis result = diagnosisService.updateDiagnosis(diagnosisId, request);
+        Diagnosis result = diagnosisService.updateDiagnosis(diagnosisId, request, null);
         assertNotNull(result);
     }
 
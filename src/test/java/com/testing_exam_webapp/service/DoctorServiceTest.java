@@ -43,6 +43,9 @@ class DoctorServiceTest {
     @Mock
     private HospitalRepository hospitalRepository;
 
+    @Mock
+    private NameSearchService nameSearchService;
+
     @InjectMocks
     private DoctorService doctorService;
 
@@ -226,7 +229,7 @@ class DoctorServiceTest {
         when(doctorRepository.findById(doctorId)).thenReturn(Optional.of(testDoctor));
         when(doctorRepository.save(any(Doctor.class))).thenReturn(testDoctor);
 
-        Doctor result = doctorService.updateDoctor(doctorId, request);
+        Doctor result = doctorService.updateDoctor(doctorId, request, null);
 
         assertNotNull(result);
         verify(doctorRepository, times(1)).findById(doctorId);
@@ -243,7 +246,7 @@ class DoctorServiceTest {
         when(doctorRepository.findById(nonExistentId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            doctorService.updateDoctor(nonExistentId, request);
+            doctorService.updateDoctor(nonExistentId, request, null);
         });
         assertEquals("Doctor not found", exception.getMessage());
     }
@@ -260,7 +263,7 @@ class DoctorServiceTest {
         when(doctorRepository.findById(doctorId)).thenReturn(Optional.of(testDoctor));
         when(doctorRepository.save(any(Doctor.class))).thenReturn(testDoctor);
 
-        Doctor result = doctorService.updateDoctor(doctorId, request);
+        Doctor result = doctorService.updateDoctor(doctorId, request, null);
         assertNotNull(result);
         verify(wardRepository, never()).findById(any());
     }
@@ -277,7 +280,7 @@ class DoctorServiceTest {
         when(doctorRepository.findById(doctorId)).thenReturn(Optional.of(testDoctor));
         when(doctorRepository.save(any(Doctor.class))).thenReturn(testDoctor);
 
-        Doctor result = doctorService.updateDoctor(doctorId, request);
+        Doctor result = doctorService.updateDoctor(doctorId, request, null);
         assertNotNull(result);
         verify(hospitalRepository, never()).findById(any());
     }
@@ -295,7 +298,7 @@ class DoctorServiceTest {
         when(wardRepository.findById(testWard.getWardId())).thenReturn(Optional.of(testWard));
         when(doctorRepository.save(any(Doctor.class))).thenReturn(testDoctor);
 
-        Doctor result = doctorService.updateDoctor(doctorId, request);
+        Doctor result = doctorService.updateDoctor(doctorId, request, null);
         assertNotNull(result);
         verify(hospitalRepository, never()).findById(any());
     }
@@ -313,7 +316,7 @@ class DoctorServiceTest {
         when(hospitalRepository.findById(testHospital.getHospitalId())).thenReturn(Optional.of(testHospital));
         when(doctorRepository.save(any(Doctor.class))).thenReturn(testDoctor);
 
-        Doctor result = doctorService.updateDoctor(doctorId, request);
+        Doctor result = doctorService.updateDoctor(doctorId, request, null);
         assertNotNull(result);
         verify(wardRepository, never()).findById(any());
     }
@@ -331,7 +334,7 @@ class DoctorServiceTest {
         when(wardRepository.findById(nonExistentWardId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            doctorService.updateDoctor(doctorId, request);
+            doctorService.updateDoctor(doctorId, request, null);
         });
         assertEquals("Ward not found", exception.getMessage());
     }
@@ -349,7 +352,7 @@ class DoctorServiceTest {
         when(hospitalRepository.findById(nonExistentHospitalId)).thenReturn(Optional.empty());
 
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            doctorService.updateDoctor(doctorId, request);
+            doctorService.updateDoctor(doctorId, request, null);
         });
         assertEquals("Hospital not found", exception.getMessage());
     }
@@ -0,0 +1,117 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.DrugInteraction;
+import com.testing_exam_webapp.model.types.InteractionSeverityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for DrugInteractionChecker against a rules file in a temp directory.
+ */
+@DisplayName("DrugInteractionChecker Tests")
+class DrugInteractionCheckerTest {
+
+    @TempDir
+    Path dir;
+
+    private Path rules;
+    private DrugInteractionChecker checker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        rules = dir.resolve("interactions.csv");
+        write("""
+                # medication,medication,severity,description
+                Ibuprofen,Warfarin,MAJOR,Increased bleeding risk
+                Ibuprofen,Aspirin,MODERATE
+                Simvastatin,Clarithromycin,CONTRAINDICATED,Risk of rhabdomyolysis
+                """, Instant.parse("2024-01-01T00:00:00Z"));
+        checker = new DrugInteractionChecker(new FileSystemResource(rules), InteractionSeverityType.MAJOR);
+    }
+
+    @Test
+    @DisplayName("check - Finds interactions in either direction, ignoring case")
+    void check_KnownPair_ReturnsInteraction() {
+        List<DrugInteraction> result = checker.check("warfarin", List.of("Paracetamol", "IBUPROFEN"));
+
+        assertEquals(1, result.size());
+        assertEquals("Warfarin", result.get(0).getMedicationName());
+        assertEquals("Ibuprofen", result.get(0).getInteractingMedicationName());
+        assertEquals(InteractionSeverityType.MAJOR, result.get(0).getSeverity());
+        assertEquals("Increased bleeding risk", result.get(0).getDescription());
+    }
+
+    @Test
+    @DisplayName("check - Unknown medication has no interactions")
+    void check_UnknownMedication_ReturnsEmpty() {
+        assertTrue(checker.check("Paracetamol", List.of("Ibuprofen", "Warfarin")).isEmpty());
+        assertTrue(checker.check("Ibuprofen", List.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("isBlocking - Blocks at or above the configured severity")
+    void isBlocking_ComparesAgainstThreshold() {
+        List<DrugInteraction> result = checker.check("Ibuprofen", List.of("Warfarin", "Aspirin"));
+
+        assertEquals(2, result.size());
+        assertTrue(result.stream().filter(checker::isBlocking).allMatch(i -> i.getInteractingMedicationName().equals("Warfarin")));
+        assertEquals(1, result.stream().filter(checker::isBlocking).count());
+    }
+
+    @Test
+    @DisplayName("reloadIfChanged - Picks up an edited rules file")
+    void reloadIfChanged_FileModified_SwapsTable() throws IOException {
+        write("Ibuprofen,Paracetamol,MINOR\n", Instant.parse("2024-02-01T00:00:00Z"));
+
+        checker.reloadIfChanged();
+
+        assertTrue(checker.check("Ibuprofen", List.of("Warfarin")).isEmpty());
+        assertEquals(1, checker.check("Ibuprofen", List.of("Paracetamol")).size());
+        assertEquals(2, checker.medicationCount());
+    }
+
+    @Test
+    @DisplayName("reloadIfChanged - Keeps the previous rules when the new file is malformed")
+    void reloadIfChanged_MalformedFile_KeepsPreviousTable() throws IOException {
+        write("Ibuprofen,Warfarin,SEVERE\n", Instant.parse("2024-02-01T00:00:00Z"));
+
+        checker.reloadIfChanged();
+
+        assertEquals(1, checker.check("Ibuprofen", List.of("Warfarin")).size());
+    }
+
+    @Test
+    @DisplayName("constructor - Refuses a malformed rules file at startup")
+    void constructor_MalformedFile_Throws() throws IOException {
+        write("Ibuprofen,Ibuprofen,MAJOR\n", Instant.parse("2024-02-01T00:00:00Z"));
+
+        assertThrows(IllegalStateException.class,
+                () -> new DrugInteractionChecker(new FileSystemResource(rules), InteractionSeverityType.MAJOR));
+    }
+
+    @Test
+    @DisplayName("constructor - Refuses to start without a rules file")
+    void constructor_MissingFile_Throws() throws IOException {
+        Files.delete(rules);
+
+        assertThrows(IllegalStateException.class,
+                () -> new DrugInteractionChecker(new FileSystemResource(rules), InteractionSeverityType.MAJOR));
+    }
+
+    private void write(String content, Instant modified) throws IOException {
+        Files.writeString(rules, content);
+        Files.setLastModifiedTime(rules, FileTime.from(modified));
+    }
+}
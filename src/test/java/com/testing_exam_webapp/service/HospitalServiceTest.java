@@ -150,7 +150,7 @@ class HospitalServiceTest {
         when(hospitalRepository.findById(hospitalId)).thenReturn(Optional.of(testHospital));
         when(hospitalRepository.save(any(Hospital.class))).thenReturn(testHospital);
 
-        Hospital result = hospitalService.updateHospital(hospitalId, request);
+        Hospital result = hospitalService.updateHospital(hospitalId, request, null);
 
         assertNotNull(result);
         verify(hospitalRepository, times(1)).save(testHospital);
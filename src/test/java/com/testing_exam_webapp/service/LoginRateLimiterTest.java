@@ -0,0 +1,98 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for LoginRateLimiter.
+ */
+@DisplayName("LoginRateLimiter Tests")
+class LoginRateLimiterTest {
+
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginRateLimiter(3, 5, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("checkAllowed - Below the username limit is allowed")
+    void checkAllowed_BelowUsernameLimit_DoesNotThrow() {
+        limiter.recordFailure("alice", "10.0.0.1");
+        limiter.recordFailure("alice", "10.0.0.1");
+
+        assertDoesNotThrow(() -> limiter.checkAllowed("alice", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("checkAllowed - Reaching the username limit blocks the username from any IP")
+    void checkAllowed_UsernameLimitReached_Throws() {
+        limiter.recordFailure("alice", "10.0.0.1");
+        limiter.recordFailure("alice", "10.0.0.2");
+        limiter.recordFailure("Alice", "10.0.0.3");
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.checkAllowed("alice", "10.0.0.4"));
+        assertDoesNotThrow(() -> limiter.checkAllowed("bob", "10.0.0.4"));
+    }
+
+    @Test
+    @DisplayName("checkAllowed - Reaching the IP limit blocks every username from that IP")
+    void checkAllowed_IpLimitReached_Throws() {
+        for (int i = 0; i < 5; i++) {
+            limiter.recordFailure("user" + i, "10.0.0.1");
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> limiter.checkAllowed("someone", "10.0.0.1"));
+        assertDoesNotThrow(() -> limiter.checkAllowed("someone", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("recordSuccess - Clears the username's failures")
+    void recordSuccess_ResetsUsernameCount() {
+        limiter.recordFailure("alice", "10.0.0.1");
+        limiter.recordFailure("alice", "10.0.0.1");
+        limiter.recordFailure("alice", "10.0.0.1");
+
+        limiter.recordSuccess("alice");
+
+        assertDoesNotThrow(() -> limiter.checkAllowed("alice", "10.0.0.2"));
+    }
+
+    @Test
+    @DisplayName("checkAllowed - Failures older than the window no longer count")
+    void checkAllowed_WindowElapsed_Allowed() throws InterruptedException {
+        LoginRateLimiter shortWindow = new LoginRateLimiter(1, 1, Duration.ofMillis(20));
+        shortWindow.recordFailure("alice", "10.0.0.1");
+        assertThrows(TooManyRequestsException.class, () -> shortWindow.checkAllowed("alice", null));
+
+        Thread.sleep(50);
+
+        assertDoesNotThrow(() -> shortWindow.checkAllowed("alice", "10.0.0.1"));
+    }
+
+    @Test
+    @DisplayName("recordFailure - Concurrent failures are all counted")
+    void recordFailure_Concurrent_CountsEveryFailure() throws InterruptedException {
+        LoginRateLimiter concurrent = new LoginRateLimiter(1000, 1000, Duration.ofMinutes(5));
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 999; i++) {
+            pool.execute(() -> concurrent.recordFailure("alice", null));
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertDoesNotThrow(() -> concurrent.checkAllowed("alice", null));
+        concurrent.recordFailure("alice", null);
+        assertThrows(TooManyRequestsException.class, () -> concurrent.checkAllowed("alice", null));
+    }
+}
@@ -0,0 +1,75 @@
+package com.testing_exam_webapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for LookupScope.
+ */
+@DisplayName("LookupScope Tests")
+class LookupScopeTest {
+
+    @Test
+    @DisplayName("memoize - Without an open scope every call loads")
+    void memoize_NoScope_LoadsEveryTime() {
+        AtomicInteger loads = new AtomicInteger();
+
+        LookupScope.memoize("key", loads::incrementAndGet);
+        LookupScope.memoize("key", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("memoize - Inside a scope each key loads once, including null values, until the scope closes")
+    void memoize_OpenScope_LoadsOncePerKey() {
+        AtomicInteger loads = new AtomicInteger();
+
+        try (LookupScope scope = LookupScope.open()) {
+            assertEquals(1, (int) LookupScope.memoize("a", loads::incrementAndGet));
+            assertEquals(1, (int) LookupScope.memoize("a", loads::incrementAndGet));
+            assertEquals(2, (int) LookupScope.memoize("b", loads::incrementAndGet));
+            assertNull(LookupScope.memoize("none", () -> {
+                loads.incrementAndGet();
+                return null;
+            }));
+            assertNull(LookupScope.memoize("none", loads::incrementAndGet));
+        }
+        assertEquals(3, loads.get());
+
+        LookupScope.memoize("a", loads::incrementAndGet);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("open - A nested scope joins the outer one and closing it keeps the outer scope open")
+    void open_Nested_JoinsOuterScope() {
+        AtomicInteger loads = new AtomicInteger();
+
+        try (LookupScope outer = LookupScope.open()) {
+            LookupScope.memoize("a", loads::incrementAndGet);
+            try (LookupScope inner = LookupScope.open()) {
+                LookupScope.memoize("a", loads::incrementAndGet);
+            }
+            LookupScope.memoize("a", loads::incrementAndGet);
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("memoize - A failing loader is not memoized")
+    void memoize_LoaderThrows_NotMemoized() {
+        try (LookupScope scope = LookupScope.open()) {
+            assertThrows(IllegalStateException.class, () -> LookupScope.memoize("a", () -> {
+                throw new IllegalStateException("down");
+            }));
+
+            assertEquals("loaded", LookupScope.memoize("a", () -> "loaded"));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.LocalRemoteCacheStore;
+import com.testing_exam_webapp.dto.NameSearchResult;
+import com.testing_exam_webapp.exception.ValidationException;
+import com.testing_exam_webapp.model.mysql.Doctor;
+import com.testing_exam_webapp.model.mysql.Patient;
+import com.testing_exam_webapp.repository.DoctorRepository;
+import com.testing_exam_webapp.repository.NurseRepository;
+import com.testing_exam_webapp.repository.PatientRepository;
+import com.testing_exam_webapp.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for NameSearchService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NameSearchService Tests")
+class NameSearchServiceTest {
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private DoctorRepository doctorRepository;
+
+    @Mock
+    private NurseRepository nurseRepository;
+
+    private LocalRemoteCacheStore remote;
+    private NameSearchService nameSearchService;
+
+    @BeforeEach
+    void setUp() {
+        remote = new LocalRemoteCacheStore();
+        nameSearchService = new NameSearchService(patientRepository, doctorRepository, nurseRepository, remote);
+        nameSearchService.indexPatient(patient("Lars Jensen"));
+        nameSearchService.indexPatient(patient("Lise Larsen"));
+        nameSearchService.indexPatient(patient("Mette Sørensen"));
+        nameSearchService.indexPatient(patient("Larsine Hansen"));
+    }
+
+    @Test
+    @DisplayName("searchPatients - Prefix of first name matches all names with that prefix")
+    void searchPatients_Prefix_ReturnsMatches() {
+        List<NameSearchResult> result = nameSearchService.searchPatients("lar", 0, 20);
+
+        assertEquals(3, result.size());
+        assertTrue(result.stream().noneMatch(r -> r.getName().equals("Mette Sørensen")));
+    }
+
+    @Test
+    @DisplayName("searchPatients - Exact token outranks prefix match")
+    void searchPatients_ExactToken_RankedFirst() {
+        List<NameSearchResult> result = nameSearchService.searchPatients("lars", 0, 20);
+
+        assertEquals("Lars Jensen", result.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("searchPatients - All query tokens must match")
+    void searchPatients_MultipleTokens_NarrowsResults() {
+        List<NameSearchResult> result = nameSearchService.searchPatients("lise lar", 0, 20);
+
+        assertEquals(1, result.size());
+        assertEquals("Lise Larsen", result.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("searchPatients - Diacritics are folded")
+    void searchPatients_WithoutDiacritics_FindsDanishName() {
+        List<NameSearchResult> result = nameSearchService.searchPatients("sorensen", 0, 20);
+
+        assertEquals(1, result.size());
+        assertEquals("Mette Sørensen", result.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("searchPatients - Paging splits ranked results")
+    void searchPatients_Paging_ReturnsRequestedPage() {
+        List<NameSearchResult> firstPage = nameSearchService.searchPatients("lar", 0, 2);
+        List<NameSearchResult> secondPage = nameSearchService.searchPatients("lar", 1, 2);
+
+        assertEquals(2, firstPage.size());
+        assertEquals(1, secondPage.size());
+        assertTrue(nameSearchService.searchPatients("lar", 5, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("searchPatients - Page far past the results returns empty list instead of overflowing")
+    void searchPatients_HugePage_ReturnsEmpty() {
+        // 4 * 2^30 wraps to offset 0 in int arithmetic
+        assertTrue(nameSearchService.searchPatients("lar", 1 << 30, 4).isEmpty());
+        assertTrue(nameSearchService.searchPatients("lar", Integer.MAX_VALUE, NameSearchService.MAX_PAGE_SIZE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("indexPatient - Renamed patient is only found under the new name")
+    void indexPatient_Rename_ReplacesTokens() {
+        Patient patient = patient("Anna Berg");
+        nameSearchService.indexPatient(patient);
+        patient.setPatientName("Anna Holm");
+        nameSearchService.indexPatient(patient);
+
+        assertTrue(nameSearchService.searchPatients("berg", 0, 20).isEmpty());
+        assertEquals(1, nameSearchService.searchPatients("holm", 0, 20).size());
+    }
+
+    @Test
+    @DisplayName("removePatient - Removed patient is no longer found")
+    void removePatient_RemovesFromIndex() {
+        Patient patient = patient("Clara Dahl");
+        nameSearchService.indexPatient(patient);
+
+        nameSearchService.removePatient(patient.getPatientId());
+
+        assertTrue(nameSearchService.searchPatients("clara", 0, 20).isEmpty());
+    }
+
+    @Test
+    @DisplayName("searchPatients - Blank query returns empty list")
+    void searchPatients_BlankQuery_ReturnsEmpty() {
+        assertTrue(nameSearchService.searchPatients("  ", 0, 20).isEmpty());
+    }
+
+    @Test
+    @DisplayName("searchPatients - Invalid paging throws ValidationException")
+    void searchPatients_InvalidPaging_ThrowsException() {
+        assertThrows(ValidationException.class, () -> nameSearchService.searchPatients("lars", -1, 20));
+        assertThrows(ValidationException.class, () -> nameSearchService.searchPatients("lars", 0, 0));
+        assertThrows(ValidationException.class,
+                () -> nameSearchService.searchPatients("lars", 0, NameSearchService.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    @DisplayName("rebuild - Loads names from repositories")
+    void rebuild_LoadsAllIndexes() {
+        UUID doctorId = UUID.randomUUID();
+        when(patientRepository.streamAllNames()).thenReturn(Stream.empty());
+        when(doctorRepository.streamAllNames()).thenReturn(Stream.of(new NameSearchResult(doctorId, "Dr. Peter Holm")));
+        when(nurseRepository.streamAllNames()).thenReturn(Stream.empty());
+
+        nameSearchService.rebuild();
+
+        assertTrue(nameSearchService.searchPatients("lars", 0, 20).isEmpty());
+        List<NameSearchResult> doctors = nameSearchService.searchDoctors("dr pet", 0, 20);
+        assertEquals(1, doctors.size());
+        assertEquals(doctorId, doctors.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("indexDoctors - Indexes are kept per entity type")
+    void indexDoctors_SeparateFromPatients() {
+        Doctor doctor = new Doctor();
+        doctor.setDoctorId(UUID.randomUUID());
+        doctor.setDoctorName("Dr. Lars Nielsen");
+        nameSearchService.indexDoctors(List.of(doctor));
+
+        assertEquals(1, nameSearchService.searchDoctors("lars", 0, 20).size());
+        assertTrue(nameSearchService.searchNurses("lars", 0, 20).isEmpty());
+    }
+
+    @Test
+    @DisplayName("indexPatient/removePatient - Change committed on another instance is re-read and searchable here")
+    void indexPatient_OtherInstance_Searchable() {
+        NameSearchService otherInstance = new NameSearchService(patientRepository, doctorRepository, nurseRepository, remote);
+        Patient created = patient("Karen Blixen");
+        when(patientRepository.findNamesByIdIn(List.of(created.getPatientId())))
+                .thenReturn(List.of(new NameSearchResult(created.getPatientId(), "Karen Blixen")))
+                .thenReturn(List.of());
+
+        otherInstance.indexPatient(created);
+
+        List<NameSearchResult> found = nameSearchService.searchPatients("karen", 0, 20);
+        assertEquals(1, found.size());
+        assertEquals(created.getPatientId(), found.get(0).getId());
+
+        otherInstance.removePatient(created.getPatientId());
+
+        assertTrue(nameSearchService.searchPatients("karen", 0, 20).isEmpty());
+    }
+
+    private static Patient patient(String name) {
+        Patient patient = TestDataBuilder.createPatient();
+        patient.setPatientName(name);
+        return patient;
+    }
+}
@@ -43,6 +43,9 @@ class NurseServiceTest {
     @Mock
     private HospitalRepository hospitalRepository;
 
+    @Mock
+    private NameSearchService nameSearchService;
+
     @InjectMocks
     private NurseService nurseService;
 
@@ -160,7 +163,7 @@ class NurseServiceTest {
         when(nurseRepository.findById(nurseId)).thenReturn(Optional.of(testNurse));
         when(nurseRepository.save(any(Nurse.class))).thenReturn(testNurse);
 
-        Nurse result = nurseService.updateNurse(nurseId, request);
+        Nurse result = nurseService.updateNurse(nurseId, request, null);
 
         assertNotNull(result);
         verify(nurseRepository, times(1)).findById(nurseId);
@@ -0,0 +1,129 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.ChartAppointmentDto;
+import com.testing_exam_webapp.dto.ChartDiagnosisDto;
+import com.testing_exam_webapp.dto.ChartPrescriptionDto;
+import com.testing_exam_webapp.dto.ChartSurgeryDto;
+import com.testing_exam_webapp.dto.PatientChartDto;
+import com.testing_exam_webapp.exception.EntityNotFoundException;
+import com.testing_exam_webapp.model.types.AppointmentStatusType;
+import com.testing_exam_webapp.repository.AppointmentRepository;
+import com.testing_exam_webapp.repository.ArchivedAppointmentRepository;
+import com.testing_exam_webapp.repository.ArchivedSurgeryRepository;
+import com.testing_exam_webapp.repository.PatientRepository;
+import com.testing_exam_webapp.repository.PrescriptionRepository;
+import com.testing_exam_webapp.repository.SurgeryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for PatientChartService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatientChartService Tests")
+class PatientChartServiceTest {
+
+    @Mock
+    private PatientRepository patientRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private PrescriptionRepository prescriptionRepository;
+
+    @Mock
+    private SurgeryRepository surgeryRepository;
+
+    @Mock
+    private ArchivedAppointmentRepository archivedAppointmentRepository;
+
+    @Mock
+    private ArchivedSurgeryRepository archivedSurgeryRepository;
+
+    @InjectMocks
+    private PatientChartService patientChartService;
+
+    @Test
+    @DisplayName("getPatientChart - Should combine all sections for an existing patient")
+    void getPatientChart_ExistingPatient_ReturnsAllSections() {
+        UUID patientId = UUID.randomUUID();
+        PatientChartDto header = new PatientChartDto(patientId, "Jane Doe", LocalDate.of(1980, 1, 1), "Female",
+                null, null, null, null);
+        when(patientRepository.findChartHeaderById(patientId)).thenReturn(Optional.of(header));
+        when(patientRepository.findChartDiagnosesById(patientId)).thenReturn(List.of(
+                new ChartDiagnosisDto(UUID.randomUUID(), LocalDate.of(2024, 1, 1), "Flu", "Dr. House")));
+        when(appointmentRepository.findChartEntriesByPatientId(patientId)).thenReturn(List.of(
+                new ChartAppointmentDto(UUID.randomUUID(), LocalDate.of(2024, 2, 1), "Checkup",
+                        AppointmentStatusType.SCHEDULED, null, null, null, null)));
+        when(prescriptionRepository.findChartEntriesByPatientId(patientId)).thenReturn(List.of(
+                new ChartPrescriptionDto(UUID.randomUUID(), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10),
+                        UUID.randomUUID(), "Ibuprofen", "400mg", null, null)));
+        when(surgeryRepository.findChartEntriesByPatientId(patientId)).thenReturn(List.of());
+
+        PatientChartDto chart = patientChartService.getPatientChart(patientId);
+
+        assertEquals("Jane Doe", chart.getPatientName());
+        assertEquals(1, chart.getDiagnoses().size());
+        assertEquals(1, chart.getAppointments().size());
+        assertEquals("Ibuprofen", chart.getPrescriptions().get(0).getMedicationName());
+        assertTrue(chart.getSurgeries().isEmpty());
+    }
+
+    @Test
+    @DisplayName("getPatientChart - Should include archived appointments and surgeries, newest first")
+    void getPatientChart_ArchivedRows_MergedByDate() {
+        UUID patientId = UUID.randomUUID();
+        when(patientRepository.findChartHeaderById(patientId)).thenReturn(Optional.of(new PatientChartDto(
+                patientId, "Jane Doe", LocalDate.of(1980, 1, 1), "Female", null, null, null, null)));
+        when(appointmentRepository.findChartEntriesByPatientId(patientId)).thenReturn(List.of(
+                appointment(LocalDate.of(2024, 6, 1)), appointment(LocalDate.of(2024, 3, 1))));
+        when(archivedAppointmentRepository.findChartEntriesByPatientId(patientId)).thenReturn(List.of(
+                appointment(LocalDate.of(2024, 4, 1)), appointment(LocalDate.of(2022, 1, 1))));
+        when(surgeryRepository.findChartEntriesByPatientId(patientId)).thenReturn(List.of());
+        when(archivedSurgeryRepository.findChartEntriesByPatientId(patientId)).thenReturn(List.of(
+                new ChartSurgeryDto(UUID.randomUUID(), LocalDate.of(2021, 5, 1), "Appendectomy", null, null)));
+
+        PatientChartDto chart = patientChartService.getPatientChart(patientId);
+
+        assertEquals(List.of(LocalDate.of(2024, 6, 1), LocalDate.of(2024, 4, 1), LocalDate.of(2024, 3, 1), LocalDate.of(2022, 1, 1)),
+                chart.getAppointments().stream().map(ChartAppointmentDto::getAppointmentDate).toList());
+        assertEquals("Appendectomy", chart.getSurgeries().get(0).getDescription());
+    }
+
+    @Test
+    @DisplayName("getPatientChart - Should throw for an unknown patient without loading sections")
+    void getPatientChart_UnknownPatient_ThrowsEntityNotFoundException() {
+        UUID patientId = UUID.randomUUID();
+        when(patientRepository.findChartHeaderById(patientId)).thenReturn(Optional.empty());
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> patientChartService.getPatientChart(patientId));
+        assertEquals("Patient not found", exception.getMessage());
+        verifyNoInteractions(appointmentRepository, prescriptionRepository, surgeryRepository,
+                archivedAppointmentRepository, archivedSurgeryRepository);
+    }
+
+    @Test
+    @DisplayName("getPatientChart - Should reject a null ID")
+    void getPatientChart_NullId_ThrowsException() {
+        assertThrows(NullPointerException.class, () -> patientChartService.getPatientChart(null));
+    }
+
+    private static ChartAppointmentDto appointment(LocalDate date) {
+        return new ChartAppointmentDto(UUID.randomUUID(), date, "Checkup", AppointmentStatusType.COMPLETED,
+                null, null, null, null);
+    }
+}
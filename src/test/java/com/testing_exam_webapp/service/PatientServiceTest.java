@@ -2,6 +2,7 @@ package com.testing_exam_webapp.service;
 
 import com.testing_exam_webapp.dto.PatientRequest;
 import com.testing_exam_webapp.exception.EntityNotFoundException;
+import com.testing_exam_webapp.exception.PreconditionFailedException;
 import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.Diagnosis;
 import com.testing_exam_webapp.model.mysql.Hospital;
@@ -28,6 +29,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -49,6 +51,12 @@ class PatientServiceTest {
     @Mock
     private DiagnosisRepository diagnosisRepository;
 
+    @Mock
+    private NameSearchService nameSearchService;
+
+    @Mock
+    private WardAdmissionService wardAdmissionService;
+
     @InjectMocks
     private PatientService patientService;
 
@@ -63,6 +71,7 @@ class PatientServiceTest {
         testHospital = TestDataBuilder.createHospital();
         testWard = TestDataBuilder.createWard();
         testDiagnosis = TestDataBuilder.createDiagnosis();
+        lenient().when(wardAdmissionService.admit(any(Ward.class), anyInt())).thenReturn(true);
     }
 
     // ==================== getPatients() Tests ====================
@@ -255,6 +264,24 @@ class PatientServiceTest {
         verify(hospitalRepository, never()).findById(any());
     }
 
+    @Test
+    @DisplayName("createPatient - Should throw ValidationException when the ward has no free bed")
+    void createPatient_WardFull_ThrowsValidationException() {
+        // Arrange
+        PatientRequest request = new PatientRequest();
+        request.setPatientName("John Doe");
+        request.setDateOfBirth(LocalDate.of(1990, 5, 15));
+        request.setWardId(testWard.getWardId());
+
+        when(wardRepository.findById(testWard.getWardId())).thenReturn(Optional.of(testWard));
+        when(wardAdmissionService.admit(testWard, 1)).thenReturn(false);
+
+        // Act & Assert
+        ValidationException exception = assertThrows(ValidationException.class, () -> patientService.createPatient(request));
+        assertEquals("The selected ward is full", exception.getMessage());
+        verify(patientRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("createPatient - Should create patient when both ward and hospital are null (Decision Table: Case 1)")
     void createPatient_BothWardAndHospitalNull_CreatesPatient() {
@@ -439,7 +466,7 @@ class PatientServiceTest {
         when(patientRepository.save(any(Patient.class))).thenReturn(testPatient);
 
         // Act
-        Patient result = patientService.updatePatient(patientId, request);
+        Patient result = patientService.updatePatient(patientId, request, null);
 
         // Assert
         assertNotNull(result);
@@ -447,6 +474,42 @@ class PatientServiceTest {
         verify(patientRepository, times(1)).save(testPatient);
     }
 
+    @Test
+    @DisplayName("updatePatient - Should throw PreconditionFailedException when If-Match names an older version")
+    void updatePatient_StaleVersion_ThrowsPreconditionFailed() {
+        // Arrange
+        UUID patientId = testPatient.getPatientId();
+        testPatient.setVersion(4L);
+        PatientRequest request = new PatientRequest();
+        request.setPatientName("Updated Name");
+
+        when(patientRepository.findById(patientId)).thenReturn(Optional.of(testPatient));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> patientService.updatePatient(patientId, request, 3L));
+        assertNotEquals("Updated Name", testPatient.getPatientName());
+        verify(patientRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("updatePatient - Should update when If-Match names the current version")
+    void updatePatient_CurrentVersion_UpdatesPatient() {
+        // Arrange
+        UUID patientId = testPatient.getPatientId();
+        testPatient.setVersion(4L);
+        PatientRequest request = new PatientRequest();
+        request.setPatientName("Updated Name");
+
+        when(patientRepository.findById(patientId)).thenReturn(Optional.of(testPatient));
+        when(patientRepository.save(testPatient)).thenReturn(testPatient);
+
+        // Act
+        Patient result = patientService.updatePatient(patientId, request, 4L);
+
+        // Assert
+        assertEquals("Updated Name", result.getPatientName());
+    }
+
     @Test
     @DisplayName("updatePatient - Should throw exception when patient not found")
     void updatePatient_PatientNotFound_ThrowsException() {
@@ -459,7 +522,7 @@ class PatientServiceTest {
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            patientService.updatePatient(nonExistentId, request);
+            patientService.updatePatient(nonExistentId, request, null);
         });
         assertEquals("Patient not found", exception.getMessage());
         verify(patientRepository, never()).save(any());
@@ -473,7 +536,7 @@ class PatientServiceTest {
 
         // Act & Assert
         assertThrows(NullPointerException.class, () -> {
-            patientService.updatePatient(null, request);
+            patientService.updatePatient(null, request, null);
         });
     }
 
@@ -496,7 +559,7 @@ class PatientServiceTest {
 
         // Act & Assert
         ValidationException exception = assertThrows(ValidationException.class, () -> {
-            patientService.updatePatient(patientId, request);
+            patientService.updatePatient(patientId, request, null);
         });
         assertTrue(exception.getMessage().contains("does not belong to the selected hospital"));
     }
@@ -516,7 +579,7 @@ class PatientServiceTest {
         when(patientRepository.save(any(Patient.class))).thenReturn(testPatient);
 
         // Act
-        Patient result = patientService.updatePatient(patientId, request);
+        Patient result = patientService.updatePatient(patientId, request, null);
 
         // Assert
         assertNotNull(result);
@@ -538,7 +601,7 @@ class PatientServiceTest {
         when(patientRepository.save(any(Patient.class))).thenReturn(testPatient);
 
         // Act
-        Patient result = patientService.updatePatient(patientId, request);
+        Patient result = patientService.updatePatient(patientId, request, null);
 
         // Assert
         assertNotNull(result);
@@ -560,7 +623,7 @@ class PatientServiceTest {
         when(patientRepository.save(any(Patient.class))).thenReturn(testPatient);
 
         // Act
-        Patient result = patientService.updatePatient(patientId, request);
+        Patient result = patientService.updatePatient(patientId, request, null);
 
         // Assert
         assertNotNull(result);
@@ -583,13 +646,37 @@ class PatientServiceTest {
         when(patientRepository.save(any(Patient.class))).thenReturn(testPatient);
 
         // Act
-        Patient result = patientService.updatePatient(patientId, request);
+        Patient result = patientService.updatePatient(patientId, request, null);
 
         // Assert
         assertNotNull(result);
         verify(hospitalRepository, never()).findById(any());
     }
 
+    @Test
+    @DisplayName("updatePatient - Should take a bed on the new ward and free the old one when moving wards")
+    void updatePatient_MovesWard_AdmitsAndDischarges() {
+        // Arrange
+        UUID patientId = testPatient.getPatientId();
+        Ward previousWard = TestDataBuilder.createWard();
+        testPatient.setWard(previousWard);
+        PatientRequest request = new PatientRequest();
+        request.setPatientName("Updated Name");
+        request.setDateOfBirth(LocalDate.of(1990, 5, 15));
+        request.setWardId(testWard.getWardId());
+
+        when(patientRepository.findById(patientId)).thenReturn(Optional.of(testPatient));
+        when(wardRepository.findById(testWard.getWardId())).thenReturn(Optional.of(testWard));
+        when(patientRepository.save(any(Patient.class))).thenReturn(testPatient);
+
+        // Act
+        patientService.updatePatient(patientId, request, null);
+
+        // Assert
+        verify(wardAdmissionService).admit(testWard, 1);
+        verify(wardAdmissionService).discharge(previousWard.getWardId(), 1);
+    }
+
     @Test
     @DisplayName("updatePatient - Should update patient with hospital only (no ward)")
     void updatePatient_HospitalOnly_UpdatesPatient() {
@@ -606,7 +693,7 @@ class PatientServiceTest {
         when(patientRepository.save(any(Patient.class))).thenReturn(testPatient);
 
         // Act
-        Patient result = patientService.updatePatient(patientId, request);
+        Patient result = patientService.updatePatient(patientId, request, null);
 
         // Assert
         assertNotNull(result);
@@ -628,7 +715,7 @@ class PatientServiceTest {
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            patientService.updatePatient(patientId, request);
+            patientService.updatePatient(patientId, request, null);
         });
         assertEquals("Ward not found", exception.getMessage());
     }
@@ -648,7 +735,7 @@ class PatientServiceTest {
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(EntityNotFoundException.class, () -> {
-            patientService.updatePatient(patientId, request);
+            patientService.updatePatient(patientId, request, null);
         });
         assertEquals("Hospital not found", exception.getMessage());
     }
@@ -671,6 +758,22 @@ class PatientServiceTest {
         verify(patientRepository, times(1)).deleteById(patientId);
     }
 
+    @Test
+    @DisplayName("deletePatient - Should free the patient's bed")
+    void deletePatient_OnWard_FreesBed() {
+        // Arrange
+        UUID patientId = testPatient.getPatientId();
+        when(patientRepository.existsById(patientId)).thenReturn(true);
+        when(patientRepository.findWardIdByPatientId(patientId)).thenReturn(Optional.of(testWard.getWardId()));
+
+        // Act
+        patientService.deletePatient(patientId);
+
+        // Assert
+        verify(wardAdmissionService).discharge(testWard.getWardId(), 1);
+        verify(patientRepository).deleteById(patientId);
+    }
+
     @Test
     @DisplayName("deletePatient - Should throw exception when patient not found")
     void deletePatient_PatientNotFound_ThrowsException() {
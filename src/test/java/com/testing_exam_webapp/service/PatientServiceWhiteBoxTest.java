@@ -23,6 +23,7 @@ import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -40,6 +41,10 @@ class PatientServiceWhiteBoxTest {
     private HospitalRepository hospitalRepository;
     @Mock
     private DiagnosisRepository diagnosisRepository;
+    @Mock
+    private NameSearchService nameSearchService;
+    @Mock
+    private WardAdmissionService wardAdmissionService;
 
     @InjectMocks
     private PatientService patientService;
@@ -53,6 +58,7 @@ class PatientServiceWhiteBoxTest {
         testWard = TestDataBuilder.createWard();
         testHospital = TestDataBuilder.createHospital();
         testDiagnosis = TestDataBuilder.createDiagnosis();
+        lenient().when(wardAdmissionService.admit(any(Ward.class), anyInt())).thenReturn(true);
     }
 
     // ==================== BRANCH COVERAGE TESTS ====================
@@ -1,7 +1,11 @@
 package com.testing_exam_webapp.service;
 
+import com.testing_exam_webapp.dto.ActivePrescriptionDto;
+import com.testing_exam_webapp.dto.DrugInteraction;
 import com.testing_exam_webapp.dto.PrescriptionRequest;
+import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.*;
+import com.testing_exam_webapp.model.types.InteractionSeverityType;
 import com.testing_exam_webapp.repository.*;
 import com.testing_exam_webapp.util.TestDataBuilder;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,6 +46,9 @@ class PrescriptionServiceTest {
     @Mock
     private MedicationRepository medicationRepository;
 
+    @Mock
+    private DrugInteractionChecker drugInteractionChecker;
+
     @InjectMocks
     private PrescriptionService prescriptionService;
 
@@ -94,6 +101,31 @@ class PrescriptionServiceTest {
         assertNotNull(result);
     }
 
+    @Test
+    @DisplayName("createPrescription - Should reject a medication that interacts with a current prescription")
+    void createPrescription_BlockingInteraction_ThrowsValidationException() {
+        testMedication.setMedicationName("Ibuprofen");
+        PrescriptionRequest request = new PrescriptionRequest();
+        request.setStartDate(LocalDate.now());
+        request.setPatientId(testPatient.getPatientId());
+        request.setMedicationId(testMedication.getMedicationId());
+        ActivePrescriptionDto current = new ActivePrescriptionDto(UUID.randomUUID(), testPatient.getPatientId(), "Patient",
+                null, UUID.randomUUID(), "Warfarin", "5mg", LocalDate.now().minusDays(3), null);
+        DrugInteraction interaction = new DrugInteraction("Ibuprofen", "Warfarin", InteractionSeverityType.MAJOR, "Bleeding risk");
+
+        when(patientRepository.findById(testPatient.getPatientId())).thenReturn(Optional.of(testPatient));
+        when(medicationRepository.findById(testMedication.getMedicationId())).thenReturn(Optional.of(testMedication));
+        when(prescriptionRepository.findOverlappingEntriesByPatientId(testPatient.getPatientId(), LocalDate.now(), null))
+                .thenReturn(List.of(current));
+        when(drugInteractionChecker.check("Ibuprofen", List.of("Warfarin"))).thenReturn(List.of(interaction));
+        when(drugInteractionChecker.isBlocking(interaction)).thenReturn(true);
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> prescriptionService.createPrescription(request));
+        assertTrue(exception.getMessage().contains("Warfarin"));
+        verify(prescriptionRepository, never()).save(any(Prescription.class));
+    }
+
     @Test
     @DisplayName("updatePrescription - Should update prescription")
     void updatePrescription_ValidRequest_UpdatesPrescription() {
@@ -105,7 +137,7 @@ class PrescriptionServiceTest {
         when(prescriptionRepository.findById(prescriptionId)).thenReturn(Optional.of(testPrescription));
         when(prescriptionRepository.save(any(Prescription.class))).thenReturn(testPrescription);
 
-        Prescription result = prescriptionService.updatePrescription(prescriptionId, request);
+        Prescription result = prescriptionService.updatePrescription(prescriptionId, request, null);
         assertNotNull(result);
     }
 
@@ -149,5 +181,24 @@ class PrescriptionServiceTest {
         assertEquals(startDate, result.getStartDate());
         assertEquals(endDate, result.getEndDate());
     }
-}
 
+    @Test
+    @DisplayName("getPrescriptionsByPatientId - Should return the patient's prescriptions")
+    void getPrescriptionsByPatientId_ValidId_ReturnsList() {
+        UUID patientId = UUID.randomUUID();
+        Prescription prescription = new Prescription();
+        when(prescriptionRepository.findByPatientId(patientId)).thenReturn(List.of(prescription));
+
+        List<Prescription> result = prescriptionService.getPrescriptionsByPatientId(patientId);
+
+        assertEquals(1, result.size());
+        verify(prescriptionRepository).findByPatientId(patientId);
+    }
+
+    @Test
+    @DisplayName("getPrescriptionsByPatientId - Should reject a null ID")
+    void getPrescriptionsByPatientId_NullId_ThrowsException() {
+        assertThrows(NullPointerException.class, () -> prescriptionService.getPrescriptionsByPatientId(null));
+        verifyNoInteractions(prescriptionRepository);
+    }
+}
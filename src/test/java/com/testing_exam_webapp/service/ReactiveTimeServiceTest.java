@@ -0,0 +1,87 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.dto.TimeDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ReactiveTimeService against a stubbed WebClient exchange.
+ */
+@DisplayName("ReactiveTimeService Tests")
+class ReactiveTimeServiceTest {
+
+    private static final String TIME_JSON = """
+            {"abbreviation":"EST","datetime":"2024-01-15T08:30:00-05:00","day_of_week":1,"day_of_year":15,
+             "timezone":"America/New_York","utc_offset":"-05:00"}
+            """;
+
+    private List<ClientRequest> requests;
+
+    @BeforeEach
+    void setUp() {
+        requests = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("getCurrentTime - Maps the response for the requested timezone")
+    void getCurrentTime_Success_MapsResponse() {
+        ReactiveTimeService service = service("http://time.test/api", request -> Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(TIME_JSON)
+                .build()));
+
+        TimeDto time = service.getCurrentTime("America/New_York").block(Duration.ofSeconds(5));
+
+        assertEquals("America/New_York", time.getTimezone());
+        assertEquals("EST", time.getAbbreviation());
+        assertEquals(1, time.getDayOfWeek());
+        assertEquals(15, time.getDayOfYear());
+        assertEquals("/api/timezone/America/New_York", requests.get(0).url().getPath());
+    }
+
+    @Test
+    @DisplayName("getCurrentTime - Persistent server error is retried, then the default time is returned")
+    void getCurrentTime_ServerError_FallsBackAfterRetries() {
+        ReactiveTimeService service = service("http://time.test/api",
+                request -> Mono.just(ClientResponse.create(HttpStatus.BAD_GATEWAY).build()));
+
+        TimeDto time = service.getCurrentTime(null).block(Duration.ofSeconds(5));
+
+        assertEquals("Europe/Copenhagen", time.getTimezone());
+        assertEquals("CET", time.getAbbreviation());
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    @DisplayName("getCurrentTime - Malformed timezone or missing API URL returns the default time without a call")
+    void getCurrentTime_InvalidInput_ReturnsDefault() {
+        assertEquals("Europe/Copenhagen",
+                service("http://time.test/api", request -> Mono.never()).getCurrentTime("Not a zone").block().getTimezone());
+        assertEquals("Europe/Copenhagen",
+                service(" ", request -> Mono.never()).getCurrentTime("Europe/Paris").block().getTimezone());
+        assertTrue(requests.isEmpty());
+    }
+
+    private ReactiveTimeService service(String apiUrl, ExchangeFunction upstream) {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            requests.add(request);
+            return upstream.exchange(request);
+        });
+        return new ReactiveTimeService(builder, apiUrl, Duration.ofMillis(100), 2, Duration.ofMillis(10));
+    }
+}
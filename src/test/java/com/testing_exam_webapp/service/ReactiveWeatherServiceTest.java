@@ -0,0 +1,142 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.CacheConfig;
+import com.testing_exam_webapp.dto.WeatherDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ReactiveWeatherService against a stubbed WebClient exchange.
+ */
+@DisplayName("ReactiveWeatherService Tests")
+class ReactiveWeatherServiceTest {
+
+    private static final String WEATHER_JSON = """
+            {"weather":[{"main":"Clouds","description":"broken clouds","icon":"04d"}],
+             "main":{"temp":7.4,"humidity":83},"wind":{"speed":5.6},"sys":{"country":"DK"},"name":"Aarhus"}
+            """;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private List<ClientRequest> requests;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.WEATHER);
+        requests = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("getWeatherByCity - Maps the response, caches it and serves spelling variants from the cache")
+    void getWeatherByCity_Success_MapsAndCaches() {
+        ReactiveWeatherService service = service("key", request -> ok(WEATHER_JSON));
+
+        WeatherDto weather = service.getWeatherByCity(" Aarhus ").block(Duration.ofSeconds(5));
+        WeatherDto cached = service.getWeatherByCity("aarhus").block(Duration.ofSeconds(5));
+
+        assertNotNull(weather);
+        assertEquals("Aarhus", weather.getCity());
+        assertEquals("DK", weather.getCountry());
+        assertEquals(7.4, weather.getTemperature());
+        assertEquals("Clouds", weather.getCondition());
+        assertFalse(weather.isFallback());
+        assertSame(weather, cached);
+        assertEquals(1, requests.size());
+        assertEquals("q=Aarhus&appid=key&units=metric", requests.get(0).url().getRawQuery());
+    }
+
+    @Test
+    @DisplayName("getWeatherByCity - Danish city name is encoded once and reported as Copenhagen")
+    void getWeatherByCity_DanishName_Normalized() {
+        ReactiveWeatherService service = service("key", request -> ok(WEATHER_JSON));
+
+        WeatherDto weather = service.getWeatherByCity("København").block(Duration.ofSeconds(5));
+
+        assertEquals("Copenhagen", weather.getCity());
+        assertEquals("q=Copenhagen&appid=key&units=metric", requests.get(0).url().getRawQuery());
+    }
+
+    @Test
+    @DisplayName("getWeatherByCity - Server error is retried with backoff and then succeeds")
+    void getWeatherByCity_ServerErrorThenSuccess_Retried() {
+        AtomicInteger calls = new AtomicInteger();
+        ReactiveWeatherService service = service("key", request -> calls.getAndIncrement() == 0
+                ? Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())
+                : ok(WEATHER_JSON));
+
+        WeatherDto weather = service.getWeatherByCity("Aarhus").block(Duration.ofSeconds(5));
+
+        assertFalse(weather.isFallback());
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    @DisplayName("getWeatherByCity - Upstream slower than the timeout on every attempt returns uncached default weather")
+    void getWeatherByCity_Timeout_FallsBackAfterRetries() {
+        ReactiveWeatherService service = service("key", request -> Mono.never());
+
+        WeatherDto weather = service.getWeatherByCity("Aarhus").block(Duration.ofSeconds(5));
+
+        assertTrue(weather.isFallback());
+        assertEquals("Aarhus", weather.getCity());
+        assertEquals(3, requests.size());
+        assertNull(cacheManager.getCache(CacheConfig.WEATHER).get(WeatherService.cacheKey("Aarhus")));
+    }
+
+    @Test
+    @DisplayName("getWeatherByCity - Unknown city is not retried and reports the default city")
+    void getWeatherByCity_NotFound_DefaultCityWithoutRetry() {
+        ReactiveWeatherService service = service("key",
+                request -> Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build()));
+
+        WeatherDto weather = service.getWeatherByCity("Atlantis").block(Duration.ofSeconds(5));
+
+        assertTrue(weather.isFallback());
+        assertEquals("Copenhagen", weather.getCity());
+        assertEquals(1, requests.size());
+    }
+
+    @Test
+    @DisplayName("getWeatherByCity - Missing API key returns default weather without calling the API")
+    void getWeatherByCity_NoApiKey_ReturnsDefault() {
+        ReactiveWeatherService service = service("", request -> ok(WEATHER_JSON));
+
+        WeatherDto weather = service.getWeatherByCity("Aarhus").block(Duration.ofSeconds(5));
+
+        assertTrue(weather.isFallback());
+        assertEquals("Aarhus", weather.getCity());
+        assertTrue(requests.isEmpty());
+    }
+
+    private ReactiveWeatherService service(String apiKey, ExchangeFunction upstream) {
+        WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+            requests.add(request);
+            return upstream.exchange(request);
+        });
+        return new ReactiveWeatherService(builder, cacheManager, "http://weather.test/data/2.5/weather", apiKey,
+                Duration.ofMillis(100), 2, Duration.ofMillis(10));
+    }
+
+    private static Mono<ClientResponse> ok(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+}
@@ -43,6 +43,9 @@ class SurgeryServiceTest {
     @Mock
     private DoctorRepository doctorRepository;
 
+    @Mock
+    private ClinicalArchiveService archiveService;
+
     @InjectMocks
     private SurgeryService surgeryService;
 
@@ -110,7 +113,7 @@ class SurgeryServiceTest {
         when(surgeryRepository.findById(surgeryId)).thenReturn(Optional.of(testSurgery));
         when(surgeryRepository.save(any(Surgery.class))).thenReturn(testSurgery);
 
-        Surgery result = surgeryService.updateSurgery(surgeryId, request);
+        Surgery result = surgeryService.updateSurgery(surgeryId, request, null);
         assertNotNull(result);
     }
 
@@ -127,7 +130,7 @@ class SurgeryServiceTest {
         when(surgeryRepository.findById(surgeryId)).thenReturn(Optional.of(testSurgery));
         when(surgeryRepository.save(any(Surgery.class))).thenReturn(testSurgery);
 
-        Surgery result = surgeryService.updateSurgery(surgeryId, request);
+        Surgery result = surgeryService.updateSurgery(surgeryId, request, null);
         assertNotNull(result);
         verify(patientRepository, never()).findById(any());
     }
@@ -145,7 +148,7 @@ class SurgeryServiceTest {
         when(surgeryRepository.findById(surgeryId)).thenReturn(Optional.of(testSurgery));
         when(surgeryRepository.save(any(Surgery.class))).thenReturn(testSurgery);
 
-        Surgery result = surgeryService.updateSurgery(surgeryId, request);
+        Surgery result = surgeryService.updateSurgery(surgeryId, request, null);
         assertNotNull(result);
         verify(doctorRepository, never()).findById(any());
     }
@@ -230,5 +233,46 @@ class SurgeryServiceTest {
         assertNotNull(result);
         assertEquals(surgeryDate, result.getSurgeryDate());
     }
-}
 
+    @Test
+    @DisplayName("getSurgeriesByPatientId - Should return the patient's surgeries")
+    void getSurgeriesByPatientId_ValidId_ReturnsList() {
+        UUID patientId = UUID.randomUUID();
+        Surgery surgery = new Surgery();
+        when(surgeryRepository.findByPatientId(patientId)).thenReturn(List.of(surgery));
+
+        List<Surgery> result = surgeryService.getSurgeriesByPatientId(patientId);
+
+        assertEquals(1, result.size());
+        verify(surgeryRepository).findByPatientId(patientId);
+    }
+
+    @Test
+    @DisplayName("getSurgeriesByPatientId - Should reject a null ID")
+    void getSurgeriesByPatientId_NullId_ThrowsException() {
+        assertThrows(NullPointerException.class, () -> surgeryService.getSurgeriesByPatientId(null));
+        verifyNoInteractions(surgeryRepository);
+    }
+
+    @Test
+    @DisplayName("getSurgeriesByDateRange - Should combine hot and archived surgeries")
+    void getSurgeriesByDateRange_ReachesArchive_CombinesTiers() {
+        LocalDate startDate = LocalDate.now().minusYears(2);
+        LocalDate endDate = LocalDate.now();
+        Surgery archived = new Surgery();
+        when(surgeryRepository.findBySurgeryDateBetween(startDate, endDate)).thenReturn(List.of(testSurgery));
+        when(archiveService.getSurgeriesBetween(startDate, endDate)).thenReturn(List.of(archived));
+
+        List<Surgery> result = surgeryService.getSurgeriesByDateRange(startDate, endDate);
+
+        assertEquals(List.of(testSurgery, archived), result);
+    }
+
+    @Test
+    @DisplayName("getSurgeriesByDateRange - Should reject a null start date")
+    void getSurgeriesByDateRange_NullStartDate_ThrowsException() {
+        LocalDate endDate = LocalDate.now();
+        assertThrows(NullPointerException.class, () -> surgeryService.getSurgeriesByDateRange(null, endDate));
+        verifyNoInteractions(surgeryRepository, archiveService);
+    }
+}
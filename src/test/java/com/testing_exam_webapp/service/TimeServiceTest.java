@@ -7,6 +7,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,5 +56,21 @@ class TimeServiceTest {
         assertNotNull(result);
         assertEquals("Europe/Copenhagen", result.getTimezone());
     }
-}
 
+    @Test
+    @DisplayName("readTime - Reads the used fields, including snake_case day fields")
+    void readTime_Response_MapsUsedFields() throws IOException {
+        String json = """
+                {"abbreviation": "CET", "client_ip": "127.0.0.1", "datetime": "2024-01-15T14:30:00+01:00",
+                 "day_of_week": 1, "day_of_year": 15, "dst": false, "timezone": "Europe/Copenhagen", "unixtime": 1705325400}
+                """;
+
+        TimeDto result = TimeService.readTime(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("2024-01-15T14:30:00+01:00", result.getDatetime());
+        assertEquals("Europe/Copenhagen", result.getTimezone());
+        assertEquals("CET", result.getAbbreviation());
+        assertEquals(1, result.getDayOfWeek());
+        assertEquals(15, result.getDayOfYear());
+    }
+}
@@ -0,0 +1,207 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.CacheConfig;
+import com.testing_exam_webapp.model.mysql.Ward;
+import com.testing_exam_webapp.model.types.WardType;
+import com.testing_exam_webapp.repository.WardRepository;
+import com.testing_exam_webapp.util.TestDataBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for WardAdmissionService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WardAdmissionService Tests")
+class WardAdmissionServiceTest {
+
+    @Mock
+    private WardRepository wardRepository;
+
+    private WardAdmissionService wardAdmissionService;
+    private Cache wardCache;
+    private Ward ward;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.WARDS);
+        wardCache = cacheManager.getCache(CacheConfig.WARDS);
+        wardAdmissionService = new WardAdmissionService(wardRepository, cacheManager, false);
+        ward = TestDataBuilder.createWard(WardType.CARDIOLOGY, 2);
+    }
+
+    @Test
+    @DisplayName("admit - Free beds - Takes them in memory and in the database")
+    void admit_FreeBeds_Admits() {
+        when(wardRepository.findOccupiedBedsByWardId(ward.getWardId())).thenReturn(Optional.of(1));
+        when(wardRepository.occupyBeds(ward.getWardId(), 1)).thenReturn(1);
+
+        assertTrue(wardAdmissionService.admit(ward, 1));
+
+        assertEquals(2, wardAdmissionService.occupiedBeds(ward.getWardId()));
+    }
+
+    @Test
+    @DisplayName("admit - Counter and committed occupancy say full - Refused without updating the ward row")
+    void admit_CounterFull_RefusedWithoutUpdate() {
+        when(wardRepository.findOccupiedBedsByWardId(ward.getWardId())).thenReturn(Optional.of(2));
+
+        assertFalse(wardAdmissionService.admit(ward, 1));
+
+        verify(wardRepository, never()).occupyBeds(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("admit - Counter says full after a discharge on another instance - Admitted through the guarded update")
+    void admit_CounterBehindDischarge_Admits() {
+        when(wardRepository.findOccupiedBedsByWardId(ward.getWardId())).thenReturn(Optional.of(2), Optional.of(1));
+        when(wardRepository.occupyBeds(ward.getWardId(), 1)).thenReturn(1);
+
+        assertTrue(wardAdmissionService.admit(ward, 1));
+
+        verify(wardRepository).occupyBeds(ward.getWardId(), 1);
+    }
+
+    @Test
+    @DisplayName("admit - Guarded update refuses - Counter reservation is undone")
+    void admit_GuardRefuses_ReleasesCounter() {
+        when(wardRepository.findOccupiedBedsByWardId(ward.getWardId())).thenReturn(Optional.of(0));
+        when(wardRepository.occupyBeds(ward.getWardId(), 2)).thenReturn(0);
+
+        assertFalse(wardAdmissionService.admit(ward, 2));
+
+        assertEquals(0, wardAdmissionService.occupiedBeds(ward.getWardId()));
+    }
+
+    @Test
+    @DisplayName("admit - Transaction rolls back - Counter reservation is undone")
+    void admit_RolledBack_ReleasesCounter() {
+        when(wardRepository.findOccupiedBedsByWardId(ward.getWardId())).thenReturn(Optional.of(0));
+        when(wardRepository.occupyBeds(ward.getWardId(), 1)).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(wardAdmissionService.admit(ward, 1));
+            assertEquals(1, wardAdmissionService.occupiedBeds(ward.getWardId()));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, wardAdmissionService.occupiedBeds(ward.getWardId()));
+    }
+
+    @Test
+    @DisplayName("discharge - Frees the bed in the database and the counter")
+    void discharge_FreesBed() {
+        when(wardRepository.findOccupiedBedsByWardId(ward.getWardId())).thenReturn(Optional.of(1));
+        when(wardRepository.occupyBeds(ward.getWardId(), 1)).thenReturn(1);
+        wardAdmissionService.admit(ward, 1);
+
+        wardAdmissionService.discharge(ward.getWardId(), 1);
+
+        verify(wardRepository).releaseBeds(ward.getWardId(), 1);
+        assertEquals(1, wardAdmissionService.occupiedBeds(ward.getWardId()));
+    }
+
+    @Test
+    @DisplayName("admit/discharge/recount - Cached wards are evicted so their occupancy is read again")
+    void occupancyChanges_EvictCachedWard() {
+        when(wardRepository.findOccupiedBedsByWardId(ward.getWardId())).thenReturn(Optional.of(0));
+        when(wardRepository.occupyBeds(ward.getWardId(), 1)).thenReturn(1);
+
+        wardCache.put(ward.getWardId(), ward);
+        assertTrue(wardAdmissionService.admit(ward, 1));
+        assertNull(wardCache.get(ward.getWardId()));
+
+        wardCache.put(ward.getWardId(), ward);
+        wardAdmissionService.discharge(ward.getWardId(), 1);
+        assertNull(wardCache.get(ward.getWardId()));
+
+        wardCache.put(ward.getWardId(), ward);
+        wardAdmissionService.recount();
+        assertNull(wardCache.get(ward.getWardId()));
+    }
+
+    @Test
+    @DisplayName("admit - Refused admission leaves the cached ward alone")
+    void admit_Refused_KeepsCachedWard() {
+        when(wardRepository.findOccupiedBedsByWardId(ward.getWardId())).thenReturn(Optional.of(2));
+        wardCache.put(ward.getWardId(), ward);
+
+        assertFalse(wardAdmissionService.admit(ward, 1));
+
+        assertNotNull(wardCache.get(ward.getWardId()));
+    }
+
+    @Test
+    @DisplayName("reconcile - Counters are reset to the committed occupancy")
+    void reconcile_ResetsCounters() {
+        when(wardRepository.findOccupiedBeds()).thenReturn(List.<Object[]>of(new Object[]{ward.getWardId(), 2}));
+        when(wardRepository.findOccupiedBedsByWardId(ward.getWardId())).thenReturn(Optional.of(2));
+
+        wardAdmissionService.reconcile();
+
+        assertEquals(2, wardAdmissionService.occupiedBeds(ward.getWardId()));
+        assertFalse(wardAdmissionService.admit(ward, 1));
+    }
+
+    @Test
+    @DisplayName("admit - Concurrent admissions never exceed capacity")
+    void admit_Concurrent_NeverOverfills() throws Exception {
+        Ward bigWard = TestDataBuilder.createWard(WardType.CARDIOLOGY, 25);
+        AtomicInteger database = new AtomicInteger();
+        when(wardRepository.findOccupiedBedsByWardId(bigWard.getWardId())).thenReturn(Optional.of(0));
+        when(wardRepository.occupyBeds(eq(bigWard.getWardId()), eq(1)))
+                .thenAnswer(invocation -> database.getAndUpdate(n -> n < 25 ? n + 1 : n) < 25 ? 1 : 0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int i = 0; i < 200; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (wardAdmissionService.admit(bigWard, 1)) {
+                        admitted.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(25, admitted.get());
+        assertEquals(25, database.get());
+        assertEquals(25, wardAdmissionService.occupiedBeds(bigWard.getWardId()));
+    }
+}
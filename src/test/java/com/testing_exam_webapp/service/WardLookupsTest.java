@@ -0,0 +1,118 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.exception.EntityNotFoundException;
+import com.testing_exam_webapp.exception.ValidationException;
+import com.testing_exam_webapp.model.mysql.Hospital;
+import com.testing_exam_webapp.model.mysql.Ward;
+import com.testing_exam_webapp.repository.HospitalRepository;
+import com.testing_exam_webapp.repository.WardRepository;
+import com.testing_exam_webapp.util.TestDataBuilder;
+import org.hibernate.collection.spi.PersistentSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for WardLookups.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WardLookups Tests")
+class WardLookupsTest {
+
+    @Mock
+    private WardRepository wardRepository;
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    private Ward ward;
+    private Hospital hospital;
+
+    @BeforeEach
+    void setUp() {
+        hospital = TestDataBuilder.createHospital("Rigshospitalet", "Blegdamsvej 9", "København");
+        ward = TestDataBuilder.createWard();
+        // As loaded by findById: the hospitals collection is a proxy that has not been read yet
+        ward.setHospitals(new PersistentSet<>());
+    }
+
+    @Test
+    @DisplayName("findWard/findHospital - Entities are read from the repository on every lookup, also in a scope")
+    void find_InScope_NotMemoized() {
+        when(wardRepository.findById(ward.getWardId())).thenReturn(Optional.of(ward));
+        when(hospitalRepository.findById(hospital.getHospitalId())).thenReturn(Optional.of(hospital));
+
+        try (LookupScope scope = LookupScope.open()) {
+            for (int i = 0; i < 2; i++) {
+                assertSame(ward, WardLookups.findWard(wardRepository, ward.getWardId()));
+                assertSame(hospital, WardLookups.findHospital(hospitalRepository, hospital.getHospitalId()));
+            }
+        }
+
+        verify(wardRepository, times(2)).findById(ward.getWardId());
+        verify(hospitalRepository, times(2)).findById(hospital.getHospitalId());
+    }
+
+    @Test
+    @DisplayName("findWard/findHospital - Missing entity throws EntityNotFoundException")
+    void find_Missing_ThrowsEntityNotFoundException() {
+        UUID missing = UUID.randomUUID();
+        when(wardRepository.findById(missing)).thenReturn(Optional.empty());
+        when(hospitalRepository.findById(missing)).thenReturn(Optional.empty());
+
+        assertEquals("Ward not found", assertThrows(EntityNotFoundException.class,
+                () -> WardLookups.findWard(wardRepository, missing)).getMessage());
+        assertEquals("Hospital not found", assertThrows(EntityNotFoundException.class,
+                () -> WardLookups.findHospital(hospitalRepository, missing)).getMessage());
+    }
+
+    @Test
+    @DisplayName("belongsTo - Unloaded hospitals are checked with one existence query per pair and scope")
+    void belongsTo_UnloadedHospitals_UsesExistenceQuery() {
+        when(wardRepository.existsInHospital(ward.getWardId(), hospital.getHospitalId())).thenReturn(true);
+
+        try (LookupScope scope = LookupScope.open()) {
+            assertTrue(WardLookups.belongsTo(wardRepository, ward, hospital));
+            assertTrue(WardLookups.belongsTo(wardRepository, ward, hospital));
+        }
+
+        verify(wardRepository, times(1)).existsInHospital(ward.getWardId(), hospital.getHospitalId());
+        assertFalse(((PersistentSet<?>) ward.getHospitals()).wasInitialized());
+    }
+
+    @Test
+    @DisplayName("belongsTo - Hospitals already in memory are checked without a query")
+    void belongsTo_LoadedHospitals_NoQuery() {
+        ward.setHospitals(null);
+        TestDataBuilder.associateWardWithHospital(ward, hospital);
+
+        assertTrue(WardLookups.belongsTo(wardRepository, ward, hospital));
+        assertFalse(WardLookups.belongsTo(wardRepository, ward, TestDataBuilder.createHospital()));
+        ward.setHospitals(null);
+        assertFalse(WardLookups.belongsTo(wardRepository, ward, hospital));
+
+        verify(wardRepository, never()).existsInHospital(any(), any());
+    }
+
+    @Test
+    @DisplayName("requireWardInHospital - Ward outside the hospital throws ValidationException naming the hospital")
+    void requireWardInHospital_NotMember_ThrowsValidationException() {
+        when(wardRepository.existsInHospital(ward.getWardId(), hospital.getHospitalId())).thenReturn(false);
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> WardLookups.requireWardInHospital(wardRepository, ward, hospital));
+
+        assertEquals("The selected ward does not belong to the selected hospital. "
+                + "Please select a ward that exists in Rigshospitalet.", exception.getMessage());
+    }
+}
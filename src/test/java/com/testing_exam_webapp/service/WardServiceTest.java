@@ -1,6 +1,7 @@
 package com.testing_exam_webapp.service;
 
 import com.testing_exam_webapp.dto.WardRequest;
+import com.testing_exam_webapp.exception.ValidationException;
 import com.testing_exam_webapp.model.mysql.Ward;
 import com.testing_exam_webapp.model.types.WardType;
 import com.testing_exam_webapp.repository.WardRepository;
@@ -140,12 +141,27 @@ class WardServiceTest {
         when(wardRepository.findById(wardId)).thenReturn(Optional.of(testWard));
         when(wardRepository.save(any(Ward.class))).thenReturn(testWard);
 
-        Ward result = wardService.updateWard(wardId, request);
+        Ward result = wardService.updateWard(wardId, request, null);
 
         assertNotNull(result);
         verify(wardRepository, times(1)).save(testWard);
     }
 
+    @Test
+    @DisplayName("updateWard - Should reject max capacity below the occupied beds")
+    void updateWard_CapacityBelowOccupied_ThrowsValidationException() {
+        UUID wardId = testWard.getWardId();
+        testWard.setOccupiedBeds(5);
+        WardRequest request = new WardRequest();
+        request.setType(testWard.getType());
+        request.setMaxCapacity(4);
+
+        when(wardRepository.findById(wardId)).thenReturn(Optional.of(testWard));
+
+        assertThrows(ValidationException.class, () -> wardService.updateWard(wardId, request, null));
+        verify(wardRepository, never()).save(any(Ward.class));
+    }
+
     @Test
     @DisplayName("deleteWard - Should delete ward when valid ID provided")
     void deleteWard_ValidId_DeletesWard() {
@@ -0,0 +1,217 @@
+package com.testing_exam_webapp.service;
+
+import com.testing_exam_webapp.config.cache.CacheConfig;
+import com.testing_exam_webapp.dto.WeatherDto;
+import com.testing_exam_webapp.dto.WeatherPrefetchStatusDto;
+import com.testing_exam_webapp.repository.HospitalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for WeatherPrefetcher.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WeatherPrefetcher Tests")
+class WeatherPrefetcherTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T12:00:00Z");
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    @Mock
+    private WeatherService weatherService;
+
+    private MutableClock clock;
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.WEATHER);
+    }
+
+    @Test
+    @DisplayName("refreshDue - Each distinct hospital city is refreshed once, then again after the interval")
+    void refreshDue_RefreshesDistinctCitiesEveryInterval() {
+        when(hospitalRepository.findDistinctCities()).thenReturn(List.of("København", "Copenhagen", "Aarhus"));
+        when(weatherService.refreshWeather(anyString())).thenAnswer(invocation -> weather(invocation.getArgument(0), false));
+        WeatherPrefetcher prefetcher = prefetcher(60, 10);
+
+        prefetcher.refreshDue();
+
+        verify(weatherService).refreshWeather("København");
+        verify(weatherService).refreshWeather("Aarhus");
+        verifyNoMoreInteractions(weatherService);
+
+        clock.advance(Duration.ofMinutes(4));
+        prefetcher.refreshDue();
+        verifyNoMoreInteractions(weatherService);
+
+        clock.advance(Duration.ofMinutes(1));
+        prefetcher.refreshDue();
+        verify(weatherService, times(2)).refreshWeather("København");
+        verify(weatherService, times(2)).refreshWeather("Aarhus");
+    }
+
+    @Test
+    @DisplayName("refreshDue - Failed refresh is retried after the retry delay and reported as stale")
+    void refreshDue_FailedRefresh_RetriedAndStale() {
+        when(hospitalRepository.findDistinctCities()).thenReturn(List.of("Aarhus"));
+        when(weatherService.refreshWeather("Aarhus"))
+                .thenReturn(weather("Aarhus", true))
+                .thenReturn(weather("Aarhus", false));
+        WeatherPrefetcher prefetcher = prefetcher(60, 10);
+
+        prefetcher.refreshDue();
+        WeatherPrefetchStatusDto failed = prefetcher.getStatus();
+        assertEquals(1, failed.getStale());
+        assertNull(failed.getAgeSeconds().get("Aarhus"));
+
+        clock.advance(Duration.ofSeconds(59));
+        prefetcher.refreshDue();
+        verify(weatherService, times(1)).refreshWeather("Aarhus");
+
+        clock.advance(Duration.ofSeconds(1));
+        prefetcher.refreshDue();
+        verify(weatherService, times(2)).refreshWeather("Aarhus");
+
+        clock.advance(Duration.ofSeconds(30));
+        WeatherPrefetchStatusDto refreshed = prefetcher.getStatus();
+        assertEquals(0, refreshed.getStale());
+        assertEquals(30L, refreshed.getAgeSeconds().get("Aarhus"));
+        assertEquals(30L, refreshed.getMaxAgeSeconds());
+        assertEquals(NOW.plusSeconds(60), refreshed.getLastRunAt());
+    }
+
+    @Test
+    @DisplayName("refreshDue - Token bucket limits refreshes per tick, the rest wait for later ticks")
+    void refreshDue_TokenBucketEmpty_DefersCities() {
+        when(hospitalRepository.findDistinctCities()).thenReturn(List.of("Aarhus", "Odense", "Aalborg", "Esbjerg"));
+        when(weatherService.refreshWeather(anyString())).thenAnswer(invocation -> weather(invocation.getArgument(0), false));
+        WeatherPrefetcher prefetcher = prefetcher(60, 2);
+
+        prefetcher.refreshDue();
+        verify(weatherService, times(2)).refreshWeather(anyString());
+
+        clock.advance(Duration.ofMillis(1500));
+        prefetcher.refreshDue();
+        verify(weatherService, times(3)).refreshWeather(anyString());
+
+        clock.advance(Duration.ofMillis(1500));
+        prefetcher.refreshDue();
+        verify(weatherService, times(4)).refreshWeather(anyString());
+        assertEquals(0, prefetcher.getStatus().getStale());
+    }
+
+    @Test
+    @DisplayName("refreshDue - City refreshed by another instance within the interval is rescheduled, not refreshed")
+    void refreshDue_SharedEntryFresh_SkipsCity() {
+        when(hospitalRepository.findDistinctCities()).thenReturn(List.of("Aarhus"));
+        when(weatherService.refreshWeather(anyString())).thenAnswer(invocation -> weather(invocation.getArgument(0), false));
+        WeatherDto shared = weather("Aarhus", false);
+        shared.setFetchedAt(NOW.minus(Duration.ofMinutes(2)));
+        cacheManager.getCache(CacheConfig.WEATHER).put(WeatherService.cacheKey("Aarhus"), shared);
+        WeatherPrefetcher prefetcher = prefetcher(60, 10);
+
+        prefetcher.refreshDue();
+        verify(weatherService, never()).refreshWeather(anyString());
+        assertEquals(120L, prefetcher.getStatus().getAgeSeconds().get("Aarhus"));
+        assertEquals(0, prefetcher.getStatus().getStale());
+
+        clock.advance(Duration.ofMinutes(2));
+        prefetcher.refreshDue();
+        verify(weatherService, never()).refreshWeather(anyString());
+
+        clock.advance(Duration.ofMinutes(1));
+        prefetcher.refreshDue();
+        verify(weatherService).refreshWeather("Aarhus");
+    }
+
+    @Test
+    @DisplayName("refreshDue - Cities no longer used by any hospital are dropped; a failed city read keeps the set")
+    void refreshDue_CityListChanges_TracksHospitalCities() {
+        when(hospitalRepository.findDistinctCities())
+                .thenReturn(List.of("Aarhus", "Odense"))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(List.of("Aarhus"));
+        when(weatherService.refreshWeather(anyString())).thenAnswer(invocation -> weather(invocation.getArgument(0), false));
+        WeatherPrefetcher prefetcher = prefetcher(60, 10);
+
+        prefetcher.refreshDue();
+        prefetcher.refreshDue();
+        assertEquals(2, prefetcher.getStatus().getCities());
+
+        prefetcher.refreshDue();
+        assertEquals(List.of("Aarhus"), List.copyOf(prefetcher.getStatus().getAgeSeconds().keySet()));
+    }
+
+    @Test
+    @DisplayName("refreshDue - Disabled prefetcher does nothing")
+    void refreshDue_Disabled_DoesNothing() {
+        WeatherPrefetcher prefetcher = new WeatherPrefetcher(hospitalRepository, weatherService, cacheManager, false,
+                Duration.ofMinutes(5), Duration.ZERO, Duration.ofMinutes(1), 60, 10, clock);
+
+        prefetcher.refreshDue();
+
+        verifyNoInteractions(hospitalRepository, weatherService);
+        assertFalse(prefetcher.getStatus().isEnabled());
+    }
+
+    private WeatherPrefetcher prefetcher(int requestsPerMinute, int burst) {
+        return new WeatherPrefetcher(hospitalRepository, weatherService, cacheManager, true,
+                Duration.ofMinutes(5), Duration.ZERO, Duration.ofMinutes(1), requestsPerMinute, burst, clock);
+    }
+
+    private static WeatherDto weather(String city, boolean fallback) {
+        WeatherDto dto = new WeatherDto();
+        dto.setCity(city);
+        dto.setFallback(fallback);
+        return dto;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
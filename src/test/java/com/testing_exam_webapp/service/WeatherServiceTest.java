@@ -10,6 +10,13 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -94,5 +101,83 @@ class WeatherServiceTest {
         assertNotNull(result.getTemperature());
         assertNotNull(result.getDescription());
     }
-}
 
+    @ParameterizedTest
+    @MethodSource("cityNameVariations")
+    @DisplayName("cacheKey - Spelling variants of a city share one cache key")
+    void cacheKey_CityVariations_ShareOneKey(String input, String expectedCity) {
+        assertEquals(expectedCity.toLowerCase(), WeatherService.cacheKey(input));
+    }
+
+    @Test
+    @DisplayName("cacheKey - Null or blank city uses the default city key")
+    void cacheKey_BlankCity_UsesDefault() {
+        assertEquals("copenhagen", WeatherService.cacheKey(null));
+        assertEquals("copenhagen", WeatherService.cacheKey("  "));
+    }
+
+    @Test
+    @DisplayName("getWeatherByCity - API accepts the connection but never answers - Default weather after the read timeout")
+    void getWeatherByCity_ApiHangs_TimesOutToDefault() throws IOException {
+        // Connections queue in the backlog without being accepted, so the request is sent but never answered
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1"))) {
+            WeatherService hanging = new WeatherService("http://127.0.0.1:" + server.getLocalPort() + "/weather",
+                    "test-api-key", Duration.ofSeconds(1), Duration.ofMillis(200));
+
+            WeatherDto result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> hanging.getWeatherByCity("Aarhus"));
+
+            assertTrue(result.isFallback());
+        }
+    }
+
+    @Test
+    @DisplayName("readWeather - Reads the used fields and skips the rest of the response")
+    void readWeather_FullResponse_MapsUsedFields() throws IOException {
+        String json = """
+                {
+                  "coord": {"lon": 12.57, "lat": 55.68},
+                  "weather": [{"id": 800, "main": "Clear", "description": "clear sky", "icon": "01d"},
+                              {"id": 701, "main": "Mist", "description": "mist", "icon": "50d"}],
+                  "main": {"temp": 18.5, "feels_like": 17.9, "pressure": 1015, "humidity": 65},
+                  "wind": {"speed": 5.2, "deg": 240},
+                  "sys": {"type": 2, "country": "DK", "sunrise": 1700000000},
+                  "name": "Copenhagen"
+                }
+                """;
+
+        WeatherDto result = WeatherService.readWeather(stream(json), "Copenhagen");
+
+        assertEquals("Copenhagen", result.getCity());
+        assertEquals("DK", result.getCountry());
+        assertEquals(18.5, result.getTemperature(), 0.01);
+        assertEquals(65.0, result.getHumidity(), 0.01);
+        assertEquals("Clear", result.getCondition());
+        assertEquals("clear sky", result.getDescription());
+        assertEquals("01d", result.getIcon());
+        assertEquals(5.2, result.getWindSpeed(), 0.01);
+        assertFalse(result.isFallback());
+    }
+
+    @Test
+    @DisplayName("readWeather - Missing sections leave their fields empty")
+    void readWeather_MissingSections_LeavesFieldsNull() throws IOException {
+        WeatherDto result = WeatherService.readWeather(stream("{\"weather\": [], \"main\": {\"temp\": 3}}"), "Aarhus");
+
+        assertEquals("Aarhus", result.getCity());
+        assertEquals(3.0, result.getTemperature(), 0.01);
+        assertNull(result.getCountry());
+        assertNull(result.getDescription());
+        assertNull(result.getWindSpeed());
+    }
+
+    @Test
+    @DisplayName("readWeather - Malformed body throws IOException")
+    void readWeather_MalformedBody_ThrowsIOException() {
+        assertThrows(IOException.class, () -> WeatherService.readWeather(stream("{\"main\": "), "Copenhagen"));
+        assertThrows(IOException.class, () -> WeatherService.readWeather(stream(""), "Copenhagen"));
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}